@@ -6,6 +6,7 @@
 
 package com.ibm.fhir.benchmark;
 
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.Writer;
 
@@ -27,10 +28,12 @@ import ca.uhn.fhir.context.FhirContext;
 
 public class FHIRGeneratorBenchmark {
     static final Writer NOP_WRITER = BenchmarkUtil.createNOPWriter();
+    static final OutputStream NOP_OUTPUT_STREAM = OutputStream.nullOutputStream();
     
     @State(Scope.Thread)
     public static class FHIRGenerators {
         FHIRGenerator jsonGenerator = FHIRGenerator.generator(Format.JSON);
+        FHIRGenerator jsonStreamGenerator = FHIRGenerator.generator(Format.JSON, false, true);
         FHIRGenerator xmlGenerator = FHIRGenerator.generator(Format.XML);
     }
     
@@ -66,6 +69,21 @@ public class FHIRGeneratorBenchmark {
         generators.jsonGenerator.generate(state.resource, NOP_WRITER);
     }
     
+    @Benchmark
+    public void benchmarkJsonStreamGenerator(FHIRGenerators generators, FHIRGeneratorState state) throws Exception {
+        generators.jsonStreamGenerator.generate(state.resource, NOP_WRITER);
+    }
+    
+    @Benchmark
+    public void benchmarkJsonGeneratorOutputStream(FHIRGenerators generators, FHIRGeneratorState state) throws Exception {
+        generators.jsonGenerator.generate(state.resource, NOP_OUTPUT_STREAM);
+    }
+    
+    @Benchmark
+    public void benchmarkJsonStreamGeneratorOutputStream(FHIRGenerators generators, FHIRGeneratorState state) throws Exception {
+        generators.jsonStreamGenerator.generate(state.resource, NOP_OUTPUT_STREAM);
+    }
+    
     @Benchmark
     public void benchmarkXMLGenerator(FHIRGenerators generators, FHIRGeneratorState state) throws Exception {
         generators.xmlGenerator.generate(state.resource, NOP_WRITER);
@@ -47,6 +47,7 @@ public class FHIRPatchBenchmark {
     public static class FHIRPathEvaluatorState {
         Resource resource;
         String fhirPath;
+        FHIRPatch multiOperationPatch;
 
         // JMH will inject the value into the annotated field before any Setup method is called.
         @Param({"valuesets"})
@@ -62,6 +63,28 @@ public class FHIRPatchBenchmark {
             String resourceText = BenchmarkUtil.getSpecExample(Format.JSON, exampleName);
             resource = FHIRParser.parser(Format.JSON).parse(new StringReader(resourceText));
             fhirPath = ModelSupport.getTypeName(resource.getClass());
+            multiOperationPatch = buildMultiOperationPatch(fhirPath);
+        }
+
+        /**
+         * Build a 20 operation patch (10 adds, 5 inserts, 3 moves and 2 deletes) that only touches the extension
+         * element of the root resource, so that the rest of the (possibly very large) resource is left unchanged
+         */
+        private static FHIRPatch buildMultiOperationPatch(String fhirPath) {
+            FHIRPathPatch.Builder builder = FHIRPathPatch.builder();
+            for (int i = 0; i < 10; i++) {
+                builder.add(fhirPath, "extension", FHIR_EXTENSION);
+            }
+            for (int i = 0; i < 5; i++) {
+                builder.insert(fhirPath + ".extension", FHIR_EXTENSION, 0);
+            }
+            for (int i = 0; i < 3; i++) {
+                builder.move(fhirPath + ".extension", 0, 1);
+            }
+            for (int i = 0; i < 2; i++) {
+                builder.delete(fhirPath + ".extension[0]");
+            }
+            return builder.build();
         }
     }
 
@@ -73,6 +96,11 @@ public class FHIRPatchBenchmark {
         return patch.apply(state.resource);
     }
 
+    @Benchmark
+    public Resource benchmarkFHIRPathPatchMultipleOperations(FHIRPathEvaluatorState state) throws Exception {
+        return state.multiOperationPatch.apply(state.resource);
+    }
+
     @Benchmark
     public Resource benchmarkJSONPatch(FHIRPathEvaluatorState state) throws Exception {
         FHIRPatch patch = FHIRPatch.patch(JSON_PROVIDER.createPatchBuilder()
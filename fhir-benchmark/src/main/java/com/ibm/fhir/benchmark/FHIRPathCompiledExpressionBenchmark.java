@@ -0,0 +1,78 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.benchmark;
+
+import static com.ibm.fhir.path.util.FHIRPathUtil.singleton;
+
+import java.io.StringReader;
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ibm.fhir.benchmark.runner.FHIRBenchmarkRunner;
+import com.ibm.fhir.benchmark.util.BenchmarkUtil;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathParser.ExpressionContext;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.util.FHIRPathUtil;
+
+/**
+ * Measures evaluation of FHIRPath expressions in their compiled (cached) form on a realistic spec example, together
+ * with the cost of parsing each expression that the compiled expression cache saves
+ */
+public class FHIRPathCompiledExpressionBenchmark {
+    @State(Scope.Benchmark)
+    public static class FHIRPathCompiledExpressionState {
+        FHIRPathEvaluator evaluator;
+        EvaluationContext evaluationContext;
+        Collection<FHIRPathNode> initialContext;
+
+        // JMH will inject the values into the annotated fields before any Setup method is called.
+        @Param({"patient-example"})
+        public String exampleName;
+
+        @Param({
+            "Patient.name.where(use = 'official').given.first()",
+            "Patient.telecom.where(system = 'phone' and use = 'home').value",
+            "Patient.birthDate < @1980-01-01 and Patient.active = true",
+            "Patient.contact.relationship.coding.where(system = 'http://terminology.hl7.org/CodeSystem/v2-0131').code",
+            "Patient.extension.exists() or Patient.identifier.type.coding.code.contains('MR')"
+        })
+        public String expression;
+
+        @Setup
+        public void setUp() throws Exception {
+            String resourceText = BenchmarkUtil.getSpecExample(Format.JSON, exampleName);
+            Resource resource = FHIRParser.parser(Format.JSON).parse(new StringReader(resourceText));
+            evaluator = FHIRPathEvaluator.evaluator();
+            evaluationContext = new EvaluationContext(resource);
+            initialContext = singleton(evaluationContext.getTree().getRoot());
+        }
+    }
+
+    @Benchmark
+    public Collection<FHIRPathNode> benchmarkCompiled(FHIRPathCompiledExpressionState state) throws Exception {
+        return state.evaluator.evaluate(state.evaluationContext, state.expression, state.initialContext);
+    }
+
+    @Benchmark
+    public ExpressionContext benchmarkParse(FHIRPathCompiledExpressionState state) throws Exception {
+        return FHIRPathUtil.compile(state.expression);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new FHIRBenchmarkRunner(FHIRPathCompiledExpressionBenchmark.class).run();
+    }
+}
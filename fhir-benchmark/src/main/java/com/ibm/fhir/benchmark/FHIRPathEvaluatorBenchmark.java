@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019, 2020
+ * (C) Copyright IBM Corp. 2019, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -28,6 +28,7 @@ import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.path.FHIRPathNode;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.util.FHIRPathUtil;
 
 import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.fluentpath.IFluentPath;
@@ -67,6 +68,14 @@ public class FHIRPathEvaluatorBenchmark {
         state.evaluator.evaluate(state.evaluationContext, FHIRPathEvaluatorState.EXPRESSION, state.initialContext);
     }
 
+    /**
+     * The parse cost that is paid (in addition to compilation) when an expression is not in the compiled expression cache
+     */
+    @Benchmark
+    public void benchmarkParser(FHIRPathEvaluatorState state) throws Exception {
+        FHIRPathUtil.compile(FHIRPathEvaluatorState.EXPRESSION);
+    }
+
     @Benchmark
     public void benchmarkHAPIEvaluator(FHIRPathEvaluatorState state) throws Exception {
         state.fluentPath.evaluate(state.baseResource, FHIRPathEvaluatorState.EXPRESSION, IBase.class);
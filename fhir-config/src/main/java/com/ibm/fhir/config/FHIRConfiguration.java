@@ -41,9 +41,16 @@ public class FHIRConfiguration {
     public static final String PROPERTY_MAX_PAGE_SIZE = "fhirServer/core/maxPageSize";
     public static final String PROPERTY_MAX_PAGE_INCLUDE_COUNT = "fhirServer/core/maxPageIncludeCount";
     public static final String PROPERTY_CAPABILITIES_URL = "fhirServer/core/capabilitiesUrl";
+    public static final String PROPERTY_PAYLOAD_PASSTHROUGH_ENABLED = "fhirServer/core/payloadPassthroughEnabled";
+    public static final String PROPERTY_INTERN_PRIMITIVES = "fhirServer/core/internPrimitives";
+    public static final String PROPERTY_PARALLEL_BUNDLE_ENTRY_THRESHOLD = "fhirServer/core/parallelBundleEntryThreshold";
+    public static final String PROPERTY_FHIRPATH_PROFILER_ENABLED = "fhirServer/core/fhirPathProfilerEnabled";
+    public static final String PROPERTY_FHIRPATH_PROFILER_SAMPLE_RATE = "fhirServer/core/fhirPathProfilerSampleRate";
 
     // Validation properties
     public static final String PROPERTY_VALIDATION_FAIL_FAST = "fhirServer/validation/failFast";
+    public static final String PROPERTY_VALIDATION_RESULT_CACHE_SIZE = "fhirServer/validation/resultCacheSize";
+    public static final String PROPERTY_VALIDATION_PARALLEL_BUNDLE_ENTRY_THRESHOLD = "fhirServer/validation/parallelBundleEntryThreshold";
 
     // Terminology service properties
     public static final String PROPERTY_TERM_SERVICE_CAPABILITIES_URL = "fhirServer/term/capabilitiesUrl";
@@ -114,10 +121,23 @@ public class FHIRConfiguration {
     public static final String PROPERTY_JDBC_ENABLE_RESOURCE_TYPES_CACHE = "fhirServer/persistence/jdbc/enableResourceTypesCache";
     public static final String PROPERTY_JDBC_EXTERNAL_REF_SYSTEM_CACHE_SIZE = "fhirServer/persistence/jdbc/externalRefSystemCacheSize";
     public static final String PROPERTY_JDBC_EXTERNAL_REF_VALUE_CACHE_SIZE = "fhirServer/persistence/jdbc/externalRefValueCacheSize";
+    public static final String PROPERTY_JDBC_PAYLOAD_CODEC = "fhirServer/persistence/jdbc/payloadCodec";
+    public static final String PROPERTY_JDBC_PAYLOAD_COMPRESSION = "fhirServer/persistence/jdbc/payloadCompression";
+    public static final String PROPERTY_JDBC_ENABLE_DEFERRED_INDEXING = "fhirServer/persistence/jdbc/enableDeferredIndexing";
+    public static final String PROPERTY_JDBC_DEFERRED_INDEXING_SEARCH_WAIT = "fhirServer/persistence/jdbc/deferredIndexingSearchWaitMillis";
+    public static final String PROPERTY_JDBC_DEFERRED_INDEXING_WORKERS = "fhirServer/persistence/jdbc/deferredIndexingWorkers";
+    public static final String PROPERTY_JDBC_ENABLE_RESOURCE_CACHE = "fhirServer/persistence/jdbc/enableResourceCache";
+    public static final String PROPERTY_JDBC_RESOURCE_CACHE_SIZE = "fhirServer/persistence/jdbc/resourceCacheSize";
+    public static final String PROPERTY_JDBC_RESOURCE_CACHE_TIME_TO_LIVE = "fhirServer/persistence/jdbc/resourceCacheTimeToLiveSeconds";
+    public static final String PROPERTY_JDBC_RESOURCE_CACHE_POLL_INTERVAL = "fhirServer/persistence/jdbc/resourceCachePollIntervalMillis";
 
     // Optimizer options within a datasource definition
     public static final String PROPERTY_JDBC_SEARCH_OPTIMIZER_OPTIONS = "searchOptimizerOptions";
 
+    // Payload encoding options within a datasource definition
+    public static final String PROPERTY_DATASOURCE_PAYLOAD_CODEC = "payloadCodec";
+    public static final String PROPERTY_DATASOURCE_PAYLOAD_COMPRESSION = "payloadCompression";
+
     // Search config properties
     public static final String PROPERTY_SEARCH_BOUNDING_AREA_RADIUS_TYPE = "fhirServer/search/useBoundingRadius";
     public static final String PROPERTY_USE_STORED_COMPARTMENT_PARAM = "fhirServer/search/useStoredCompartmentParam";
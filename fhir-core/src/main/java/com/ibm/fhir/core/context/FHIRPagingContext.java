@@ -109,6 +109,28 @@ public interface FHIRPagingContext {
      */
     void setMatchCount(int matchCount);
 
+    /**
+     * @return the opaque cursor that was passed with the request for the current page, or null if the current page
+     *         is only identified by its page number
+     */
+    String getPageCursor();
+
+    /**
+     * @return an opaque cursor that identifies the position of the next page within the result set, or null if the
+     *         persistence layer does not support cursors for the corresponding query
+     */
+    String getNextPageCursor();
+
+    /**
+     * @param pageCursor the opaque cursor that was passed with the request for the current page
+     */
+    void setPageCursor(String pageCursor);
+
+    /**
+     * @param nextPageCursor an opaque cursor that identifies the position of the next page within the result set
+     */
+    void setNextPageCursor(String nextPageCursor);
+
     /**
      * @return whether the request should be handled with leniency
      */
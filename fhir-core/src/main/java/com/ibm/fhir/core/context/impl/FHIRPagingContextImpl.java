@@ -19,6 +19,8 @@ public class FHIRPagingContextImpl implements FHIRPagingContext {
     protected int maxPageIncludeCount;
     protected Integer totalCount;
     protected int matchCount;
+    protected String pageCursor;
+    protected String nextPageCursor;
     protected boolean lenient = true;
 
     /**
@@ -109,6 +111,26 @@ public class FHIRPagingContextImpl implements FHIRPagingContext {
         this.matchCount = matchCount;
     }
 
+    @Override
+    public String getPageCursor() {
+        return pageCursor;
+    }
+
+    @Override
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
+    @Override
+    public void setPageCursor(String pageCursor) {
+        this.pageCursor = pageCursor;
+    }
+
+    @Override
+    public void setNextPageCursor(String nextPageCursor) {
+        this.nextPageCursor = nextPageCursor;
+    }
+
     @Override
     public boolean isLenient() {
         return lenient;
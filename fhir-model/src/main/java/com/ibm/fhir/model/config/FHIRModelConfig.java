@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019
+ * (C) Copyright IBM Corp. 2019, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 /**
  * This class is used to manage runtime configuration for the FHIR model APIs.
@@ -46,11 +47,24 @@ public final class FHIRModelConfig {
      */
     public static final String PROPERTY_EXTENDED_CODEABLE_CONCEPT_VALIDATION = "com.ibm.fhir.model.extendedCodeableConceptValidation";
 
+    /**
+     * Used to determine whether builders of code, uri, canonical, boolean and integer values share instances through the
+     * {@link com.ibm.fhir.model.util.PrimitiveInterner}
+     */
+    public static final String PROPERTY_INTERN_PRIMITIVES = "com.ibm.fhir.model.internPrimitives";
+
+    /**
+     * The maximum number of objects held by the {@link com.ibm.fhir.model.util.PrimitiveInterner}
+     */
+    public static final String PROPERTY_INTERN_CACHE_MAX_SIZE = "com.ibm.fhir.model.internCacheMaxSize";
+
     private static final Format DEFAULT_TO_STRING_FORMAT = Format.JSON;
     private static final int DEFAULT_TO_STRING_INDENT_AMOUNT = 2;
     private static final boolean DEFAULT_TO_STRING_PRETTY_PRINTING = true;
     private static final boolean DEFAULT_CHECK_REFERENCE_TYPES = true;
     private static final boolean DEFAULT_EXTENDED_CODEABLE_CONCEPT_VALIDATION = true;
+    private static final boolean DEFAULT_INTERN_PRIMITIVES = false;
+    private static final int DEFAULT_INTERN_CACHE_MAX_SIZE = 10000;
 
     private static final Map<String, Object> properties = new ConcurrentHashMap<>();
    
@@ -95,6 +109,23 @@ public final class FHIRModelConfig {
     public static boolean getExtendedCodeableConceptValidation() {
         return getPropertyOrDefault(PROPERTY_EXTENDED_CODEABLE_CONCEPT_VALIDATION, DEFAULT_EXTENDED_CODEABLE_CONCEPT_VALIDATION, Boolean.class);
     }
+
+    public static void setInternPrimitives(boolean internPrimitives) {
+        setProperty(PROPERTY_INTERN_PRIMITIVES, internPrimitives);
+        PrimitiveInterner.setEnabled(internPrimitives);
+    }
+
+    public static boolean getInternPrimitives() {
+        return getPropertyOrDefault(PROPERTY_INTERN_PRIMITIVES, DEFAULT_INTERN_PRIMITIVES, Boolean.class);
+    }
+
+    public static void setInternCacheMaxSize(int internCacheMaxSize) {
+        setProperty(PROPERTY_INTERN_CACHE_MAX_SIZE, internCacheMaxSize);
+    }
+
+    public static int getInternCacheMaxSize() {
+        return getPropertyOrDefault(PROPERTY_INTERN_CACHE_MAX_SIZE, DEFAULT_INTERN_CACHE_MAX_SIZE, Integer.class);
+    }
    
     public static void setProperty(String name, Object value) {
         properties.put(requireNonNull(name), requireNonNull(value));
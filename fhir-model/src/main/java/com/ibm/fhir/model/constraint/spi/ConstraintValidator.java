@@ -26,4 +26,15 @@ public interface ConstraintValidator<T extends Visitable> {
      *     true if the element or resource is valid with respect to the given constraint, false otherwise
      */
     boolean isValid(T elementOrResource, Constraint constraint);
+
+    /**
+     * Indicates whether a single instance of this implementation may be shared by all validations, including
+     * concurrent ones; otherwise a new instance is created each time a constraint is evaluated
+     *
+     * @return
+     *     true if this implementation is threadsafe and keeps no state between calls, false otherwise
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -116,4 +116,24 @@ public interface FHIRGenerator {
             throw new IllegalArgumentException("Unsupported format: " + format);
         }
     }
+
+    /**
+     * Create a FHIRGenerator for the given format.
+     *
+     * <p>When {@code streaming} is true, the format is JSON and pretty-printing is not requested, the returned
+     * FHIRGenerator writes resources with type-specialized methods directly to the output instead of dispatching
+     * through the visitor callbacks.
+     *
+     * @param format
+     * @param prettyPrinting whether the returned FHIRGenerator should pretty-print its output
+     * @param streaming whether the returned FHIRGenerator should write resources directly to the output (JSON only)
+     * @return
+     * @throws IllegalArgumentException if {@code format} is not supported
+     */
+    static FHIRGenerator generator(Format format, boolean prettyPrinting, boolean streaming) {
+        if (streaming && !prettyPrinting && Format.JSON.equals(format)) {
+            return new FHIRJsonStreamGenerator();
+        }
+        return generator(format, prettyPrinting);
+    }
 }
@@ -71,6 +71,29 @@ public class FHIRJsonGenerator extends FHIRAbstractGenerator {
         }
     }
 
+    /**
+     * Generate the given visitable to a caller-supplied {@link JsonGenerator}.
+     *
+     * <p>The caller owns the generator; it is flushed but not closed.
+     *
+     * @param visitable
+     *     the visitable to generate
+     * @param generator
+     *     the JsonGenerator to write to
+     * @throws FHIRGeneratorException
+     *     if an error occurs while generating
+     */
+    public void generate(Visitable visitable, JsonGenerator generator) throws FHIRGeneratorException {
+        GeneratingVisitor visitor = null;
+        try {
+            visitor = new JsonGeneratingVisitor(generator);
+            visitable.accept(visitor);
+            generator.flush();
+        } catch (Exception e) {
+            throw new FHIRGeneratorException(e.getMessage(), (visitor != null) ? visitor.getPath() : null, e);
+        }
+    }
+
     @Override
     public boolean isPrettyPrinting() {
         return prettyPrinting;
@@ -8,12 +8,16 @@ package com.ibm.fhir.model.parser;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.util.ModelSupport;
 
 public abstract class FHIRAbstractParser implements FHIRParser {
     protected Map<String, Object> properties = new HashMap<>();
@@ -26,6 +30,53 @@ public abstract class FHIRAbstractParser implements FHIRParser {
     @Override
     public abstract <T extends Resource> T parse(Reader reader) throws FHIRParserException;
 
+    @Override
+    public Bundle parseEntries(InputStream in, Consumer<Bundle.Entry> consumer) throws FHIRParserException {
+        Objects.requireNonNull(consumer);
+        return dispatchEntries(parse(in), consumer);
+    }
+
+    @Override
+    public Bundle parseEntries(Reader reader, Consumer<Bundle.Entry> consumer) throws FHIRParserException {
+        Objects.requireNonNull(consumer);
+        return dispatchEntries(parse(reader), consumer);
+    }
+
+    /**
+     * Pass any entries that remain in the parsed bundle to the consumer
+     *
+     * @param resource
+     *     the parsed resource
+     * @param consumer
+     *     the entry consumer
+     * @return
+     *     the parsed bundle without its entries
+     * @throws FHIRParserException
+     *     if the parsed resource is not a bundle or the consumer throws an exception
+     */
+    protected Bundle dispatchEntries(Resource resource, Consumer<Bundle.Entry> consumer) throws FHIRParserException {
+        if (!(resource instanceof Bundle)) {
+            String typeName = ModelSupport.getTypeName(resource.getClass());
+            throw new FHIRParserException("Expected resource of type: Bundle but found: " + typeName, typeName, null);
+        }
+        Bundle bundle = (Bundle) resource;
+        if (bundle.getEntry().isEmpty()) {
+            return bundle;
+        }
+        int index = 0;
+        try {
+            for (Bundle.Entry entry : bundle.getEntry()) {
+                consumer.accept(entry);
+                index++;
+            }
+        } catch (Exception e) {
+            throw new FHIRParserException(e.getMessage(), "Bundle.entry[" + index + "]", e);
+        }
+        Bundle.Builder builder = bundle.toBuilder();
+        builder.setValidating(validating);
+        return builder.entry(Collections.emptyList()).build();
+    }
+
     @Override
     public void setValidating(boolean validating) {
         this.validating = validating;
@@ -12,15 +12,19 @@ import static com.ibm.fhir.model.util.JsonSupport.getJsonValue;
 import static com.ibm.fhir.model.util.JsonSupport.getResourceType;
 import static com.ibm.fhir.model.util.JsonSupport.nonClosingInputStream;
 import static com.ibm.fhir.model.util.JsonSupport.nonClosingReader;
+import static com.ibm.fhir.model.util.JsonSupport.readResource;
 import static com.ibm.fhir.model.util.ModelSupport.getChoiceElementName;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Stack;
 import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.annotation.Generated;
 
@@ -34,6 +38,8 @@ import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 
 import com.ibm.fhir.model.parser.exception.FHIRParserException;
 import com.ibm.fhir.model.resource.*;
@@ -50,19 +56,42 @@ import net.jcip.annotations.NotThreadSafe;
 public class FHIRJsonParser extends FHIRAbstractParser {
     public static boolean DEBUG = false;
     private static final JsonReaderFactory JSON_READER_FACTORY = Json.createReaderFactory(Collections.singletonMap(JsonConfig.REJECT_DUPLICATE_KEYS, true));
+    private static final JsonParserFactory JSON_PARSER_FACTORY = Json.createParserFactory(Collections.singletonMap(JsonConfig.REJECT_DUPLICATE_KEYS, true));
+    private static final ForkJoinPool ENTRY_PARSER_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     private final Stack<java.lang.String> stack = new Stack<>();
+    // the exception thrown while parsing a bundle entry in parallel
+    private RuntimeException exception;
 
     FHIRJsonParser() {
         // only visible to subclasses or classes/interfaces in the same package (e.g. FHIRParser)
     }
 
+    private FHIRJsonParser(FHIRJsonParser parent) {
+        // used to parse the entries of a bundle in parallel
+        validating = parent.validating;
+        ignoringUnrecognizedElements = parent.ignoringUnrecognizedElements;
+        properties.putAll(parent.properties);
+        stack.addAll(parent.stack);
+    }
+
     @Override
     public <T extends Resource> T parse(InputStream in) throws FHIRParserException {
         return parseAndFilter(in, null);
     }
 
     public <T extends Resource> T parseAndFilter(InputStream in, Collection<java.lang.String> elementsToInclude) throws FHIRParserException {
+        if (elementsToInclude != null) {
+            // skip the elements which are filtered out instead of reading them into memory
+            reset();
+            try (JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingInputStream(in), StandardCharsets.UTF_8)) {
+                return parseAndFilter(readResource(parser, elementsToInclude), elementsToInclude);
+            } catch (FHIRParserException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new FHIRParserException(e.getMessage(), getPath(), e);
+            }
+        }
         try (JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingInputStream(in), StandardCharsets.UTF_8)) {
             JsonObject jsonObject = jsonReader.readObject();
             return parseAndFilter(jsonObject, elementsToInclude);
@@ -79,6 +108,17 @@ public class FHIRJsonParser extends FHIRAbstractParser {
     }
 
     public <T extends Resource> T parseAndFilter(Reader reader, Collection<java.lang.String> elementsToInclude) throws FHIRParserException {
+        if (elementsToInclude != null) {
+            // skip the elements which are filtered out instead of reading them into memory
+            reset();
+            try (JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingReader(reader))) {
+                return parseAndFilter(readResource(parser, elementsToInclude), elementsToInclude);
+            } catch (FHIRParserException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new FHIRParserException(e.getMessage(), getPath(), e);
+            }
+        }
         try (JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingReader(reader))) {
             JsonObject jsonObject = jsonReader.readObject();
             return parseAndFilter(jsonObject, elementsToInclude);
@@ -108,6 +148,11 @@ public class FHIRJsonParser extends FHIRAbstractParser {
         }
     }
 
+    @Override
+    public boolean isPropertySupported(java.lang.String name) {
+        return FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD.equals(name);
+    }
+
     private void reset() {
         stack.clear();
     }
@@ -1567,8 +1612,12 @@ public class FHIRJsonParser extends FHIRAbstractParser {
         }
         JsonArray entryArray = getJsonArray(jsonObject, "entry");
         if (entryArray != null) {
-            for (int i = 0; i < entryArray.size(); i++) {
-                builder.entry(parseBundleEntry("entry", entryArray.getJsonObject(i), i));
+            if (isParallel(entryArray)) {
+                builder.entry(parseBundleEntries(entryArray));
+            } else {
+                for (int i = 0; i < entryArray.size(); i++) {
+                    builder.entry(parseBundleEntry("entry", entryArray.getJsonObject(i), i));
+                }
             }
         }
         builder.signature(parseSignature("signature", getJsonValue(jsonObject, "signature", JsonObject.class), -1));
@@ -23175,6 +23224,46 @@ public class FHIRJsonParser extends FHIRAbstractParser {
         return joiner.toString();
     }
 
+    private boolean isParallel(JsonArray entryArray) {
+        // only the entries of the top-level bundle are parsed in parallel
+        int threshold = getPropertyOrDefault(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD, 0, java.lang.Integer.class);
+        return threshold > 0 && stack.size() == 1 && entryArray.size() >= threshold;
+    }
+
+    private java.util.List<Bundle.Entry> parseBundleEntries(JsonArray entryArray) {
+        int size = entryArray.size();
+        FHIRJsonParser[] parsers = new FHIRJsonParser[size];
+        java.util.List<ForkJoinTask<Bundle.Entry>> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            FHIRJsonParser parser = new FHIRJsonParser(this);
+            parsers[index] = parser;
+            tasks.add(ENTRY_PARSER_POOL.submit(() -> parser.parseBundleEntry(entryArray, index)));
+        }
+        java.util.List<Bundle.Entry> entries = new ArrayList<>(size);
+        for (ForkJoinTask<Bundle.Entry> task : tasks) {
+            entries.add(task.join());
+        }
+        for (int i = 0; i < size; i++) {
+            if (parsers[i].exception != null) {
+                // report the first failure in entry order with the path at which it occurred
+                stack.clear();
+                stack.addAll(parsers[i].stack);
+                throw parsers[i].exception;
+            }
+        }
+        return entries;
+    }
+
+    private Bundle.Entry parseBundleEntry(JsonArray entryArray, int index) {
+        try {
+            return parseBundleEntry("entry", entryArray.getJsonObject(index), index);
+        } catch (RuntimeException e) {
+            exception = e;
+            return null;
+        }
+    }
+
     private java.lang.String parseJavaString(java.lang.String elementName, JsonString jsonString, int elementIndex) {
         if (jsonString == null) {
             return null;
@@ -8,9 +8,11 @@ package com.ibm.fhir.model.parser;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.function.Consumer;
 
 import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.util.ValidationSupport;
 
@@ -24,6 +26,15 @@ public interface FHIRParser {
     @Deprecated
     public static final String PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS = "com.ibm.fhir.model.parser.ignoreUnrecognizedElements";
 
+    /**
+     * Property name for a property that sets the minimum number of entries for which the entries of a top-level Bundle
+     * are parsed in parallel (an Integer; parallel parsing is disabled when the property is not set or is not positive).
+     *
+     * <p>Only supported by the JSON parser returned by {@code parser(Format.JSON)}. Entries keep their order and the
+     * path reported by a FHIRParserException is the path at which the first failing entry (in entry order) failed.
+     */
+    public static final String PROPERTY_PARALLEL_ENTRY_THRESHOLD = "com.ibm.fhir.model.parser.parallelEntryThreshold";
+
     /**
      * Read a resource from the passed InputStream. This method does not close the passed InputStream.
      *
@@ -46,6 +57,40 @@ public interface FHIRParser {
      */
     <T extends Resource> T parse(Reader reader) throws FHIRParserException;
 
+    /**
+     * Read a Bundle from the passed InputStream and pass each of its entries to the consumer, in order. This method
+     * does not close the passed InputStream.
+     *
+     * <p>Streaming parsers (the XML parser and the JSON parser returned by {@code parser(Format.JSON, true)}) pass
+     * each entry to the consumer as soon as it has been read so that only one entry needs to be held in memory at a
+     * time; other parsers read the entire Bundle before passing its entries to the consumer. Exceptions thrown by the
+     * consumer are wrapped in a FHIRParserException.
+     *
+     * @param in
+     * @param consumer
+     *     the consumer for the entries of the Bundle
+     * @return
+     *     the Bundle without its entries
+     * @throws FHIRParserException
+     *     if the InputStream does not contain a Bundle or the consumer throws an exception
+     */
+    Bundle parseEntries(InputStream in, Consumer<Bundle.Entry> consumer) throws FHIRParserException;
+
+    /**
+     * Read a Bundle using the passed Reader and pass each of its entries to the consumer, in order. This method does
+     * not close the passed Reader.
+     *
+     * @param reader
+     * @param consumer
+     *     the consumer for the entries of the Bundle
+     * @return
+     *     the Bundle without its entries
+     * @throws FHIRParserException
+     *     if the Reader does not contain a Bundle or the consumer throws an exception
+     * @see #parseEntries(InputStream, Consumer)
+     */
+    Bundle parseEntries(Reader reader, Consumer<Bundle.Entry> consumer) throws FHIRParserException;
+
     /**
      * Set the validating parser indicator for this parser
      *
@@ -146,4 +191,23 @@ public interface FHIRParser {
             throw new IllegalArgumentException("Unsupported format: " + format);
         }
     }
+
+    /**
+     * Create a FHIRParser for the given format.
+     *
+     * <p>When {@code streaming} is true and the format is JSON, the returned parser builds the model directly from
+     * {@link jakarta.json.stream.JsonParser} events instead of reading the input into a {@code JsonObject} first.
+     * The XML parser is always streaming.
+     *
+     * @param format
+     * @param streaming
+     * @return
+     * @throws IllegalArgumentException if {@code format} is not supported
+     */
+    static FHIRParser parser(Format format, boolean streaming) {
+        if (streaming && Format.JSON.equals(format)) {
+            return new FHIRJsonStreamParser();
+        }
+        return parser(format);
+    }
 }
@@ -16,8 +16,10 @@ import static com.ibm.fhir.model.util.XMLSupport.requireNamespace;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Objects;
 import java.util.Stack;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 import javax.annotation.Generated;
 import javax.xml.stream.XMLStreamException;
@@ -40,6 +42,7 @@ public class FHIRXMLParser extends FHIRAbstractParser {
     public static boolean DEBUG = false;
 
     private final Stack<java.lang.String> stack = new Stack<>();
+    private Consumer<Bundle.Entry> entryConsumer;
 
     FHIRXMLParser() {
         // only visible to subclasses or classes/interfaces in the same package (e.g. FHIRParser)
@@ -83,6 +86,26 @@ public class FHIRXMLParser extends FHIRAbstractParser {
         }
     }
 
+    @Override
+    public Bundle parseEntries(InputStream in, Consumer<Bundle.Entry> consumer) throws FHIRParserException {
+        entryConsumer = Objects.requireNonNull(consumer);
+        try {
+            return dispatchEntries(parse(in), consumer);
+        } finally {
+            entryConsumer = null;
+        }
+    }
+
+    @Override
+    public Bundle parseEntries(Reader reader, Consumer<Bundle.Entry> consumer) throws FHIRParserException {
+        entryConsumer = Objects.requireNonNull(consumer);
+        try {
+            return dispatchEntries(parse(reader), consumer);
+        } finally {
+            entryConsumer = null;
+        }
+    }
+
     private void reset() {
         stack.clear();
     }
@@ -3143,7 +3166,11 @@ public class FHIRXMLParser extends FHIRAbstractParser {
                     break;
                 case "entry":
                     position = checkElementOrder("entry", 9, position, true);
-                    builder.entry(parseBundleEntry("entry", reader, entryElementIndex++));
+                    if (entryConsumer != null && stack.size() == 1) {
+                        entryConsumer.accept(parseBundleEntry("entry", reader, entryElementIndex++));
+                    } else {
+                        builder.entry(parseBundleEntry("entry", reader, entryElementIndex++));
+                    }
                     break;
                 case "signature":
                     position = checkElementOrder("signature", 10, position, false);
@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import javax.annotation.Generated;
 
+import com.ibm.fhir.model.util.PrimitiveInterner;
 import com.ibm.fhir.model.util.ValidationSupport;
 import com.ibm.fhir.model.visitor.Visitor;
 
@@ -212,9 +213,19 @@ public class Boolean extends Element {
          */
         @Override
         public Boolean build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Boolean interned = PrimitiveInterner.get(Boolean.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Boolean _boolean = new Boolean(this);
             if (validating) {
                 validate(_boolean);
+                if (internable) {
+                    return PrimitiveInterner.intern(Boolean.class, value, _boolean);
+                }
             }
             return _boolean;
         }
@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import javax.annotation.Generated;
 
+import com.ibm.fhir.model.util.PrimitiveInterner;
 import com.ibm.fhir.model.visitor.Visitor;
 
 /**
@@ -225,9 +226,19 @@ public class Canonical extends Uri {
          */
         @Override
         public Canonical build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Canonical interned = PrimitiveInterner.get(Canonical.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Canonical canonical = new Canonical(this);
             if (validating) {
                 validate(canonical);
+                if (internable) {
+                    return PrimitiveInterner.intern(Canonical.class, value, canonical);
+                }
             }
             return canonical;
         }
@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import javax.annotation.Generated;
 
+import com.ibm.fhir.model.util.PrimitiveInterner;
 import com.ibm.fhir.model.util.ValidationSupport;
 import com.ibm.fhir.model.visitor.Visitor;
 
@@ -196,9 +197,19 @@ public class Code extends String {
          */
         @Override
         public Code build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Code interned = PrimitiveInterner.get(Code.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Code code = new Code(this);
             if (validating) {
                 validate(code);
+                if (internable) {
+                    return PrimitiveInterner.intern(Code.class, value, code);
+                }
             }
             return code;
         }
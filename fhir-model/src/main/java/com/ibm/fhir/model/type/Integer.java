@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import javax.annotation.Generated;
 
+import com.ibm.fhir.model.util.PrimitiveInterner;
 import com.ibm.fhir.model.util.ValidationSupport;
 import com.ibm.fhir.model.visitor.Visitor;
 
@@ -220,9 +221,19 @@ public class Integer extends Element {
          */
         @Override
         public Integer build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Integer interned = PrimitiveInterner.get(Integer.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Integer integer = new Integer(this);
             if (validating) {
                 validate(integer);
+                if (internable) {
+                    return PrimitiveInterner.intern(Integer.class, value, integer);
+                }
             }
             return integer;
         }
@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import javax.annotation.Generated;
 
+import com.ibm.fhir.model.util.PrimitiveInterner;
 import com.ibm.fhir.model.util.ValidationSupport;
 import com.ibm.fhir.model.visitor.Visitor;
 
@@ -204,9 +205,19 @@ public class Uri extends Element {
          */
         @Override
         public Uri build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Uri interned = PrimitiveInterner.get(Uri.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Uri uri = new Uri(this);
             if (validating) {
                 validate(uri);
+                if (internable) {
+                    return PrimitiveInterner.intern(Uri.class, value, uri);
+                }
             }
             return uri;
         }
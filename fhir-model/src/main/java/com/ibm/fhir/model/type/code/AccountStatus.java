@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class AccountStatus extends Code {
 
         @Override
         public AccountStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AccountStatus interned = PrimitiveInterner.get(AccountStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AccountStatus accountStatus = new AccountStatus(this);
             if (validating) {
                 validate(accountStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(AccountStatus.class, value, accountStatus);
+                }
             }
             return accountStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class ActionCardinalityBehavior extends Code {
 
         @Override
         public ActionCardinalityBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionCardinalityBehavior interned = PrimitiveInterner.get(ActionCardinalityBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionCardinalityBehavior actionCardinalityBehavior = new ActionCardinalityBehavior(this);
             if (validating) {
                 validate(actionCardinalityBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionCardinalityBehavior.class, value, actionCardinalityBehavior);
+                }
             }
             return actionCardinalityBehavior;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ActionConditionKind extends Code {
 
         @Override
         public ActionConditionKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionConditionKind interned = PrimitiveInterner.get(ActionConditionKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionConditionKind actionConditionKind = new ActionConditionKind(this);
             if (validating) {
                 validate(actionConditionKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionConditionKind.class, value, actionConditionKind);
+                }
             }
             return actionConditionKind;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -220,9 +221,19 @@ public class ActionGroupingBehavior extends Code {
 
         @Override
         public ActionGroupingBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionGroupingBehavior interned = PrimitiveInterner.get(ActionGroupingBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionGroupingBehavior actionGroupingBehavior = new ActionGroupingBehavior(this);
             if (validating) {
                 validate(actionGroupingBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionGroupingBehavior.class, value, actionGroupingBehavior);
+                }
             }
             return actionGroupingBehavior;
         }
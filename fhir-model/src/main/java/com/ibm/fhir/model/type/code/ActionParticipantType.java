@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ActionParticipantType extends Code {
 
         @Override
         public ActionParticipantType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionParticipantType interned = PrimitiveInterner.get(ActionParticipantType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionParticipantType actionParticipantType = new ActionParticipantType(this);
             if (validating) {
                 validate(actionParticipantType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionParticipantType.class, value, actionParticipantType);
+                }
             }
             return actionParticipantType;
         }
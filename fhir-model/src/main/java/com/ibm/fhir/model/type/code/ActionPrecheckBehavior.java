@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -206,9 +207,19 @@ public class ActionPrecheckBehavior extends Code {
 
         @Override
         public ActionPrecheckBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionPrecheckBehavior interned = PrimitiveInterner.get(ActionPrecheckBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionPrecheckBehavior actionPrecheckBehavior = new ActionPrecheckBehavior(this);
             if (validating) {
                 validate(actionPrecheckBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionPrecheckBehavior.class, value, actionPrecheckBehavior);
+                }
             }
             return actionPrecheckBehavior;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -279,9 +280,19 @@ public class ActionRelationshipType extends Code {
 
         @Override
         public ActionRelationshipType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionRelationshipType interned = PrimitiveInterner.get(ActionRelationshipType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionRelationshipType actionRelationshipType = new ActionRelationshipType(this);
             if (validating) {
                 validate(actionRelationshipType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionRelationshipType.class, value, actionRelationshipType);
+                }
             }
             return actionRelationshipType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class ActionRequiredBehavior extends Code {
 
         @Override
         public ActionRequiredBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionRequiredBehavior interned = PrimitiveInterner.get(ActionRequiredBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionRequiredBehavior actionRequiredBehavior = new ActionRequiredBehavior(this);
             if (validating) {
                 validate(actionRequiredBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionRequiredBehavior.class, value, actionRequiredBehavior);
+                }
             }
             return actionRequiredBehavior;
         }
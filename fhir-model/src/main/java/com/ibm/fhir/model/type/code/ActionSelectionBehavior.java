@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -248,9 +249,19 @@ public class ActionSelectionBehavior extends Code {
 
         @Override
         public ActionSelectionBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActionSelectionBehavior interned = PrimitiveInterner.get(ActionSelectionBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActionSelectionBehavior actionSelectionBehavior = new ActionSelectionBehavior(this);
             if (validating) {
                 validate(actionSelectionBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActionSelectionBehavior.class, value, actionSelectionBehavior);
+                }
             }
             return actionSelectionBehavior;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -346,9 +347,19 @@ public class ActivityDefinitionKind extends Code {
 
         @Override
         public ActivityDefinitionKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActivityDefinitionKind interned = PrimitiveInterner.get(ActivityDefinitionKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActivityDefinitionKind activityDefinitionKind = new ActivityDefinitionKind(this);
             if (validating) {
                 validate(activityDefinitionKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActivityDefinitionKind.class, value, activityDefinitionKind);
+                }
             }
             return activityDefinitionKind;
         }
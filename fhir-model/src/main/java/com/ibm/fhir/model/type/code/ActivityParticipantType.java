@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ActivityParticipantType extends Code {
 
         @Override
         public ActivityParticipantType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ActivityParticipantType interned = PrimitiveInterner.get(ActivityParticipantType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ActivityParticipantType activityParticipantType = new ActivityParticipantType(this);
             if (validating) {
                 validate(activityParticipantType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ActivityParticipantType.class, value, activityParticipantType);
+                }
             }
             return activityParticipantType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class AddressType extends Code {
 
         @Override
         public AddressType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AddressType interned = PrimitiveInterner.get(AddressType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AddressType addressType = new AddressType(this);
             if (validating) {
                 validate(addressType);
+                if (internable) {
+                    return PrimitiveInterner.intern(AddressType.class, value, addressType);
+                }
             }
             return addressType;
         }
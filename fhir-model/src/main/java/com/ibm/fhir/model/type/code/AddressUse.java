@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class AddressUse extends Code {
 
         @Override
         public AddressUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AddressUse interned = PrimitiveInterner.get(AddressUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AddressUse addressUse = new AddressUse(this);
             if (validating) {
                 validate(addressUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(AddressUse.class, value, addressUse);
+                }
             }
             return addressUse;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class AdministrativeGender extends Code {
 
         @Override
         public AdministrativeGender build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AdministrativeGender interned = PrimitiveInterner.get(AdministrativeGender.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AdministrativeGender administrativeGender = new AdministrativeGender(this);
             if (validating) {
                 validate(administrativeGender);
+                if (internable) {
+                    return PrimitiveInterner.intern(AdministrativeGender.class, value, administrativeGender);
+                }
             }
             return administrativeGender;
         }
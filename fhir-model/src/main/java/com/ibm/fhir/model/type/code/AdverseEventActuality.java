@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class AdverseEventActuality extends Code {
 
         @Override
         public AdverseEventActuality build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AdverseEventActuality interned = PrimitiveInterner.get(AdverseEventActuality.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AdverseEventActuality adverseEventActuality = new AdverseEventActuality(this);
             if (validating) {
                 validate(adverseEventActuality);
+                if (internable) {
+                    return PrimitiveInterner.intern(AdverseEventActuality.class, value, adverseEventActuality);
+                }
             }
             return adverseEventActuality;
         }
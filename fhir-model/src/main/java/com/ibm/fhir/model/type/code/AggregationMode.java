@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class AggregationMode extends Code {
 
         @Override
         public AggregationMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AggregationMode interned = PrimitiveInterner.get(AggregationMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AggregationMode aggregationMode = new AggregationMode(this);
             if (validating) {
                 validate(aggregationMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(AggregationMode.class, value, aggregationMode);
+                }
             }
             return aggregationMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -229,9 +230,19 @@ public class AllergyIntoleranceCategory extends Code {
 
         @Override
         public AllergyIntoleranceCategory build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AllergyIntoleranceCategory interned = PrimitiveInterner.get(AllergyIntoleranceCategory.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AllergyIntoleranceCategory allergyIntoleranceCategory = new AllergyIntoleranceCategory(this);
             if (validating) {
                 validate(allergyIntoleranceCategory);
+                if (internable) {
+                    return PrimitiveInterner.intern(AllergyIntoleranceCategory.class, value, allergyIntoleranceCategory);
+                }
             }
             return allergyIntoleranceCategory;
         }
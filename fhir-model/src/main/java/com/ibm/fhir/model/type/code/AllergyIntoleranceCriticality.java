@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class AllergyIntoleranceCriticality extends Code {
 
         @Override
         public AllergyIntoleranceCriticality build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AllergyIntoleranceCriticality interned = PrimitiveInterner.get(AllergyIntoleranceCriticality.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AllergyIntoleranceCriticality allergyIntoleranceCriticality = new AllergyIntoleranceCriticality(this);
             if (validating) {
                 validate(allergyIntoleranceCriticality);
+                if (internable) {
+                    return PrimitiveInterner.intern(AllergyIntoleranceCriticality.class, value, allergyIntoleranceCriticality);
+                }
             }
             return allergyIntoleranceCriticality;
         }
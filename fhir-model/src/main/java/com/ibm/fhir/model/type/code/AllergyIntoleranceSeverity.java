@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class AllergyIntoleranceSeverity extends Code {
 
         @Override
         public AllergyIntoleranceSeverity build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AllergyIntoleranceSeverity interned = PrimitiveInterner.get(AllergyIntoleranceSeverity.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AllergyIntoleranceSeverity allergyIntoleranceSeverity = new AllergyIntoleranceSeverity(this);
             if (validating) {
                 validate(allergyIntoleranceSeverity);
+                if (internable) {
+                    return PrimitiveInterner.intern(AllergyIntoleranceSeverity.class, value, allergyIntoleranceSeverity);
+                }
             }
             return allergyIntoleranceSeverity;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -205,9 +206,19 @@ public class AllergyIntoleranceType extends Code {
 
         @Override
         public AllergyIntoleranceType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AllergyIntoleranceType interned = PrimitiveInterner.get(AllergyIntoleranceType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AllergyIntoleranceType allergyIntoleranceType = new AllergyIntoleranceType(this);
             if (validating) {
                 validate(allergyIntoleranceType);
+                if (internable) {
+                    return PrimitiveInterner.intern(AllergyIntoleranceType.class, value, allergyIntoleranceType);
+                }
             }
             return allergyIntoleranceType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -295,9 +296,19 @@ public class AppointmentStatus extends Code {
 
         @Override
         public AppointmentStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AppointmentStatus interned = PrimitiveInterner.get(AppointmentStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AppointmentStatus appointmentStatus = new AppointmentStatus(this);
             if (validating) {
                 validate(appointmentStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(AppointmentStatus.class, value, appointmentStatus);
+                }
             }
             return appointmentStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class AssertionDirectionType extends Code {
 
         @Override
         public AssertionDirectionType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AssertionDirectionType interned = PrimitiveInterner.get(AssertionDirectionType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AssertionDirectionType assertionDirectionType = new AssertionDirectionType(this);
             if (validating) {
                 validate(assertionDirectionType);
+                if (internable) {
+                    return PrimitiveInterner.intern(AssertionDirectionType.class, value, assertionDirectionType);
+                }
             }
             return assertionDirectionType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -301,9 +302,19 @@ public class AssertionOperatorType extends Code {
 
         @Override
         public AssertionOperatorType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AssertionOperatorType interned = PrimitiveInterner.get(AssertionOperatorType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AssertionOperatorType assertionOperatorType = new AssertionOperatorType(this);
             if (validating) {
                 validate(assertionOperatorType);
+                if (internable) {
+                    return PrimitiveInterner.intern(AssertionOperatorType.class, value, assertionOperatorType);
+                }
             }
             return assertionOperatorType;
         }
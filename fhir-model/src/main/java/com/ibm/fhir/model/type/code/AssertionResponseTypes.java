@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -312,9 +313,19 @@ public class AssertionResponseTypes extends Code {
 
         @Override
         public AssertionResponseTypes build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AssertionResponseTypes interned = PrimitiveInterner.get(AssertionResponseTypes.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AssertionResponseTypes assertionResponseTypes = new AssertionResponseTypes(this);
             if (validating) {
                 validate(assertionResponseTypes);
+                if (internable) {
+                    return PrimitiveInterner.intern(AssertionResponseTypes.class, value, assertionResponseTypes);
+                }
             }
             return assertionResponseTypes;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -236,9 +237,19 @@ public class AuditEventAction extends Code {
 
         @Override
         public AuditEventAction build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AuditEventAction interned = PrimitiveInterner.get(AuditEventAction.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AuditEventAction auditEventAction = new AuditEventAction(this);
             if (validating) {
                 validate(auditEventAction);
+                if (internable) {
+                    return PrimitiveInterner.intern(AuditEventAction.class, value, auditEventAction);
+                }
             }
             return auditEventAction;
         }
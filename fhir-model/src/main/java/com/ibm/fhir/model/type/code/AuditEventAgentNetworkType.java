@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class AuditEventAgentNetworkType extends Code {
 
         @Override
         public AuditEventAgentNetworkType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AuditEventAgentNetworkType interned = PrimitiveInterner.get(AuditEventAgentNetworkType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AuditEventAgentNetworkType auditEventAgentNetworkType = new AuditEventAgentNetworkType(this);
             if (validating) {
                 validate(auditEventAgentNetworkType);
+                if (internable) {
+                    return PrimitiveInterner.intern(AuditEventAgentNetworkType.class, value, auditEventAgentNetworkType);
+                }
             }
             return auditEventAgentNetworkType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class AuditEventOutcome extends Code {
 
         @Override
         public AuditEventOutcome build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                AuditEventOutcome interned = PrimitiveInterner.get(AuditEventOutcome.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             AuditEventOutcome auditEventOutcome = new AuditEventOutcome(this);
             if (validating) {
                 validate(auditEventOutcome);
+                if (internable) {
+                    return PrimitiveInterner.intern(AuditEventOutcome.class, value, auditEventOutcome);
+                }
             }
             return auditEventOutcome;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -228,9 +229,19 @@ public class BindingStrength extends Code {
 
         @Override
         public BindingStrength build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                BindingStrength interned = PrimitiveInterner.get(BindingStrength.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             BindingStrength bindingStrength = new BindingStrength(this);
             if (validating) {
                 validate(bindingStrength);
+                if (internable) {
+                    return PrimitiveInterner.intern(BindingStrength.class, value, bindingStrength);
+                }
             }
             return bindingStrength;
         }
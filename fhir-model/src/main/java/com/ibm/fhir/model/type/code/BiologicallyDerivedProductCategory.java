@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -236,9 +237,19 @@ public class BiologicallyDerivedProductCategory extends Code {
 
         @Override
         public BiologicallyDerivedProductCategory build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                BiologicallyDerivedProductCategory interned = PrimitiveInterner.get(BiologicallyDerivedProductCategory.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             BiologicallyDerivedProductCategory biologicallyDerivedProductCategory = new BiologicallyDerivedProductCategory(this);
             if (validating) {
                 validate(biologicallyDerivedProductCategory);
+                if (internable) {
+                    return PrimitiveInterner.intern(BiologicallyDerivedProductCategory.class, value, biologicallyDerivedProductCategory);
+                }
             }
             return biologicallyDerivedProductCategory;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class BiologicallyDerivedProductStatus extends Code {
 
         @Override
         public BiologicallyDerivedProductStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                BiologicallyDerivedProductStatus interned = PrimitiveInterner.get(BiologicallyDerivedProductStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             BiologicallyDerivedProductStatus biologicallyDerivedProductStatus = new BiologicallyDerivedProductStatus(this);
             if (validating) {
                 validate(biologicallyDerivedProductStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(BiologicallyDerivedProductStatus.class, value, biologicallyDerivedProductStatus);
+                }
             }
             return biologicallyDerivedProductStatus;
         }
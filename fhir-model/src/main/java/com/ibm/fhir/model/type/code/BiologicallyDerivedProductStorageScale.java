@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class BiologicallyDerivedProductStorageScale extends Code {
 
         @Override
         public BiologicallyDerivedProductStorageScale build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                BiologicallyDerivedProductStorageScale interned = PrimitiveInterner.get(BiologicallyDerivedProductStorageScale.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             BiologicallyDerivedProductStorageScale biologicallyDerivedProductStorageScale = new BiologicallyDerivedProductStorageScale(this);
             if (validating) {
                 validate(biologicallyDerivedProductStorageScale);
+                if (internable) {
+                    return PrimitiveInterner.intern(BiologicallyDerivedProductStorageScale.class, value, biologicallyDerivedProductStorageScale);
+                }
             }
             return biologicallyDerivedProductStorageScale;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -281,9 +282,19 @@ public class BundleType extends Code {
 
         @Override
         public BundleType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                BundleType interned = PrimitiveInterner.get(BundleType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             BundleType bundleType = new BundleType(this);
             if (validating) {
                 validate(bundleType);
+                if (internable) {
+                    return PrimitiveInterner.intern(BundleType.class, value, bundleType);
+                }
             }
             return bundleType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -216,9 +217,19 @@ public class CapabilityStatementKind extends Code {
 
         @Override
         public CapabilityStatementKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CapabilityStatementKind interned = PrimitiveInterner.get(CapabilityStatementKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CapabilityStatementKind capabilityStatementKind = new CapabilityStatementKind(this);
             if (validating) {
                 validate(capabilityStatementKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(CapabilityStatementKind.class, value, capabilityStatementKind);
+                }
             }
             return capabilityStatementKind;
         }
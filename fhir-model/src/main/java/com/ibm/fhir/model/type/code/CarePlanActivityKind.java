@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -228,9 +229,19 @@ public class CarePlanActivityKind extends Code {
 
         @Override
         public CarePlanActivityKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CarePlanActivityKind interned = PrimitiveInterner.get(CarePlanActivityKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CarePlanActivityKind carePlanActivityKind = new CarePlanActivityKind(this);
             if (validating) {
                 validate(carePlanActivityKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(CarePlanActivityKind.class, value, carePlanActivityKind);
+                }
             }
             return carePlanActivityKind;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -280,9 +281,19 @@ public class CarePlanActivityStatus extends Code {
 
         @Override
         public CarePlanActivityStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CarePlanActivityStatus interned = PrimitiveInterner.get(CarePlanActivityStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CarePlanActivityStatus carePlanActivityStatus = new CarePlanActivityStatus(this);
             if (validating) {
                 validate(carePlanActivityStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CarePlanActivityStatus.class, value, carePlanActivityStatus);
+                }
             }
             return carePlanActivityStatus;
         }
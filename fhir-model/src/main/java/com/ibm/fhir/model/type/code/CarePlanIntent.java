@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -204,9 +205,19 @@ public class CarePlanIntent extends Code {
 
         @Override
         public CarePlanIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CarePlanIntent interned = PrimitiveInterner.get(CarePlanIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CarePlanIntent carePlanIntent = new CarePlanIntent(this);
             if (validating) {
                 validate(carePlanIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(CarePlanIntent.class, value, carePlanIntent);
+                }
             }
             return carePlanIntent;
         }
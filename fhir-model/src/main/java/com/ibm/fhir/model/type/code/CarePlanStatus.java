@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class CarePlanStatus extends Code {
 
         @Override
         public CarePlanStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CarePlanStatus interned = PrimitiveInterner.get(CarePlanStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CarePlanStatus carePlanStatus = new CarePlanStatus(this);
             if (validating) {
                 validate(carePlanStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CarePlanStatus.class, value, carePlanStatus);
+                }
             }
             return carePlanStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -236,9 +237,19 @@ public class CareTeamStatus extends Code {
 
         @Override
         public CareTeamStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CareTeamStatus interned = PrimitiveInterner.get(CareTeamStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CareTeamStatus careTeamStatus = new CareTeamStatus(this);
             if (validating) {
                 validate(careTeamStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CareTeamStatus.class, value, careTeamStatus);
+                }
             }
             return careTeamStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class CatalogEntryRelationType extends Code {
 
         @Override
         public CatalogEntryRelationType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CatalogEntryRelationType interned = PrimitiveInterner.get(CatalogEntryRelationType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CatalogEntryRelationType catalogEntryRelationType = new CatalogEntryRelationType(this);
             if (validating) {
                 validate(catalogEntryRelationType);
+                if (internable) {
+                    return PrimitiveInterner.intern(CatalogEntryRelationType.class, value, catalogEntryRelationType);
+                }
             }
             return catalogEntryRelationType;
         }
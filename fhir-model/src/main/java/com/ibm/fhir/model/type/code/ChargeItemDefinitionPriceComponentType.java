@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class ChargeItemDefinitionPriceComponentType extends Code {
 
         @Override
         public ChargeItemDefinitionPriceComponentType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ChargeItemDefinitionPriceComponentType interned = PrimitiveInterner.get(ChargeItemDefinitionPriceComponentType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ChargeItemDefinitionPriceComponentType chargeItemDefinitionPriceComponentType = new ChargeItemDefinitionPriceComponentType(this);
             if (validating) {
                 validate(chargeItemDefinitionPriceComponentType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ChargeItemDefinitionPriceComponentType.class, value, chargeItemDefinitionPriceComponentType);
+                }
             }
             return chargeItemDefinitionPriceComponentType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -260,9 +261,19 @@ public class ChargeItemStatus extends Code {
 
         @Override
         public ChargeItemStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ChargeItemStatus interned = PrimitiveInterner.get(ChargeItemStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ChargeItemStatus chargeItemStatus = new ChargeItemStatus(this);
             if (validating) {
                 validate(chargeItemStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ChargeItemStatus.class, value, chargeItemStatus);
+                }
             }
             return chargeItemStatus;
         }
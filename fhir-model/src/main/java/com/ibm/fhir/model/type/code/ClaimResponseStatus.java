@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ClaimResponseStatus extends Code {
 
         @Override
         public ClaimResponseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ClaimResponseStatus interned = PrimitiveInterner.get(ClaimResponseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ClaimResponseStatus claimResponseStatus = new ClaimResponseStatus(this);
             if (validating) {
                 validate(claimResponseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ClaimResponseStatus.class, value, claimResponseStatus);
+                }
             }
             return claimResponseStatus;
         }
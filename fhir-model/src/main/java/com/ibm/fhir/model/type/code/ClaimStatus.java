@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ClaimStatus extends Code {
 
         @Override
         public ClaimStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ClaimStatus interned = PrimitiveInterner.get(ClaimStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ClaimStatus claimStatus = new ClaimStatus(this);
             if (validating) {
                 validate(claimStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ClaimStatus.class, value, claimStatus);
+                }
             }
             return claimStatus;
         }
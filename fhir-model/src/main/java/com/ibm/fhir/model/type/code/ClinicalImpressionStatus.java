@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -198,9 +199,19 @@ public class ClinicalImpressionStatus extends Code {
 
         @Override
         public ClinicalImpressionStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ClinicalImpressionStatus interned = PrimitiveInterner.get(ClinicalImpressionStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ClinicalImpressionStatus clinicalImpressionStatus = new ClinicalImpressionStatus(this);
             if (validating) {
                 validate(clinicalImpressionStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ClinicalImpressionStatus.class, value, clinicalImpressionStatus);
+                }
             }
             return clinicalImpressionStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class CodeSearchSupport extends Code {
 
         @Override
         public CodeSearchSupport build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CodeSearchSupport interned = PrimitiveInterner.get(CodeSearchSupport.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CodeSearchSupport codeSearchSupport = new CodeSearchSupport(this);
             if (validating) {
                 validate(codeSearchSupport);
+                if (internable) {
+                    return PrimitiveInterner.intern(CodeSearchSupport.class, value, codeSearchSupport);
+                }
             }
             return codeSearchSupport;
         }
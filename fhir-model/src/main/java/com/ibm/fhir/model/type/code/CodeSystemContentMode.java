@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -240,9 +241,19 @@ public class CodeSystemContentMode extends Code {
 
         @Override
         public CodeSystemContentMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CodeSystemContentMode interned = PrimitiveInterner.get(CodeSystemContentMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CodeSystemContentMode codeSystemContentMode = new CodeSystemContentMode(this);
             if (validating) {
                 validate(codeSystemContentMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(CodeSystemContentMode.class, value, codeSystemContentMode);
+                }
             }
             return codeSystemContentMode;
         }
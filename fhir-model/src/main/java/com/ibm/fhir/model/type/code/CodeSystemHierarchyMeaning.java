@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -231,9 +232,19 @@ public class CodeSystemHierarchyMeaning extends Code {
 
         @Override
         public CodeSystemHierarchyMeaning build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CodeSystemHierarchyMeaning interned = PrimitiveInterner.get(CodeSystemHierarchyMeaning.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CodeSystemHierarchyMeaning codeSystemHierarchyMeaning = new CodeSystemHierarchyMeaning(this);
             if (validating) {
                 validate(codeSystemHierarchyMeaning);
+                if (internable) {
+                    return PrimitiveInterner.intern(CodeSystemHierarchyMeaning.class, value, codeSystemHierarchyMeaning);
+                }
             }
             return codeSystemHierarchyMeaning;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class CommunicationPriority extends Code {
 
         @Override
         public CommunicationPriority build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CommunicationPriority interned = PrimitiveInterner.get(CommunicationPriority.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CommunicationPriority communicationPriority = new CommunicationPriority(this);
             if (validating) {
                 validate(communicationPriority);
+                if (internable) {
+                    return PrimitiveInterner.intern(CommunicationPriority.class, value, communicationPriority);
+                }
             }
             return communicationPriority;
         }
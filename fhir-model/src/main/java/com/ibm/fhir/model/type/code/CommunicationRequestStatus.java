@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class CommunicationRequestStatus extends Code {
 
         @Override
         public CommunicationRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CommunicationRequestStatus interned = PrimitiveInterner.get(CommunicationRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CommunicationRequestStatus communicationRequestStatus = new CommunicationRequestStatus(this);
             if (validating) {
                 validate(communicationRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CommunicationRequestStatus.class, value, communicationRequestStatus);
+                }
             }
             return communicationRequestStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -274,9 +275,19 @@ public class CommunicationStatus extends Code {
 
         @Override
         public CommunicationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CommunicationStatus interned = PrimitiveInterner.get(CommunicationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CommunicationStatus communicationStatus = new CommunicationStatus(this);
             if (validating) {
                 validate(communicationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CommunicationStatus.class, value, communicationStatus);
+                }
             }
             return communicationStatus;
         }
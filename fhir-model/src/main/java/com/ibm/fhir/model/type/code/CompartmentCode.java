@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class CompartmentCode extends Code {
 
         @Override
         public CompartmentCode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CompartmentCode interned = PrimitiveInterner.get(CompartmentCode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CompartmentCode compartmentCode = new CompartmentCode(this);
             if (validating) {
                 validate(compartmentCode);
+                if (internable) {
+                    return PrimitiveInterner.intern(CompartmentCode.class, value, compartmentCode);
+                }
             }
             return compartmentCode;
         }
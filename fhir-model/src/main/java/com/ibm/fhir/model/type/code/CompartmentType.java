@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class CompartmentType extends Code {
 
         @Override
         public CompartmentType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CompartmentType interned = PrimitiveInterner.get(CompartmentType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CompartmentType compartmentType = new CompartmentType(this);
             if (validating) {
                 validate(compartmentType);
+                if (internable) {
+                    return PrimitiveInterner.intern(CompartmentType.class, value, compartmentType);
+                }
             }
             return compartmentType;
         }
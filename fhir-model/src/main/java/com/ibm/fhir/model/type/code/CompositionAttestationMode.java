@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class CompositionAttestationMode extends Code {
 
         @Override
         public CompositionAttestationMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CompositionAttestationMode interned = PrimitiveInterner.get(CompositionAttestationMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CompositionAttestationMode compositionAttestationMode = new CompositionAttestationMode(this);
             if (validating) {
                 validate(compositionAttestationMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(CompositionAttestationMode.class, value, compositionAttestationMode);
+                }
             }
             return compositionAttestationMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -228,9 +229,19 @@ public class CompositionStatus extends Code {
 
         @Override
         public CompositionStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CompositionStatus interned = PrimitiveInterner.get(CompositionStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CompositionStatus compositionStatus = new CompositionStatus(this);
             if (validating) {
                 validate(compositionStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CompositionStatus.class, value, compositionStatus);
+                }
             }
             return compositionStatus;
         }
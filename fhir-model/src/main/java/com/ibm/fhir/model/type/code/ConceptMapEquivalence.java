@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -298,9 +299,19 @@ public class ConceptMapEquivalence extends Code {
 
         @Override
         public ConceptMapEquivalence build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConceptMapEquivalence interned = PrimitiveInterner.get(ConceptMapEquivalence.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConceptMapEquivalence conceptMapEquivalence = new ConceptMapEquivalence(this);
             if (validating) {
                 validate(conceptMapEquivalence);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConceptMapEquivalence.class, value, conceptMapEquivalence);
+                }
             }
             return conceptMapEquivalence;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ConceptMapGroupUnmappedMode extends Code {
 
         @Override
         public ConceptMapGroupUnmappedMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConceptMapGroupUnmappedMode interned = PrimitiveInterner.get(ConceptMapGroupUnmappedMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConceptMapGroupUnmappedMode conceptMapGroupUnmappedMode = new ConceptMapGroupUnmappedMode(this);
             if (validating) {
                 validate(conceptMapGroupUnmappedMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConceptMapGroupUnmappedMode.class, value, conceptMapGroupUnmappedMode);
+                }
             }
             return conceptMapGroupUnmappedMode;
         }
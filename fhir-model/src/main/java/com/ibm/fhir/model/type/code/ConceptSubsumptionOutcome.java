@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ConceptSubsumptionOutcome extends Code {
 
         @Override
         public ConceptSubsumptionOutcome build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConceptSubsumptionOutcome interned = PrimitiveInterner.get(ConceptSubsumptionOutcome.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConceptSubsumptionOutcome conceptSubsumptionOutcome = new ConceptSubsumptionOutcome(this);
             if (validating) {
                 validate(conceptSubsumptionOutcome);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConceptSubsumptionOutcome.class, value, conceptSubsumptionOutcome);
+                }
             }
             return conceptSubsumptionOutcome;
         }
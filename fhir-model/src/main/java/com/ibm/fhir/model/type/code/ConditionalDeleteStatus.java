@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ConditionalDeleteStatus extends Code {
 
         @Override
         public ConditionalDeleteStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConditionalDeleteStatus interned = PrimitiveInterner.get(ConditionalDeleteStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConditionalDeleteStatus conditionalDeleteStatus = new ConditionalDeleteStatus(this);
             if (validating) {
                 validate(conditionalDeleteStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConditionalDeleteStatus.class, value, conditionalDeleteStatus);
+                }
             }
             return conditionalDeleteStatus;
         }
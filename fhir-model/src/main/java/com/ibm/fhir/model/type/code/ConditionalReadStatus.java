@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ConditionalReadStatus extends Code {
 
         @Override
         public ConditionalReadStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConditionalReadStatus interned = PrimitiveInterner.get(ConditionalReadStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConditionalReadStatus conditionalReadStatus = new ConditionalReadStatus(this);
             if (validating) {
                 validate(conditionalReadStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConditionalReadStatus.class, value, conditionalReadStatus);
+                }
             }
             return conditionalReadStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ConsentDataMeaning extends Code {
 
         @Override
         public ConsentDataMeaning build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConsentDataMeaning interned = PrimitiveInterner.get(ConsentDataMeaning.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConsentDataMeaning consentDataMeaning = new ConsentDataMeaning(this);
             if (validating) {
                 validate(consentDataMeaning);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConsentDataMeaning.class, value, consentDataMeaning);
+                }
             }
             return consentDataMeaning;
         }
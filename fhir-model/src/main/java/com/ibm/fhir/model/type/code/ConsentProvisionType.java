@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class ConsentProvisionType extends Code {
 
         @Override
         public ConsentProvisionType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConsentProvisionType interned = PrimitiveInterner.get(ConsentProvisionType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConsentProvisionType consentProvisionType = new ConsentProvisionType(this);
             if (validating) {
                 validate(consentProvisionType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConsentProvisionType.class, value, consentProvisionType);
+                }
             }
             return consentProvisionType;
         }
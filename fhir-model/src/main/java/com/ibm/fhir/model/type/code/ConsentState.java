@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class ConsentState extends Code {
 
         @Override
         public ConsentState build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConsentState interned = PrimitiveInterner.get(ConsentState.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConsentState consentState = new ConsentState(this);
             if (validating) {
                 validate(consentState);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConsentState.class, value, consentState);
+                }
             }
             return consentState;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class ConstraintSeverity extends Code {
 
         @Override
         public ConstraintSeverity build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ConstraintSeverity interned = PrimitiveInterner.get(ConstraintSeverity.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ConstraintSeverity constraintSeverity = new ConstraintSeverity(this);
             if (validating) {
                 validate(constraintSeverity);
+                if (internable) {
+                    return PrimitiveInterner.intern(ConstraintSeverity.class, value, constraintSeverity);
+                }
             }
             return constraintSeverity;
         }
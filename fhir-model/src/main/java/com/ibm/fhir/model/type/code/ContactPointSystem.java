@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -263,9 +264,19 @@ public class ContactPointSystem extends Code {
 
         @Override
         public ContactPointSystem build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ContactPointSystem interned = PrimitiveInterner.get(ContactPointSystem.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ContactPointSystem contactPointSystem = new ContactPointSystem(this);
             if (validating) {
                 validate(contactPointSystem);
+                if (internable) {
+                    return PrimitiveInterner.intern(ContactPointSystem.class, value, contactPointSystem);
+                }
             }
             return contactPointSystem;
         }
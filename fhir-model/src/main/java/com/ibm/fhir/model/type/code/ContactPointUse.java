@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class ContactPointUse extends Code {
 
         @Override
         public ContactPointUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ContactPointUse interned = PrimitiveInterner.get(ContactPointUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ContactPointUse contactPointUse = new ContactPointUse(this);
             if (validating) {
                 validate(contactPointUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(ContactPointUse.class, value, contactPointUse);
+                }
             }
             return contactPointUse;
         }
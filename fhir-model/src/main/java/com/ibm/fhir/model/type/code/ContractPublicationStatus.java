@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -378,9 +379,19 @@ public class ContractPublicationStatus extends Code {
 
         @Override
         public ContractPublicationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ContractPublicationStatus interned = PrimitiveInterner.get(ContractPublicationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ContractPublicationStatus contractPublicationStatus = new ContractPublicationStatus(this);
             if (validating) {
                 validate(contractPublicationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ContractPublicationStatus.class, value, contractPublicationStatus);
+                }
             }
             return contractPublicationStatus;
         }
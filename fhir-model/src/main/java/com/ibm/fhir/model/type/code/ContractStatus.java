@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -378,9 +379,19 @@ public class ContractStatus extends Code {
 
         @Override
         public ContractStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ContractStatus interned = PrimitiveInterner.get(ContractStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ContractStatus contractStatus = new ContractStatus(this);
             if (validating) {
                 validate(contractStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ContractStatus.class, value, contractStatus);
+                }
             }
             return contractStatus;
         }
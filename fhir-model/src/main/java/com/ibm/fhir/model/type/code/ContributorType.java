@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ContributorType extends Code {
 
         @Override
         public ContributorType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ContributorType interned = PrimitiveInterner.get(ContributorType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ContributorType contributorType = new ContributorType(this);
             if (validating) {
                 validate(contributorType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ContributorType.class, value, contributorType);
+                }
             }
             return contributorType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class CoverageStatus extends Code {
 
         @Override
         public CoverageStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                CoverageStatus interned = PrimitiveInterner.get(CoverageStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             CoverageStatus coverageStatus = new CoverageStatus(this);
             if (validating) {
                 validate(coverageStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(CoverageStatus.class, value, coverageStatus);
+                }
             }
             return coverageStatus;
         }
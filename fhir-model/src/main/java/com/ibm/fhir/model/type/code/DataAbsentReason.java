@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -345,9 +346,19 @@ public class DataAbsentReason extends Code {
 
         @Override
         public DataAbsentReason build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DataAbsentReason interned = PrimitiveInterner.get(DataAbsentReason.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DataAbsentReason dataAbsentReason = new DataAbsentReason(this);
             if (validating) {
                 validate(dataAbsentReason);
+                if (internable) {
+                    return PrimitiveInterner.intern(DataAbsentReason.class, value, dataAbsentReason);
+                }
             }
             return dataAbsentReason;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -257,9 +258,19 @@ public class DayOfWeek extends Code {
 
         @Override
         public DayOfWeek build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DayOfWeek interned = PrimitiveInterner.get(DayOfWeek.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DayOfWeek dayOfWeek = new DayOfWeek(this);
             if (validating) {
                 validate(dayOfWeek);
+                if (internable) {
+                    return PrimitiveInterner.intern(DayOfWeek.class, value, dayOfWeek);
+                }
             }
             return dayOfWeek;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -257,9 +258,19 @@ public class DaysOfWeek extends Code {
 
         @Override
         public DaysOfWeek build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DaysOfWeek interned = PrimitiveInterner.get(DaysOfWeek.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DaysOfWeek daysOfWeek = new DaysOfWeek(this);
             if (validating) {
                 validate(daysOfWeek);
+                if (internable) {
+                    return PrimitiveInterner.intern(DaysOfWeek.class, value, daysOfWeek);
+                }
             }
             return daysOfWeek;
         }
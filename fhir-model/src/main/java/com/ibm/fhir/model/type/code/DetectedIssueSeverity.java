@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class DetectedIssueSeverity extends Code {
 
         @Override
         public DetectedIssueSeverity build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DetectedIssueSeverity interned = PrimitiveInterner.get(DetectedIssueSeverity.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DetectedIssueSeverity detectedIssueSeverity = new DetectedIssueSeverity(this);
             if (validating) {
                 validate(detectedIssueSeverity);
+                if (internable) {
+                    return PrimitiveInterner.intern(DetectedIssueSeverity.class, value, detectedIssueSeverity);
+                }
             }
             return detectedIssueSeverity;
         }
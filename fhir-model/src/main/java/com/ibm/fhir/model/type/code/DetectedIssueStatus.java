@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -277,9 +278,19 @@ public class DetectedIssueStatus extends Code {
 
         @Override
         public DetectedIssueStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DetectedIssueStatus interned = PrimitiveInterner.get(DetectedIssueStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DetectedIssueStatus detectedIssueStatus = new DetectedIssueStatus(this);
             if (validating) {
                 validate(detectedIssueStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DetectedIssueStatus.class, value, detectedIssueStatus);
+                }
             }
             return detectedIssueStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class DeviceMetricCalibrationState extends Code {
 
         @Override
         public DeviceMetricCalibrationState build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceMetricCalibrationState interned = PrimitiveInterner.get(DeviceMetricCalibrationState.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceMetricCalibrationState deviceMetricCalibrationState = new DeviceMetricCalibrationState(this);
             if (validating) {
                 validate(deviceMetricCalibrationState);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceMetricCalibrationState.class, value, deviceMetricCalibrationState);
+                }
             }
             return deviceMetricCalibrationState;
         }
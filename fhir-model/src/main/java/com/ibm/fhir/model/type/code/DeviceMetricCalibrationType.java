@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class DeviceMetricCalibrationType extends Code {
 
         @Override
         public DeviceMetricCalibrationType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceMetricCalibrationType interned = PrimitiveInterner.get(DeviceMetricCalibrationType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceMetricCalibrationType deviceMetricCalibrationType = new DeviceMetricCalibrationType(this);
             if (validating) {
                 validate(deviceMetricCalibrationType);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceMetricCalibrationType.class, value, deviceMetricCalibrationType);
+                }
             }
             return deviceMetricCalibrationType;
         }
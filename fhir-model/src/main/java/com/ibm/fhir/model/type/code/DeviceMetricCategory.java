@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class DeviceMetricCategory extends Code {
 
         @Override
         public DeviceMetricCategory build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceMetricCategory interned = PrimitiveInterner.get(DeviceMetricCategory.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceMetricCategory deviceMetricCategory = new DeviceMetricCategory(this);
             if (validating) {
                 validate(deviceMetricCategory);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceMetricCategory.class, value, deviceMetricCategory);
+                }
             }
             return deviceMetricCategory;
         }
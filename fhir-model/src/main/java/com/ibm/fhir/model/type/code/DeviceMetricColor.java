@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -268,9 +269,19 @@ public class DeviceMetricColor extends Code {
 
         @Override
         public DeviceMetricColor build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceMetricColor interned = PrimitiveInterner.get(DeviceMetricColor.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceMetricColor deviceMetricColor = new DeviceMetricColor(this);
             if (validating) {
                 validate(deviceMetricColor);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceMetricColor.class, value, deviceMetricColor);
+                }
             }
             return deviceMetricColor;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class DeviceMetricOperationalStatus extends Code {
 
         @Override
         public DeviceMetricOperationalStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceMetricOperationalStatus interned = PrimitiveInterner.get(DeviceMetricOperationalStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceMetricOperationalStatus deviceMetricOperationalStatus = new DeviceMetricOperationalStatus(this);
             if (validating) {
                 validate(deviceMetricOperationalStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceMetricOperationalStatus.class, value, deviceMetricOperationalStatus);
+                }
             }
             return deviceMetricOperationalStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class DeviceNameType extends Code {
 
         @Override
         public DeviceNameType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceNameType interned = PrimitiveInterner.get(DeviceNameType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceNameType deviceNameType = new DeviceNameType(this);
             if (validating) {
                 validate(deviceNameType);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceNameType.class, value, deviceNameType);
+                }
             }
             return deviceNameType;
         }
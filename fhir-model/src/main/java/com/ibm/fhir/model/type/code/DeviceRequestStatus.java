@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class DeviceRequestStatus extends Code {
 
         @Override
         public DeviceRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceRequestStatus interned = PrimitiveInterner.get(DeviceRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceRequestStatus deviceRequestStatus = new DeviceRequestStatus(this);
             if (validating) {
                 validate(deviceRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceRequestStatus.class, value, deviceRequestStatus);
+                }
             }
             return deviceRequestStatus;
         }
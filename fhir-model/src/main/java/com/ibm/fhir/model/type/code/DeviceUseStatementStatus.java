@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -247,9 +248,19 @@ public class DeviceUseStatementStatus extends Code {
 
         @Override
         public DeviceUseStatementStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DeviceUseStatementStatus interned = PrimitiveInterner.get(DeviceUseStatementStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DeviceUseStatementStatus deviceUseStatementStatus = new DeviceUseStatementStatus(this);
             if (validating) {
                 validate(deviceUseStatementStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DeviceUseStatementStatus.class, value, deviceUseStatementStatus);
+                }
             }
             return deviceUseStatementStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -296,9 +297,19 @@ public class DiagnosticReportStatus extends Code {
 
         @Override
         public DiagnosticReportStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DiagnosticReportStatus interned = PrimitiveInterner.get(DiagnosticReportStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DiagnosticReportStatus diagnosticReportStatus = new DiagnosticReportStatus(this);
             if (validating) {
                 validate(diagnosticReportStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DiagnosticReportStatus.class, value, diagnosticReportStatus);
+                }
             }
             return diagnosticReportStatus;
         }
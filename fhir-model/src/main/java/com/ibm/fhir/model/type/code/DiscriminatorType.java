@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class DiscriminatorType extends Code {
 
         @Override
         public DiscriminatorType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DiscriminatorType interned = PrimitiveInterner.get(DiscriminatorType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DiscriminatorType discriminatorType = new DiscriminatorType(this);
             if (validating) {
                 validate(discriminatorType);
+                if (internable) {
+                    return PrimitiveInterner.intern(DiscriminatorType.class, value, discriminatorType);
+                }
             }
             return discriminatorType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -216,9 +217,19 @@ public class DocumentConfidentiality extends Code {
 
         @Override
         public DocumentConfidentiality build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DocumentConfidentiality interned = PrimitiveInterner.get(DocumentConfidentiality.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DocumentConfidentiality documentConfidentiality = new DocumentConfidentiality(this);
             if (validating) {
                 validate(documentConfidentiality);
+                if (internable) {
+                    return PrimitiveInterner.intern(DocumentConfidentiality.class, value, documentConfidentiality);
+                }
             }
             return documentConfidentiality;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class DocumentMode extends Code {
 
         @Override
         public DocumentMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DocumentMode interned = PrimitiveInterner.get(DocumentMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DocumentMode documentMode = new DocumentMode(this);
             if (validating) {
                 validate(documentMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(DocumentMode.class, value, documentMode);
+                }
             }
             return documentMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class DocumentReferenceStatus extends Code {
 
         @Override
         public DocumentReferenceStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DocumentReferenceStatus interned = PrimitiveInterner.get(DocumentReferenceStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DocumentReferenceStatus documentReferenceStatus = new DocumentReferenceStatus(this);
             if (validating) {
                 validate(documentReferenceStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(DocumentReferenceStatus.class, value, documentReferenceStatus);
+                }
             }
             return documentReferenceStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class DocumentRelationshipType extends Code {
 
         @Override
         public DocumentRelationshipType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                DocumentRelationshipType interned = PrimitiveInterner.get(DocumentRelationshipType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             DocumentRelationshipType documentRelationshipType = new DocumentRelationshipType(this);
             if (validating) {
                 validate(documentRelationshipType);
+                if (internable) {
+                    return PrimitiveInterner.intern(DocumentRelationshipType.class, value, documentRelationshipType);
+                }
             }
             return documentRelationshipType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class EligibilityRequestPurpose extends Code {
 
         @Override
         public EligibilityRequestPurpose build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EligibilityRequestPurpose interned = PrimitiveInterner.get(EligibilityRequestPurpose.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EligibilityRequestPurpose eligibilityRequestPurpose = new EligibilityRequestPurpose(this);
             if (validating) {
                 validate(eligibilityRequestPurpose);
+                if (internable) {
+                    return PrimitiveInterner.intern(EligibilityRequestPurpose.class, value, eligibilityRequestPurpose);
+                }
             }
             return eligibilityRequestPurpose;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class EligibilityRequestStatus extends Code {
 
         @Override
         public EligibilityRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EligibilityRequestStatus interned = PrimitiveInterner.get(EligibilityRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EligibilityRequestStatus eligibilityRequestStatus = new EligibilityRequestStatus(this);
             if (validating) {
                 validate(eligibilityRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EligibilityRequestStatus.class, value, eligibilityRequestStatus);
+                }
             }
             return eligibilityRequestStatus;
         }
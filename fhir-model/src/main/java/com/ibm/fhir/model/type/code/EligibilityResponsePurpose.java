@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class EligibilityResponsePurpose extends Code {
 
         @Override
         public EligibilityResponsePurpose build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EligibilityResponsePurpose interned = PrimitiveInterner.get(EligibilityResponsePurpose.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EligibilityResponsePurpose eligibilityResponsePurpose = new EligibilityResponsePurpose(this);
             if (validating) {
                 validate(eligibilityResponsePurpose);
+                if (internable) {
+                    return PrimitiveInterner.intern(EligibilityResponsePurpose.class, value, eligibilityResponsePurpose);
+                }
             }
             return eligibilityResponsePurpose;
         }
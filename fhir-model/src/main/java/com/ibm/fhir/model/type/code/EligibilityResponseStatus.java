@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class EligibilityResponseStatus extends Code {
 
         @Override
         public EligibilityResponseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EligibilityResponseStatus interned = PrimitiveInterner.get(EligibilityResponseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EligibilityResponseStatus eligibilityResponseStatus = new EligibilityResponseStatus(this);
             if (validating) {
                 validate(eligibilityResponseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EligibilityResponseStatus.class, value, eligibilityResponseStatus);
+                }
             }
             return eligibilityResponseStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class EnableWhenBehavior extends Code {
 
         @Override
         public EnableWhenBehavior build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EnableWhenBehavior interned = PrimitiveInterner.get(EnableWhenBehavior.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EnableWhenBehavior enableWhenBehavior = new EnableWhenBehavior(this);
             if (validating) {
                 validate(enableWhenBehavior);
+                if (internable) {
+                    return PrimitiveInterner.intern(EnableWhenBehavior.class, value, enableWhenBehavior);
+                }
             }
             return enableWhenBehavior;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -29,8 +30,9 @@ public class EncounterLocationStatus extends Code {
     /**
      * Active
      * 
-     * <p>The patient is currently at this location, or was between the period specified.A system may update these records 
-     * when the patient leaves the location to either reserved, or completed.
+     * <p>The patient is currently at this location, or was between the period specified.
+     * 
+     * <p>A system may update these records when the patient leaves the location to either reserved, or completed.
      */
     public static final EncounterLocationStatus ACTIVE = EncounterLocationStatus.builder().value(Value.ACTIVE).build();
 
@@ -44,8 +46,9 @@ public class EncounterLocationStatus extends Code {
     /**
      * Completed
      * 
-     * <p>The patient was at this location during the period specified.Not to be used when the patient is currently at the 
-     * location.
+     * <p>The patient was at this location during the period specified.
+     * 
+     * <p>Not to be used when the patient is currently at the location.
      */
     public static final EncounterLocationStatus COMPLETED = EncounterLocationStatus.builder().value(Value.COMPLETED).build();
 
@@ -226,9 +229,19 @@ public class EncounterLocationStatus extends Code {
 
         @Override
         public EncounterLocationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EncounterLocationStatus interned = PrimitiveInterner.get(EncounterLocationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EncounterLocationStatus encounterLocationStatus = new EncounterLocationStatus(this);
             if (validating) {
                 validate(encounterLocationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EncounterLocationStatus.class, value, encounterLocationStatus);
+                }
             }
             return encounterLocationStatus;
         }
@@ -255,8 +268,9 @@ public class EncounterLocationStatus extends Code {
         /**
          * Active
          * 
-         * <p>The patient is currently at this location, or was between the period specified.A system may update these records 
-         * when the patient leaves the location to either reserved, or completed.
+         * <p>The patient is currently at this location, or was between the period specified.
+         * 
+         * <p>A system may update these records when the patient leaves the location to either reserved, or completed.
          */
         ACTIVE("active"),
 
@@ -270,8 +284,9 @@ public class EncounterLocationStatus extends Code {
         /**
          * Completed
          * 
-         * <p>The patient was at this location during the period specified.Not to be used when the patient is currently at the 
-         * location.
+         * <p>The patient was at this location during the period specified.
+         * 
+         * <p>Not to be used when the patient is currently at the location.
          */
         COMPLETED("completed");
 
@@ -318,8 +333,9 @@ public class EncounterLocationStatus extends Code {
         /**
          * Active
          * 
-         * <p>The patient is currently at this location, or was between the period specified.A system may update these records 
-         * when the patient leaves the location to either reserved, or completed.
+         * <p>The patient is currently at this location, or was between the period specified.
+         * 
+         * <p>A system may update these records when the patient leaves the location to either reserved, or completed.
          */
         ACTIVE("active"),
 
@@ -333,8 +349,9 @@ public class EncounterLocationStatus extends Code {
         /**
          * Completed
          * 
-         * <p>The patient was at this location during the period specified.Not to be used when the patient is currently at the 
-         * location.
+         * <p>The patient was at this location during the period specified.
+         * 
+         * <p>Not to be used when the patient is currently at the location.
          */
         COMPLETED("completed");
 
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -280,9 +281,19 @@ public class EncounterStatus extends Code {
 
         @Override
         public EncounterStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EncounterStatus interned = PrimitiveInterner.get(EncounterStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EncounterStatus encounterStatus = new EncounterStatus(this);
             if (validating) {
                 validate(encounterStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EncounterStatus.class, value, encounterStatus);
+                }
             }
             return encounterStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -247,9 +248,19 @@ public class EndpointStatus extends Code {
 
         @Override
         public EndpointStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EndpointStatus interned = PrimitiveInterner.get(EndpointStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EndpointStatus endpointStatus = new EndpointStatus(this);
             if (validating) {
                 validate(endpointStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EndpointStatus.class, value, endpointStatus);
+                }
             }
             return endpointStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class EnrollmentRequestStatus extends Code {
 
         @Override
         public EnrollmentRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EnrollmentRequestStatus interned = PrimitiveInterner.get(EnrollmentRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EnrollmentRequestStatus enrollmentRequestStatus = new EnrollmentRequestStatus(this);
             if (validating) {
                 validate(enrollmentRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EnrollmentRequestStatus.class, value, enrollmentRequestStatus);
+                }
             }
             return enrollmentRequestStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class EnrollmentResponseStatus extends Code {
 
         @Override
         public EnrollmentResponseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EnrollmentResponseStatus interned = PrimitiveInterner.get(EnrollmentResponseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EnrollmentResponseStatus enrollmentResponseStatus = new EnrollmentResponseStatus(this);
             if (validating) {
                 validate(enrollmentResponseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EnrollmentResponseStatus.class, value, enrollmentResponseStatus);
+                }
             }
             return enrollmentResponseStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -263,9 +264,19 @@ public class EpisodeOfCareStatus extends Code {
 
         @Override
         public EpisodeOfCareStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EpisodeOfCareStatus interned = PrimitiveInterner.get(EpisodeOfCareStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EpisodeOfCareStatus episodeOfCareStatus = new EpisodeOfCareStatus(this);
             if (validating) {
                 validate(episodeOfCareStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(EpisodeOfCareStatus.class, value, episodeOfCareStatus);
+                }
             }
             return episodeOfCareStatus;
         }
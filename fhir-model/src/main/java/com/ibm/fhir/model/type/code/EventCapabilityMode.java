@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class EventCapabilityMode extends Code {
 
         @Override
         public EventCapabilityMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EventCapabilityMode interned = PrimitiveInterner.get(EventCapabilityMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EventCapabilityMode eventCapabilityMode = new EventCapabilityMode(this);
             if (validating) {
                 validate(eventCapabilityMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(EventCapabilityMode.class, value, eventCapabilityMode);
+                }
             }
             return eventCapabilityMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -408,9 +409,19 @@ public class EventTiming extends Code {
 
         @Override
         public EventTiming build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EventTiming interned = PrimitiveInterner.get(EventTiming.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EventTiming eventTiming = new EventTiming(this);
             if (validating) {
                 validate(eventTiming);
+                if (internable) {
+                    return PrimitiveInterner.intern(EventTiming.class, value, eventTiming);
+                }
             }
             return eventTiming;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class EvidenceVariableType extends Code {
 
         @Override
         public EvidenceVariableType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                EvidenceVariableType interned = PrimitiveInterner.get(EvidenceVariableType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             EvidenceVariableType evidenceVariableType = new EvidenceVariableType(this);
             if (validating) {
                 validate(evidenceVariableType);
+                if (internable) {
+                    return PrimitiveInterner.intern(EvidenceVariableType.class, value, evidenceVariableType);
+                }
             }
             return evidenceVariableType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class ExampleScenarioActorType extends Code {
 
         @Override
         public ExampleScenarioActorType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ExampleScenarioActorType interned = PrimitiveInterner.get(ExampleScenarioActorType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ExampleScenarioActorType exampleScenarioActorType = new ExampleScenarioActorType(this);
             if (validating) {
                 validate(exampleScenarioActorType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ExampleScenarioActorType.class, value, exampleScenarioActorType);
+                }
             }
             return exampleScenarioActorType;
         }
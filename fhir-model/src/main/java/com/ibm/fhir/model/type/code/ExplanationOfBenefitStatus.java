@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ExplanationOfBenefitStatus extends Code {
 
         @Override
         public ExplanationOfBenefitStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ExplanationOfBenefitStatus interned = PrimitiveInterner.get(ExplanationOfBenefitStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ExplanationOfBenefitStatus explanationOfBenefitStatus = new ExplanationOfBenefitStatus(this);
             if (validating) {
                 validate(explanationOfBenefitStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ExplanationOfBenefitStatus.class, value, explanationOfBenefitStatus);
+                }
             }
             return explanationOfBenefitStatus;
         }
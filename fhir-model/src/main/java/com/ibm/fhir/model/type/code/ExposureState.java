@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -203,9 +204,19 @@ public class ExposureState extends Code {
 
         @Override
         public ExposureState build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ExposureState interned = PrimitiveInterner.get(ExposureState.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ExposureState exposureState = new ExposureState(this);
             if (validating) {
                 validate(exposureState);
+                if (internable) {
+                    return PrimitiveInterner.intern(ExposureState.class, value, exposureState);
+                }
             }
             return exposureState;
         }
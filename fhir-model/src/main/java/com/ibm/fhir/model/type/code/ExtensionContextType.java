@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -216,9 +217,19 @@ public class ExtensionContextType extends Code {
 
         @Override
         public ExtensionContextType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ExtensionContextType interned = PrimitiveInterner.get(ExtensionContextType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ExtensionContextType extensionContextType = new ExtensionContextType(this);
             if (validating) {
                 validate(extensionContextType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ExtensionContextType.class, value, extensionContextType);
+                }
             }
             return extensionContextType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -2697,9 +2698,19 @@ public class FHIRAllTypes extends Code {
 
         @Override
         public FHIRAllTypes build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRAllTypes interned = PrimitiveInterner.get(FHIRAllTypes.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRAllTypes fHIRAllTypes = new FHIRAllTypes(this);
             if (validating) {
                 validate(fHIRAllTypes);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRAllTypes.class, value, fHIRAllTypes);
+                }
             }
             return fHIRAllTypes;
         }
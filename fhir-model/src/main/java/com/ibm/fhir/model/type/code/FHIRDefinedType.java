@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -2675,9 +2676,19 @@ public class FHIRDefinedType extends Code {
 
         @Override
         public FHIRDefinedType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRDefinedType interned = PrimitiveInterner.get(FHIRDefinedType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRDefinedType fHIRDefinedType = new FHIRDefinedType(this);
             if (validating) {
                 validate(fHIRDefinedType);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRDefinedType.class, value, fHIRDefinedType);
+                }
             }
             return fHIRDefinedType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class FHIRDeviceStatus extends Code {
 
         @Override
         public FHIRDeviceStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRDeviceStatus interned = PrimitiveInterner.get(FHIRDeviceStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRDeviceStatus fHIRDeviceStatus = new FHIRDeviceStatus(this);
             if (validating) {
                 validate(fHIRDeviceStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRDeviceStatus.class, value, fHIRDeviceStatus);
+                }
             }
             return fHIRDeviceStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -1958,9 +1959,19 @@ public class FHIRResourceType extends Code {
 
         @Override
         public FHIRResourceType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRResourceType interned = PrimitiveInterner.get(FHIRResourceType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRResourceType fHIRResourceType = new FHIRResourceType(this);
             if (validating) {
                 validate(fHIRResourceType);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRResourceType.class, value, fHIRResourceType);
+                }
             }
             return fHIRResourceType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class FHIRSubstanceStatus extends Code {
 
         @Override
         public FHIRSubstanceStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRSubstanceStatus interned = PrimitiveInterner.get(FHIRSubstanceStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRSubstanceStatus fHIRSubstanceStatus = new FHIRSubstanceStatus(this);
             if (validating) {
                 validate(fHIRSubstanceStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRSubstanceStatus.class, value, fHIRSubstanceStatus);
+                }
             }
             return fHIRSubstanceStatus;
         }
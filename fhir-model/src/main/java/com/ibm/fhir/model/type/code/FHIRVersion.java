@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -422,9 +423,19 @@ public class FHIRVersion extends Code {
 
         @Override
         public FHIRVersion build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FHIRVersion interned = PrimitiveInterner.get(FHIRVersion.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FHIRVersion fHIRVersion = new FHIRVersion(this);
             if (validating) {
                 validate(fHIRVersion);
+                if (internable) {
+                    return PrimitiveInterner.intern(FHIRVersion.class, value, fHIRVersion);
+                }
             }
             return fHIRVersion;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -225,9 +226,19 @@ public class FamilyHistoryStatus extends Code {
 
         @Override
         public FamilyHistoryStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FamilyHistoryStatus interned = PrimitiveInterner.get(FamilyHistoryStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FamilyHistoryStatus familyHistoryStatus = new FamilyHistoryStatus(this);
             if (validating) {
                 validate(familyHistoryStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(FamilyHistoryStatus.class, value, familyHistoryStatus);
+                }
             }
             return familyHistoryStatus;
         }
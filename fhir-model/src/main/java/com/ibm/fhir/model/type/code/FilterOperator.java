@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -285,9 +286,19 @@ public class FilterOperator extends Code {
 
         @Override
         public FilterOperator build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FilterOperator interned = PrimitiveInterner.get(FilterOperator.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FilterOperator filterOperator = new FilterOperator(this);
             if (validating) {
                 validate(filterOperator);
+                if (internable) {
+                    return PrimitiveInterner.intern(FilterOperator.class, value, filterOperator);
+                }
             }
             return filterOperator;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -214,9 +215,19 @@ public class FlagStatus extends Code {
 
         @Override
         public FlagStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                FlagStatus interned = PrimitiveInterner.get(FlagStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             FlagStatus flagStatus = new FlagStatus(this);
             if (validating) {
                 validate(flagStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(FlagStatus.class, value, flagStatus);
+                }
             }
             return flagStatus;
         }
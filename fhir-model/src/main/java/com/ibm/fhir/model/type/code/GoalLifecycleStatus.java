@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -279,9 +280,19 @@ public class GoalLifecycleStatus extends Code {
 
         @Override
         public GoalLifecycleStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GoalLifecycleStatus interned = PrimitiveInterner.get(GoalLifecycleStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GoalLifecycleStatus goalLifecycleStatus = new GoalLifecycleStatus(this);
             if (validating) {
                 validate(goalLifecycleStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(GoalLifecycleStatus.class, value, goalLifecycleStatus);
+                }
             }
             return goalLifecycleStatus;
         }
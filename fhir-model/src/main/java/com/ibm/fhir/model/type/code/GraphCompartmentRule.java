@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class GraphCompartmentRule extends Code {
 
         @Override
         public GraphCompartmentRule build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GraphCompartmentRule interned = PrimitiveInterner.get(GraphCompartmentRule.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GraphCompartmentRule graphCompartmentRule = new GraphCompartmentRule(this);
             if (validating) {
                 validate(graphCompartmentRule);
+                if (internable) {
+                    return PrimitiveInterner.intern(GraphCompartmentRule.class, value, graphCompartmentRule);
+                }
             }
             return graphCompartmentRule;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class GraphCompartmentUse extends Code {
 
         @Override
         public GraphCompartmentUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GraphCompartmentUse interned = PrimitiveInterner.get(GraphCompartmentUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GraphCompartmentUse graphCompartmentUse = new GraphCompartmentUse(this);
             if (validating) {
                 validate(graphCompartmentUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(GraphCompartmentUse.class, value, graphCompartmentUse);
+                }
             }
             return graphCompartmentUse;
         }
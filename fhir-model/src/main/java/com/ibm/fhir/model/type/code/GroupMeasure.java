@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class GroupMeasure extends Code {
 
         @Override
         public GroupMeasure build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GroupMeasure interned = PrimitiveInterner.get(GroupMeasure.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GroupMeasure groupMeasure = new GroupMeasure(this);
             if (validating) {
                 validate(groupMeasure);
+                if (internable) {
+                    return PrimitiveInterner.intern(GroupMeasure.class, value, groupMeasure);
+                }
             }
             return groupMeasure;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class GroupType extends Code {
 
         @Override
         public GroupType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GroupType interned = PrimitiveInterner.get(GroupType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GroupType groupType = new GroupType(this);
             if (validating) {
                 validate(groupType);
+                if (internable) {
+                    return PrimitiveInterner.intern(GroupType.class, value, groupType);
+                }
             }
             return groupType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class GuidanceResponseStatus extends Code {
 
         @Override
         public GuidanceResponseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GuidanceResponseStatus interned = PrimitiveInterner.get(GuidanceResponseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GuidanceResponseStatus guidanceResponseStatus = new GuidanceResponseStatus(this);
             if (validating) {
                 validate(guidanceResponseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(GuidanceResponseStatus.class, value, guidanceResponseStatus);
+                }
             }
             return guidanceResponseStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class GuidePageGeneration extends Code {
 
         @Override
         public GuidePageGeneration build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GuidePageGeneration interned = PrimitiveInterner.get(GuidePageGeneration.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GuidePageGeneration guidePageGeneration = new GuidePageGeneration(this);
             if (validating) {
                 validate(guidePageGeneration);
+                if (internable) {
+                    return PrimitiveInterner.intern(GuidePageGeneration.class, value, guidePageGeneration);
+                }
             }
             return guidePageGeneration;
         }
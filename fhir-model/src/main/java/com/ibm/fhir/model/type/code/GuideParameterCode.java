@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -302,9 +303,19 @@ public class GuideParameterCode extends Code {
 
         @Override
         public GuideParameterCode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                GuideParameterCode interned = PrimitiveInterner.get(GuideParameterCode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             GuideParameterCode guideParameterCode = new GuideParameterCode(this);
             if (validating) {
                 validate(guideParameterCode);
+                if (internable) {
+                    return PrimitiveInterner.intern(GuideParameterCode.class, value, guideParameterCode);
+                }
             }
             return guideParameterCode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class HTTPVerb extends Code {
 
         @Override
         public HTTPVerb build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                HTTPVerb interned = PrimitiveInterner.get(HTTPVerb.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             HTTPVerb hTTPVerb = new HTTPVerb(this);
             if (validating) {
                 validate(hTTPVerb);
+                if (internable) {
+                    return PrimitiveInterner.intern(HTTPVerb.class, value, hTTPVerb);
+                }
             }
             return hTTPVerb;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -239,9 +240,19 @@ public class IdentifierUse extends Code {
 
         @Override
         public IdentifierUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                IdentifierUse interned = PrimitiveInterner.get(IdentifierUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             IdentifierUse identifierUse = new IdentifierUse(this);
             if (validating) {
                 validate(identifierUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(IdentifierUse.class, value, identifierUse);
+                }
             }
             return identifierUse;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class IdentityAssuranceLevel extends Code {
 
         @Override
         public IdentityAssuranceLevel build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                IdentityAssuranceLevel interned = PrimitiveInterner.get(IdentityAssuranceLevel.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             IdentityAssuranceLevel identityAssuranceLevel = new IdentityAssuranceLevel(this);
             if (validating) {
                 validate(identityAssuranceLevel);
+                if (internable) {
+                    return PrimitiveInterner.intern(IdentityAssuranceLevel.class, value, identityAssuranceLevel);
+                }
             }
             return identityAssuranceLevel;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -239,9 +240,19 @@ public class ImagingStudyStatus extends Code {
 
         @Override
         public ImagingStudyStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ImagingStudyStatus interned = PrimitiveInterner.get(ImagingStudyStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ImagingStudyStatus imagingStudyStatus = new ImagingStudyStatus(this);
             if (validating) {
                 validate(imagingStudyStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ImagingStudyStatus.class, value, imagingStudyStatus);
+                }
             }
             return imagingStudyStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -192,9 +193,19 @@ public class ImmunizationEvaluationStatus extends Code {
 
         @Override
         public ImmunizationEvaluationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ImmunizationEvaluationStatus interned = PrimitiveInterner.get(ImmunizationEvaluationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ImmunizationEvaluationStatus immunizationEvaluationStatus = new ImmunizationEvaluationStatus(this);
             if (validating) {
                 validate(immunizationEvaluationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ImmunizationEvaluationStatus.class, value, immunizationEvaluationStatus);
+                }
             }
             return immunizationEvaluationStatus;
         }
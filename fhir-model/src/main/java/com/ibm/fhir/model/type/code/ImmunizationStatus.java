@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -198,9 +199,19 @@ public class ImmunizationStatus extends Code {
 
         @Override
         public ImmunizationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ImmunizationStatus interned = PrimitiveInterner.get(ImmunizationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ImmunizationStatus immunizationStatus = new ImmunizationStatus(this);
             if (validating) {
                 validate(immunizationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ImmunizationStatus.class, value, immunizationStatus);
+                }
             }
             return immunizationStatus;
         }
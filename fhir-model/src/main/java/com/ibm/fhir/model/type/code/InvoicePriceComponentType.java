@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class InvoicePriceComponentType extends Code {
 
         @Override
         public InvoicePriceComponentType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                InvoicePriceComponentType interned = PrimitiveInterner.get(InvoicePriceComponentType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             InvoicePriceComponentType invoicePriceComponentType = new InvoicePriceComponentType(this);
             if (validating) {
                 validate(invoicePriceComponentType);
+                if (internable) {
+                    return PrimitiveInterner.intern(InvoicePriceComponentType.class, value, invoicePriceComponentType);
+                }
             }
             return invoicePriceComponentType;
         }
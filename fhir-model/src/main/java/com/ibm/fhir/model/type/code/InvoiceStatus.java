@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class InvoiceStatus extends Code {
 
         @Override
         public InvoiceStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                InvoiceStatus interned = PrimitiveInterner.get(InvoiceStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             InvoiceStatus invoiceStatus = new InvoiceStatus(this);
             if (validating) {
                 validate(invoiceStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(InvoiceStatus.class, value, invoiceStatus);
+                }
             }
             return invoiceStatus;
         }
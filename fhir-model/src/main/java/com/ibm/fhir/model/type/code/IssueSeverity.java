@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -225,9 +226,19 @@ public class IssueSeverity extends Code {
 
         @Override
         public IssueSeverity build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                IssueSeverity interned = PrimitiveInterner.get(IssueSeverity.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             IssueSeverity issueSeverity = new IssueSeverity(this);
             if (validating) {
                 validate(issueSeverity);
+                if (internable) {
+                    return PrimitiveInterner.intern(IssueSeverity.class, value, issueSeverity);
+                }
             }
             return issueSeverity;
         }
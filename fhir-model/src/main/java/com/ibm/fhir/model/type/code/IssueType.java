@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -531,9 +532,19 @@ public class IssueType extends Code {
 
         @Override
         public IssueType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                IssueType interned = PrimitiveInterner.get(IssueType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             IssueType issueType = new IssueType(this);
             if (validating) {
                 validate(issueType);
+                if (internable) {
+                    return PrimitiveInterner.intern(IssueType.class, value, issueType);
+                }
             }
             return issueType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -232,9 +233,19 @@ public class LinkType extends Code {
 
         @Override
         public LinkType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                LinkType interned = PrimitiveInterner.get(LinkType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             LinkType linkType = new LinkType(this);
             if (validating) {
                 validate(linkType);
+                if (internable) {
+                    return PrimitiveInterner.intern(LinkType.class, value, linkType);
+                }
             }
             return linkType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -216,9 +217,19 @@ public class LinkageType extends Code {
 
         @Override
         public LinkageType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                LinkageType interned = PrimitiveInterner.get(LinkageType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             LinkageType linkageType = new LinkageType(this);
             if (validating) {
                 validate(linkageType);
+                if (internable) {
+                    return PrimitiveInterner.intern(LinkageType.class, value, linkageType);
+                }
             }
             return linkageType;
         }
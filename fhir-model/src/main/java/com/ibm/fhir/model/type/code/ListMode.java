@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class ListMode extends Code {
 
         @Override
         public ListMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ListMode interned = PrimitiveInterner.get(ListMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ListMode listMode = new ListMode(this);
             if (validating) {
                 validate(listMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(ListMode.class, value, listMode);
+                }
             }
             return listMode;
         }
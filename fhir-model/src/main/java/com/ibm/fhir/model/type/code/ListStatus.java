@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ListStatus extends Code {
 
         @Override
         public ListStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ListStatus interned = PrimitiveInterner.get(ListStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ListStatus listStatus = new ListStatus(this);
             if (validating) {
                 validate(listStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ListStatus.class, value, listStatus);
+                }
             }
             return listStatus;
         }
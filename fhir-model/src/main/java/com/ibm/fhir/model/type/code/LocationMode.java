@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -203,9 +204,19 @@ public class LocationMode extends Code {
 
         @Override
         public LocationMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                LocationMode interned = PrimitiveInterner.get(LocationMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             LocationMode locationMode = new LocationMode(this);
             if (validating) {
                 validate(locationMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(LocationMode.class, value, locationMode);
+                }
             }
             return locationMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class LocationStatus extends Code {
 
         @Override
         public LocationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                LocationStatus interned = PrimitiveInterner.get(LocationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             LocationStatus locationStatus = new LocationStatus(this);
             if (validating) {
                 validate(locationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(LocationStatus.class, value, locationStatus);
+                }
             }
             return locationStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class MeasureReportStatus extends Code {
 
         @Override
         public MeasureReportStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MeasureReportStatus interned = PrimitiveInterner.get(MeasureReportStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MeasureReportStatus measureReportStatus = new MeasureReportStatus(this);
             if (validating) {
                 validate(measureReportStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MeasureReportStatus.class, value, measureReportStatus);
+                }
             }
             return measureReportStatus;
         }
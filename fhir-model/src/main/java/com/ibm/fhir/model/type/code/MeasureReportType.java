@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -225,9 +226,19 @@ public class MeasureReportType extends Code {
 
         @Override
         public MeasureReportType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MeasureReportType interned = PrimitiveInterner.get(MeasureReportType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MeasureReportType measureReportType = new MeasureReportType(this);
             if (validating) {
                 validate(measureReportType);
+                if (internable) {
+                    return PrimitiveInterner.intern(MeasureReportType.class, value, measureReportType);
+                }
             }
             return measureReportType;
         }
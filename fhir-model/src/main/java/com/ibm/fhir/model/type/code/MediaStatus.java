@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -274,9 +275,19 @@ public class MediaStatus extends Code {
 
         @Override
         public MediaStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MediaStatus interned = PrimitiveInterner.get(MediaStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MediaStatus mediaStatus = new MediaStatus(this);
             if (validating) {
                 validate(mediaStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MediaStatus.class, value, mediaStatus);
+                }
             }
             return mediaStatus;
         }
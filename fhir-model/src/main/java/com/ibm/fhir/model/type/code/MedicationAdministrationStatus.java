@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -260,9 +261,19 @@ public class MedicationAdministrationStatus extends Code {
 
         @Override
         public MedicationAdministrationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationAdministrationStatus interned = PrimitiveInterner.get(MedicationAdministrationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationAdministrationStatus medicationAdministrationStatus = new MedicationAdministrationStatus(this);
             if (validating) {
                 validate(medicationAdministrationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationAdministrationStatus.class, value, medicationAdministrationStatus);
+                }
             }
             return medicationAdministrationStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -282,9 +283,19 @@ public class MedicationDispenseStatus extends Code {
 
         @Override
         public MedicationDispenseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationDispenseStatus interned = PrimitiveInterner.get(MedicationDispenseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationDispenseStatus medicationDispenseStatus = new MedicationDispenseStatus(this);
             if (validating) {
                 validate(medicationDispenseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationDispenseStatus.class, value, medicationDispenseStatus);
+                }
             }
             return medicationDispenseStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class MedicationKnowledgeStatus extends Code {
 
         @Override
         public MedicationKnowledgeStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationKnowledgeStatus interned = PrimitiveInterner.get(MedicationKnowledgeStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationKnowledgeStatus medicationKnowledgeStatus = new MedicationKnowledgeStatus(this);
             if (validating) {
                 validate(medicationKnowledgeStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationKnowledgeStatus.class, value, medicationKnowledgeStatus);
+                }
             }
             return medicationKnowledgeStatus;
         }
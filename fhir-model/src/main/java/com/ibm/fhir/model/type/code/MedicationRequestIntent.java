@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -272,9 +273,19 @@ public class MedicationRequestIntent extends Code {
 
         @Override
         public MedicationRequestIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationRequestIntent interned = PrimitiveInterner.get(MedicationRequestIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationRequestIntent medicationRequestIntent = new MedicationRequestIntent(this);
             if (validating) {
                 validate(medicationRequestIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationRequestIntent.class, value, medicationRequestIntent);
+                }
             }
             return medicationRequestIntent;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class MedicationRequestPriority extends Code {
 
         @Override
         public MedicationRequestPriority build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationRequestPriority interned = PrimitiveInterner.get(MedicationRequestPriority.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationRequestPriority medicationRequestPriority = new MedicationRequestPriority(this);
             if (validating) {
                 validate(medicationRequestPriority);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationRequestPriority.class, value, medicationRequestPriority);
+                }
             }
             return medicationRequestPriority;
         }
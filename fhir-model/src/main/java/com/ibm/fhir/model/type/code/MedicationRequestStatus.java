@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -275,9 +276,19 @@ public class MedicationRequestStatus extends Code {
 
         @Override
         public MedicationRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationRequestStatus interned = PrimitiveInterner.get(MedicationRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationRequestStatus medicationRequestStatus = new MedicationRequestStatus(this);
             if (validating) {
                 validate(medicationRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationRequestStatus.class, value, medicationRequestStatus);
+                }
             }
             return medicationRequestStatus;
         }
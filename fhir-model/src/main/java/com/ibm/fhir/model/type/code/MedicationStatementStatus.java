@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -271,9 +272,19 @@ public class MedicationStatementStatus extends Code {
 
         @Override
         public MedicationStatementStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationStatementStatus interned = PrimitiveInterner.get(MedicationStatementStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationStatementStatus medicationStatementStatus = new MedicationStatementStatus(this);
             if (validating) {
                 validate(medicationStatementStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationStatementStatus.class, value, medicationStatementStatus);
+                }
             }
             return medicationStatementStatus;
         }
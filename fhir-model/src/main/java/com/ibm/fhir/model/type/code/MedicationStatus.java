@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class MedicationStatus extends Code {
 
         @Override
         public MedicationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MedicationStatus interned = PrimitiveInterner.get(MedicationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MedicationStatus medicationStatus = new MedicationStatus(this);
             if (validating) {
                 validate(medicationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(MedicationStatus.class, value, medicationStatus);
+                }
             }
             return medicationStatus;
         }
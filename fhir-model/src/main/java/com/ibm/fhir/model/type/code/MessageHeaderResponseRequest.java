@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class MessageHeaderResponseRequest extends Code {
 
         @Override
         public MessageHeaderResponseRequest build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MessageHeaderResponseRequest interned = PrimitiveInterner.get(MessageHeaderResponseRequest.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MessageHeaderResponseRequest messageHeaderResponseRequest = new MessageHeaderResponseRequest(this);
             if (validating) {
                 validate(messageHeaderResponseRequest);
+                if (internable) {
+                    return PrimitiveInterner.intern(MessageHeaderResponseRequest.class, value, messageHeaderResponseRequest);
+                }
             }
             return messageHeaderResponseRequest;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -216,9 +217,19 @@ public class MessageSignificanceCategory extends Code {
 
         @Override
         public MessageSignificanceCategory build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                MessageSignificanceCategory interned = PrimitiveInterner.get(MessageSignificanceCategory.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             MessageSignificanceCategory messageSignificanceCategory = new MessageSignificanceCategory(this);
             if (validating) {
                 validate(messageSignificanceCategory);
+                if (internable) {
+                    return PrimitiveInterner.intern(MessageSignificanceCategory.class, value, messageSignificanceCategory);
+                }
             }
             return messageSignificanceCategory;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class NameUse extends Code {
 
         @Override
         public NameUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NameUse interned = PrimitiveInterner.get(NameUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NameUse nameUse = new NameUse(this);
             if (validating) {
                 validate(nameUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(NameUse.class, value, nameUse);
+                }
             }
             return nameUse;
         }
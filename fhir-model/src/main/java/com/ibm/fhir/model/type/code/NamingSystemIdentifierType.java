@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class NamingSystemIdentifierType extends Code {
 
         @Override
         public NamingSystemIdentifierType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NamingSystemIdentifierType interned = PrimitiveInterner.get(NamingSystemIdentifierType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NamingSystemIdentifierType namingSystemIdentifierType = new NamingSystemIdentifierType(this);
             if (validating) {
                 validate(namingSystemIdentifierType);
+                if (internable) {
+                    return PrimitiveInterner.intern(NamingSystemIdentifierType.class, value, namingSystemIdentifierType);
+                }
             }
             return namingSystemIdentifierType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -214,9 +215,19 @@ public class NamingSystemType extends Code {
 
         @Override
         public NamingSystemType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NamingSystemType interned = PrimitiveInterner.get(NamingSystemType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NamingSystemType namingSystemType = new NamingSystemType(this);
             if (validating) {
                 validate(namingSystemType);
+                if (internable) {
+                    return PrimitiveInterner.intern(NamingSystemType.class, value, namingSystemType);
+                }
             }
             return namingSystemType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class NarrativeStatus extends Code {
 
         @Override
         public NarrativeStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NarrativeStatus interned = PrimitiveInterner.get(NarrativeStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NarrativeStatus narrativeStatus = new NarrativeStatus(this);
             if (validating) {
                 validate(narrativeStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(NarrativeStatus.class, value, narrativeStatus);
+                }
             }
             return narrativeStatus;
         }
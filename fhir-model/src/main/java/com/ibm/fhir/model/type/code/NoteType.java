@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class NoteType extends Code {
 
         @Override
         public NoteType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NoteType interned = PrimitiveInterner.get(NoteType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NoteType noteType = new NoteType(this);
             if (validating) {
                 validate(noteType);
+                if (internable) {
+                    return PrimitiveInterner.intern(NoteType.class, value, noteType);
+                }
             }
             return noteType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -285,9 +286,19 @@ public class NutritionOrderIntent extends Code {
 
         @Override
         public NutritionOrderIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NutritionOrderIntent interned = PrimitiveInterner.get(NutritionOrderIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NutritionOrderIntent nutritionOrderIntent = new NutritionOrderIntent(this);
             if (validating) {
                 validate(nutritionOrderIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(NutritionOrderIntent.class, value, nutritionOrderIntent);
+                }
             }
             return nutritionOrderIntent;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class NutritionOrderStatus extends Code {
 
         @Override
         public NutritionOrderStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                NutritionOrderStatus interned = PrimitiveInterner.get(NutritionOrderStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             NutritionOrderStatus nutritionOrderStatus = new NutritionOrderStatus(this);
             if (validating) {
                 validate(nutritionOrderStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(NutritionOrderStatus.class, value, nutritionOrderStatus);
+                }
             }
             return nutritionOrderStatus;
         }
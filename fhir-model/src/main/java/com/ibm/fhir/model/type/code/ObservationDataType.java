@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -301,9 +302,19 @@ public class ObservationDataType extends Code {
 
         @Override
         public ObservationDataType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ObservationDataType interned = PrimitiveInterner.get(ObservationDataType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ObservationDataType observationDataType = new ObservationDataType(this);
             if (validating) {
                 validate(observationDataType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ObservationDataType.class, value, observationDataType);
+                }
             }
             return observationDataType;
         }
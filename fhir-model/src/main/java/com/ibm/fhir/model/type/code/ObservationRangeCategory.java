@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ObservationRangeCategory extends Code {
 
         @Override
         public ObservationRangeCategory build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ObservationRangeCategory interned = PrimitiveInterner.get(ObservationRangeCategory.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ObservationRangeCategory observationRangeCategory = new ObservationRangeCategory(this);
             if (validating) {
                 validate(observationRangeCategory);
+                if (internable) {
+                    return PrimitiveInterner.intern(ObservationRangeCategory.class, value, observationRangeCategory);
+                }
             }
             return observationRangeCategory;
         }
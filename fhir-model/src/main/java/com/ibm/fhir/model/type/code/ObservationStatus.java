@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -277,9 +278,19 @@ public class ObservationStatus extends Code {
 
         @Override
         public ObservationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ObservationStatus interned = PrimitiveInterner.get(ObservationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ObservationStatus observationStatus = new ObservationStatus(this);
             if (validating) {
                 validate(observationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ObservationStatus.class, value, observationStatus);
+                }
             }
             return observationStatus;
         }
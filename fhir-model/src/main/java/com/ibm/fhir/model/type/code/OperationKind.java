@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class OperationKind extends Code {
 
         @Override
         public OperationKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                OperationKind interned = PrimitiveInterner.get(OperationKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             OperationKind operationKind = new OperationKind(this);
             if (validating) {
                 validate(operationKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(OperationKind.class, value, operationKind);
+                }
             }
             return operationKind;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class OperationParameterUse extends Code {
 
         @Override
         public OperationParameterUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                OperationParameterUse interned = PrimitiveInterner.get(OperationParameterUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             OperationParameterUse operationParameterUse = new OperationParameterUse(this);
             if (validating) {
                 validate(operationParameterUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(OperationParameterUse.class, value, operationParameterUse);
+                }
             }
             return operationParameterUse;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class OrientationType extends Code {
 
         @Override
         public OrientationType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                OrientationType interned = PrimitiveInterner.get(OrientationType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             OrientationType orientationType = new OrientationType(this);
             if (validating) {
                 validate(orientationType);
+                if (internable) {
+                    return PrimitiveInterner.intern(OrientationType.class, value, orientationType);
+                }
             }
             return orientationType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class ParameterUse extends Code {
 
         @Override
         public ParameterUse build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ParameterUse interned = PrimitiveInterner.get(ParameterUse.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ParameterUse parameterUse = new ParameterUse(this);
             if (validating) {
                 validate(parameterUse);
+                if (internable) {
+                    return PrimitiveInterner.intern(ParameterUse.class, value, parameterUse);
+                }
             }
             return parameterUse;
         }
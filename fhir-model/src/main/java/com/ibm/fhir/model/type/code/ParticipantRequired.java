@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -214,9 +215,19 @@ public class ParticipantRequired extends Code {
 
         @Override
         public ParticipantRequired build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ParticipantRequired interned = PrimitiveInterner.get(ParticipantRequired.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ParticipantRequired participantRequired = new ParticipantRequired(this);
             if (validating) {
                 validate(participantRequired);
+                if (internable) {
+                    return PrimitiveInterner.intern(ParticipantRequired.class, value, participantRequired);
+                }
             }
             return participantRequired;
         }
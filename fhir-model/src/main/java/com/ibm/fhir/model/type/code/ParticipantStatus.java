@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class ParticipantStatus extends Code {
 
         @Override
         public ParticipantStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ParticipantStatus interned = PrimitiveInterner.get(ParticipantStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ParticipantStatus participantStatus = new ParticipantStatus(this);
             if (validating) {
                 validate(participantStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ParticipantStatus.class, value, participantStatus);
+                }
             }
             return participantStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -226,9 +227,19 @@ public class ParticipationStatus extends Code {
 
         @Override
         public ParticipationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ParticipationStatus interned = PrimitiveInterner.get(ParticipationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ParticipationStatus participationStatus = new ParticipationStatus(this);
             if (validating) {
                 validate(participationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ParticipationStatus.class, value, participationStatus);
+                }
             }
             return participationStatus;
         }
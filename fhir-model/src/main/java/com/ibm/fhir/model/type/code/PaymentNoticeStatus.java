@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class PaymentNoticeStatus extends Code {
 
         @Override
         public PaymentNoticeStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                PaymentNoticeStatus interned = PrimitiveInterner.get(PaymentNoticeStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             PaymentNoticeStatus paymentNoticeStatus = new PaymentNoticeStatus(this);
             if (validating) {
                 validate(paymentNoticeStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(PaymentNoticeStatus.class, value, paymentNoticeStatus);
+                }
             }
             return paymentNoticeStatus;
         }
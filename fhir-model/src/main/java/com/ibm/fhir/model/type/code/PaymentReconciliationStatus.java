@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class PaymentReconciliationStatus extends Code {
 
         @Override
         public PaymentReconciliationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                PaymentReconciliationStatus interned = PrimitiveInterner.get(PaymentReconciliationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             PaymentReconciliationStatus paymentReconciliationStatus = new PaymentReconciliationStatus(this);
             if (validating) {
                 validate(paymentReconciliationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(PaymentReconciliationStatus.class, value, paymentReconciliationStatus);
+                }
             }
             return paymentReconciliationStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -274,9 +275,19 @@ public class ProcedureStatus extends Code {
 
         @Override
         public ProcedureStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ProcedureStatus interned = PrimitiveInterner.get(ProcedureStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ProcedureStatus procedureStatus = new ProcedureStatus(this);
             if (validating) {
                 validate(procedureStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ProcedureStatus.class, value, procedureStatus);
+                }
             }
             return procedureStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class PropertyRepresentation extends Code {
 
         @Override
         public PropertyRepresentation build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                PropertyRepresentation interned = PrimitiveInterner.get(PropertyRepresentation.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             PropertyRepresentation propertyRepresentation = new PropertyRepresentation(this);
             if (validating) {
                 validate(propertyRepresentation);
+                if (internable) {
+                    return PrimitiveInterner.intern(PropertyRepresentation.class, value, propertyRepresentation);
+                }
             }
             return propertyRepresentation;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -258,9 +259,19 @@ public class PropertyType extends Code {
 
         @Override
         public PropertyType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                PropertyType interned = PrimitiveInterner.get(PropertyType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             PropertyType propertyType = new PropertyType(this);
             if (validating) {
                 validate(propertyType);
+                if (internable) {
+                    return PrimitiveInterner.intern(PropertyType.class, value, propertyType);
+                }
             }
             return propertyType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class ProvenanceEntityRole extends Code {
 
         @Override
         public ProvenanceEntityRole build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ProvenanceEntityRole interned = PrimitiveInterner.get(ProvenanceEntityRole.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ProvenanceEntityRole provenanceEntityRole = new ProvenanceEntityRole(this);
             if (validating) {
                 validate(provenanceEntityRole);
+                if (internable) {
+                    return PrimitiveInterner.intern(ProvenanceEntityRole.class, value, provenanceEntityRole);
+                }
             }
             return provenanceEntityRole;
         }
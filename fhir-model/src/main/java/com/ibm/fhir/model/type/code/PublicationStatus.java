@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -225,9 +226,19 @@ public class PublicationStatus extends Code {
 
         @Override
         public PublicationStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                PublicationStatus interned = PrimitiveInterner.get(PublicationStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             PublicationStatus publicationStatus = new PublicationStatus(this);
             if (validating) {
                 validate(publicationStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(PublicationStatus.class, value, publicationStatus);
+                }
             }
             return publicationStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class QualityType extends Code {
 
         @Override
         public QualityType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                QualityType interned = PrimitiveInterner.get(QualityType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             QualityType qualityType = new QualityType(this);
             if (validating) {
                 validate(qualityType);
+                if (internable) {
+                    return PrimitiveInterner.intern(QualityType.class, value, qualityType);
+                }
             }
             return qualityType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class QuantityComparator extends Code {
 
         @Override
         public QuantityComparator build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                QuantityComparator interned = PrimitiveInterner.get(QuantityComparator.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             QuantityComparator quantityComparator = new QuantityComparator(this);
             if (validating) {
                 validate(quantityComparator);
+                if (internable) {
+                    return PrimitiveInterner.intern(QuantityComparator.class, value, quantityComparator);
+                }
             }
             return quantityComparator;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -257,9 +258,19 @@ public class QuestionnaireItemOperator extends Code {
 
         @Override
         public QuestionnaireItemOperator build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                QuestionnaireItemOperator interned = PrimitiveInterner.get(QuestionnaireItemOperator.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             QuestionnaireItemOperator questionnaireItemOperator = new QuestionnaireItemOperator(this);
             if (validating) {
                 validate(questionnaireItemOperator);
+                if (internable) {
+                    return PrimitiveInterner.intern(QuestionnaireItemOperator.class, value, questionnaireItemOperator);
+                }
             }
             return questionnaireItemOperator;
         }
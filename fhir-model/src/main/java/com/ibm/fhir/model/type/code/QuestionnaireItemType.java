@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -372,9 +373,19 @@ public class QuestionnaireItemType extends Code {
 
         @Override
         public QuestionnaireItemType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                QuestionnaireItemType interned = PrimitiveInterner.get(QuestionnaireItemType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             QuestionnaireItemType questionnaireItemType = new QuestionnaireItemType(this);
             if (validating) {
                 validate(questionnaireItemType);
+                if (internable) {
+                    return PrimitiveInterner.intern(QuestionnaireItemType.class, value, questionnaireItemType);
+                }
             }
             return questionnaireItemType;
         }
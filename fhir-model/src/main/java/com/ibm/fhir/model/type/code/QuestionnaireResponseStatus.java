@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class QuestionnaireResponseStatus extends Code {
 
         @Override
         public QuestionnaireResponseStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                QuestionnaireResponseStatus interned = PrimitiveInterner.get(QuestionnaireResponseStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             QuestionnaireResponseStatus questionnaireResponseStatus = new QuestionnaireResponseStatus(this);
             if (validating) {
                 validate(questionnaireResponseStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(QuestionnaireResponseStatus.class, value, questionnaireResponseStatus);
+                }
             }
             return questionnaireResponseStatus;
         }
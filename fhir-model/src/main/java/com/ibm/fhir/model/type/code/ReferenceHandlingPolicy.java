@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class ReferenceHandlingPolicy extends Code {
 
         @Override
         public ReferenceHandlingPolicy build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ReferenceHandlingPolicy interned = PrimitiveInterner.get(ReferenceHandlingPolicy.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ReferenceHandlingPolicy referenceHandlingPolicy = new ReferenceHandlingPolicy(this);
             if (validating) {
                 validate(referenceHandlingPolicy);
+                if (internable) {
+                    return PrimitiveInterner.intern(ReferenceHandlingPolicy.class, value, referenceHandlingPolicy);
+                }
             }
             return referenceHandlingPolicy;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ReferenceVersionRules extends Code {
 
         @Override
         public ReferenceVersionRules build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ReferenceVersionRules interned = PrimitiveInterner.get(ReferenceVersionRules.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ReferenceVersionRules referenceVersionRules = new ReferenceVersionRules(this);
             if (validating) {
                 validate(referenceVersionRules);
+                if (internable) {
+                    return PrimitiveInterner.intern(ReferenceVersionRules.class, value, referenceVersionRules);
+                }
             }
             return referenceVersionRules;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -228,9 +229,19 @@ public class ReferredDocumentStatus extends Code {
 
         @Override
         public ReferredDocumentStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ReferredDocumentStatus interned = PrimitiveInterner.get(ReferredDocumentStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ReferredDocumentStatus referredDocumentStatus = new ReferredDocumentStatus(this);
             if (validating) {
                 validate(referredDocumentStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ReferredDocumentStatus.class, value, referredDocumentStatus);
+                }
             }
             return referredDocumentStatus;
         }
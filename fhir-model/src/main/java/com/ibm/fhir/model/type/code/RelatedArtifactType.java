@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -276,9 +277,19 @@ public class RelatedArtifactType extends Code {
 
         @Override
         public RelatedArtifactType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RelatedArtifactType interned = PrimitiveInterner.get(RelatedArtifactType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RelatedArtifactType relatedArtifactType = new RelatedArtifactType(this);
             if (validating) {
                 validate(relatedArtifactType);
+                if (internable) {
+                    return PrimitiveInterner.intern(RelatedArtifactType.class, value, relatedArtifactType);
+                }
             }
             return relatedArtifactType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class RemittanceOutcome extends Code {
 
         @Override
         public RemittanceOutcome build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RemittanceOutcome interned = PrimitiveInterner.get(RemittanceOutcome.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RemittanceOutcome remittanceOutcome = new RemittanceOutcome(this);
             if (validating) {
                 validate(remittanceOutcome);
+                if (internable) {
+                    return PrimitiveInterner.intern(RemittanceOutcome.class, value, remittanceOutcome);
+                }
             }
             return remittanceOutcome;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -236,9 +237,19 @@ public class RepositoryType extends Code {
 
         @Override
         public RepositoryType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RepositoryType interned = PrimitiveInterner.get(RepositoryType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RepositoryType repositoryType = new RepositoryType(this);
             if (validating) {
                 validate(repositoryType);
+                if (internable) {
+                    return PrimitiveInterner.intern(RepositoryType.class, value, repositoryType);
+                }
             }
             return repositoryType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -285,9 +286,19 @@ public class RequestIntent extends Code {
 
         @Override
         public RequestIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RequestIntent interned = PrimitiveInterner.get(RequestIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RequestIntent requestIntent = new RequestIntent(this);
             if (validating) {
                 validate(requestIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(RequestIntent.class, value, requestIntent);
+                }
             }
             return requestIntent;
         }
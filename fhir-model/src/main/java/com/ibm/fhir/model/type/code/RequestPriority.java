@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class RequestPriority extends Code {
 
         @Override
         public RequestPriority build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RequestPriority interned = PrimitiveInterner.get(RequestPriority.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RequestPriority requestPriority = new RequestPriority(this);
             if (validating) {
                 validate(requestPriority);
+                if (internable) {
+                    return PrimitiveInterner.intern(RequestPriority.class, value, requestPriority);
+                }
             }
             return requestPriority;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class RequestStatus extends Code {
 
         @Override
         public RequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RequestStatus interned = PrimitiveInterner.get(RequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RequestStatus requestStatus = new RequestStatus(this);
             if (validating) {
                 validate(requestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(RequestStatus.class, value, requestStatus);
+                }
             }
             return requestStatus;
         }
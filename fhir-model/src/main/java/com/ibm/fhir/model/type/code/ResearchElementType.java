@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ResearchElementType extends Code {
 
         @Override
         public ResearchElementType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResearchElementType interned = PrimitiveInterner.get(ResearchElementType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResearchElementType researchElementType = new ResearchElementType(this);
             if (validating) {
                 validate(researchElementType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResearchElementType.class, value, researchElementType);
+                }
             }
             return researchElementType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -305,9 +306,19 @@ public class ResearchStudyStatus extends Code {
 
         @Override
         public ResearchStudyStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResearchStudyStatus interned = PrimitiveInterner.get(ResearchStudyStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResearchStudyStatus researchStudyStatus = new ResearchStudyStatus(this);
             if (validating) {
                 validate(researchStudyStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResearchStudyStatus.class, value, researchStudyStatus);
+                }
             }
             return researchStudyStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -331,9 +332,19 @@ public class ResearchSubjectStatus extends Code {
 
         @Override
         public ResearchSubjectStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResearchSubjectStatus interned = PrimitiveInterner.get(ResearchSubjectStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResearchSubjectStatus researchSubjectStatus = new ResearchSubjectStatus(this);
             if (validating) {
                 validate(researchSubjectStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResearchSubjectStatus.class, value, researchSubjectStatus);
+                }
             }
             return researchSubjectStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -1958,9 +1959,19 @@ public class ResourceType extends Code {
 
         @Override
         public ResourceType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResourceType interned = PrimitiveInterner.get(ResourceType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResourceType resourceType = new ResourceType(this);
             if (validating) {
                 validate(resourceType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResourceType.class, value, resourceType);
+                }
             }
             return resourceType;
         }
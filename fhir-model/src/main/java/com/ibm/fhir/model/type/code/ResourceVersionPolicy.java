@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class ResourceVersionPolicy extends Code {
 
         @Override
         public ResourceVersionPolicy build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResourceVersionPolicy interned = PrimitiveInterner.get(ResourceVersionPolicy.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResourceVersionPolicy resourceVersionPolicy = new ResourceVersionPolicy(this);
             if (validating) {
                 validate(resourceVersionPolicy);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResourceVersionPolicy.class, value, resourceVersionPolicy);
+                }
             }
             return resourceVersionPolicy;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class ResponseType extends Code {
 
         @Override
         public ResponseType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ResponseType interned = PrimitiveInterner.get(ResponseType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ResponseType responseType = new ResponseType(this);
             if (validating) {
                 validate(responseType);
+                if (internable) {
+                    return PrimitiveInterner.intern(ResponseType.class, value, responseType);
+                }
             }
             return responseType;
         }
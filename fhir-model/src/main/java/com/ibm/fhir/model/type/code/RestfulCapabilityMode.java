@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class RestfulCapabilityMode extends Code {
 
         @Override
         public RestfulCapabilityMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RestfulCapabilityMode interned = PrimitiveInterner.get(RestfulCapabilityMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RestfulCapabilityMode restfulCapabilityMode = new RestfulCapabilityMode(this);
             if (validating) {
                 validate(restfulCapabilityMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(RestfulCapabilityMode.class, value, restfulCapabilityMode);
+                }
             }
             return restfulCapabilityMode;
         }
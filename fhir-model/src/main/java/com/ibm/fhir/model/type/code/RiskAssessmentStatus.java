@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -277,9 +278,19 @@ public class RiskAssessmentStatus extends Code {
 
         @Override
         public RiskAssessmentStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                RiskAssessmentStatus interned = PrimitiveInterner.get(RiskAssessmentStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             RiskAssessmentStatus riskAssessmentStatus = new RiskAssessmentStatus(this);
             if (validating) {
                 validate(riskAssessmentStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(RiskAssessmentStatus.class, value, riskAssessmentStatus);
+                }
             }
             return riskAssessmentStatus;
         }
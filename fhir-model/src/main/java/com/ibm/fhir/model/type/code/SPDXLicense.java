@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -3986,9 +3987,19 @@ public class SPDXLicense extends Code {
 
         @Override
         public SPDXLicense build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SPDXLicense interned = PrimitiveInterner.get(SPDXLicense.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SPDXLicense sPDXLicense = new SPDXLicense(this);
             if (validating) {
                 validate(sPDXLicense);
+                if (internable) {
+                    return PrimitiveInterner.intern(SPDXLicense.class, value, sPDXLicense);
+                }
             }
             return sPDXLicense;
         }
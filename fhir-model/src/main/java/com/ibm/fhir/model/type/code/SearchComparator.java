@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -279,9 +280,19 @@ public class SearchComparator extends Code {
 
         @Override
         public SearchComparator build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SearchComparator interned = PrimitiveInterner.get(SearchComparator.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SearchComparator searchComparator = new SearchComparator(this);
             if (validating) {
                 validate(searchComparator);
+                if (internable) {
+                    return PrimitiveInterner.intern(SearchComparator.class, value, searchComparator);
+                }
             }
             return searchComparator;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class SearchEntryMode extends Code {
 
         @Override
         public SearchEntryMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SearchEntryMode interned = PrimitiveInterner.get(SearchEntryMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SearchEntryMode searchEntryMode = new SearchEntryMode(this);
             if (validating) {
                 validate(searchEntryMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(SearchEntryMode.class, value, searchEntryMode);
+                }
             }
             return searchEntryMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -321,9 +322,19 @@ public class SearchModifierCode extends Code {
 
         @Override
         public SearchModifierCode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SearchModifierCode interned = PrimitiveInterner.get(SearchModifierCode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SearchModifierCode searchModifierCode = new SearchModifierCode(this);
             if (validating) {
                 validate(searchModifierCode);
+                if (internable) {
+                    return PrimitiveInterner.intern(SearchModifierCode.class, value, searchModifierCode);
+                }
             }
             return searchModifierCode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -283,9 +284,19 @@ public class SearchParamType extends Code {
 
         @Override
         public SearchParamType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SearchParamType interned = PrimitiveInterner.get(SearchParamType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SearchParamType searchParamType = new SearchParamType(this);
             if (validating) {
                 validate(searchParamType);
+                if (internable) {
+                    return PrimitiveInterner.intern(SearchParamType.class, value, searchParamType);
+                }
             }
             return searchParamType;
         }
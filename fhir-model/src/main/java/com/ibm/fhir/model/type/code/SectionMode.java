@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -215,9 +216,19 @@ public class SectionMode extends Code {
 
         @Override
         public SectionMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SectionMode interned = PrimitiveInterner.get(SectionMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SectionMode sectionMode = new SectionMode(this);
             if (validating) {
                 validate(sectionMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(SectionMode.class, value, sectionMode);
+                }
             }
             return sectionMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class SequenceType extends Code {
 
         @Override
         public SequenceType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SequenceType interned = PrimitiveInterner.get(SequenceType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SequenceType sequenceType = new SequenceType(this);
             if (validating) {
                 validate(sequenceType);
+                if (internable) {
+                    return PrimitiveInterner.intern(SequenceType.class, value, sequenceType);
+                }
             }
             return sequenceType;
         }
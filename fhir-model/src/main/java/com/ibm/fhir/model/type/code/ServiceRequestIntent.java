@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -285,9 +286,19 @@ public class ServiceRequestIntent extends Code {
 
         @Override
         public ServiceRequestIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ServiceRequestIntent interned = PrimitiveInterner.get(ServiceRequestIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ServiceRequestIntent serviceRequestIntent = new ServiceRequestIntent(this);
             if (validating) {
                 validate(serviceRequestIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(ServiceRequestIntent.class, value, serviceRequestIntent);
+                }
             }
             return serviceRequestIntent;
         }
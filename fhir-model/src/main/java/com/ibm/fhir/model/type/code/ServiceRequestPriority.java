@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class ServiceRequestPriority extends Code {
 
         @Override
         public ServiceRequestPriority build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ServiceRequestPriority interned = PrimitiveInterner.get(ServiceRequestPriority.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ServiceRequestPriority serviceRequestPriority = new ServiceRequestPriority(this);
             if (validating) {
                 validate(serviceRequestPriority);
+                if (internable) {
+                    return PrimitiveInterner.intern(ServiceRequestPriority.class, value, serviceRequestPriority);
+                }
             }
             return serviceRequestPriority;
         }
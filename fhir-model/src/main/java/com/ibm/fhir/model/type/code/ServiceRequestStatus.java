@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -262,9 +263,19 @@ public class ServiceRequestStatus extends Code {
 
         @Override
         public ServiceRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                ServiceRequestStatus interned = PrimitiveInterner.get(ServiceRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             ServiceRequestStatus serviceRequestStatus = new ServiceRequestStatus(this);
             if (validating) {
                 validate(serviceRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(ServiceRequestStatus.class, value, serviceRequestStatus);
+                }
             }
             return serviceRequestStatus;
         }
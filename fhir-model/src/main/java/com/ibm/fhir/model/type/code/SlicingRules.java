@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -214,9 +215,19 @@ public class SlicingRules extends Code {
 
         @Override
         public SlicingRules build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SlicingRules interned = PrimitiveInterner.get(SlicingRules.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SlicingRules slicingRules = new SlicingRules(this);
             if (validating) {
                 validate(slicingRules);
+                if (internable) {
+                    return PrimitiveInterner.intern(SlicingRules.class, value, slicingRules);
+                }
             }
             return slicingRules;
         }
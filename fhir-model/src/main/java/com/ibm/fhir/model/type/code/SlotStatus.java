@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -236,9 +237,19 @@ public class SlotStatus extends Code {
 
         @Override
         public SlotStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SlotStatus interned = PrimitiveInterner.get(SlotStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SlotStatus slotStatus = new SlotStatus(this);
             if (validating) {
                 validate(slotStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(SlotStatus.class, value, slotStatus);
+                }
             }
             return slotStatus;
         }
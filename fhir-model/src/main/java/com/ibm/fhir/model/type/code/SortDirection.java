@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class SortDirection extends Code {
 
         @Override
         public SortDirection build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SortDirection interned = PrimitiveInterner.get(SortDirection.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SortDirection sortDirection = new SortDirection(this);
             if (validating) {
                 validate(sortDirection);
+                if (internable) {
+                    return PrimitiveInterner.intern(SortDirection.class, value, sortDirection);
+                }
             }
             return sortDirection;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class SpecimenContainedPreference extends Code {
 
         @Override
         public SpecimenContainedPreference build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SpecimenContainedPreference interned = PrimitiveInterner.get(SpecimenContainedPreference.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SpecimenContainedPreference specimenContainedPreference = new SpecimenContainedPreference(this);
             if (validating) {
                 validate(specimenContainedPreference);
+                if (internable) {
+                    return PrimitiveInterner.intern(SpecimenContainedPreference.class, value, specimenContainedPreference);
+                }
             }
             return specimenContainedPreference;
         }
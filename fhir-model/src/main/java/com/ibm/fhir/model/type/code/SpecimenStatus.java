@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class SpecimenStatus extends Code {
 
         @Override
         public SpecimenStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SpecimenStatus interned = PrimitiveInterner.get(SpecimenStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SpecimenStatus specimenStatus = new SpecimenStatus(this);
             if (validating) {
                 validate(specimenStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(SpecimenStatus.class, value, specimenStatus);
+                }
             }
             return specimenStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -263,9 +264,19 @@ public class StandardsStatus extends Code {
 
         @Override
         public StandardsStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StandardsStatus interned = PrimitiveInterner.get(StandardsStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StandardsStatus standardsStatus = new StandardsStatus(this);
             if (validating) {
                 validate(standardsStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(StandardsStatus.class, value, standardsStatus);
+                }
             }
             return standardsStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class Status extends Code {
 
         @Override
         public Status build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Status interned = PrimitiveInterner.get(Status.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Status status = new Status(this);
             if (validating) {
                 validate(status);
+                if (internable) {
+                    return PrimitiveInterner.intern(Status.class, value, status);
+                }
             }
             return status;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class StrandType extends Code {
 
         @Override
         public StrandType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StrandType interned = PrimitiveInterner.get(StrandType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StrandType strandType = new StrandType(this);
             if (validating) {
                 validate(strandType);
+                if (internable) {
+                    return PrimitiveInterner.intern(StrandType.class, value, strandType);
+                }
             }
             return strandType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -231,9 +232,19 @@ public class StructureDefinitionKind extends Code {
 
         @Override
         public StructureDefinitionKind build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureDefinitionKind interned = PrimitiveInterner.get(StructureDefinitionKind.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureDefinitionKind structureDefinitionKind = new StructureDefinitionKind(this);
             if (validating) {
                 validate(structureDefinitionKind);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureDefinitionKind.class, value, structureDefinitionKind);
+                }
             }
             return structureDefinitionKind;
         }
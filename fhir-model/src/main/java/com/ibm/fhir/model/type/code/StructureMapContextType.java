@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class StructureMapContextType extends Code {
 
         @Override
         public StructureMapContextType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapContextType interned = PrimitiveInterner.get(StructureMapContextType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapContextType structureMapContextType = new StructureMapContextType(this);
             if (validating) {
                 validate(structureMapContextType);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapContextType.class, value, structureMapContextType);
+                }
             }
             return structureMapContextType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class StructureMapGroupTypeMode extends Code {
 
         @Override
         public StructureMapGroupTypeMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapGroupTypeMode interned = PrimitiveInterner.get(StructureMapGroupTypeMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapGroupTypeMode structureMapGroupTypeMode = new StructureMapGroupTypeMode(this);
             if (validating) {
                 validate(structureMapGroupTypeMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapGroupTypeMode.class, value, structureMapGroupTypeMode);
+                }
             }
             return structureMapGroupTypeMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class StructureMapInputMode extends Code {
 
         @Override
         public StructureMapInputMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapInputMode interned = PrimitiveInterner.get(StructureMapInputMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapInputMode structureMapInputMode = new StructureMapInputMode(this);
             if (validating) {
                 validate(structureMapInputMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapInputMode.class, value, structureMapInputMode);
+                }
             }
             return structureMapInputMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class StructureMapModelMode extends Code {
 
         @Override
         public StructureMapModelMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapModelMode interned = PrimitiveInterner.get(StructureMapModelMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapModelMode structureMapModelMode = new StructureMapModelMode(this);
             if (validating) {
                 validate(structureMapModelMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapModelMode.class, value, structureMapModelMode);
+                }
             }
             return structureMapModelMode;
         }
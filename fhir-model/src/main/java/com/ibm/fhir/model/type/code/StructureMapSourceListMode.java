@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class StructureMapSourceListMode extends Code {
 
         @Override
         public StructureMapSourceListMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapSourceListMode interned = PrimitiveInterner.get(StructureMapSourceListMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapSourceListMode structureMapSourceListMode = new StructureMapSourceListMode(this);
             if (validating) {
                 validate(structureMapSourceListMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapSourceListMode.class, value, structureMapSourceListMode);
+                }
             }
             return structureMapSourceListMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -227,9 +228,19 @@ public class StructureMapTargetListMode extends Code {
 
         @Override
         public StructureMapTargetListMode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapTargetListMode interned = PrimitiveInterner.get(StructureMapTargetListMode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapTargetListMode structureMapTargetListMode = new StructureMapTargetListMode(this);
             if (validating) {
                 validate(structureMapTargetListMode);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapTargetListMode.class, value, structureMapTargetListMode);
+                }
             }
             return structureMapTargetListMode;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -371,9 +372,19 @@ public class StructureMapTransform extends Code {
 
         @Override
         public StructureMapTransform build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                StructureMapTransform interned = PrimitiveInterner.get(StructureMapTransform.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             StructureMapTransform structureMapTransform = new StructureMapTransform(this);
             if (validating) {
                 validate(structureMapTransform);
+                if (internable) {
+                    return PrimitiveInterner.intern(StructureMapTransform.class, value, structureMapTransform);
+                }
             }
             return structureMapTransform;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -238,9 +239,19 @@ public class SubscriptionChannelType extends Code {
 
         @Override
         public SubscriptionChannelType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SubscriptionChannelType interned = PrimitiveInterner.get(SubscriptionChannelType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SubscriptionChannelType subscriptionChannelType = new SubscriptionChannelType(this);
             if (validating) {
                 validate(subscriptionChannelType);
+                if (internable) {
+                    return PrimitiveInterner.intern(SubscriptionChannelType.class, value, subscriptionChannelType);
+                }
             }
             return subscriptionChannelType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class SubscriptionStatus extends Code {
 
         @Override
         public SubscriptionStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SubscriptionStatus interned = PrimitiveInterner.get(SubscriptionStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SubscriptionStatus subscriptionStatus = new SubscriptionStatus(this);
             if (validating) {
                 validate(subscriptionStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(SubscriptionStatus.class, value, subscriptionStatus);
+                }
             }
             return subscriptionStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -225,9 +226,19 @@ public class SupplyDeliveryStatus extends Code {
 
         @Override
         public SupplyDeliveryStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SupplyDeliveryStatus interned = PrimitiveInterner.get(SupplyDeliveryStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SupplyDeliveryStatus supplyDeliveryStatus = new SupplyDeliveryStatus(this);
             if (validating) {
                 validate(supplyDeliveryStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(SupplyDeliveryStatus.class, value, supplyDeliveryStatus);
+                }
             }
             return supplyDeliveryStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -261,9 +262,19 @@ public class SupplyRequestStatus extends Code {
 
         @Override
         public SupplyRequestStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SupplyRequestStatus interned = PrimitiveInterner.get(SupplyRequestStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SupplyRequestStatus supplyRequestStatus = new SupplyRequestStatus(this);
             if (validating) {
                 validate(supplyRequestStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(SupplyRequestStatus.class, value, supplyRequestStatus);
+                }
             }
             return supplyRequestStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -204,9 +205,19 @@ public class SystemRestfulInteraction extends Code {
 
         @Override
         public SystemRestfulInteraction build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                SystemRestfulInteraction interned = PrimitiveInterner.get(SystemRestfulInteraction.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             SystemRestfulInteraction systemRestfulInteraction = new SystemRestfulInteraction(this);
             if (validating) {
                 validate(systemRestfulInteraction);
+                if (internable) {
+                    return PrimitiveInterner.intern(SystemRestfulInteraction.class, value, systemRestfulInteraction);
+                }
             }
             return systemRestfulInteraction;
         }
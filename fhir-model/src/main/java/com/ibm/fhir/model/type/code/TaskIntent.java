@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -240,9 +241,19 @@ public class TaskIntent extends Code {
 
         @Override
         public TaskIntent build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TaskIntent interned = PrimitiveInterner.get(TaskIntent.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TaskIntent taskIntent = new TaskIntent(this);
             if (validating) {
                 validate(taskIntent);
+                if (internable) {
+                    return PrimitiveInterner.intern(TaskIntent.class, value, taskIntent);
+                }
             }
             return taskIntent;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class TaskPriority extends Code {
 
         @Override
         public TaskPriority build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TaskPriority interned = PrimitiveInterner.get(TaskPriority.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TaskPriority taskPriority = new TaskPriority(this);
             if (validating) {
                 validate(taskPriority);
+                if (internable) {
+                    return PrimitiveInterner.intern(TaskPriority.class, value, taskPriority);
+                }
             }
             return taskPriority;
         }
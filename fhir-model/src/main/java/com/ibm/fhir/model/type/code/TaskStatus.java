@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -314,9 +315,19 @@ public class TaskStatus extends Code {
 
         @Override
         public TaskStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TaskStatus interned = PrimitiveInterner.get(TaskStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TaskStatus taskStatus = new TaskStatus(this);
             if (validating) {
                 validate(taskStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(TaskStatus.class, value, taskStatus);
+                }
             }
             return taskStatus;
         }
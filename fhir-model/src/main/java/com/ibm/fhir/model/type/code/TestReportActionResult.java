@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class TestReportActionResult extends Code {
 
         @Override
         public TestReportActionResult build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TestReportActionResult interned = PrimitiveInterner.get(TestReportActionResult.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TestReportActionResult testReportActionResult = new TestReportActionResult(this);
             if (validating) {
                 validate(testReportActionResult);
+                if (internable) {
+                    return PrimitiveInterner.intern(TestReportActionResult.class, value, testReportActionResult);
+                }
             }
             return testReportActionResult;
         }
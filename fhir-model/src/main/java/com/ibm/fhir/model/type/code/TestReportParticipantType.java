@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class TestReportParticipantType extends Code {
 
         @Override
         public TestReportParticipantType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TestReportParticipantType interned = PrimitiveInterner.get(TestReportParticipantType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TestReportParticipantType testReportParticipantType = new TestReportParticipantType(this);
             if (validating) {
                 validate(testReportParticipantType);
+                if (internable) {
+                    return PrimitiveInterner.intern(TestReportParticipantType.class, value, testReportParticipantType);
+                }
             }
             return testReportParticipantType;
         }
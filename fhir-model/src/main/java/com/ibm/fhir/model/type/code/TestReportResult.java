@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class TestReportResult extends Code {
 
         @Override
         public TestReportResult build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TestReportResult interned = PrimitiveInterner.get(TestReportResult.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TestReportResult testReportResult = new TestReportResult(this);
             if (validating) {
                 validate(testReportResult);
+                if (internable) {
+                    return PrimitiveInterner.intern(TestReportResult.class, value, testReportResult);
+                }
             }
             return testReportResult;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class TestReportStatus extends Code {
 
         @Override
         public TestReportStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TestReportStatus interned = PrimitiveInterner.get(TestReportStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TestReportStatus testReportStatus = new TestReportStatus(this);
             if (validating) {
                 validate(testReportStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(TestReportStatus.class, value, testReportStatus);
+                }
             }
             return testReportStatus;
         }
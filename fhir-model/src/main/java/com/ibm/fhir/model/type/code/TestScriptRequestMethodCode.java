@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -257,9 +258,19 @@ public class TestScriptRequestMethodCode extends Code {
 
         @Override
         public TestScriptRequestMethodCode build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TestScriptRequestMethodCode interned = PrimitiveInterner.get(TestScriptRequestMethodCode.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TestScriptRequestMethodCode testScriptRequestMethodCode = new TestScriptRequestMethodCode(this);
             if (validating) {
                 validate(testScriptRequestMethodCode);
+                if (internable) {
+                    return PrimitiveInterner.intern(TestScriptRequestMethodCode.class, value, testScriptRequestMethodCode);
+                }
             }
             return testScriptRequestMethodCode;
         }
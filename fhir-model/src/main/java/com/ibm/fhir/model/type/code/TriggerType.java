@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -270,9 +271,19 @@ public class TriggerType extends Code {
 
         @Override
         public TriggerType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TriggerType interned = PrimitiveInterner.get(TriggerType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TriggerType triggerType = new TriggerType(this);
             if (validating) {
                 validate(triggerType);
+                if (internable) {
+                    return PrimitiveInterner.intern(TriggerType.class, value, triggerType);
+                }
             }
             return triggerType;
         }
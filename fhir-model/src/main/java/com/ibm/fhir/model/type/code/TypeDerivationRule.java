@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class TypeDerivationRule extends Code {
 
         @Override
         public TypeDerivationRule build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TypeDerivationRule interned = PrimitiveInterner.get(TypeDerivationRule.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TypeDerivationRule typeDerivationRule = new TypeDerivationRule(this);
             if (validating) {
                 validate(typeDerivationRule);
+                if (internable) {
+                    return PrimitiveInterner.intern(TypeDerivationRule.class, value, typeDerivationRule);
+                }
             }
             return typeDerivationRule;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -234,9 +235,19 @@ public class TypeRestfulInteraction extends Code {
 
         @Override
         public TypeRestfulInteraction build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                TypeRestfulInteraction interned = PrimitiveInterner.get(TypeRestfulInteraction.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             TypeRestfulInteraction typeRestfulInteraction = new TypeRestfulInteraction(this);
             if (validating) {
                 validate(typeRestfulInteraction);
+                if (internable) {
+                    return PrimitiveInterner.intern(TypeRestfulInteraction.class, value, typeRestfulInteraction);
+                }
             }
             return typeRestfulInteraction;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -246,9 +247,19 @@ public class UDIEntryType extends Code {
 
         @Override
         public UDIEntryType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                UDIEntryType interned = PrimitiveInterner.get(UDIEntryType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             UDIEntryType uDIEntryType = new UDIEntryType(this);
             if (validating) {
                 validate(uDIEntryType);
+                if (internable) {
+                    return PrimitiveInterner.intern(UDIEntryType.class, value, uDIEntryType);
+                }
             }
             return uDIEntryType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -243,9 +244,19 @@ public class UnitsOfTime extends Code {
 
         @Override
         public UnitsOfTime build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                UnitsOfTime interned = PrimitiveInterner.get(UnitsOfTime.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             UnitsOfTime unitsOfTime = new UnitsOfTime(this);
             if (validating) {
                 validate(unitsOfTime);
+                if (internable) {
+                    return PrimitiveInterner.intern(UnitsOfTime.class, value, unitsOfTime);
+                }
             }
             return unitsOfTime;
         }
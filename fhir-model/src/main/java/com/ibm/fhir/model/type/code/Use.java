@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class Use extends Code {
 
         @Override
         public Use build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                Use interned = PrimitiveInterner.get(Use.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             Use use = new Use(this);
             if (validating) {
                 validate(use);
+                if (internable) {
+                    return PrimitiveInterner.intern(Use.class, value, use);
+                }
             }
             return use;
         }
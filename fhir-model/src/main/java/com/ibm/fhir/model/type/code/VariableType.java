@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -213,9 +214,19 @@ public class VariableType extends Code {
 
         @Override
         public VariableType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                VariableType interned = PrimitiveInterner.get(VariableType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             VariableType variableType = new VariableType(this);
             if (validating) {
                 validate(variableType);
+                if (internable) {
+                    return PrimitiveInterner.intern(VariableType.class, value, variableType);
+                }
             }
             return variableType;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class VisionBase extends Code {
 
         @Override
         public VisionBase build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                VisionBase interned = PrimitiveInterner.get(VisionBase.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             VisionBase visionBase = new VisionBase(this);
             if (validating) {
                 validate(visionBase);
+                if (internable) {
+                    return PrimitiveInterner.intern(VisionBase.class, value, visionBase);
+                }
             }
             return visionBase;
         }
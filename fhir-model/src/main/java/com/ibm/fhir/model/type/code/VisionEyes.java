@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -202,9 +203,19 @@ public class VisionEyes extends Code {
 
         @Override
         public VisionEyes build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                VisionEyes interned = PrimitiveInterner.get(VisionEyes.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             VisionEyes visionEyes = new VisionEyes(this);
             if (validating) {
                 validate(visionEyes);
+                if (internable) {
+                    return PrimitiveInterner.intern(VisionEyes.class, value, visionEyes);
+                }
             }
             return visionEyes;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -224,9 +225,19 @@ public class VisionStatus extends Code {
 
         @Override
         public VisionStatus build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                VisionStatus interned = PrimitiveInterner.get(VisionStatus.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             VisionStatus visionStatus = new VisionStatus(this);
             if (validating) {
                 validate(visionStatus);
+                if (internable) {
+                    return PrimitiveInterner.intern(VisionStatus.class, value, visionStatus);
+                }
             }
             return visionStatus;
         }
@@ -10,6 +10,7 @@ import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.util.PrimitiveInterner;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -235,9 +236,19 @@ public class XPathUsageType extends Code {
 
         @Override
         public XPathUsageType build() {
+            boolean internable = PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value);
+            if (internable) {
+                XPathUsageType interned = PrimitiveInterner.get(XPathUsageType.class, value);
+                if (interned != null) {
+                    return interned;
+                }
+            }
             XPathUsageType xPathUsageType = new XPathUsageType(this);
             if (validating) {
                 validate(xPathUsageType);
+                if (internable) {
+                    return PrimitiveInterner.intern(XPathUsageType.class, value, xPathUsageType);
+                }
             }
             return xPathUsageType;
         }
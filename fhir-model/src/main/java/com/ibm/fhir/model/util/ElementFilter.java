@@ -34,6 +34,10 @@ public class ElementFilter implements Function<JsonObject, JsonObject> {
         includeElements.addAll(elements);
     }
 
+    public boolean includes(String elementName) {
+        return includeElements.contains(elementName);
+    }
+
     public void addElements(Collection<String> elements) {
         includeElements.addAll(elements);
     }
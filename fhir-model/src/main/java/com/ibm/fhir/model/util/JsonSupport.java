@@ -10,13 +10,16 @@ import java.io.FilterInputStream;
 import java.io.FilterOutputStream;
 import java.io.FilterReader;
 import java.io.FilterWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -25,10 +28,13 @@ import java.util.stream.Collectors;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 
 import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.generator.FHIRGenerator;
@@ -37,6 +43,7 @@ import com.ibm.fhir.model.resource.Resource;
 
 public final class JsonSupport {
     private static final JsonReaderFactory JSON_READER_FACTORY = Json.createReaderFactory(null);
+    private static final JsonBuilderFactory JSON_BUILDER_FACTORY = Json.createBuilderFactory(null);
     
     private static final Map<Class<?>, Set<String>> ELEMENT_NAME_MAP = buildElementNameMap(false);
     private static final Map<Class<?>, Set<String>> REQUIRED_ELEMENT_NAME_MAP = buildElementNameMap(true);
@@ -197,6 +204,12 @@ public final class JsonSupport {
     
     public static OutputStream nonClosingOutputStream(OutputStream out) {
         return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                // FilterOutputStream writes one byte at a time
+                out.write(b, off, len);
+            }
+
             @Override
             public void close() {
                 // do nothing
@@ -204,6 +217,68 @@ public final class JsonSupport {
         };
     }
     
+    /**
+     * Read a resource object from the parser, including only the top-level elements selected by an {@link ElementFilter}
+     * for its resource type and the given elements. Once the "resourceType" key has been read, the values of the
+     * elements which are not included are skipped without being read into memory, so the cost of reading a resource
+     * is proportional to the size of the elements that are returned.
+     *
+     * @param parser
+     *     the JSON parser, positioned before the start of the resource object
+     * @param elementsToInclude
+     *     the top-level elements to include
+     * @return
+     *     the resource object with the included elements; or, if it has no "resourceType", the complete object
+     */
+    public static JsonObject readResource(JsonParser parser, Collection<String> elementsToInclude) {
+        JsonParser.Event event = parser.next();
+        if (event != JsonParser.Event.START_OBJECT) {
+            throw new IllegalArgumentException("Expected: OBJECT but found: " + event);
+        }
+        JsonObjectBuilder builder = JSON_BUILDER_FACTORY.createObjectBuilder();
+        Set<String> keys = new HashSet<>();
+        ElementFilter elementFilter = null;
+        // elements which precede the "resourceType" key are kept until the resource type is known
+        Map<String, JsonValue> pending = new LinkedHashMap<>();
+        while ((event = parser.next()) == JsonParser.Event.KEY_NAME) {
+            String key = parser.getString();
+            if (!keys.add(key)) {
+                throw new IllegalArgumentException("Duplicate key '" + key + "' is not allowed");
+            }
+            event = parser.next();
+            if (elementFilter == null) {
+                JsonValue value = parser.getValue();
+                if ("resourceType".equals(key) && value instanceof JsonString) {
+                    String resourceTypeName = ((JsonString) value).getString();
+                    Class<?> resourceType = ModelSupport.getResourceType(resourceTypeName);
+                    if (resourceType == null) {
+                        throw new IllegalArgumentException("Invalid resource type: '" + resourceTypeName + "'");
+                    }
+                    elementFilter = new ElementFilter(resourceType, elementsToInclude);
+                    builder.add(key, value);
+                    for (Map.Entry<String, JsonValue> entry : pending.entrySet()) {
+                        if (elementFilter.includes(entry.getKey())) {
+                            builder.add(entry.getKey(), entry.getValue());
+                        }
+                    }
+                    pending.clear();
+                } else {
+                    pending.put(key, value);
+                }
+            } else if (elementFilter.includes(key)) {
+                builder.add(key, parser.getValue());
+            } else if (event == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (event == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+        for (Map.Entry<String, JsonValue> entry : pending.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
     public static void checkForUnrecognizedElements(Class<?> type, JsonObject jsonObject) {
         Set<java.lang.String> elementNames = JsonSupport.getElementNames(type);
         for (java.lang.String key : jsonObject.keySet()) {
@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ibm.fhir.model.config.FHIRModelConfig;
+import com.ibm.fhir.model.type.Element;
+
+/**
+ * A bounded cache of immutable primitive model objects (code, uri, canonical, boolean, small integers and the
+ * enumerated code subtypes) that have a value and no id or extensions.
+ *
+ * <p>The builders of these types consult the cache when interning is enabled through
+ * {@link FHIRModelConfig#setInternPrimitives(boolean)}, so that repeated values such as {@code http://loinc.org}
+ * or {@code final} share a single instance across parsed and constructed resources. Only objects built by a
+ * validating builder are added to the cache. Once the cache holds {@link FHIRModelConfig#getInternCacheMaxSize()}
+ * objects, new values are no longer added but existing entries are still returned.
+ */
+public final class PrimitiveInterner {
+    /**
+     * The maximum length of a string value that will be interned
+     */
+    public static final int MAX_STRING_LENGTH = 256;
+
+    /**
+     * The range of integer values that will be interned
+     */
+    public static final int MIN_INTEGER_VALUE = -128;
+    public static final int MAX_INTEGER_VALUE = 1024;
+
+    private static final Map<Class<?>, Map<Object, Element>> CACHES = new ConcurrentHashMap<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+
+    // A copy of FHIRModelConfig.getInternPrimitives() which the builders can check without a map lookup
+    private static boolean enabled = FHIRModelConfig.getInternPrimitives();
+
+    private PrimitiveInterner() { }
+
+    /**
+     * Indicates whether interning is enabled; builders check this before looking at the element
+     *
+     * @return
+     *     true if interning is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable interning; called by {@link FHIRModelConfig#setInternPrimitives(boolean)}
+     *
+     * @param enabled
+     *     true to enable interning, false to disable it
+     */
+    public static void setEnabled(boolean enabled) {
+        PrimitiveInterner.enabled = enabled;
+    }
+
+    /**
+     * Indicates whether an element of a primitive type with the passed value (and no id or extensions)
+     * may be taken from, or added to, the cache; callers check {@link #isEnabled()} first
+     *
+     * @param value
+     *     the primitive value, may be null
+     * @return
+     *     true if the value is eligible, false otherwise
+     */
+    public static boolean isInternable(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof String) {
+            return ((String) value).length() <= MAX_STRING_LENGTH;
+        }
+        if (value instanceof Integer) {
+            int intValue = (Integer) value;
+            return intValue >= MIN_INTEGER_VALUE && intValue <= MAX_INTEGER_VALUE;
+        }
+        return value instanceof Boolean;
+    }
+
+    /**
+     * Get the cached element of the passed type with the passed value
+     *
+     * @param type
+     *     the primitive model type
+     * @param value
+     *     the primitive value, not null
+     * @return
+     *     the cached element or null if no element of this type with this value has been cached
+     */
+    public static <T extends Element> T get(Class<T> type, Object value) {
+        Map<Object, Element> cache = CACHES.get(type);
+        Element element = (cache != null) ? cache.get(value) : null;
+        if (element == null) {
+            MISS_COUNT.increment();
+            return null;
+        }
+        HIT_COUNT.increment();
+        return type.cast(element);
+    }
+
+    /**
+     * Add the passed element to the cache unless the cache is full or another element of the same type with the
+     * same value has already been cached
+     *
+     * @param type
+     *     the primitive model type
+     * @param value
+     *     the primitive value of the element, not null
+     * @param element
+     *     a validated element of the passed type with the passed value and no id or extensions
+     * @return
+     *     the cached element of this type with this value, or the passed element if it could not be cached
+     */
+    public static <T extends Element> T intern(Class<T> type, Object value, T element) {
+        requireNonNull(element);
+        Map<Object, Element> cache = CACHES.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+        if (SIZE.get() >= FHIRModelConfig.getInternCacheMaxSize()) {
+            return element;
+        }
+        Element existing = cache.putIfAbsent(value, element);
+        if (existing != null) {
+            return type.cast(existing);
+        }
+        SIZE.incrementAndGet();
+        return element;
+    }
+
+    /**
+     * @return
+     *     the number of lookups that returned a cached element
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+
+    /**
+     * @return
+     *     the number of lookups that did not find a cached element
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+
+    /**
+     * @return
+     *     the number of elements in the cache
+     */
+    public static int size() {
+        return SIZE.get();
+    }
+
+    /**
+     * Remove all cached elements and reset the hit and miss counts
+     */
+    public static void clear() {
+        for (Map<Object, Element> cache : CACHES.values()) {
+            SIZE.addAndGet(-cache.size());
+            cache.clear();
+        }
+        HIT_COUNT.reset();
+        MISS_COUNT.reset();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019, 2020
+ * (C) Copyright IBM Corp. 2019, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -35,6 +35,11 @@ import net.jcip.annotations.NotThreadSafe;
  * by setting new values on the current builder via ({@link BuilderWrapper#getBuilder()) and
  * marking it dirty via ({@link BuilderWrapper#markDirty())).
  *
+ * Builders are only created for the Resources and Elements whose builder is requested by a subclass, and only dirty
+ * Resources and Elements (and their ancestors) are rebuilt. Unmodified children, including the unmodified items of
+ * a list, are reused as-is in the copy. Subclasses that only need to modify a known path may limit the traversal
+ * to that path by returning {@link #isOnPath(String)} from their visit methods.
+ *
  * Note: this class is NOT threadsafe.  Only one object should be visited at a time.
  *
  * @param <T> The type to copy. Only visitables of this type should be visited.
@@ -108,7 +113,7 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
      */
     @Override
     public final void visitStart(java.lang.String elementName, int index, Element element) {
-        builderStack.push(new ElementWrapper(element.toBuilder()));
+        builderStack.push(new ElementWrapper(element));
         pathStackPush(elementName, index);
         doVisitStart(elementName, index, element);
     }
@@ -118,7 +123,7 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
      */
     @Override
     public final void visitStart(java.lang.String elementName, int index, Resource resource) {
-        builderStack.push(new ResourceWrapper(resource.toBuilder()));
+        builderStack.push(new ResourceWrapper(resource));
         pathStackPush(elementName, index);
         doVisitStart(elementName, index, resource);
     }
@@ -146,13 +151,14 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
         BuilderWrapper wrapper = builderStack.pop();
         if (index != -1) {
             ListWrapper listWrapper = listStack.peek();
+            // Unmodified items are reused; the list is only set on the parent builder if one of its items is dirty
+            Visitable item = visited;
             if (wrapper.isDirty()) {
                 listWrapper.dirty(true);
+                item = wrapper.getBuilder().build();
             }
-            // No way to know if one of the other elements in the list will be dirty so we need to build them all
-            Visitable item = wrapper.getBuilder().build();
             if (item != null) {
-                listWrapper.getList().add(wrapper.getBuilder().build());
+                listWrapper.getList().add(item);
             }
         } else {
             if (builderStack.isEmpty()) {
@@ -261,6 +267,29 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
         return builderStack.peek().getBuilder();
     }
 
+    /**
+     * Indicates whether the Resource or Element currently being visited is at, or is an ancestor of, the passed path.
+     *
+     * <p>Subclasses that modify a single known path may return this value from their visit methods so that the
+     * children of Resources and Elements which cannot contain that path are not visited.
+     *
+     * @param path
+     *     a "simple" FHIRPath path, as returned by {@link #getPath()}
+     * @return
+     *     true if the passed path is equal to, or starts with, the path currently being visited
+     */
+    protected final boolean isOnPath(String path) {
+        String currentPath = getPath();
+        if (currentPath == null || !path.startsWith(currentPath)) {
+            return false;
+        }
+        if (path.length() == currentPath.length()) {
+            return true;
+        }
+        char c = path.charAt(currentPath.length());
+        return c == '.' || c == '[';
+    }
+
     protected List<Visitable> getList() {
         return listStack.peek().getList();
     }
@@ -346,7 +375,12 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
     }
 
     private class ElementWrapper extends BuilderWrapper {
-        private final Element.Builder builder;
+        private Element element;
+        private Element.Builder builder;
+
+        public ElementWrapper(Element element) {
+            this.element = element;
+        }
 
         public ElementWrapper(Element.Builder builder) {
             // TODO can we wrap all the setters so that subclasses don't need to explicitly call markDirty()?
@@ -355,12 +389,20 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
 
         @Override
         public Element.Builder getBuilder() {
+            if (builder == null) {
+                builder = element.toBuilder();
+            }
             return builder;
         }
     }
 
     private class ResourceWrapper extends BuilderWrapper {
-        private final Resource.Builder builder;
+        private Resource resource;
+        private Resource.Builder builder;
+
+        public ResourceWrapper(Resource resource) {
+            this.resource = resource;
+        }
 
         public ResourceWrapper(Resource.Builder builder) {
             // TODO can we wrap all the setters so that subclasses don't need to explicitly call markDirty()?
@@ -369,6 +411,9 @@ public class CopyingVisitor<T extends Visitable> extends DefaultVisitor {
 
         @Override
         public Resource.Builder getBuilder() {
+            if (builder == null) {
+                builder = resource.toBuilder();
+            }
             return builder;
         }
     }
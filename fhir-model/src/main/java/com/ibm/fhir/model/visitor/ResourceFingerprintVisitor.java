@@ -22,6 +22,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Element;
+import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.model.util.SaltHash;
 
 /**
@@ -103,6 +105,15 @@ public class ResourceFingerprintVisitor extends PathAwareVisitor {
         }
     }
 
+    @Override
+    protected void doVisitStart(String elementName, int elementIndex, Element element) {
+        // Include the type of primitive values, so that the choices of a choice element with the same value differ
+        // (for example, valueString "1" and valueInteger 1)
+        if (ModelSupport.isPrimitiveType(element.getClass()) && includePath()) {
+            updateDigest(getPath(), ModelSupport.getTypeName(element.getClass()));
+        }
+    }
+
     @Override
     public boolean visit(java.lang.String elementName, int index, com.ibm.fhir.model.type.String value) {
         // Exclude meta.versionId from the fingerprint because it gets injected by the FHIR server.
@@ -117,8 +128,7 @@ public class ResourceFingerprintVisitor extends PathAwareVisitor {
 
     @Override
     public void visit(java.lang.String elementName, byte[] value) {
-        digest.update(getPath().getBytes(StandardCharsets.UTF_8));
-        digest.update(value);
+        updateDigest(getPath(), value);
     }
 
     @Override
@@ -133,9 +143,7 @@ public class ResourceFingerprintVisitor extends PathAwareVisitor {
 
     @Override
     public void visit(java.lang.String elementName, java.lang.Integer value) {
-        ByteBuffer bb = ByteBuffer.allocate(4);
-        bb.putInt(value);
-        digest.update(bb);
+        updateDigest(getPath(), value.toString());
     }
 
     @Override
@@ -177,8 +185,21 @@ public class ResourceFingerprintVisitor extends PathAwareVisitor {
      * @param value
      */
     protected void updateDigest(String name, String value) {
-        digest.update(name.getBytes(StandardCharsets.UTF_8));
-        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        updateDigest(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Update the digest with the name/value pair. Each part is preceded by its length, so that
+     * different name/value pairs can't produce the same sequence of bytes
+     * @param name
+     * @param value
+     */
+    private void updateDigest(String name, byte[] value) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(nameBytes.length).array());
+        digest.update(nameBytes);
+        digest.update(ByteBuffer.allocate(4).putInt(value.length).array());
+        digest.update(value);
     }
 
     /**
@@ -0,0 +1,99 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
+
+public class BundleEntryParserTest {
+    @DataProvider(name = "parsers")
+    public static Object[][] parsers() {
+        return new Object[][] {
+            { FHIRParser.parser(Format.JSON), "json/spec/bundle-transaction.json" },
+            { FHIRParser.parser(Format.JSON, true), "json/spec/bundle-transaction.json" },
+            { FHIRParser.parser(Format.XML), "xml/spec/bundle-transaction.xml" },
+            { FHIRParser.parser(Format.JSON), "json/spec/bundle-references.json" },
+            { FHIRParser.parser(Format.JSON, true), "json/spec/bundle-references.json" },
+            { FHIRParser.parser(Format.XML), "xml/spec/bundle-references.xml" }
+        };
+    }
+
+    @Test(dataProvider = "parsers")
+    public void testParseEntries(FHIRParser parser, String file) throws Exception {
+        Bundle expected;
+        try (Reader reader = ExamplesUtil.resourceReader(file)) {
+            expected = parser.parse(reader);
+        }
+
+        List<Bundle.Entry> entries = new ArrayList<>();
+        Bundle actual;
+        try (Reader reader = ExamplesUtil.resourceReader(file)) {
+            actual = parser.parseEntries(reader, entries::add);
+        }
+
+        assertEquals(entries, expected.getEntry());
+        assertEquals(actual, expected.toBuilder().entry(Collections.emptyList()).build());
+    }
+
+    @Test
+    public void testNestedBundle() throws Exception {
+        String jsonString = "{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":["
+                + "{\"resource\":{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":[{\"fullUrl\":\"urn:a\"},{\"fullUrl\":\"urn:b\"}]}},"
+                + "{\"fullUrl\":\"urn:c\"}]}";
+        List<Bundle.Entry> entries = new ArrayList<>();
+        Bundle bundle = FHIRParser.parser(Format.JSON, true).parseEntries(new StringReader(jsonString), entries::add);
+        assertTrue(bundle.getEntry().isEmpty());
+        assertEquals(entries.size(), 2);
+        assertEquals(entries.get(0).getResource().as(Bundle.class).getEntry().size(), 2);
+        assertEquals(entries.get(1).getFullUrl().getValue(), "urn:c");
+    }
+
+    @Test
+    public void testNotBundle() throws Exception {
+        try {
+            FHIRParser.parser(Format.JSON, true).parseEntries(new StringReader("{\"resourceType\":\"Patient\"}"), entry -> { });
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getMessage(), "Expected resource of type: Bundle but found: Patient [Patient]");
+        }
+    }
+
+    @Test
+    public void testConsumerException() throws Exception {
+        String jsonString = "{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":[{\"fullUrl\":\"urn:a\"},{\"fullUrl\":\"urn:b\"}]}";
+        List<Bundle.Entry> entries = new ArrayList<>();
+        try {
+            FHIRParser.parser(Format.JSON, true).parseEntries(new StringReader(jsonString), entry -> {
+                if (!entries.isEmpty()) {
+                    throw new IllegalStateException("stop");
+                }
+                entries.add(entry);
+            });
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(e.getPath(), "Bundle");
+            assertEquals(entries.size(), 1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.examples.Index;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.generator.FHIRJsonGenerator;
+import com.ibm.fhir.model.generator.FHIRJsonStreamGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Observation;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.Narrative;
+import com.ibm.fhir.model.type.Xhtml;
+import com.ibm.fhir.model.type.code.NarrativeStatus;
+
+public class FHIRJsonStreamGeneratorTest {
+    @Test
+    public void testGenerator() {
+        assertTrue(FHIRGenerator.generator(Format.JSON, false, true) instanceof FHIRJsonStreamGenerator);
+        assertTrue(FHIRGenerator.generator(Format.JSON, true, true) instanceof FHIRJsonGenerator);
+        assertTrue(FHIRGenerator.generator(Format.JSON, false, false) instanceof FHIRJsonGenerator);
+    }
+
+    @Test
+    public void testExamples() throws Exception {
+        try (BufferedReader reader = new BufferedReader(ExamplesUtil.indexReader(Index.MINIMAL_JSON))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                String file = tokens[tokens.length - 1];
+
+                Resource resource;
+                try (Reader in = ExamplesUtil.resourceReader(file)) {
+                    resource = FHIRParser.parser(Format.JSON).parse(in);
+                } catch (FHIRParserException e) {
+                    continue;
+                }
+                assertGeneratedEquals(resource, file);
+            }
+        }
+    }
+
+    @Test
+    public void testPrimitiveExtensions() throws Exception {
+        Extension extension = Extension.builder().url("http://example.com/ext").value(Code.of("x")).build();
+        Patient patient = Patient.builder()
+                .id("1")
+                .text(Narrative.builder()
+                    .status(NarrativeStatus.GENERATED)
+                    .div(Xhtml.xhtml("<div xmlns=\"http://www.w3.org/1999/xhtml\">\"quoted\" \\ \t é 😀</div>"))
+                    .build())
+                .active(com.ibm.fhir.model.type.Boolean.builder().id("a").extension(extension).build())
+                .name(HumanName.builder()
+                    .given(com.ibm.fhir.model.type.String.of("A"),
+                        com.ibm.fhir.model.type.String.builder().value("B").id("b").build(),
+                        com.ibm.fhir.model.type.String.builder().extension(extension).build())
+                    .build())
+                .build();
+        assertGeneratedEquals(patient, "patient");
+    }
+
+    @Test
+    public void testChoiceElement() throws Exception {
+        Observation observation = Observation.builder()
+                .status(com.ibm.fhir.model.type.code.ObservationStatus.FINAL)
+                .code(com.ibm.fhir.model.type.CodeableConcept.builder().text(com.ibm.fhir.model.type.String.of("x")).build())
+                .value(com.ibm.fhir.model.type.Integer.of(1))
+                .effective(com.ibm.fhir.model.type.DateTime.builder().value("2021-01-01").id("e").build())
+                .build();
+        assertGeneratedEquals(observation, "observation");
+    }
+
+    private static void assertGeneratedEquals(Resource resource, String message) throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        FHIRGenerator.generator(Format.JSON).generate(resource, expected);
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        FHIRGenerator.generator(Format.JSON, false, true).generate(resource, actual);
+        assertEquals(new String(actual.toByteArray(), StandardCharsets.UTF_8), new String(expected.toByteArray(), StandardCharsets.UTF_8), message);
+
+        StringWriter writer = new StringWriter();
+        FHIRGenerator.generator(Format.JSON, false, true).generate(resource, writer);
+        assertEquals(writer.toString(), new String(expected.toByteArray(), StandardCharsets.UTF_8), message);
+    }
+}
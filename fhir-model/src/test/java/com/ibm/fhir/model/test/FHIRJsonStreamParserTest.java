@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.examples.Index;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRJsonParser;
+import com.ibm.fhir.model.parser.FHIRJsonStreamParser;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Observation;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Quantity;
+
+public class FHIRJsonStreamParserTest {
+    @Test
+    public void testParser() throws Exception {
+        assertTrue(FHIRParser.parser(Format.JSON, true) instanceof FHIRJsonStreamParser);
+        assertTrue(FHIRParser.parser(Format.JSON, false) instanceof FHIRJsonParser);
+    }
+
+    @Test
+    public void testExamples() throws Exception {
+        try (BufferedReader reader = new BufferedReader(ExamplesUtil.indexReader(Index.MINIMAL_JSON))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                String file = tokens[tokens.length - 1];
+
+                Resource expected = null;
+                try (Reader in = ExamplesUtil.resourceReader(file)) {
+                    expected = FHIRParser.parser(Format.JSON).parse(in);
+                } catch (FHIRParserException e) {
+                    // expected is null
+                }
+
+                try (Reader in = ExamplesUtil.resourceReader(file)) {
+                    Resource actual = FHIRParser.parser(Format.JSON, true).parse(in);
+                    assertNotNull(expected, "streaming parser accepted: " + file);
+                    assertEquals(actual, expected, file);
+                } catch (FHIRParserException e) {
+                    assertNull(expected, "streaming parser rejected: " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrimitiveExtensionOrder() throws Exception {
+        String before = "{\"_active\":{\"id\":\"a\"},\"active\":true,\"_gender\":{\"id\":\"g\"},\"gender\":\"male\"}";
+        String after = "{\"active\":true,\"_active\":{\"id\":\"a\"},\"gender\":\"male\",\"_gender\":{\"id\":\"g\"}}";
+        Patient patient1 = parse("{\"resourceType\":\"Patient\"," + before.substring(1));
+        Patient patient2 = parse("{\"resourceType\":\"Patient\"," + after.substring(1));
+        assertEquals(patient1, patient2);
+        assertEquals(patient1.getActive().getId(), "a");
+        assertTrue(patient1.getActive().getValue());
+        assertEquals(patient1.getGender().getId(), "g");
+        assertEquals(patient1.getGender().getValue(), "male");
+    }
+
+    @Test
+    public void testPrimitiveArray() throws Exception {
+        String jsonString = "{\"resourceType\":\"Patient\",\"name\":[{\"_given\":[null,{\"id\":\"b\"}],\"given\":[\"A\",\"B\"]}]}";
+        Patient patient = parse(jsonString);
+        assertEquals(patient.getName().get(0).getGiven().size(), 2);
+        assertNull(patient.getName().get(0).getGiven().get(0).getId());
+        assertEquals(patient.getName().get(0).getGiven().get(1).getId(), "b");
+        assertEquals(patient.getName().get(0).getGiven().get(1).getValue(), "B");
+        assertEquals(patient, FHIRParser.parser(Format.JSON).parse(new StringReader(jsonString)));
+    }
+
+    @Test
+    public void testPrimitiveArrayMismatch() throws Exception {
+        try {
+            parse("{\"resourceType\":\"Patient\",\"name\":[{\"_given\":[{\"id\":\"a\"}]}]}");
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getCause().getMessage(), "Found array with key '_given' but could not find matching array with key: 'given'");
+        }
+    }
+
+    @Test
+    public void testChoiceElement() throws Exception {
+        Observation observation = parse("{\"resourceType\":\"Observation\",\"status\":\"final\",\"code\":{\"text\":\"x\"},"
+                + "\"valueQuantity\":{\"value\":1,\"unit\":\"mg\"},\"effectiveDateTime\":\"2021\",\"_effectiveDateTime\":{\"id\":\"e\"}}");
+        assertTrue(observation.getValue() instanceof Quantity);
+        assertEquals(observation.getEffective().getId(), "e");
+        try {
+            parse("{\"resourceType\":\"Observation\",\"status\":\"final\",\"code\":{\"text\":\"x\"},\"valueString\":\"a\",\"valueBoolean\":true}");
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getCause().getMessage(), "Only one choice element key of the form: value[x] is allowed");
+        }
+    }
+
+    @Test
+    public void testResourceTypeNotFirst() throws Exception {
+        Bundle bundle = parse("{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":[{\"resource\":{\"id\":\"1\",\"resourceType\":\"Patient\"}}]}");
+        assertEquals(bundle.getEntry().get(0).getResource().getId(), "1");
+        Patient patient = parse("{\"id\":\"2\",\"resourceType\":\"Patient\"}");
+        assertEquals(patient.getId(), "2");
+    }
+
+    @Test
+    public void testInvalidResourceType() throws Exception {
+        try {
+            parse("{\"resourceType\":\"Hamburger\"}");
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getCause().getMessage(), "Invalid resource type: 'Hamburger'");
+        }
+    }
+
+    @Test
+    public void testDuplicateKey() throws Exception {
+        try {
+            parse("{\"resourceType\":\"Patient\",\"id\":\"1\",\"id\":\"2\"}");
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getCause().getMessage().startsWith("Duplicate key 'id' is not allowed"));
+        }
+    }
+
+    @Test
+    public void testUnrecognizedElement() throws Exception {
+        String jsonString = "{\"resourceType\":\"Patient\",\"name\":[{\"hamburger\":{\"a\":[1,2]},\"family\":\"F\"}]}";
+        try {
+            parse(jsonString);
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getCause().getMessage(), "Unrecognized element: 'hamburger'");
+            assertEquals(e.getPath(), "Patient.name[0]");
+        }
+        FHIRParser parser = FHIRParser.parser(Format.JSON, true);
+        parser.setIgnoringUnrecognizedElements(true);
+        Patient patient = parser.parse(new StringReader(jsonString));
+        assertEquals(patient.getName().get(0).getFamily().getValue(), "F");
+    }
+
+    @Test
+    public void testParseAndFilter() throws Exception {
+        String jsonString = "{\"resourceType\":\"Patient\",\"id\":\"1\",\"active\":true,\"gender\":\"male\",\"name\":[{\"family\":\"F\"}]}";
+        FHIRJsonStreamParser parser = FHIRParser.parser(Format.JSON, true).as(FHIRJsonStreamParser.class);
+        Patient patient = parser.parseAndFilter(new StringReader(jsonString), Collections.singleton("gender"));
+        assertEquals(patient.getId(), "1");
+        assertEquals(patient.getGender().getValue(), "male");
+        assertNull(patient.getActive());
+        assertTrue(patient.getName().isEmpty());
+
+        FHIRJsonParser jsonParser = FHIRParser.parser(Format.JSON).as(FHIRJsonParser.class);
+        assertEquals(patient, jsonParser.parseAndFilter(new StringReader(jsonString), Collections.singleton("gender")));
+
+        // the parser does not retain the filter
+        assertFalse(parser.<Patient>parse(new StringReader(jsonString)).getName().isEmpty());
+    }
+
+    private static <T extends Resource> T parse(String jsonString) throws FHIRParserException {
+        return FHIRParser.parser(Format.JSON, true).parse(new StringReader(jsonString));
+    }
+}
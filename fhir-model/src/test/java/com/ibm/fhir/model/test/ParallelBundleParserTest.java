@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
+
+public class ParallelBundleParserTest {
+    private static FHIRParser parallelParser() {
+        FHIRParser parser = FHIRParser.parser(Format.JSON);
+        parser.setProperty(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD, 1);
+        return parser;
+    }
+
+    @Test
+    public void testParallelParse() throws Exception {
+        for (String file : new String[] { "json/spec/bundle-transaction.json", "json/spec/bundle-references.json" }) {
+            Bundle expected;
+            try (Reader reader = ExamplesUtil.resourceReader(file)) {
+                expected = FHIRParser.parser(Format.JSON).parse(reader);
+            }
+            Bundle actual;
+            try (Reader reader = ExamplesUtil.resourceReader(file)) {
+                actual = parallelParser().parse(reader);
+            }
+            assertFalse(actual.getEntry().isEmpty());
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void testErrorPath() throws Exception {
+        String jsonString = "{\"resourceType\":\"Bundle\",\"type\":\"collection\",\"entry\":["
+                + "{\"resource\":{\"resourceType\":\"Patient\",\"id\":\"1\"}},"
+                + "{\"resource\":{\"resourceType\":\"Patient\",\"id\":\"2\",\"active\":\"yes\"}},"
+                + "{\"resource\":{\"resourceType\":\"Patient\",\"id\":\"3\",\"gender\":\"none\"}}]}";
+
+        FHIRParserException expected = null;
+        try {
+            FHIRParser.parser(Format.JSON).parse(new StringReader(jsonString));
+            fail();
+        } catch (FHIRParserException e) {
+            expected = e;
+        }
+
+        try {
+            parallelParser().parse(new StringReader(jsonString));
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getPath().startsWith("Bundle.entry[1]"), e.getPath());
+            assertEquals(e.getPath(), expected.getPath());
+            assertEquals(e.getMessage(), expected.getMessage());
+        }
+    }
+
+    @Test
+    public void testThreshold() throws Exception {
+        FHIRParser parser = FHIRParser.parser(Format.JSON);
+        assertTrue(parser.isPropertySupported(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD));
+        parser.setProperty(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD, 1000);
+        try (Reader reader = ExamplesUtil.resourceReader("json/spec/bundle-transaction.json")) {
+            Bundle bundle = parser.parse(reader);
+            assertFalse(bundle.getEntry().isEmpty());
+        }
+    }
+}
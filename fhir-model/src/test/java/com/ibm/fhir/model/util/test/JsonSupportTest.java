@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.util.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRJsonParser;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.util.JsonSupport;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Tests for {@link JsonSupport}
+ */
+public class JsonSupportTest {
+    private static final String PATIENT = "{\"resourceType\":\"Patient\",\"id\":\"1\",\"meta\":{\"versionId\":\"2\"},"
+            + "\"text\":{\"status\":\"generated\",\"div\":\"<div xmlns=\\\"http://www.w3.org/1999/xhtml\\\">Doe</div>\"},"
+            + "\"active\":true,\"gender\":\"male\",\"name\":[{\"family\":\"Doe\"}]}";
+
+    @Test
+    public void testReadResource() {
+        JsonObject jsonObject = readResource(PATIENT, "gender");
+        assertEquals(new ArrayList<>(jsonObject.keySet()), Arrays.asList("resourceType", "id", "meta", "gender"));
+        assertEquals(jsonObject.getString("gender"), "male");
+    }
+
+    @Test
+    public void testReadResourceRequiredElements() {
+        // Observation.status and Observation.code are required, so they are always included
+        String observation = "{\"resourceType\":\"Observation\",\"id\":\"1\",\"status\":\"final\","
+                + "\"code\":{\"text\":\"code\"},\"valueString\":\"value\",\"note\":[{\"text\":\"note\"}]}";
+        JsonObject jsonObject = readResource(observation, "note");
+        assertEquals(new ArrayList<>(jsonObject.keySet()), Arrays.asList("resourceType", "id", "status", "code", "note"));
+    }
+
+    @Test
+    public void testReadResourceTypeNotFirst() {
+        // elements which precede resourceType are filtered once the resource type is known
+        String patient = "{\"gender\":\"male\",\"active\":true,\"resourceType\":\"Patient\",\"id\":\"1\"}";
+        JsonObject jsonObject = readResource(patient, "gender");
+        assertEquals(new ArrayList<>(jsonObject.keySet()), Arrays.asList("resourceType", "gender", "id"));
+    }
+
+    @Test
+    public void testReadResourceDuplicateKey() {
+        String patient = "{\"resourceType\":\"Patient\",\"id\":\"1\",\"name\":[],\"name\":[]}";
+        try {
+            readResource(patient, "gender");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Duplicate key 'name' is not allowed");
+        }
+    }
+
+    @Test
+    public void testParseAndFilterSummary() throws Exception {
+        FHIRJsonParser parser = FHIRParser.parser(Format.JSON).as(FHIRJsonParser.class);
+        Patient patient = parser.parseAndFilter(new StringReader(PATIENT), JsonSupport.getSummaryElementNames(Patient.class));
+        Patient expected = parser.parse(new StringReader(PATIENT));
+        assertNull(patient.getText());
+        assertEquals(patient.getName(), expected.getName());
+        assertEquals(patient.getGender(), expected.getGender());
+        assertEquals(patient.getActive(), expected.getActive());
+        assertEquals(patient.getMeta(), expected.getMeta());
+    }
+
+    @Test
+    public void testParseAndFilterInvalid() throws Exception {
+        FHIRJsonParser parser = FHIRParser.parser(Format.JSON).as(FHIRJsonParser.class);
+        try {
+            parser.parseAndFilter(new StringReader("{\"resourceType\":\"Patient\",\"id\":1}"), Collections.singleton("gender"));
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getMessage().contains("id"), e.getMessage());
+        }
+        try {
+            parser.parseAndFilter(new StringReader("{\"resourceType\":\"Hamburger\"}"), Collections.singleton("gender"));
+            fail();
+        } catch (FHIRParserException e) {
+            assertEquals(e.getMessage(), "Invalid resource type: 'Hamburger'");
+        }
+    }
+
+    private static JsonObject readResource(String json, String element) {
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            return JsonSupport.readResource(parser, Collections.singleton(element));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.util.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.config.FHIRModelConfig;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Boolean;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.type.Integer;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.AdministrativeGender;
+import com.ibm.fhir.model.util.PrimitiveInterner;
+
+public class PrimitiveInternerTest {
+    private boolean originalInternPrimitives;
+    private int originalInternCacheMaxSize;
+
+    @BeforeMethod
+    public void before() {
+        originalInternPrimitives = FHIRModelConfig.getInternPrimitives();
+        originalInternCacheMaxSize = FHIRModelConfig.getInternCacheMaxSize();
+        FHIRModelConfig.setInternPrimitives(true);
+        PrimitiveInterner.clear();
+    }
+
+    @AfterMethod
+    public void after() {
+        FHIRModelConfig.setInternPrimitives(originalInternPrimitives);
+        FHIRModelConfig.setInternCacheMaxSize(originalInternCacheMaxSize);
+        PrimitiveInterner.clear();
+    }
+
+    @Test
+    public void testInterning() {
+        assertSame(Code.of("final"), Code.of("final"));
+        assertSame(Uri.of("http://loinc.org"), Uri.of("http://loinc.org"));
+        assertSame(Boolean.of(true), Boolean.of(true));
+        assertSame(Integer.of(5), Integer.of(5));
+        assertSame(AdministrativeGender.builder().value("male").build(), AdministrativeGender.builder().value("male").build());
+        assertTrue(PrimitiveInterner.size() >= 5);
+        assertTrue(PrimitiveInterner.getHitCount() >= 5);
+        assertTrue(PrimitiveInterner.getMissCount() >= 5);
+    }
+
+    @Test
+    public void testNotInterned() {
+        // different types with the same value
+        assertNotSame(Code.of("http://loinc.org"), Uri.of("http://loinc.org"));
+
+        // elements with an id or extensions
+        assertNotSame(Code.builder().id("a").value("final").build(), Code.builder().id("a").value("final").build());
+        Extension extension = Extension.builder().url("http://example.com").value(Boolean.TRUE).build();
+        assertNotSame(Code.builder().extension(extension).value("final").build(), Code.builder().extension(extension).value("final").build());
+
+        // integers outside of the interned range
+        assertNotSame(Integer.of(PrimitiveInterner.MAX_INTEGER_VALUE + 1), Integer.of(PrimitiveInterner.MAX_INTEGER_VALUE + 1));
+
+        // elements built by a non-validating builder are not cached
+        Code.Builder builder = Code.builder().value("preliminary");
+        builder.setValidating(false);
+        assertNotSame(builder.build(), Code.of("preliminary"));
+    }
+
+    @Test
+    public void testDisabled() {
+        FHIRModelConfig.setInternPrimitives(false);
+        assertNotSame(Code.of("final"), Code.of("final"));
+        assertEquals(PrimitiveInterner.size(), 0);
+    }
+
+    @Test
+    public void testMaxSize() {
+        FHIRModelConfig.setInternCacheMaxSize(2);
+        Code.of("a");
+        Code.of("b");
+        assertNotSame(Code.of("c"), Code.of("c"));
+        assertSame(Code.of("a"), Code.of("a"));
+        assertEquals(PrimitiveInterner.size(), 2);
+    }
+
+    @Test
+    public void testParser() throws Exception {
+        String json = "{\"resourceType\":\"Patient\",\"active\":true,\"gender\":\"female\"," +
+                "\"identifier\":[{\"system\":\"http://example.com\",\"value\":\"1\"},{\"system\":\"http://example.com\",\"value\":\"2\"}]}";
+        Patient patient1 = FHIRParser.parser(Format.JSON).parse(new StringReader(json));
+        Patient patient2 = FHIRParser.parser(Format.JSON).parse(new StringReader(json));
+        assertEquals(patient1, patient2);
+        assertSame(patient1.getActive(), patient2.getActive());
+        assertSame(patient1.getGender(), patient2.getGender());
+        assertSame(patient1.getIdentifier().get(0).getSystem(), patient1.getIdentifier().get(1).getSystem());
+        assertTrue(PrimitiveInterner.getHitCount() > 0);
+    }
+}
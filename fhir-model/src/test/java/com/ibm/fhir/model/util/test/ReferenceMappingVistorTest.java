@@ -6,7 +6,9 @@
 
 package com.ibm.fhir.model.util.test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.AssertJUnit.assertNotSame;
 
 import java.io.StringWriter;
@@ -111,4 +113,21 @@ public class ReferenceMappingVistorTest {
 
         assertNotEquals(result, patient);
     }
+
+    @Test
+    public void testUnmodifiedElementsAreShared() {
+        ReferenceMappingVisitor<Patient> visitor = new ReferenceMappingVisitor<Patient>(localRefMap);
+        patient.accept(visitor);
+        Patient result = visitor.getResult();
+
+        assertEquals(result.getGeneralPractitioner().get(0).getReference().getValue(), localRefMap.values().iterator().next());
+        assertSame(result.getMeta(), patient.getMeta());
+        assertSame(result.getName().get(0), patient.getName().get(0));
+        assertSame(result.getBirthDate(), patient.getBirthDate());
+
+        // nothing to replace
+        visitor = new ReferenceMappingVisitor<Patient>(new HashMap<>());
+        patient.accept(visitor);
+        assertSame(visitor.getResult(), patient);
+    }
 }
\ No newline at end of file
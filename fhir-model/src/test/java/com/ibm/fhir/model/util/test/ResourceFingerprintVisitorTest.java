@@ -13,13 +13,20 @@ import java.util.stream.Collectors;
 
 import org.testng.annotations.Test;
 
+import com.ibm.fhir.model.resource.ImagingStudy;
+import com.ibm.fhir.model.resource.Observation;
 import com.ibm.fhir.model.resource.Patient;
 import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.CodeableConcept;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.Id;
 import com.ibm.fhir.model.type.Identifier;
 import com.ibm.fhir.model.type.Instant;
+import com.ibm.fhir.model.type.Reference;
+import com.ibm.fhir.model.type.UnsignedInt;
 import com.ibm.fhir.model.type.code.IdentifierUse;
+import com.ibm.fhir.model.type.code.ImagingStudyStatus;
+import com.ibm.fhir.model.type.code.ObservationStatus;
 import com.ibm.fhir.model.type.code.ResourceType;
 import com.ibm.fhir.model.util.SaltHash;
 import com.ibm.fhir.model.visitor.ResourceFingerprintVisitor;
@@ -172,4 +179,51 @@ public class ResourceFingerprintVisitorTest {
         patient.accept(resourceFingerprintVisitor);
         assertNotEquals(resourceFingerprintVisitor.getSaltAndHash(), baseline);
     }
+
+    @Test
+    public void testUnequalResources_integerPath() throws Exception {
+        ImagingStudy imagingStudy = ImagingStudy.builder()
+                .status(ImagingStudyStatus.AVAILABLE)
+                .subject(Reference.builder()
+                    .reference(string("Patient/1"))
+                    .build())
+                .numberOfSeries(UnsignedInt.of(3))
+                .build();
+
+        ResourceFingerprintVisitor resourceFingerprintVisitor = new ResourceFingerprintVisitor();
+        imagingStudy.accept(resourceFingerprintVisitor);
+        SaltHash baseline = resourceFingerprintVisitor.getSaltAndHash();
+
+        // the same value in a different element
+        imagingStudy = imagingStudy.toBuilder()
+                .numberOfSeries(null)
+                .numberOfInstances(UnsignedInt.of(3))
+                .build();
+        resourceFingerprintVisitor = new ResourceFingerprintVisitor(baseline);
+        imagingStudy.accept(resourceFingerprintVisitor);
+        assertNotEquals(resourceFingerprintVisitor.getSaltAndHash(), baseline);
+    }
+
+    @Test
+    public void testUnequalResources_choiceType() throws Exception {
+        Observation observation = Observation.builder()
+                .status(ObservationStatus.FINAL)
+                .code(CodeableConcept.builder()
+                    .text(string("test"))
+                    .build())
+                .value(com.ibm.fhir.model.type.Integer.of(1))
+                .build();
+
+        ResourceFingerprintVisitor resourceFingerprintVisitor = new ResourceFingerprintVisitor();
+        observation.accept(resourceFingerprintVisitor);
+        SaltHash baseline = resourceFingerprintVisitor.getSaltAndHash();
+
+        // the same value as a different type
+        observation = observation.toBuilder()
+                .value(string("1"))
+                .build();
+        resourceFingerprintVisitor = new ResourceFingerprintVisitor(baseline);
+        observation.accept(resourceFingerprintVisitor);
+        assertNotEquals(resourceFingerprintVisitor.getSaltAndHash(), baseline);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019, 2020
+ * (C) Copyright IBM Corp. 2019, 2021
  * 
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,14 +19,20 @@ public abstract class FHIRPathAbstractNode implements FHIRPathNode {
     protected final String path;
     protected final FHIRPathType type;
     protected final FHIRPathSystemValue value;
-    protected final Collection<FHIRPathNode> children;
+    
+    private volatile Collection<FHIRPathNode> children;
+    private Supplier<Collection<FHIRPathNode>> childrenSupplier;
     
     protected FHIRPathAbstractNode(Builder builder) {
         name = builder.name;
         path = builder.path;
         type = Objects.requireNonNull(builder.type);
         value = builder.value;
-        children = Collections.unmodifiableCollection(builder.children);
+        if (builder.childrenSupplier != null) {
+            childrenSupplier = builder.childrenSupplier;
+        } else {
+            children = Collections.unmodifiableCollection(builder.children);
+        }
     }
     
     @Override
@@ -53,8 +60,22 @@ public abstract class FHIRPathAbstractNode implements FHIRPathNode {
         return value;
     }
     
+    /**
+     * Get the children of this node; the children of a node in a lazy {@link FHIRPathTree} are created on first access
+     */
     @Override
     public Collection<FHIRPathNode> children() {
+        Collection<FHIRPathNode> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    children = Collections.unmodifiableCollection(childrenSupplier.get());
+                    this.children = children;
+                    childrenSupplier = null;
+                }
+            }
+        }
         return children;
     }
     
@@ -96,6 +117,9 @@ public abstract class FHIRPathAbstractNode implements FHIRPathNode {
         protected FHIRPathSystemValue value;
         protected Collection<FHIRPathNode> children = new ArrayList<>();
         
+        // lazy children (replaces the children collection when set)
+        Supplier<Collection<FHIRPathNode>> childrenSupplier;
+        
         protected Builder(FHIRPathType type) {
             super();
             this.type = type;
@@ -135,6 +159,14 @@ public abstract class FHIRPathAbstractNode implements FHIRPathNode {
             return this;
         }
         
+        /**
+         * Set a supplier that creates the children of the node on first access (used by lazy {@link FHIRPathTree} instances)
+         */
+        Builder lazyChildren(Supplier<Collection<FHIRPathNode>> childrenSupplier) {
+            this.childrenSupplier = childrenSupplier;
+            return this;
+        }
+        
         @Override
         public abstract FHIRPathNode build();
     }
@@ -93,7 +93,7 @@ public class FHIRPathResourceNode extends FHIRPathAbstractNode {
         Builder builder = new Builder(type, resource);
         builder.name = name;
         builder.value = value;
-        builder.children = children;
+        builder.children = children();
         return builder;
     }
 
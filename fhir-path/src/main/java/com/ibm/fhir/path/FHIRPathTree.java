@@ -12,10 +12,12 @@ import java.time.LocalTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
@@ -25,9 +27,14 @@ import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.type.Element;
 import com.ibm.fhir.model.type.Quantity;
 import com.ibm.fhir.model.visitor.PathAwareVisitor;
+import com.ibm.fhir.model.visitor.Visitable;
 
 /**
  * A tree of {@link FHIRPathNode} nodes created from a {@link Resource} or an {@link Element}
+ *
+ * <p>A tree is either created eagerly, visiting the whole resource or element up front, or lazily (see
+ * {@link #lazyTree(Resource)}), in which case the children of a node (and their paths) are created the first time
+ * {@link FHIRPathNode#children()} is called on that node and nodes are looked up by path by navigating from the root.
  */
 public class FHIRPathTree {
     private FHIRPathNode root;
@@ -43,6 +50,16 @@ public class FHIRPathTree {
         this.pathNodeMap = Collections.unmodifiableMap(pathNodeMap);
     }
 
+    /**
+     * Indicates whether the nodes of this FHIRPathTree are created on demand
+     *
+     * @return
+     *     true if the nodes of this FHIRPathTree are created on demand, otherwise false
+     */
+    public boolean isLazy() {
+        return pathNodeMap == null;
+    }
+
     /**
      * The root node of this FHIRPathTree
      *
@@ -63,7 +80,31 @@ public class FHIRPathTree {
      *     the node at the location given by the path parameter if exists, otherwise null
      */
     public FHIRPathNode getNode(String path) {
-        return pathNodeMap.get(path);
+        if (pathNodeMap != null) {
+            return pathNodeMap.get(path);
+        }
+        return findNode(path);
+    }
+
+    /**
+     * Find the node at the location given by the path parameter by navigating from the root, creating
+     * only the nodes along the path
+     */
+    private FHIRPathNode findNode(String path) {
+        FHIRPathNode node = root;
+        while (node != null && !path.equals(node.path())) {
+            FHIRPathNode next = null;
+            for (FHIRPathNode child : node.children()) {
+                String childPath = child.path();
+                if (childPath != null && path.startsWith(childPath) &&
+                        (path.length() == childPath.length() || path.charAt(childPath.length()) == '.')) {
+                    next = child;
+                    break;
+                }
+            }
+            node = next;
+        }
+        return node;
     }
 
     /**
@@ -81,7 +122,7 @@ public class FHIRPathTree {
 
         int index = node.path().lastIndexOf(".");
         if (index != -1) {
-            return pathNodeMap.get(node.path().substring(0, index));
+            return getNode(node.path().substring(0, index));
         }
 
         return null;
@@ -151,7 +192,7 @@ public class FHIRPathTree {
 
         FHIRPathTree tree = new FHIRPathTree();
 
-        BuildingVisitor visitor = new BuildingVisitor(tree);
+        BuildingVisitor visitor = new BuildingVisitor(tree, null, false);
         resource.accept(visitor);
 
         tree.setRoot(visitor.getRoot());
@@ -173,7 +214,7 @@ public class FHIRPathTree {
 
         FHIRPathTree tree = new FHIRPathTree();
 
-        BuildingVisitor visitor = new BuildingVisitor(tree);
+        BuildingVisitor visitor = new BuildingVisitor(tree, null, false);
         element.accept(visitor);
 
         tree.setRoot(visitor.getRoot());
@@ -182,24 +223,113 @@ public class FHIRPathTree {
         return tree;
     }
 
+    /**
+     * Static factory method for creating lazy FHIRPathTree instances from a {@link Resource}
+     *
+     * <p>Only the root node and its children are created up front. Use this method instead of {@link #tree(Resource)}
+     * when only a small part of a (potentially large) resource is expected to be navigated.
+     *
+     * @param resource
+     *     the resource
+     * @return
+     *     a new lazy FHIRPathTree instance
+     */
+    public static FHIRPathTree lazyTree(Resource resource) {
+        Objects.requireNonNull(resource);
+
+        FHIRPathTree tree = new FHIRPathTree();
+
+        BuildingVisitor visitor = new BuildingVisitor(tree, null, true);
+        resource.accept(visitor);
+
+        tree.setRoot(visitor.getRoot());
+
+        return tree;
+    }
+
+    /**
+     * Static factory method for creating lazy FHIRPathTree instances from an {@link Element}
+     *
+     * <p>Only the root node and its children are created up front. Use this method instead of {@link #tree(Element)}
+     * when only a small part of a (potentially large) element is expected to be navigated.
+     *
+     * @param element
+     *     the element
+     * @return
+     *     a new lazy FHIRPathTree instance
+     */
+    public static FHIRPathTree lazyTree(Element element) {
+        Objects.requireNonNull(element);
+
+        FHIRPathTree tree = new FHIRPathTree();
+
+        BuildingVisitor visitor = new BuildingVisitor(tree, null, true);
+        element.accept(visitor);
+
+        tree.setRoot(visitor.getRoot());
+
+        return tree;
+    }
+
+    /**
+     * Create the children of a node in a lazy tree by visiting the node's element or resource one level deep
+     */
+    private static Collection<FHIRPathNode> children(FHIRPathTree tree, String parentPath, String elementName, int elementIndex,
+            Visitable visitable, FHIRPathSystemValue value) {
+        BuildingVisitor visitor = new BuildingVisitor(tree, parentPath, true);
+        visitable.accept(elementName, elementIndex, visitor);
+
+        FHIRPathNode node = visitor.getRoot();
+        List<FHIRPathNode> children = new ArrayList<>(node.children().size());
+        for (FHIRPathNode child : node.children()) {
+            // reuse the value of the existing node
+            children.add((child == node.getValue()) ? value : child);
+        }
+        return children;
+    }
+
+    /**
+     * Builds the nodes of a tree
+     *
+     * <p>An eager visitor builds every node of the visited resource or element. A lazy visitor builds the visited
+     * resource or element and its children only; the children of the children are built on demand by another lazy
+     * visitor with the path of the parent node as a prefix.
+     */
     private static class BuildingVisitor extends PathAwareVisitor {
         private final FHIRPathTree tree;
+        private final String parentPath;
+        private final boolean lazy;
 
         private Stack<FHIRPathNode.Builder> builderStack = new Stack<>();
         private FHIRPathNode root;
+        private String rootPath;
         private Map<String, FHIRPathNode> pathNodeMap = new HashMap<>();
 
-        private BuildingVisitor(FHIRPathTree tree) {
+        private BuildingVisitor(FHIRPathTree tree, String parentPath, boolean lazy) {
             this.tree = tree;
+            this.parentPath = parentPath;
+            this.lazy = lazy;
         }
 
-        private void build() {
-            String path = getPath();
+        private String getFullPath() {
+            return (parentPath != null) ? parentPath + "." + getPath() : getPath();
+        }
+
+        private void build(String elementName, int elementIndex, Visitable visitable) {
+            String path = getFullPath();
 
             FHIRPathNode.Builder builder = builderStack.pop();
+            if (lazy && builderStack.size() == 1) {
+                FHIRPathAbstractNode.Builder abstractBuilder = (FHIRPathAbstractNode.Builder) builder;
+                FHIRPathSystemValue value = abstractBuilder.value;
+                String rootPath = this.rootPath;
+                abstractBuilder.lazyChildren(() -> children(tree, rootPath, elementName, elementIndex, visitable, value));
+            }
             FHIRPathNode node = builder.path(path).build();
 
-            pathNodeMap.put(path, node);
+            if (!lazy) {
+                pathNodeMap.put(path, node);
+            }
 
             if (builderStack.isEmpty()) {
                 root = node;
@@ -216,18 +346,31 @@ public class FHIRPathTree {
             return root;
         }
 
+        @Override
+        public boolean preVisit(Element element) {
+            return !lazy || builderStack.size() < 2;
+        }
+
+        @Override
+        public boolean preVisit(Resource resource) {
+            return !lazy || builderStack.size() < 2;
+        }
+
         @Override
         protected void doVisitEnd(String elementName, int elementIndex, Element element) {
-            build();
+            build(elementName, elementIndex, element);
         }
 
         @Override
         protected void doVisitEnd(String elementName, int elementIndex, Resource resource) {
-            build();
+            build(elementName, elementIndex, resource);
         }
 
         @Override
         protected void doVisitStart(String elementName, int elementIndex, Element element) {
+            if (builderStack.isEmpty()) {
+                rootPath = getFullPath();
+            }
             if (element instanceof Quantity) {
                 Quantity quantity = (Quantity) element;
                 builderStack.push(FHIRPathQuantityNode.builder(quantity).name(elementName).tree(tree));
@@ -242,6 +385,9 @@ public class FHIRPathTree {
 
         @Override
         protected void doVisitStart(String elementName, int elementIndex, Resource resource) {
+            if (builderStack.isEmpty()) {
+                rootPath = getFullPath();
+            }
             builderStack.push(FHIRPathResourceNode.builder(resource).name(elementName).tree(tree));
         }
 
@@ -44,10 +44,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,12 +58,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
 
 import com.ibm.fhir.cache.CacheKey;
 import com.ibm.fhir.model.annotation.Constraint;
@@ -84,6 +89,7 @@ import com.ibm.fhir.path.FHIRPathTree;
 import com.ibm.fhir.path.FHIRPathType;
 import com.ibm.fhir.path.exception.FHIRPathException;
 import com.ibm.fhir.path.function.FHIRPathFunction;
+import com.ibm.fhir.path.util.FHIRPathProfiler;
 import com.ibm.fhir.path.util.FHIRPathUtil;
 
 import net.jcip.annotations.NotThreadSafe;
@@ -98,8 +104,9 @@ public class FHIRPathEvaluator {
     public static final Collection<FHIRPathNode> SINGLETON_TRUE = singleton(FHIRPathBooleanValue.TRUE);
     public static final Collection<FHIRPathNode> SINGLETON_FALSE = singleton(FHIRPathBooleanValue.FALSE);
 
-    private static final int EXPRESSION_CONTEXT_CACHE_MAX_ENTRIES = 512;
-    private static final Map<String, ExpressionContext> EXPRESSION_CONTEXT_CACHE = createCacheAsMap(EXPRESSION_CONTEXT_CACHE_MAX_ENTRIES);
+    // large enough for the constraint and search parameter expressions of the base specification and typical IGs
+    private static final int COMPILED_EXPRESSION_CACHE_MAX_ENTRIES = 4096;
+    private static final Map<String, CompiledExpression> COMPILED_EXPRESSION_CACHE = createCacheAsMap(COMPILED_EXPRESSION_CACHE_MAX_ENTRIES);
 
     private final EvaluatingVisitor visitor = new EvaluatingVisitor();
 
@@ -171,7 +178,7 @@ public class FHIRPathEvaluator {
      *     if an exception occurs during evaluation
      */
     public Collection<FHIRPathNode> evaluate(Resource resource, String expr) throws FHIRPathException {
-        return evaluate(new EvaluationContext(resource), expr);
+        return evaluate(new EvaluationContext(FHIRPathTree.lazyTree(resource)), expr);
     }
 
     /**
@@ -189,7 +196,7 @@ public class FHIRPathEvaluator {
      *     if an exception occurs during evaluation
      */
     public Collection<FHIRPathNode> evaluate(Element element, String expr) throws FHIRPathException {
-        return evaluate(new EvaluationContext(element), expr);
+        return evaluate(new EvaluationContext(FHIRPathTree.lazyTree(element)), expr);
     }
 
     /**
@@ -252,7 +259,18 @@ public class FHIRPathEvaluator {
         try {
             evaluationContext.setExternalConstant("context", initialContext);
             setDateTimeConstants(evaluationContext);
-            return visitor.evaluate(evaluationContext, getExpressionContext(expr), initialContext);
+            CompiledExpression compiledExpression = getCompiledExpression(expr);
+            FHIRPathProfiler profiler = FHIRPathProfiler.getInstance();
+            if (profiler.isEnabled()) {
+                if (profiler.sample()) {
+                    long start = System.nanoTime();
+                    Collection<FHIRPathNode> result = visitor.evaluate(evaluationContext, compiledExpression, initialContext);
+                    profiler.record(expr, System.nanoTime() - start, result.size());
+                    return result;
+                }
+                profiler.record(expr);
+            }
+            return visitor.evaluate(evaluationContext, compiledExpression, initialContext);
         } catch (Exception e) {
             throw new FHIRPathException("An error occurred while evaluating expression: " + expr, e);
         }
@@ -265,8 +283,8 @@ public class FHIRPathEvaluator {
         evaluationContext.setExternalConstant("timeOfDay", singleton(timeValue(LocalTime.from(now))));
     }
 
-    private static ExpressionContext getExpressionContext(String expr) {
-        return EXPRESSION_CONTEXT_CACHE.computeIfAbsent(Objects.requireNonNull(expr), FHIRPathUtil::compile);
+    private static CompiledExpression getCompiledExpression(String expr) {
+        return COMPILED_EXPRESSION_CACHE.computeIfAbsent(Objects.requireNonNull(expr), CompiledExpression::compile);
     }
 
     /**
@@ -281,29 +299,49 @@ public class FHIRPathEvaluator {
 
     public static class EvaluatingVisitor extends FHIRPathBaseVisitor<Collection<FHIRPathNode>> {
         private static final String SYSTEM_NAMESPACE = "System";
-
-        private static final int IDENTIFIER_CACHE_MAX_ENTRIES = 2048;
-        private static final int LITERAL_CACHE_MAX_ENTRIES = 128;
-
-        private static final Map<String, Collection<FHIRPathNode>> IDENTIFIER_CACHE = createCacheAsMap(IDENTIFIER_CACHE_MAX_ENTRIES);
-        private static final Map<String, Collection<FHIRPathNode>> LITERAL_CACHE = createCacheAsMap(LITERAL_CACHE_MAX_ENTRIES);
+        private static final Map<FHIRPathType, Set<String>> TYPE_NAME_CLOSURE_MAP = buildTypeNameClosureMap();
 
         private final Stack<Collection<FHIRPathNode>> contextStack = new Stack<>();
 
         private EvaluationContext evaluationContext;
+        private CompiledExpression compiledExpression;
         private int indentLevel = 0;
 
         private EvaluatingVisitor() { }
 
-        private Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, ExpressionContext expressionContext, Collection<FHIRPathNode> initialContext) {
+        private Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, CompiledExpression compiledExpression, Collection<FHIRPathNode> initialContext) {
             reset();
             this.evaluationContext = evaluationContext;
+            this.compiledExpression = compiledExpression;
             contextStack.push(initialContext);
-            Collection<FHIRPathNode> result = expressionContext.accept(this);
+            Collection<FHIRPathNode> result = compiledExpression.getExpressionContext().accept(this);
             contextStack.pop();
             return Collections.unmodifiableCollection(result);
         }
 
+        /**
+         * Evaluate a literal term without an input context (used to fold constants when an expression is compiled)
+         */
+        private static Collection<FHIRPathNode> evaluateLiteral(FHIRPathParser.LiteralTermContext ctx) {
+            EvaluatingVisitor visitor = new EvaluatingVisitor();
+            visitor.evaluationContext = new EvaluationContext();
+            return ctx.accept(visitor);
+        }
+
+        private static List<ExpressionContext> getArguments(FHIRPathParser.FunctionContext ctx) {
+            List<ExpressionContext> arguments = new ArrayList<ExpressionContext>();
+            ParamListContext paramList = ctx.paramList();
+            if (paramList != null) {
+                arguments.addAll(paramList.expression());
+            }
+            return arguments;
+        }
+
+        private static Collection<FHIRPathNode> identifier(FHIRPathParser.IdentifierContext ctx) {
+            String text = ctx.getText();
+            return singleton(stringValue(text.startsWith("`") ? text.substring(1, text.length() - 1) : text));
+        }
+
         private EvaluationContext getEvaluationContext() {
             return evaluationContext;
         }
@@ -336,10 +374,9 @@ public class FHIRPathEvaluator {
             }
             Collection<FHIRPathNode> result = new ArrayList<>();
             ExpressionContext typeName = arguments.get(0);
-            String identifier = typeName.getText().replace("`", "");
-            FHIRPathType type = FHIRPathType.from(identifier);
+            FHIRPathType type = getType(typeName);
             if (type == null) {
-                throw new IllegalArgumentException(String.format("Argument '%s' cannot be resolved to a valid type identifier", identifier));
+                throw new IllegalArgumentException(String.format("Argument '%s' cannot be resolved to a valid type identifier", typeName.getText().replace("`", "")));
             }
             for (FHIRPathNode node : getCurrentContext()) {
                 FHIRPathType nodeType = node.type();
@@ -353,17 +390,27 @@ public class FHIRPathEvaluator {
             return result;
         }
 
-        private Set<String> closure(FHIRPathType type) {
-            if (SYSTEM_NAMESPACE.equals(type.namespace())) {
-                return Collections.emptySet();
-            }
-            // compute type name closure
-            Set<String> closure = new HashSet<>();
-            while (!FHIRPathType.FHIR_ANY.equals(type)) {
-                closure.add(type.getName());
-                type = type.baseType();
+        private static Map<FHIRPathType, Set<String>> buildTypeNameClosureMap() {
+            Map<FHIRPathType, Set<String>> typeNameClosureMap = new EnumMap<>(FHIRPathType.class);
+            for (FHIRPathType type : FHIRPathType.values()) {
+                if (SYSTEM_NAMESPACE.equals(type.namespace())) {
+                    typeNameClosureMap.put(type, Collections.emptySet());
+                    continue;
+                }
+                // compute type name closure
+                Set<String> closure = new HashSet<>();
+                FHIRPathType baseType = type;
+                while (baseType != null && !FHIRPathType.FHIR_ANY.equals(baseType)) {
+                    closure.add(baseType.getName());
+                    baseType = baseType.baseType();
+                }
+                typeNameClosureMap.put(type, Collections.unmodifiableSet(closure));
             }
-            return closure;
+            return Collections.unmodifiableMap(typeNameClosureMap);
+        }
+
+        private Set<String> closure(FHIRPathType type) {
+            return TYPE_NAME_CLOSURE_MAP.get(type);
         }
 
         private Collection<FHIRPathNode> exists(List<ExpressionContext> arguments) {
@@ -415,8 +462,7 @@ public class FHIRPathEvaluator {
             }
 
             ExpressionContext typeName = arguments.iterator().next();
-            String identifier = typeName.getText().replace("`", "");
-            FHIRPathType type = FHIRPathType.from(identifier);
+            FHIRPathType type = getType(typeName);
             if (type == null) {
                 return SINGLETON_FALSE;
             }
@@ -430,10 +476,9 @@ public class FHIRPathEvaluator {
             }
             Collection<FHIRPathNode> result = new ArrayList<>();
             ExpressionContext typeName = arguments.get(0);
-            String identifier = typeName.getText().replace("`", "");
-            FHIRPathType type = FHIRPathType.from(identifier);
+            FHIRPathType type = getType(typeName);
             if (type == null) {
-                throw new IllegalArgumentException(String.format("Argument '%s' cannot be resolved to a valid type identifier", identifier));
+                throw new IllegalArgumentException(String.format("Argument '%s' cannot be resolved to a valid type identifier", typeName.getText().replace("`", "")));
             }
             for (FHIRPathNode node : getCurrentContext()) {
                 FHIRPathType nodeType = node.type();
@@ -447,6 +492,38 @@ public class FHIRPathEvaluator {
             return result;
         }
 
+        /**
+         * Get the type that the passed type name resolves to using the compiled expression (if available)
+         */
+        private FHIRPathType getType(ParserRuleContext typeName) {
+            FHIRPathType type = (compiledExpression != null) ? compiledExpression.getType(typeName) : null;
+            return (type != null) ? type : FHIRPathType.from(typeName.getText().replace("`", ""));
+        }
+
+        /**
+         * Get the key under which the result of the passed path expression is shared through the evaluation context,
+         * or null if the result cannot be shared (path result caching is disabled, the expression is not a path
+         * expression, or the expression is not being evaluated against the root of the tree)
+         */
+        private String getPathKey(ParserRuleContext ctx) {
+            if (compiledExpression == null || !evaluationContext.cachePathResults() || evaluationContext.getTree() == null) {
+                return null;
+            }
+            Collection<FHIRPathNode> currentContext = getCurrentContext();
+            if (!isSingleton(currentContext) || getSingleton(currentContext) != evaluationContext.getTree().getRoot()) {
+                return null;
+            }
+            return compiledExpression.getPathKey(ctx);
+        }
+
+        /**
+         * Get the operator of the passed expression using the compiled expression (if available)
+         */
+        private String getOperator(ParserRuleContext ctx, int index) {
+            String operator = (compiledExpression != null) ? compiledExpression.getOperator(ctx) : null;
+            return (operator != null) ? operator : ctx.getChild(index).getText();
+        }
+
         private Collection<FHIRPathNode> popContext() {
             if (!contextStack.isEmpty()) {
                 return contextStack.pop();
@@ -540,7 +617,7 @@ public class FHIRPathEvaluator {
             Collection<FHIRPathNode> result = empty();
 
             FHIRPathSystemValue value = getSystemValue(nodes);
-            String polarity = ctx.getChild(0).getText();
+            String polarity = getOperator(ctx, 0);
 
             if (value.isNumberValue()) {
                 switch (polarity) {
@@ -565,7 +642,7 @@ public class FHIRPathEvaluator {
 
             Collection<FHIRPathNode> result = empty();
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             if ((hasNumberValue(left) && hasNumberValue(right)) || (hasStringValue(left) && hasStringValue(right))) {
                 if (hasNumberValue(left) && hasNumberValue(right)) {
@@ -655,7 +732,7 @@ public class FHIRPathEvaluator {
             FHIRPathSystemValue leftValue = getSystemValue(left);
             FHIRPathSystemValue rightValue = getSystemValue(right);
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             if (leftValue.isNumberValue() && rightValue.isNumberValue()) {
                 try {
@@ -703,7 +780,7 @@ public class FHIRPathEvaluator {
             // evaluate left operand
             Collection<FHIRPathNode> left = visit(ctx.expression(0));
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             switch (operator) {
             case "or":
@@ -772,7 +849,7 @@ public class FHIRPathEvaluator {
             Collection<FHIRPathNode> left = visit(ctx.expression(0));
             Collection<FHIRPathNode> right = visit(ctx.expression(1));
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             switch (operator) {
             case "in":
@@ -813,7 +890,7 @@ public class FHIRPathEvaluator {
                 throw new IllegalArgumentException("Type: '" + leftNode.type().getName() + "' is not compatible with type: '" + rightNode.type().getName() + "'");
             }
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             if (leftNode.isComparableTo(rightNode)) {
                 switch (operator) {
@@ -849,9 +926,31 @@ public class FHIRPathEvaluator {
         public Collection<FHIRPathNode> visitInvocationExpression(FHIRPathParser.InvocationExpressionContext ctx) {
             beforeEvaluation(ctx);
 
-            pushContext(visit(ctx.expression()));
-            Collection<FHIRPathNode> result = visit(ctx.invocation());
-            popContext();
+            String pathKey = getPathKey(ctx);
+            if (pathKey != null) {
+                Collection<FHIRPathNode> result = evaluationContext.getCachedPathResult(pathKey);
+                if (result != null) {
+                    return afterEvaluation(ctx, result);
+                }
+            }
+
+            Collection<FHIRPathNode> result;
+            String[] memberChain = (compiledExpression != null && evaluationContext.getEvaluationListeners().isEmpty()) ?
+                    compiledExpression.getMemberChain(ctx) : null;
+            if (memberChain != null && pathKey == null) {
+                result = memberChain(memberChain);
+            } else if (memberChain != null) {
+                // navigate only the last member so that the prefix results are cached and shared
+                result = memberInvocation(visit(ctx.expression()), memberChain[memberChain.length - 1]);
+            } else {
+                pushContext(visit(ctx.expression()));
+                result = visit(ctx.invocation());
+                popContext();
+            }
+
+            if (pathKey != null) {
+                result = evaluationContext.cachePathResult(pathKey, result);
+            }
 
             return afterEvaluation(ctx, result);
         }
@@ -877,7 +976,7 @@ public class FHIRPathEvaluator {
                 return afterEvaluation(ctx, empty());
             }
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             // TODO: "equals" and "equivalent" have different semantics
             switch (operator) {
@@ -957,14 +1056,22 @@ public class FHIRPathEvaluator {
         public Collection<FHIRPathNode> visitTypeExpression(FHIRPathParser.TypeExpressionContext ctx) {
             beforeEvaluation(ctx);
 
+            String pathKey = getPathKey(ctx);
+            if (pathKey != null) {
+                Collection<FHIRPathNode> result = evaluationContext.getCachedPathResult(pathKey);
+                if (result != null) {
+                    return afterEvaluation(ctx, result);
+                }
+            }
+
             Collection<FHIRPathNode> nodes = visit(ctx.expression());
 
-            String operator = ctx.getChild(1).getText();
+            String operator = getOperator(ctx, 1);
 
             Collection<FHIRPathNode> result = "is".equals(operator) ? SINGLETON_FALSE : new ArrayList<>();
 
             String qualifiedIdentifier = getString(visit(ctx.typeSpecifier()));
-            FHIRPathType type = FHIRPathType.from(qualifiedIdentifier);
+            FHIRPathType type = getType(ctx.typeSpecifier());
             if (type == null) {
                 throw new IllegalArgumentException(String.format("Argument '%s' cannot be resolved to a valid type identifier", qualifiedIdentifier));
             }
@@ -993,6 +1100,10 @@ public class FHIRPathEvaluator {
                 break;
             }
 
+            if (pathKey != null) {
+                result = evaluationContext.cachePathResult(pathKey, result);
+            }
+
             return afterEvaluation(ctx, result);
         }
 
@@ -1006,7 +1117,10 @@ public class FHIRPathEvaluator {
         @Override
         public Collection<FHIRPathNode> visitLiteralTerm(FHIRPathParser.LiteralTermContext ctx) {
             beforeEvaluation(ctx);
-            Collection<FHIRPathNode> result = LITERAL_CACHE.computeIfAbsent(ctx.getText(), t -> visitChildren(ctx));
+            Collection<FHIRPathNode> result = (compiledExpression != null) ? compiledExpression.getLiteral(ctx) : null;
+            if (result == null) {
+                result = visitChildren(ctx);
+            }
             return afterEvaluation(ctx, result);
         }
 
@@ -1093,10 +1207,14 @@ public class FHIRPathEvaluator {
             Collection<FHIRPathNode> currentContext = getCurrentContext();
             String identifier = getString(visit(ctx.identifier()));
 
+            return afterEvaluation(ctx, memberInvocation(currentContext, identifier));
+        }
+
+        private Collection<FHIRPathNode> memberInvocation(Collection<FHIRPathNode> currentContext, String identifier) {
             if (isSingleton(currentContext)) {
                 FHIRPathNode node = getSingleton(currentContext);
                 if (closure(node.type()).contains(identifier)) {
-                    return afterEvaluation(ctx, currentContext);
+                    return currentContext;
                 }
             }
 
@@ -1109,7 +1227,22 @@ public class FHIRPathEvaluator {
                 }
             }
 
-            return afterEvaluation(ctx, result);
+            return result;
+        }
+
+        /**
+         * Evaluate a chain of member invocations (e.g. Patient.name.family) directly against the current context,
+         * without visiting the parse tree. Only used when there are no evaluation listeners to notify.
+         */
+        private Collection<FHIRPathNode> memberChain(String[] identifiers) {
+            Collection<FHIRPathNode> result = getCurrentContext();
+            for (String identifier : identifiers) {
+                result = memberInvocation(result, identifier);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
         }
 
         @Override
@@ -1147,10 +1280,9 @@ public class FHIRPathEvaluator {
 
             String functionName = getString(visit(ctx.identifier()));
 
-            List<ExpressionContext> arguments = new ArrayList<ExpressionContext>();
-            ParamListContext paramList = ctx.paramList();
-            if (paramList != null) {
-                arguments.addAll(ctx.paramList().expression());
+            List<ExpressionContext> arguments = (compiledExpression != null) ? compiledExpression.getArguments(ctx) : null;
+            if (arguments == null) {
+                arguments = getArguments(ctx);
             }
 
             Collection<FHIRPathNode> currentContext = getCurrentContext();
@@ -1184,6 +1316,7 @@ public class FHIRPathEvaluator {
                 result = where(arguments);
                 break;
             default:
+                // functions are resolved at evaluation time so that registry changes apply to compiled expressions
                 FHIRPathFunction function = FHIRPathFunction.registry().getFunction(functionName);
                 if (function == null) {
                     throw new IllegalArgumentException("Function: '" + functionName + "' not found");
@@ -1248,15 +1381,20 @@ public class FHIRPathEvaluator {
         @Override
         public Collection<FHIRPathNode> visitQualifiedIdentifier(FHIRPathParser.QualifiedIdentifierContext ctx) {
             beforeEvaluation(ctx);
-            String text = ctx.getText().replace("`", "");
-            return afterEvaluation(ctx, singleton(stringValue(text)));
+            Collection<FHIRPathNode> result = (compiledExpression != null) ? compiledExpression.getIdentifier(ctx) : null;
+            if (result == null) {
+                result = singleton(stringValue(ctx.getText().replace("`", "")));
+            }
+            return afterEvaluation(ctx, result);
         }
 
         @Override
         public Collection<FHIRPathNode> visitIdentifier(FHIRPathParser.IdentifierContext ctx) {
             beforeEvaluation(ctx);
-            String text = ctx.getText();
-            Collection<FHIRPathNode> result = IDENTIFIER_CACHE.computeIfAbsent(text, t -> singleton(stringValue(text.startsWith("`") ? text.substring(1, text.length() - 1) : text)));
+            Collection<FHIRPathNode> result = (compiledExpression != null) ? compiledExpression.getIdentifier(ctx) : null;
+            if (result == null) {
+                result = identifier(ctx);
+            }
             return afterEvaluation(ctx, result);
         }
 
@@ -1295,11 +1433,219 @@ public class FHIRPathEvaluator {
         }
     }
 
+    /**
+     * An immutable, thread-safe compiled form of a FHIRPath expression: the parse tree together with the values
+     * resolved from it
+     *
+     * <p>Compilation walks the parse tree once and resolves everything that does not depend on the evaluation input:
+     * operators, identifiers, literal values (constant folding), type specifiers and function arguments. Functions are
+     * not bound here; they are looked up in the function registry at evaluation time so that functions registered after
+     * an expression was compiled are honored. The results are kept in identity maps keyed by parse tree node and the
+     * evaluator still walks the parse tree, so {@link EvaluationListener} instances are notified with the original
+     * parser rule contexts.
+     */
+    private static final class CompiledExpression {
+        private static final Set<String> TYPE_FUNCTION_NAMES = new HashSet<>(Arrays.asList("as", "is", "ofType"));
+
+        private final ExpressionContext expressionContext;
+        private final Map<ParserRuleContext, String> operators = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, Collection<FHIRPathNode>> identifiers = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, Collection<FHIRPathNode>> literals = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, FHIRPathType> types = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, List<ExpressionContext>> arguments = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, String> pathKeys = new IdentityHashMap<>();
+        private final Map<ParserRuleContext, String[]> memberChains = new IdentityHashMap<>();
+
+        private CompiledExpression(ExpressionContext expressionContext) {
+            this.expressionContext = expressionContext;
+            walk(expressionContext);
+        }
+
+        private static CompiledExpression compile(String expr) {
+            return new CompiledExpression(FHIRPathUtil.compile(expr));
+        }
+
+        private void walk(ParseTree tree) {
+            if (!(tree instanceof ParserRuleContext)) {
+                return;
+            }
+
+            ParserRuleContext ctx = (ParserRuleContext) tree;
+
+            if (ctx instanceof FHIRPathParser.PolarityExpressionContext) {
+                operators.put(ctx, ctx.getChild(0).getText());
+            } else if (ctx instanceof FHIRPathParser.MultiplicativeExpressionContext ||
+                    ctx instanceof FHIRPathParser.AdditiveExpressionContext ||
+                    ctx instanceof FHIRPathParser.InequalityExpressionContext ||
+                    ctx instanceof FHIRPathParser.EqualityExpressionContext ||
+                    ctx instanceof FHIRPathParser.MembershipExpressionContext ||
+                    ctx instanceof FHIRPathParser.OrExpressionContext) {
+                operators.put(ctx, ctx.getChild(1).getText());
+            } else if (ctx instanceof FHIRPathParser.TypeExpressionContext) {
+                operators.put(ctx, ctx.getChild(1).getText());
+                resolveType(((FHIRPathParser.TypeExpressionContext) ctx).typeSpecifier());
+            } else if (ctx instanceof FHIRPathParser.IdentifierContext) {
+                identifiers.put(ctx, EvaluatingVisitor.identifier((FHIRPathParser.IdentifierContext) ctx));
+            } else if (ctx instanceof FHIRPathParser.QualifiedIdentifierContext) {
+                identifiers.put(ctx, singleton(stringValue(ctx.getText().replace("`", ""))));
+            } else if (ctx instanceof FHIRPathParser.LiteralTermContext) {
+                foldLiteral((FHIRPathParser.LiteralTermContext) ctx);
+            } else if (ctx instanceof FHIRPathParser.FunctionContext) {
+                FHIRPathParser.FunctionContext functionContext = (FHIRPathParser.FunctionContext) ctx;
+                String functionName = getString(EvaluatingVisitor.identifier(functionContext.identifier()));
+                List<ExpressionContext> functionArguments = EvaluatingVisitor.getArguments(functionContext);
+                arguments.put(ctx, Collections.unmodifiableList(functionArguments));
+                if (TYPE_FUNCTION_NAMES.contains(functionName)) {
+                    if (functionArguments.size() == 1) {
+                        resolveType(functionArguments.get(0));
+                    }
+                }
+            }
+
+            for (int i = 0; i < ctx.getChildCount(); i++) {
+                walk(ctx.getChild(i));
+            }
+
+            String pathKey = pathKey(ctx);
+            if (pathKey != null) {
+                pathKeys.put(ctx, pathKey);
+            }
+
+            String[] memberChain = memberChain(ctx);
+            if (memberChain != null) {
+                memberChains.put(ctx, memberChain);
+            }
+        }
+
+        /**
+         * Get the identifiers of an expression that consists only of member invocations (e.g. Patient.name.family)
+         *
+         * <p>Called after the children of the passed parser rule context have been compiled
+         */
+        private String[] memberChain(ParserRuleContext ctx) {
+            if (ctx instanceof FHIRPathParser.TermExpressionContext) {
+                FHIRPathParser.TermContext term = ((FHIRPathParser.TermExpressionContext) ctx).term();
+                if (term instanceof FHIRPathParser.InvocationTermContext) {
+                    FHIRPathParser.InvocationContext invocation = ((FHIRPathParser.InvocationTermContext) term).invocation();
+                    if (invocation instanceof FHIRPathParser.MemberInvocationContext) {
+                        return new String[] { getString(identifiers.get(((FHIRPathParser.MemberInvocationContext) invocation).identifier())) };
+                    }
+                }
+            } else if (ctx instanceof FHIRPathParser.InvocationExpressionContext) {
+                FHIRPathParser.InvocationExpressionContext invocationExpression = (FHIRPathParser.InvocationExpressionContext) ctx;
+                String[] prefix = memberChains.get(invocationExpression.expression());
+                FHIRPathParser.InvocationContext invocation = invocationExpression.invocation();
+                if (prefix != null && invocation instanceof FHIRPathParser.MemberInvocationContext) {
+                    String[] memberChain = Arrays.copyOf(prefix, prefix.length + 1);
+                    memberChain[prefix.length] = getString(identifiers.get(((FHIRPathParser.MemberInvocationContext) invocation).identifier()));
+                    return memberChain;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compute a key for expressions that only navigate the tree (member invocations and type casts), so that their
+         * results can be shared between expressions evaluated against the same tree root
+         *
+         * <p>Called after the children of the passed parser rule context have been compiled
+         */
+        private String pathKey(ParserRuleContext ctx) {
+            if (ctx instanceof FHIRPathParser.TermExpressionContext) {
+                FHIRPathParser.TermContext term = ((FHIRPathParser.TermExpressionContext) ctx).term();
+                if (term instanceof FHIRPathParser.InvocationTermContext) {
+                    FHIRPathParser.InvocationContext invocation = ((FHIRPathParser.InvocationTermContext) term).invocation();
+                    if (invocation instanceof FHIRPathParser.MemberInvocationContext) {
+                        return getString(identifiers.get(((FHIRPathParser.MemberInvocationContext) invocation).identifier()));
+                    }
+                } else if (term instanceof FHIRPathParser.ParenthesizedTermContext) {
+                    return pathKeys.get(((FHIRPathParser.ParenthesizedTermContext) term).expression());
+                }
+            } else if (ctx instanceof FHIRPathParser.InvocationExpressionContext) {
+                FHIRPathParser.InvocationExpressionContext invocationExpression = (FHIRPathParser.InvocationExpressionContext) ctx;
+                String prefix = pathKeys.get(invocationExpression.expression());
+                if (prefix == null) {
+                    return null;
+                }
+                FHIRPathParser.InvocationContext invocation = invocationExpression.invocation();
+                if (invocation instanceof FHIRPathParser.MemberInvocationContext) {
+                    return prefix + "." + getString(identifiers.get(((FHIRPathParser.MemberInvocationContext) invocation).identifier()));
+                }
+                if (invocation instanceof FHIRPathParser.FunctionInvocationContext) {
+                    FHIRPathParser.FunctionContext function = ((FHIRPathParser.FunctionInvocationContext) invocation).function();
+                    String functionName = getString(identifiers.get(function.identifier()));
+                    List<ExpressionContext> functionArguments = arguments.get(function);
+                    if (("as".equals(functionName) || "ofType".equals(functionName)) && functionArguments.size() == 1) {
+                        return prefix + "." + functionName + "(" + functionArguments.get(0).getText() + ")";
+                    }
+                }
+            } else if (ctx instanceof FHIRPathParser.TypeExpressionContext) {
+                FHIRPathParser.TypeExpressionContext typeExpression = (FHIRPathParser.TypeExpressionContext) ctx;
+                String prefix = pathKeys.get(typeExpression.expression());
+                if (prefix != null && "as".equals(operators.get(ctx))) {
+                    return prefix + " as " + typeExpression.typeSpecifier().getText();
+                }
+            }
+            return null;
+        }
+
+        private void resolveType(ParserRuleContext typeName) {
+            FHIRPathType type = FHIRPathType.from(typeName.getText().replace("`", ""));
+            if (type != null) {
+                types.put(typeName, type);
+            }
+        }
+
+        private void foldLiteral(FHIRPathParser.LiteralTermContext ctx) {
+            try {
+                literals.put(ctx, EvaluatingVisitor.evaluateLiteral(ctx));
+            } catch (RuntimeException e) {
+                // leave the literal to be evaluated (and the error to be reported) at evaluation time
+                if (log.isLoggable(Level.FINE)) {
+                    log.log(Level.FINE, "Unable to fold literal: " + ctx.getText(), e);
+                }
+            }
+        }
+
+        private ExpressionContext getExpressionContext() {
+            return expressionContext;
+        }
+
+        private String getOperator(ParserRuleContext ctx) {
+            return operators.get(ctx);
+        }
+
+        private Collection<FHIRPathNode> getIdentifier(ParserRuleContext ctx) {
+            return identifiers.get(ctx);
+        }
+
+        private Collection<FHIRPathNode> getLiteral(ParserRuleContext ctx) {
+            return literals.get(ctx);
+        }
+
+        private FHIRPathType getType(ParserRuleContext ctx) {
+            return types.get(ctx);
+        }
+
+        private List<ExpressionContext> getArguments(ParserRuleContext ctx) {
+            return arguments.get(ctx);
+        }
+
+        private String getPathKey(ParserRuleContext ctx) {
+            return pathKeys.get(ctx);
+        }
+
+        private String[] getMemberChain(ParserRuleContext ctx) {
+            return memberChains.get(ctx);
+        }
+    }
+
     /**
      * A context object used to pass information to/from the FHIRPath evaluation engine
      */
     public static class EvaluationContext {
         public static final boolean DEFAULT_RESOLVE_RELATIVE_REFERENCES = false;
+        public static final boolean DEFAULT_CACHE_PATH_RESULTS = false;
 
         private static final String UCUM_SYSTEM = "http://unitsofmeasure.org";
         private static final String LOINC_SYSTEM = "http://loinc.org";
@@ -1314,10 +1660,13 @@ public class FHIRPathEvaluator {
         private final Map<String, Collection<FHIRPathNode>> externalConstantMap = new HashMap<>();
         private final List<Issue> issues = new ArrayList<>();
         private final Map<CacheKey, Collection<FHIRPathNode>> functionResultCache = new HashMap<>();
+        private final Map<CacheKey, Object> memoTable = new HashMap<>();
         private final List<EvaluationListener> listeners = new ArrayList<>();
+        private final Map<String, Collection<FHIRPathNode>> pathResultCache = new HashMap<>();
 
         private Constraint constraint;
         private boolean resolveRelativeReferences = DEFAULT_RESOLVE_RELATIVE_REFERENCES;
+        private boolean cachePathResults = DEFAULT_CACHE_PATH_RESULTS;
 
         /**
          * Create an empty evaluation context, evaluating stand-alone expressions
@@ -1335,8 +1684,6 @@ public class FHIRPathEvaluator {
          */
         public EvaluationContext(Resource resource) {
             this(FHIRPathTree.tree(resource));
-            externalConstantMap.put("rootResource", singleton(tree.getRoot()));
-            externalConstantMap.put("resource", singleton(tree.getRoot()));
         }
 
         /**
@@ -1349,8 +1696,23 @@ public class FHIRPathEvaluator {
             this(FHIRPathTree.tree(element));
         }
 
-        private EvaluationContext(FHIRPathTree tree) {
+        /**
+         * Create an evaluation context where the root of the passed FHIRPath tree is the context root.
+         * If the root is a resource node, sets %resource and %rootResource external constants to the root,
+         * but these can be overridden.
+         *
+         * <p>Use this constructor with a {@link FHIRPathTree#lazyTree(Resource) lazy tree} to avoid building
+         * the nodes for parts of the resource that are never navigated.
+         *
+         * @param tree
+         *     the FHIRPath tree
+         */
+        public EvaluationContext(FHIRPathTree tree) {
             this.tree = tree;
+            if (tree != null && tree.getRoot().isResourceNode()) {
+                externalConstantMap.put("rootResource", singleton(tree.getRoot()));
+                externalConstantMap.put("resource", singleton(tree.getRoot()));
+            }
         }
 
         /**
@@ -1528,6 +1890,47 @@ public class FHIRPathEvaluator {
             return resolveRelativeReferences;
         }
 
+        /**
+         * Set the cache path results indicator
+         *
+         * <p>When set, the results of path expressions (member invocations and type casts such as
+         * {@code Observation.code.coding} or {@code (Observation.value as Quantity)}) that are evaluated against the root
+         * of the tree are cached in this evaluation context and shared by all expressions subsequently evaluated with it.
+         * This avoids navigating common prefixes more than once when many expressions are evaluated against the same
+         * resource. Evaluation listeners are not notified of the sub-expressions of a path expression whose result is
+         * taken from the cache.
+         *
+         * @param cachePathResults
+         *     the cache path results indicator
+         */
+        public void setCachePathResults(boolean cachePathResults) {
+            this.cachePathResults = cachePathResults;
+            if (!cachePathResults) {
+                pathResultCache.clear();
+            }
+        }
+
+        /**
+         * Indicates whether the evaluator using this evaluation context should cache the results of path expressions
+         * that are evaluated against the root of the tree
+         *
+         * @return
+         *     true if the evaluator using this evaluation context should cache the results of path expressions, otherwise false
+         */
+        public boolean cachePathResults() {
+            return cachePathResults;
+        }
+
+        private Collection<FHIRPathNode> getCachedPathResult(String pathKey) {
+            return pathResultCache.get(pathKey);
+        }
+
+        private Collection<FHIRPathNode> cachePathResult(String pathKey, Collection<FHIRPathNode> result) {
+            Collection<FHIRPathNode> cachedResult = Collections.unmodifiableList(new ArrayList<>(result));
+            pathResultCache.put(pathKey, cachedResult);
+            return cachedResult;
+        }
+
         /**
          * Get the cached function result for the given function name, context, and arguments.
          *
@@ -1579,6 +1982,35 @@ public class FHIRPathEvaluator {
             return functionResultCache.containsKey(key);
         }
 
+        /**
+         * Get the memoized result of a computation (e.g. a terminology service call) identified by the given key values,
+         * performing the computation and memoizing its result (which may be null) if it has not been performed yet
+         * using this evaluation context.
+         *
+         * <p>Unlike cached function results, which are keyed by FHIRPath nodes, the key values are typically the
+         * element values that the computation depends on, so that the same value found at different locations in a
+         * resource shares the result.
+         *
+         * @param <T>
+         *     the result type
+         * @param computation
+         *     the computation
+         * @param keyValues
+         *     the values that identify the computation (e.g. the operation name and its arguments)
+         * @return
+         *     the result of the computation
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T memoize(Supplier<T> computation, Object... keyValues) {
+            CacheKey key = key(keyValues);
+            if (memoTable.containsKey(key)) {
+                return (T) memoTable.get(key);
+            }
+            T result = computation.get();
+            memoTable.put(key, result);
+            return result;
+        }
+
         /**
          * Add an evaluation listener to this context.
          *
@@ -177,7 +177,7 @@ public class MemberOfFunction extends FHIRPathAbstractFunction {
     }
 
     private boolean validateCode(FHIRTermService service, ValueSet valueSet, Code code, EvaluationContext evaluationContext, FHIRPathElementNode elementNode, String strength) {
-        ValidationOutcome outcome = service.validateCode(valueSet, code);
+        ValidationOutcome outcome = evaluationContext.memoize(() -> service.validateCode(valueSet, code), "validateCode", valueSet, code);
         if (Boolean.FALSE.equals(outcome.getResult())) {
             generateIssue(outcome, evaluationContext, elementNode, strength);
             return false;
@@ -193,9 +193,9 @@ public class MemberOfFunction extends FHIRPathAbstractFunction {
         if (convertsToCodeSystemValidateCode(valueSet, system, version, code)) {
             // optimization
             CodeSystem codeSystem = getCodeSystem(valueSet, system, version);
-            outcome = service.validateCode(codeSystem, code, display);
+            outcome = evaluationContext.memoize(() -> service.validateCode(codeSystem, code, display), "validateCode", codeSystem, code, display);
         } else {
-            outcome = service.validateCode(valueSet, system, version, code, display);
+            outcome = evaluationContext.memoize(() -> service.validateCode(valueSet, system, version, code, display), "validateCode", valueSet, system, version, code, display);
         }
         if (Boolean.FALSE.equals(outcome.getResult())) {
             generateIssue(outcome, evaluationContext, elementNode, strength);
@@ -209,9 +209,9 @@ public class MemberOfFunction extends FHIRPathAbstractFunction {
         if (convertsToCodeSystemValidateCode(valueSet, coding)) {
             // optimization
             CodeSystem codeSystem = getCodeSystem(valueSet, coding);
-            outcome = service.validateCode(codeSystem, coding);
+            outcome = evaluationContext.memoize(() -> service.validateCode(codeSystem, coding), "validateCode", codeSystem, coding);
         } else {
-            outcome = service.validateCode(valueSet, coding);
+            outcome = evaluationContext.memoize(() -> service.validateCode(valueSet, coding), "validateCode", valueSet, coding);
         }
         if (Boolean.FALSE.equals(outcome.getResult())) {
             generateIssue(outcome, evaluationContext, elementNode, strength);
@@ -226,7 +226,7 @@ public class MemberOfFunction extends FHIRPathAbstractFunction {
             // optimization
             for (Coding coding : codeableConcept.getCoding()) {
                 CodeSystem codeSystem = getCodeSystem(valueSet, coding);
-                outcome = service.validateCode(codeSystem, coding);
+                outcome = evaluationContext.memoize(() -> service.validateCode(codeSystem, coding), "validateCode", codeSystem, coding);
                 if (Boolean.TRUE.equals(outcome.getResult())) {
                     break;
                 }
@@ -238,7 +238,7 @@ public class MemberOfFunction extends FHIRPathAbstractFunction {
                         .build();
             }
         } else {
-            outcome = service.validateCode(valueSet, codeableConcept);
+            outcome = evaluationContext.memoize(() -> service.validateCode(valueSet, codeableConcept), "validateCode", valueSet, codeableConcept);
         }
         if (Boolean.FALSE.equals(outcome.getResult())) {
             generateIssue(outcome, evaluationContext, elementNode, strength);
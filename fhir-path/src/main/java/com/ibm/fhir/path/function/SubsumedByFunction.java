@@ -47,7 +47,7 @@ public class SubsumedByFunction extends FHIRPathAbstractTermFunction {
         Coding codingA = getCoding(evaluationContext.getTree(), getElementNode(context));
         Coding codingB = getCoding(evaluationContext.getTree(), getElementNode(arguments.get(0)));
 
-        ConceptSubsumptionOutcome outcome = service.subsumes(codingA, codingB);
+        ConceptSubsumptionOutcome outcome = evaluationContext.memoize(() -> service.subsumes(codingA, codingB), "subsumes", codingA, codingB);
 
         if (outcome == null) {
             generateIssue(evaluationContext, IssueSeverity.ERROR, IssueType.NOT_SUPPORTED, "Subsumption cannot be tested", getElementNode(context).path());
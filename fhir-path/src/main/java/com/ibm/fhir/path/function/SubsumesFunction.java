@@ -60,7 +60,7 @@ public class SubsumesFunction extends FHIRPathAbstractTermFunction {
                 getCoding(evaluationContext.getTree(), getElementNode(arguments.get(0))) :
                 getCoding(evaluationContext.getTree(), getElementNode(arguments.get(1)));
 
-        ConceptSubsumptionOutcome outcome = service.subsumes(codingA, codingB);
+        ConceptSubsumptionOutcome outcome = evaluationContext.memoize(() -> service.subsumes(codingA, codingB), "subsumes", codingA, codingB);
 
         if (outcome == null) {
             generateIssue(evaluationContext, IssueSeverity.ERROR, IssueType.NOT_SUPPORTED, "Subsumption cannot be tested", (arguments.size() == 1) ? getElementNode(context).path() : "%terminologies");
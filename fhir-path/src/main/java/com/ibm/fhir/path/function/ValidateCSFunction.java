@@ -76,9 +76,10 @@ public class ValidateCSFunction extends FHIRPathAbstractTermFunction {
             return empty();
         }
         Parameters parameters = getParameters(arguments);
-        ValidationOutcome outcome = codedElement.is(CodeableConcept.class) ?
+        ValidationOutcome outcome = evaluationContext.memoize(() -> codedElement.is(CodeableConcept.class) ?
                 service.validateCode(codeSystem, codedElement.as(CodeableConcept.class), ValidationParameters.from(parameters)) :
-                service.validateCode(codeSystem, codedElement.as(Coding.class), ValidationParameters.from(parameters));
+                service.validateCode(codeSystem, codedElement.as(Coding.class), ValidationParameters.from(parameters)),
+                getName(), codeSystem, codedElement, parameters);
         if (Boolean.FALSE.equals(outcome.getResult()) && outcome.getMessage() != null) {
             generateIssue(evaluationContext, IssueSeverity.ERROR, IssueType.CODE_INVALID, outcome.getMessage().getValue(), "%terminologies");
         }
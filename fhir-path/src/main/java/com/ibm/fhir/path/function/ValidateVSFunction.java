@@ -73,9 +73,10 @@ public class ValidateVSFunction extends FHIRPathAbstractTermFunction {
         FHIRPathElementNode codedElementNode = getElementNode(arguments.get(1));
         Element codedElement = getCodedElement(evaluationContext.getTree(), codedElementNode);
         Parameters parameters = getParameters(arguments);
-        ValidationOutcome outcome = codedElement.is(CodeableConcept.class) ?
+        ValidationOutcome outcome = evaluationContext.memoize(() -> codedElement.is(CodeableConcept.class) ?
                 service.validateCode(valueSet, codedElement.as(CodeableConcept.class), ValidationParameters.from(parameters)) :
-                service.validateCode(valueSet, codedElement.as(Coding.class), ValidationParameters.from(parameters));
+                service.validateCode(valueSet, codedElement.as(Coding.class), ValidationParameters.from(parameters)),
+                getName(), valueSet, codedElement, parameters);
         if (Boolean.FALSE.equals(outcome.getResult()) && outcome.getMessage() != null) {
             generateIssue(evaluationContext, IssueSeverity.ERROR, IssueType.CODE_INVALID, outcome.getMessage().getValue(), "%terminologies");
         }
@@ -27,12 +27,25 @@ public class FHIRPathPatch implements FHIRPatch {
         this.operations = Collections.unmodifiableList(builder.operations);
     }
 
+    /**
+     * Apply the operations of this patch to the passed resource, in order.
+     *
+     * <p>Consecutive operations whose targets don't depend on each other are evaluated against the same tree and applied
+     * in a single traversal of the resource; see {@link FHIRPathPatchBatch}. The result, including any error, is the
+     * same as if each operation was applied to the result of the previous one.
+     */
     @Override
     public <T extends Resource> T apply(T resource) throws FHIRPatchException {
+        FHIRPathPatchBatch<T> batch = new FHIRPathPatchBatch<>(resource);
         for (FHIRPathPatchOperation fhirPathPatchOperation : operations) {
-            resource = fhirPathPatchOperation.apply(resource);
+            if (!batch.add(fhirPathPatchOperation)) {
+                batch = new FHIRPathPatchBatch<>(batch.apply());
+                if (!batch.add(fhirPathPatchOperation)) {
+                    batch = new FHIRPathPatchBatch<>(fhirPathPatchOperation.apply(batch.apply()));
+                }
+            }
         }
-        return resource;
+        return batch.apply();
     }
 
     /**
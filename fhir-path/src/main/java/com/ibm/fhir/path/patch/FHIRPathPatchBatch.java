@@ -0,0 +1,499 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.patch;
+
+import static com.ibm.fhir.path.util.FHIRPathUtil.getSingleton;
+import static com.ibm.fhir.path.util.FHIRPathUtil.isSingleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ibm.fhir.model.patch.exception.FHIRPatchException;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Element;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.model.visitor.CopyingVisitor;
+import com.ibm.fhir.model.visitor.Visitable;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathTree;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.exception.FHIRPathException;
+
+/**
+ * A run of consecutive FHIRPath Patch operations which are evaluated against the same FHIRPathTree and applied to
+ * the resource in a single traversal.
+ *
+ * <p>An operation is only added to a batch if evaluating it against the resource of the batch gives the same result as
+ * evaluating it against the result of the operations before it. This is the case when its path is a simple member
+ * path (identifiers and indexers only), which depends on nothing but the elements along the path, and none of the
+ * operations before it in the batch modified one of those elements or an element below them. The only exception are
+ * operations which change the items of the same list (add, insert, move and delete of an item); they are applied one
+ * after the other to the copy of that list.
+ *
+ * <p>Any operation that can't be added, including an operation whose evaluation fails, ends the batch. If applying
+ * the batch fails, its operations are applied one at a time instead, so that the error is reported exactly as if
+ * the operations had not been batched.
+ */
+class FHIRPathPatchBatch<T extends Resource> {
+    private static final Pattern SIMPLE_PATH = Pattern.compile("[A-Za-z][A-Za-z0-9_]*(\\[[0-9]+\\])?(\\.[A-Za-z][A-Za-z0-9_]*(\\[[0-9]+\\])?)*");
+    private static final Pattern INDEXER = Pattern.compile("\\[[0-9]+\\]");
+    private static final Pattern TRAILING_INDEXER = Pattern.compile("(.*)\\[([0-9]+)\\]");
+
+    private final T resource;
+    private final FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+    private final EvaluationContext evaluationContext;
+    private final PatchingVisitor visitor = new PatchingVisitor();
+
+    private final List<FHIRPathPatchOperation> operations = new ArrayList<>();
+    private final List<Edit> edits = new ArrayList<>();
+    private final Map<String, ListEdit> listEdits = new LinkedHashMap<>();
+
+    // The paths (without indexers) of the elements modified by the operations of the batch
+    private final List<Modification> modifications = new ArrayList<>();
+
+    FHIRPathPatchBatch(T resource) {
+        this.resource = resource;
+        this.evaluationContext = new EvaluationContext(FHIRPathTree.lazyTree(resource));
+    }
+
+    /**
+     * Add an operation to this batch
+     *
+     * @return true if the operation was added; false if it must be applied to the result of this batch instead
+     */
+    boolean add(FHIRPathPatchOperation operation) {
+        try {
+            boolean added;
+            if (operation instanceof FHIRPathPatchAdd) {
+                FHIRPathPatchAdd add = (FHIRPathPatchAdd) operation;
+                added = isBatchable(add.fhirPath) && add(add.fhirPath, add.name, add.value);
+            } else if (operation instanceof FHIRPathPatchDelete) {
+                FHIRPathPatchDelete delete = (FHIRPathPatchDelete) operation;
+                added = isBatchable(delete.fhirPath) && delete(delete.fhirPath);
+            } else if (operation instanceof FHIRPathPatchInsert) {
+                FHIRPathPatchInsert insert = (FHIRPathPatchInsert) operation;
+                added = isBatchable(insert.fhirPath) && insert(insert.fhirPath, insert.index, insert.value);
+            } else if (operation instanceof FHIRPathPatchMove) {
+                FHIRPathPatchMove move = (FHIRPathPatchMove) operation;
+                added = isBatchable(move.fhirPath) && move(move.fhirPath, move.source, move.destination);
+            } else if (operation instanceof FHIRPathPatchReplace) {
+                FHIRPathPatchReplace replace = (FHIRPathPatchReplace) operation;
+                added = isBatchable(replace.fhirPath) && replace(replace.fhirPath, replace.value);
+            } else {
+                added = false;
+            }
+            if (added) {
+                operations.add(operation);
+            }
+            return added;
+        } catch (FHIRPathException | RuntimeException e) {
+            // the operation is applied on its own, which reports the error
+            return false;
+        }
+    }
+
+    /**
+     * Apply the operations of this batch to its resource
+     */
+    T apply() throws FHIRPatchException {
+        if (edits.isEmpty() && listEdits.isEmpty()) {
+            return resource;
+        }
+        try {
+            resource.accept(visitor);
+            return visitor.getResult();
+        } catch (RuntimeException e) {
+            // apply the operations one at a time, to fail with the error of the first operation that fails
+            T result = resource;
+            for (FHIRPathPatchOperation operation : operations) {
+                result = operation.apply(result);
+            }
+            return result;
+        }
+    }
+
+    private boolean isBatchable(String fhirPath) {
+        return operations.isEmpty() || SIMPLE_PATH.matcher(fhirPath).matches();
+    }
+
+    private boolean add(String fhirPath, String elementName, Element value) throws FHIRPathException {
+        FHIRPathNode node = evaluateToSingle(fhirPath);
+        if (node == null) {
+            return false;
+        }
+        Visitable parent = visitable(node);
+        if (ModelSupport.isRepeatingElement(parent.getClass(), elementName)) {
+            ListEdit listEdit = getListEdit(node, parent, elementName);
+            if (listEdit == null) {
+                return false;
+            }
+            Visitable item = value instanceof Code ? visitor.convertToCodeSubtype(parent, elementName, (Code) value) : value;
+            listEdit.change((list, type) -> {
+                if (!type.isAssignableFrom(item.getClass())) {
+                    throw new IllegalStateException("target " + type + " is not assignable from " + item.getClass());
+                }
+                list.add(item);
+            });
+            listEdit.size++;
+            return true;
+        }
+
+        String path = node.path() + "." + elementName;
+        if (isModified(path, null)) {
+            return false;
+        }
+        Visitable element = value instanceof Code ? visitor.convertToCodeSubtype(parent, elementName, (Code) value) : value;
+        edits.add(new Edit(EditType.ADD, node.path(), elementName, element));
+        modifications.add(new Modification(path, null));
+        return true;
+    }
+
+    private boolean delete(String fhirPath) throws FHIRPathException {
+        FHIRPathNode node = evaluateToSingle(fhirPath);
+        if (node == null) {
+            return false;
+        }
+
+        if (node.path().endsWith("]")) {
+            // an item of a list
+            FHIRPathNode parentNode = getTree().getParent(node);
+            String listPath = parentNode.path() + "." + node.name();
+            int index;
+            if (listEdits.containsKey(listPath)) {
+                // the indexer selects an item of the list as changed by the operations before it
+                Matcher matcher = TRAILING_INDEXER.matcher(fhirPath);
+                if (!matcher.matches() || !isList(evaluator.evaluate(evaluationContext, matcher.group(1)), parentNode, node.name())) {
+                    return false;
+                }
+                index = Integer.parseInt(matcher.group(2));
+            } else {
+                index = Integer.parseInt(node.path().substring(node.path().lastIndexOf('[') + 1, node.path().length() - 1));
+            }
+            ListEdit listEdit = getListEdit(parentNode, visitable(parentNode), node.name());
+            if (listEdit == null || index >= listEdit.size) {
+                return false;
+            }
+            listEdit.change((list, type) -> list.remove(index));
+            listEdit.size--;
+            return true;
+        }
+
+        if (isModified(node.path(), null)) {
+            return false;
+        }
+        edits.add(new Edit(EditType.DELETE, node.path(), node.name(), null));
+        modifications.add(new Modification(node.path(), null));
+        return true;
+    }
+
+    private boolean insert(String fhirPath, int index, Element value) throws FHIRPathException {
+        ListEdit listEdit = getListEdit(fhirPath);
+        if (listEdit == null || index > listEdit.size || listEdit.size == 0) {
+            return false;
+        }
+        Visitable item = value instanceof Code ? visitor.convertToCodeSubtype(listEdit.parent, listEdit.elementName, (Code) value) : value;
+        listEdit.change((list, type) -> {
+            if (!type.isInstance(item)) {
+                throw new IllegalStateException("target " + type + " is not assignable from " + item.getClass());
+            }
+            list.add(index, item);
+        });
+        listEdit.size++;
+        return true;
+    }
+
+    private boolean move(String fhirPath, int source, int destination) throws FHIRPathException {
+        ListEdit listEdit = getListEdit(fhirPath);
+        if (listEdit == null || source >= listEdit.size || destination >= listEdit.size) {
+            return false;
+        }
+        if (source != destination) {
+            listEdit.change((list, type) -> list.add(destination, list.remove(source)));
+        }
+        return true;
+    }
+
+    private boolean replace(String fhirPath, Element value) throws FHIRPathException {
+        FHIRPathNode node = evaluateToSingle(fhirPath);
+        if (node == null) {
+            return false;
+        }
+        FHIRPathNode parentNode = getTree().getParent(node);
+        if (parentNode == null || isModified(node.path(), null)) {
+            return false;
+        }
+        Visitable element = value instanceof Code ? visitor.convertToCodeSubtype(visitable(parentNode), node.name(), (Code) value) : value;
+        edits.add(new Edit(EditType.REPLACE, node.path(), node.name(), element));
+        modifications.add(new Modification(node.path(), null));
+        return true;
+    }
+
+    /**
+     * Get the edit of the list selected by the passed FHIRPath expression, for an insert or move
+     *
+     * @return the list edit, or null if the expression does not select all the items of a single list, or the list
+     *     cannot be changed in this batch
+     */
+    private ListEdit getListEdit(String fhirPath) throws FHIRPathException {
+        if (fhirPath.endsWith("]")) {
+            return null;
+        }
+        Collection<FHIRPathNode> nodes = evaluator.evaluate(evaluationContext, fhirPath);
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        FHIRPathNode first = nodes.iterator().next();
+        FHIRPathNode parentNode = getTree().getParent(first);
+        if (parentNode == null || !isList(nodes, parentNode, first.name()) || nodes.size() != size(parentNode, first.name())) {
+            return null;
+        }
+        return getListEdit(parentNode, visitable(parentNode), first.name());
+    }
+
+    /**
+     * Get the edit of a list, creating it if needed
+     *
+     * @return the list edit, or null if the list cannot be changed in this batch
+     */
+    private ListEdit getListEdit(FHIRPathNode parentNode, Visitable parent, String elementName) {
+        String listPath = parentNode.path() + "." + elementName;
+        ListEdit listEdit = listEdits.get(listPath);
+        if (listEdit == null) {
+            if (isModified(listPath, listPath)) {
+                return null;
+            }
+            listEdit = new ListEdit(parentNode.path(), elementName, parent, size(parentNode, elementName));
+            listEdits.put(listPath, listEdit);
+            modifications.add(new Modification(listPath, listPath));
+        } else if (isModified(listPath, listPath)) {
+            return null;
+        }
+        return listEdit;
+    }
+
+    /**
+     * The number of items of a list in the resource of this batch
+     */
+    private int size(FHIRPathNode parentNode, String elementName) {
+        int size = 0;
+        for (FHIRPathNode child : parentNode.children()) {
+            if (elementName.equals(child.name())) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Indicates whether all the passed nodes are items of the same list
+     */
+    private boolean isList(Collection<FHIRPathNode> nodes, FHIRPathNode parentNode, String elementName) {
+        for (FHIRPathNode node : nodes) {
+            if (!elementName.equals(node.name()) || getTree().getParent(node) != parentNode) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates whether an operation of this batch modified an element along the passed path or below it, other than
+     * the items of the passed list
+     *
+     * @param path
+     *     the path of the element an operation reads or modifies
+     * @param listPath
+     *     the path of the list whose items are changed by the operation, or null
+     */
+    private boolean isModified(String path, String listPath) {
+        String strippedPath = strip(path);
+        for (Modification modification : modifications) {
+            if ((strippedPath.equals(modification.path) || strippedPath.startsWith(modification.path + ".") ||
+                    modification.path.startsWith(strippedPath + ".")) &&
+                    (listPath == null || !listPath.equals(modification.listPath))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FHIRPathNode evaluateToSingle(String fhirPath) throws FHIRPathException {
+        Collection<FHIRPathNode> nodes = evaluator.evaluate(evaluationContext, fhirPath);
+        return isSingleton(nodes) ? getSingleton(nodes) : null;
+    }
+
+    private FHIRPathTree getTree() {
+        return evaluationContext.getTree();
+    }
+
+    private static Visitable visitable(FHIRPathNode node) {
+        return node.isResourceNode() ? node.asResourceNode().resource() : node.asElementNode().element();
+    }
+
+    private static String strip(String path) {
+        return INDEXER.matcher(path).replaceAll("");
+    }
+
+    private enum EditType {
+        ADD, DELETE, REPLACE
+    }
+
+    /**
+     * A change of a single element
+     */
+    private static class Edit {
+        private final EditType type;
+        // the path of the element to delete or replace, or of the parent of the element to add
+        private final String path;
+        private final String elementName;
+        private final Visitable value;
+
+        private Edit(EditType type, String path, String elementName, Visitable value) {
+            this.type = type;
+            this.path = path;
+            this.elementName = elementName;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The changes of the items of a list, in order
+     */
+    private static class ListEdit {
+        private final String parentPath;
+        private final String elementName;
+        private final Visitable parent;
+        private final List<BiConsumer<List<Visitable>, Class<?>>> changes = new ArrayList<>();
+        // the number of items after the changes so far
+        private int size;
+
+        private ListEdit(String parentPath, String elementName, Visitable parent, int size) {
+            this.parentPath = parentPath;
+            this.elementName = elementName;
+            this.parent = parent;
+            this.size = size;
+        }
+
+        private void change(BiConsumer<List<Visitable>, Class<?>> change) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * An element modified by an operation of the batch
+     */
+    private static class Modification {
+        // the path of the element without indexers
+        private final String path;
+        // the path of the list whose items are changed, or null if the element itself is modified
+        private final String listPath;
+
+        private Modification(String path, String listPath) {
+            this.path = strip(path);
+            this.listPath = listPath;
+        }
+    }
+
+    /**
+     * Applies all the edits of the batch in a single traversal of the resource
+     */
+    private class PatchingVisitor extends CopyingVisitor<T> {
+        // the value of the add edit which is being added
+        private Visitable adding;
+
+        @Override
+        public boolean visit(String elementName, int index, Visitable value) {
+            if (value == adding) {
+                markDirty();
+                return false;
+            }
+            String path = getPath();
+            boolean onPath = false;
+            for (Edit edit : edits) {
+                switch (edit.type) {
+                case ADD:
+                    String elementPath = edit.path + "." + edit.elementName;
+                    if (path.equals(elementPath)) {
+                        throw new IllegalStateException("Add cannot replace an existing value at " + path);
+                    }
+                    onPath = onPath || isOnPath(elementPath);
+                    break;
+                case DELETE:
+                    if (path.equals(edit.path)) {
+                        delete();
+                        return false;
+                    }
+                    onPath = onPath || isOnPath(edit.path);
+                    break;
+                case REPLACE:
+                    if (path.equals(edit.path)) {
+                        if (edit.value instanceof Element) {
+                            replace(((Element) edit.value).toBuilder());
+                        } else if (edit.value instanceof Resource) {
+                            replace(((Resource) edit.value).toBuilder());
+                        }
+                        return false;
+                    }
+                    onPath = onPath || isOnPath(edit.path);
+                    break;
+                }
+            }
+            for (ListEdit listEdit : listEdits.values()) {
+                onPath = onPath || isOnPath(listEdit.parentPath + "." + listEdit.elementName);
+            }
+            return onPath;
+        }
+
+        @Override
+        protected void doVisitListEnd(String elementName, List<? extends Visitable> visitables, Class<?> type) {
+            ListEdit listEdit = listEdits.get(getPath() + "." + elementName);
+            if (listEdit != null && !listEdit.changes.isEmpty()) {
+                for (BiConsumer<List<Visitable>, Class<?>> change : listEdit.changes) {
+                    change.accept(getList(), type);
+                }
+                markListDirty();
+            }
+        }
+
+        @Override
+        protected void doVisitEnd(String elementName, int elementIndex, Resource resource) {
+            addElements();
+        }
+
+        @Override
+        protected void doVisitEnd(String elementName, int elementIndex, Element element) {
+            addElements();
+        }
+
+        private void addElements() {
+            String path = getPath();
+            for (Edit edit : edits) {
+                if (edit.type == EditType.ADD && path.equals(edit.path)) {
+                    adding = edit.value;
+                    try {
+                        edit.value.accept(edit.elementName, this);
+                    } finally {
+                        adding = null;
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected Code convertToCodeSubtype(Visitable parent, String elementName, Code value) {
+            return super.convertToCodeSubtype(parent, elementName, value);
+        }
+    }
+}
@@ -56,7 +56,7 @@ class AddingVisitor<T extends Visitable> extends CopyingVisitor<T> {
                 throw new IllegalStateException("Add cannot replace an existing value at " + getPath());
             }
         }
-        return true;
+        return isOnPath(path + "." + elementNameToAdd);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2020
+ * (C) Copyright IBM Corp. 2020, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -24,6 +24,6 @@ class DeletingVisitor<T extends Visitable> extends CopyingVisitor<T> {
             markDirty();
             return false;
         }
-        return true;
+        return isOnPath(pathToDelete);
     }
 }
\ No newline at end of file
@@ -0,0 +1,296 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.util;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonWriter;
+
+/**
+ * A profiler that records per-expression metrics for top-level evaluations performed by the {@link FHIRPathEvaluator}
+ *
+ * <p>When enabled, every evaluation of an expression is counted, and one in every {@link #getSampleRate() sampleRate}
+ * evaluations (chosen at random) is timed and its result cardinality is recorded. The profiler is disabled by default.
+ *
+ * <p>The metrics are available programmatically through {@link #getMetrics()}, as a JSON report through {@link #getReport()},
+ * and through JMX once the profiler has been {@link #registerMBean() registered} with the platform MBean server.
+ */
+public final class FHIRPathProfiler implements FHIRPathProfilerMXBean {
+    private static final Logger log = Logger.getLogger(FHIRPathProfiler.class.getName());
+
+    public static final String OBJECT_NAME = "com.ibm.fhir.path:type=FHIRPathProfiler";
+    public static final int DEFAULT_SAMPLE_RATE = 1;
+    public static final int MAX_EXPRESSIONS = 4096;
+
+    private static final FHIRPathProfiler INSTANCE = new FHIRPathProfiler();
+    private static final JsonBuilderFactory BUILDER_FACTORY = Json.createBuilderFactory(null);
+
+    private final Map<String, ExpressionMetrics> metricsMap = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = false;
+    private volatile int sampleRate = DEFAULT_SAMPLE_RATE;
+
+    private FHIRPathProfiler() { }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Set the sample rate of this profiler
+     *
+     * @param sampleRate
+     *     time one in every sampleRate evaluations; must be positive
+     * @throws IllegalArgumentException
+     *     if the sample rate is not positive
+     */
+    @Override
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public int getExpressionCount() {
+        return metricsMap.size();
+    }
+
+    /**
+     * Indicates whether the next evaluation should be timed
+     *
+     * @return
+     *     true if the next evaluation should be timed, false otherwise
+     */
+    public boolean sample() {
+        int sampleRate = this.sampleRate;
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Record an evaluation of an expression that was not timed
+     *
+     * @param expr
+     *     the expression
+     */
+    public void record(String expr) {
+        ExpressionMetrics metrics = getOrCreateMetrics(expr);
+        if (metrics != null) {
+            metrics.invocations.increment();
+        }
+    }
+
+    /**
+     * Record a timed evaluation of an expression
+     *
+     * @param expr
+     *     the expression
+     * @param elapsedNanos
+     *     the elapsed time of the evaluation in nanoseconds
+     * @param resultSize
+     *     the number of nodes in the result of the evaluation
+     */
+    public void record(String expr, long elapsedNanos, int resultSize) {
+        ExpressionMetrics metrics = getOrCreateMetrics(expr);
+        if (metrics != null) {
+            metrics.invocations.increment();
+            metrics.sampledInvocations.increment();
+            metrics.totalNanos.add(elapsedNanos);
+            metrics.maxNanos.accumulate(elapsedNanos);
+            metrics.totalResultSize.add(resultSize);
+        }
+    }
+
+    private ExpressionMetrics getOrCreateMetrics(String expr) {
+        ExpressionMetrics metrics = metricsMap.get(expr);
+        if (metrics == null) {
+            if (metricsMap.size() >= MAX_EXPRESSIONS) {
+                // bound the memory used by the profiler
+                return null;
+            }
+            metrics = metricsMap.computeIfAbsent(expr, ExpressionMetrics::new);
+        }
+        return metrics;
+    }
+
+    /**
+     * Get the metrics of the profiled expressions
+     *
+     * @return
+     *     an unmodifiable map of expression to metrics
+     */
+    public Map<String, ExpressionMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metricsMap);
+    }
+
+    /**
+     * Get the metrics of the given expression
+     *
+     * @param expr
+     *     the expression
+     * @return
+     *     the metrics of the expression, or null if the expression has not been profiled
+     */
+    public ExpressionMetrics getMetrics(String expr) {
+        return metricsMap.get(expr);
+    }
+
+    @Override
+    public String getReport() {
+        List<ExpressionMetrics> sorted = new ArrayList<>(metricsMap.values());
+        sorted.sort(Comparator.comparingLong(ExpressionMetrics::getEstimatedTotalNanos).reversed());
+
+        JsonArrayBuilder expressions = BUILDER_FACTORY.createArrayBuilder();
+        for (ExpressionMetrics metrics : sorted) {
+            expressions.add(BUILDER_FACTORY.createObjectBuilder()
+                .add("expression", metrics.getExpression())
+                .add("invocations", metrics.getInvocations())
+                .add("sampledInvocations", metrics.getSampledInvocations())
+                .add("totalNanos", metrics.getTotalNanos())
+                .add("meanNanos", metrics.getMeanNanos())
+                .add("maxNanos", metrics.getMaxNanos())
+                .add("estimatedTotalNanos", metrics.getEstimatedTotalNanos())
+                .add("meanResultSize", metrics.getMeanResultSize()));
+        }
+        JsonObject report = BUILDER_FACTORY.createObjectBuilder()
+            .add("enabled", enabled)
+            .add("sampleRate", sampleRate)
+            .add("expressions", expressions)
+            .build();
+
+        StringWriter writer = new StringWriter();
+        try (JsonWriter jsonWriter = Json.createWriter(writer)) {
+            jsonWriter.writeObject(report);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public void reset() {
+        metricsMap.clear();
+    }
+
+    /**
+     * Register the profiler with the platform MBean server under {@link #OBJECT_NAME} (if not already registered)
+     */
+    public static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(INSTANCE, objectName);
+            }
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Unable to register FHIRPathProfiler MBean", e);
+        }
+    }
+
+    /**
+     * Get the singleton instance of this class
+     *
+     * @return
+     *     the singleton instance of this class
+     */
+    public static FHIRPathProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The metrics recorded for a single expression
+     */
+    public static class ExpressionMetrics {
+        private final String expression;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder sampledInvocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder totalResultSize = new LongAdder();
+
+        private ExpressionMetrics(String expression) {
+            this.expression = expression;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        /**
+         * The number of evaluations of the expression
+         */
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * The number of timed evaluations of the expression
+         */
+        public long getSampledInvocations() {
+            return sampledInvocations.sum();
+        }
+
+        /**
+         * The cumulative time of the timed evaluations in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getMeanNanos() {
+            long sampled = getSampledInvocations();
+            return (sampled == 0) ? 0 : getTotalNanos() / sampled;
+        }
+
+        /**
+         * The cumulative time of all evaluations in nanoseconds, extrapolated from the timed evaluations
+         */
+        public long getEstimatedTotalNanos() {
+            return getMeanNanos() * getInvocations();
+        }
+
+        public double getMeanResultSize() {
+            long sampled = getSampledInvocations();
+            return (sampled == 0) ? 0 : (double) totalResultSize.sum() / sampled;
+        }
+    }
+}
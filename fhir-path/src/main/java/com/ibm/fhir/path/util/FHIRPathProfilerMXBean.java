@@ -0,0 +1,35 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.util;
+
+/**
+ * The management interface of the {@link FHIRPathProfiler}
+ */
+public interface FHIRPathProfilerMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    int getSampleRate();
+
+    void setSampleRate(int sampleRate);
+
+    int getExpressionCount();
+
+    /**
+     * Get the per-expression metrics as a JSON report
+     *
+     * @return
+     *     the JSON report
+     */
+    String getReport();
+
+    /**
+     * Discard all metrics
+     */
+    void reset();
+}
@@ -43,4 +43,9 @@ class InsertingVisitor<T extends Visitable> extends CopyingVisitor<T> {
             markListDirty();
         }
     }
+
+    @Override
+    public boolean visit(String elementName, int index, Visitable value) {
+        return isOnPath(parentPath);
+    }
 }
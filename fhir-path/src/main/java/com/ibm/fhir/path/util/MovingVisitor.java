@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2020
+ * (C) Copyright IBM Corp. 2020, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -38,4 +38,9 @@ class MovingVisitor<T extends Visitable> extends CopyingVisitor<T> {
             markListDirty();
         }
     }
+
+    @Override
+    public boolean visit(String elementName, int index, Visitable value) {
+        return isOnPath(parentPath);
+    }
 }
@@ -40,6 +40,6 @@ class ReplacingVisitor<T extends Visitable> extends CopyingVisitor<T> {
             }
             return false;
         }
-        return true;
+        return isOnPath(pathToReplace);
     }
 }
@@ -8,8 +8,10 @@ package com.ibm.fhir.path.patch.test;
 
 import static com.ibm.fhir.model.type.String.string;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -33,6 +35,7 @@ import com.ibm.fhir.model.type.code.AccountStatus;
 import com.ibm.fhir.model.type.code.AdministrativeGender;
 import com.ibm.fhir.model.type.code.DataAbsentReason;
 import com.ibm.fhir.path.patch.FHIRPathPatch;
+import com.ibm.fhir.path.util.FHIRPathUtil;
 
 public class FHIRPathPatchBuilderTest {
     @Test
@@ -60,6 +63,88 @@ public class FHIRPathPatchBuilderTest {
         assertEquals(patchedPatient, patient);
     }
 
+    @Test
+    private void patchBuilderTestMultipleOperations() throws Exception {
+        Patient patient = addViaBuilder(Patient.builder().id("test").build());
+
+        Extension[] extensions = new Extension[5];
+        for (int i = 0; i < extensions.length; i++) {
+            extensions[i] = Extension.builder().url("http://example.com/ext" + i).build();
+        }
+        FHIRPathPatch patch = FHIRPathPatch.builder()
+                .add("Patient", "extension", extensions[0])
+                .add("Patient", "extension", extensions[1])
+                .add("Patient", "extension", extensions[2])
+                .insert("Patient.extension", extensions[3], 0)
+                .move("Patient.extension", 0, 3)
+                .delete("Patient.extension[1]")
+                .replace("Patient.extension[0]", extensions[4])
+                .build();
+
+        Patient patchedPatient = patch.apply(patient);
+        assertEquals(patchedPatient.getExtension(), Arrays.asList(extensions[4], extensions[2], extensions[3]));
+
+        // branches that none of the operations touch are shared with the original resource
+        assertEquals(patchedPatient.getName().size(), patient.getName().size());
+        for (int i = 0; i < patient.getName().size(); i++) {
+            assertSame(patchedPatient.getName().get(i), patient.getName().get(i));
+        }
+        for (int i = 0; i < patient.getContact().size(); i++) {
+            assertSame(patchedPatient.getContact().get(i), patient.getContact().get(i));
+        }
+    }
+
+    @Test
+    private void patchBuilderTestIndependentOperations() throws Exception {
+        Patient patient = addViaBuilder(Patient.builder().id("test").build());
+
+        Extension first = Extension.builder().url("http://example.com/first").build();
+        Extension second = Extension.builder().url("http://example.com/second").build();
+        FHIRPathPatch patch = FHIRPathPatch.builder()
+                .replace("Patient.name[0].family", string("Replaced"))
+                .add("Patient.name[0]", "text", string("Text"))
+                .delete("Patient.name[1]")
+                .add("Patient", "gender", AdministrativeGender.MALE)
+                .add("Patient", "extension", first)
+                .insert("Patient.extension", second, 0)
+                .delete("Patient.extension[1]")
+                .delete("Patient.contact[0].gender")
+                .replace("Patient.active", com.ibm.fhir.model.type.Boolean.FALSE)
+                .add("Patient.name[0].extension", "extension", first)
+                .move("Patient.name[0].extension.extension", 1, 0)
+                .build();
+
+        Patient expected = patient;
+        expected = FHIRPathUtil.replace(expected, "Patient.name[0].family", string("Replaced"));
+        expected = FHIRPathUtil.add(expected, "Patient.name[0]", "text", string("Text"));
+        expected = FHIRPathUtil.delete(expected, "Patient.name[1]");
+        expected = FHIRPathUtil.add(expected, "Patient", "gender", AdministrativeGender.MALE);
+        expected = FHIRPathUtil.add(expected, "Patient", "extension", first);
+        expected = FHIRPathUtil.insert(expected, "Patient.extension", 0, second);
+        expected = FHIRPathUtil.delete(expected, "Patient.extension[1]");
+        expected = FHIRPathUtil.delete(expected, "Patient.contact[0].gender");
+        expected = FHIRPathUtil.replace(expected, "Patient.active", com.ibm.fhir.model.type.Boolean.FALSE);
+        expected = FHIRPathUtil.add(expected, "Patient.name[0].extension", "extension", first);
+        expected = FHIRPathUtil.move(expected, "Patient.name[0].extension.extension", 1, 0);
+
+        Patient patchedPatient = patch.apply(patient);
+        assertEquals(patchedPatient, expected);
+        assertEquals(patchedPatient.getExtension(), Collections.singletonList(second));
+        assertEquals(patchedPatient.getName().size(), 1);
+        assertEquals(patchedPatient.getName().get(0).getExtension().get(0).getExtension().get(0), first);
+    }
+
+    @Test(expectedExceptions = FHIRPatchException.class)
+    private void patchBuilderTestBadOperationAfterIndependentOperations() throws Exception {
+        Patient patient = addViaBuilder(Patient.builder().id("test").build());
+        FHIRPathPatch.builder()
+                .replace("Patient.name[0].family", string("Replaced"))
+                .add("Patient", "gender", AdministrativeGender.MALE)
+                .add("Patient", "active", com.ibm.fhir.model.type.Boolean.FALSE)
+                .build()
+                .apply(patient);
+    }
+
     @Test(expectedExceptions = FHIRPatchException.class)
     private void patchBuilderTestBadAddList() throws Exception {
         Patient patient = Patient.builder().id("test").build();
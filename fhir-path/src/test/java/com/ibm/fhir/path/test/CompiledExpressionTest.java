@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.fhir.path.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_FALSE;
+import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_TRUE;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Boolean;
+import com.ibm.fhir.model.type.Date;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathParser;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationListener;
+import com.ibm.fhir.path.function.FHIRPathAbstractFunction;
+import com.ibm.fhir.path.function.FHIRPathFunction;
+
+/**
+ * Tests for evaluation of compiled (and cached) FHIRPath expressions
+ */
+public class CompiledExpressionTest {
+    private static final Patient PATIENT = Patient.builder()
+            .active(Boolean.TRUE)
+            .birthDate(Date.of("1970-01-01"))
+            .name(HumanName.builder()
+                .family(string("Doe"))
+                .given(string("John"))
+                .build())
+            .build();
+
+    @Test
+    public void testRepeatedEvaluation() throws Exception {
+        String expr = "Patient.name.where(family = 'Doe').given.first() = 'John' and Patient.birthDate < @1980-01-01 and (Patient.active is boolean) and Patient.active.ofType(boolean).exists() and -(1 + 2) = -3";
+        for (int i = 0; i < 3; i++) {
+            Collection<FHIRPathNode> result = FHIRPathEvaluator.evaluator().evaluate(PATIENT, expr);
+            assertEquals(result, SINGLETON_TRUE);
+        }
+    }
+
+    @Test
+    public void testUnresolvedTypeReportedAtEvaluation() throws Exception {
+        Collection<FHIRPathNode> result = FHIRPathEvaluator.evaluator().evaluate(PATIENT, "Patient.active.is(UnknownType)");
+        assertEquals(result, SINGLETON_FALSE);
+    }
+
+    @Test
+    public void testListenerNotifiedOfLiteralTerms() throws Exception {
+        List<ParserRuleContext> literalTerms = new ArrayList<>();
+        EvaluationContext evaluationContext = new EvaluationContext(PATIENT);
+        evaluationContext.addEvaluationListener(new EvaluationListener() {
+            @Override
+            public void beforeEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> context) {
+                if (parserRuleContext instanceof FHIRPathParser.LiteralTermContext) {
+                    literalTerms.add(parserRuleContext);
+                }
+            }
+
+            @Override
+            public void afterEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> result) {
+                // do nothing
+            }
+        });
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        evaluator.evaluate(evaluationContext, "Patient.name.family = 'Doe'");
+        evaluator.evaluate(evaluationContext, "Patient.name.family = 'Doe'");
+        assertEquals(literalTerms.size(), 2);
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        String expr = "Patient.name.where(given = 'John').family = 'Doe' and Patient.active.as(boolean) = true";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Collection<FHIRPathNode>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Callable<Collection<FHIRPathNode>> task = () -> FHIRPathEvaluator.evaluator().evaluate(PATIENT, expr);
+                futures.add(executor.submit(task));
+            }
+            for (Future<Collection<FHIRPathNode>> future : futures) {
+                Collection<FHIRPathNode> result = future.get();
+                assertEquals(result, SINGLETON_TRUE);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFunctionRegisteredAfterCompilation() throws Exception {
+        String expr = "Patient.testRegisteredLater()";
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        FHIRPathFunction.registry().register(new ConstantFunction("testRegisteredLater", SINGLETON_FALSE));
+        assertEquals(evaluator.evaluate(PATIENT, expr), SINGLETON_FALSE);
+        FHIRPathFunction.registry().register(new ConstantFunction("testRegisteredLater", SINGLETON_TRUE));
+        assertEquals(evaluator.evaluate(PATIENT, expr), SINGLETON_TRUE);
+    }
+
+    private static class ConstantFunction extends FHIRPathAbstractFunction {
+        private final String name;
+        private final Collection<FHIRPathNode> result;
+
+        ConstantFunction(String name, Collection<FHIRPathNode> result) {
+            this.name = name;
+            this.result = result;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getMinArity() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxArity() {
+            return 0;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> apply(EvaluationContext evaluationContext, Collection<FHIRPathNode> context, List<Collection<FHIRPathNode>> arguments) {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.util.FHIRPathProfiler;
+import com.ibm.fhir.path.util.FHIRPathProfiler.ExpressionMetrics;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class FHIRPathProfilerTest {
+    private static final Patient PATIENT = Patient.builder()
+            .name(HumanName.builder()
+                .family(string("Doe"))
+                .given(string("John"), string("Jack"))
+                .build())
+            .build();
+
+    private final FHIRPathProfiler profiler = FHIRPathProfiler.getInstance();
+
+    @BeforeMethod
+    public void before() {
+        profiler.reset();
+        profiler.setSampleRate(FHIRPathProfiler.DEFAULT_SAMPLE_RATE);
+        profiler.setEnabled(true);
+    }
+
+    @AfterMethod
+    public void after() {
+        profiler.setEnabled(false);
+        profiler.setSampleRate(FHIRPathProfiler.DEFAULT_SAMPLE_RATE);
+        profiler.reset();
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        for (int i = 0; i < 3; i++) {
+            evaluator.evaluate(PATIENT, "Patient.name.given");
+        }
+
+        ExpressionMetrics metrics = profiler.getMetrics("Patient.name.given");
+        assertNotNull(metrics);
+        assertEquals(metrics.getInvocations(), 3);
+        assertEquals(metrics.getSampledInvocations(), 3);
+        assertEquals(metrics.getMeanResultSize(), 2.0);
+        assertTrue(metrics.getTotalNanos() >= metrics.getMaxNanos());
+
+        JsonObject report = Json.createReader(new StringReader(profiler.getReport())).readObject();
+        assertEquals(report.getJsonArray("expressions").getJsonObject(0).getString("expression"), "Patient.name.given");
+        assertEquals(report.getJsonArray("expressions").getJsonObject(0).getInt("invocations"), 3);
+    }
+
+    @Test
+    public void testSampling() throws Exception {
+        profiler.setSampleRate(Integer.MAX_VALUE);
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        for (int i = 0; i < 10; i++) {
+            evaluator.evaluate(PATIENT, "Patient.name.family");
+        }
+        ExpressionMetrics metrics = profiler.getMetrics("Patient.name.family");
+        assertEquals(metrics.getInvocations(), 10);
+        assertTrue(metrics.getSampledInvocations() <= 1);
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        profiler.setEnabled(false);
+        FHIRPathEvaluator.evaluator().evaluate(PATIENT, "Patient.name.family");
+        assertNull(profiler.getMetrics("Patient.name.family"));
+        assertEquals(profiler.getExpressionCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidSampleRate() {
+        profiler.setSampleRate(0);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathTree;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+
+public class LazyFHIRPathTreeTest {
+    @Test
+    public void testSameNodesAsEagerTree() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/patient-example.json");
+        FHIRPathTree eagerTree = FHIRPathTree.tree(resource);
+        FHIRPathTree lazyTree = FHIRPathTree.lazyTree(resource);
+
+        assertFalse(eagerTree.isLazy());
+        assertTrue(lazyTree.isLazy());
+        assertEquals(describe(lazyTree), describe(eagerTree));
+    }
+
+    @Test
+    public void testGetNode() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/patient-example.json");
+        FHIRPathTree eagerTree = FHIRPathTree.tree(resource);
+        FHIRPathTree lazyTree = FHIRPathTree.lazyTree(resource);
+
+        for (String path : new String[] { "Patient", "Patient.name[1]", "Patient.name[1].given[0]", "Patient.contact[0].telecom[0].system" }) {
+            FHIRPathNode node = lazyTree.getNode(path);
+            assertNotNull(node, path);
+            assertEquals(node.path(), path);
+            assertEquals(node, eagerTree.getNode(path));
+        }
+        assertNull(lazyTree.getNode("Patient.name[10]"));
+        assertNull(lazyTree.getNode("Observation.status"));
+
+        FHIRPathNode given = lazyTree.getNode("Patient.name[1].given[0]");
+        assertSame(lazyTree.getParent(given), lazyTree.getNode("Patient.name[1]"));
+        assertEquals(lazyTree.getSiblings(given).size(), eagerTree.getSiblings(eagerTree.getNode("Patient.name[1].given[0]")).size());
+    }
+
+    @Test
+    public void testChildrenCreatedOnDemand() throws Exception {
+        Patient patient = Patient.builder()
+                .name(HumanName.builder().family(com.ibm.fhir.model.type.String.of("Doe")).build())
+                .build();
+        FHIRPathTree tree = FHIRPathTree.lazyTree(patient);
+        FHIRPathNode name = tree.getRoot().children().iterator().next();
+        Collection<FHIRPathNode> children = name.children();
+        assertSame(name.children(), children);
+        assertEquals(children.iterator().next().path(), "Patient.name[0].family");
+    }
+
+    @Test
+    public void testEvaluation() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/patient-example.json");
+        String expr = "Patient.name.where(use = 'official').given | %resource.contact.telecom.value";
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        Collection<FHIRPathNode> expected = evaluator.evaluate(new EvaluationContext(resource), expr);
+        Collection<FHIRPathNode> actual = evaluator.evaluate(new EvaluationContext(FHIRPathTree.lazyTree(resource)), expr);
+        assertFalse(actual.isEmpty());
+        assertEquals(actual, expected);
+    }
+
+    private List<String> describe(FHIRPathTree tree) {
+        return tree.getRoot().stream()
+                .map(node -> node.name() + "|" + node.path() + "|" + node.type() + "|" + Objects.toString(node.getValue()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Collection;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationListener;
+
+/**
+ * Tests that member chains evaluated through the fast path produce the same results as the visitor
+ */
+public class MemberChainTest {
+    private static final String[] EXPRESSIONS = {
+        "Patient.name.family",
+        "Patient.name.given",
+        "Patient.contact.telecom.value",
+        "Patient.name.period.end",
+        "Patient.name.doesNotExist.family",
+        "Resource.id",
+        "DomainResource.text.status",
+        "Patient.name.where(use = 'official').family",
+        "(Patient.name).given"
+    };
+
+    @Test
+    public void testSameResults() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/patient-example.json");
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+
+        for (String expr : EXPRESSIONS) {
+            Collection<FHIRPathNode> actual = evaluator.evaluate(new EvaluationContext(resource), expr);
+
+            // registering a listener disables the fast path
+            EvaluationContext evaluationContext = new EvaluationContext(resource);
+            evaluationContext.addEvaluationListener(new EvaluationListener() {
+                @Override
+                public void beforeEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> context) {
+                    // do nothing
+                }
+
+                @Override
+                public void afterEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> result) {
+                    // do nothing
+                }
+            });
+            Collection<FHIRPathNode> expected = evaluator.evaluate(evaluationContext, expr);
+
+            assertEquals(actual, expected, expr);
+        }
+    }
+
+    @Test
+    public void testPathResultCache() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/patient-example.json");
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+
+        EvaluationContext cachingContext = new EvaluationContext(resource);
+        cachingContext.setCachePathResults(true);
+
+        for (String expr : EXPRESSIONS) {
+            Collection<FHIRPathNode> expected = evaluator.evaluate(new EvaluationContext(resource), expr);
+            Collection<FHIRPathNode> actual = evaluator.evaluate(cachingContext, expr);
+            assertEquals(actual, expected, expr);
+        }
+    }
+}
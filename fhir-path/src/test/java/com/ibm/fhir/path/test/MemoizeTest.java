@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Coding;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+
+public class MemoizeTest {
+    @Test
+    public void testMemoize() {
+        EvaluationContext evaluationContext = new EvaluationContext(Patient.builder().build());
+        AtomicInteger count = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            // equal (but not identical) values share the memoized result
+            String result = evaluationContext.memoize(() -> "result-" + count.incrementAndGet(), "validateCode", coding("a"));
+            assertEquals(result, "result-1");
+        }
+        assertEquals(count.get(), 1);
+
+        evaluationContext.memoize(() -> "result-" + count.incrementAndGet(), "validateCode", coding("b"));
+        evaluationContext.memoize(() -> "result-" + count.incrementAndGet(), "subsumes", coding("a"));
+        assertEquals(count.get(), 3);
+
+        // a new evaluation context has its own memo table
+        new EvaluationContext(Patient.builder().build()).memoize(() -> "result-" + count.incrementAndGet(), "validateCode", coding("a"));
+        assertEquals(count.get(), 4);
+    }
+
+    @Test
+    public void testMemoizeNull() {
+        EvaluationContext evaluationContext = new EvaluationContext(Patient.builder().build());
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            Object result = evaluationContext.memoize(() -> {
+                count.incrementAndGet();
+                return null;
+            }, "subsumes", coding("a"), coding("b"));
+            assertNull(result);
+        }
+        assertEquals(count.get(), 1);
+    }
+
+    private Coding coding(String code) {
+        return Coding.builder()
+                .system(Uri.of("http://example.com/fhir/CodeSystem/test"))
+                .code(Code.of(code))
+                .display(string(code))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathParser;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationListener;
+
+public class PathResultCacheTest {
+    private static final String[] EXPRESSIONS = {
+        "Observation.code",
+        "Observation.code.coding",
+        "Observation.code.coding.where(system = 'http://loinc.org')",
+        "(Observation.value as Quantity)",
+        "(Observation.value as Quantity).value",
+        "Observation.value.as(Quantity).unit",
+        "Observation.subject",
+        "Observation.subject.where(resolve() is Patient)"
+    };
+
+    @Test
+    public void testSameResults() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/observation-example.json");
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+
+        EvaluationContext cachingContext = new EvaluationContext(resource);
+        assertFalse(cachingContext.cachePathResults());
+        cachingContext.setCachePathResults(true);
+
+        for (int i = 0; i < 2; i++) {
+            for (String expr : EXPRESSIONS) {
+                Collection<FHIRPathNode> expected = evaluator.evaluate(new EvaluationContext(resource), expr);
+                Collection<FHIRPathNode> actual = evaluator.evaluate(cachingContext, expr);
+                assertEquals(actual, expected, expr);
+            }
+        }
+    }
+
+    @Test
+    public void testSharedPrefix() throws Exception {
+        Resource resource = TestUtil.readExampleResource("json/spec/observation-example.json");
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+
+        EvaluationContext evaluationContext = new EvaluationContext(resource);
+        evaluationContext.setCachePathResults(true);
+
+        AtomicInteger memberInvocations = new AtomicInteger();
+        evaluationContext.addEvaluationListener(new EvaluationListener() {
+            @Override
+            public void beforeEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> context) {
+                if (parserRuleContext instanceof FHIRPathParser.MemberInvocationContext) {
+                    memberInvocations.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void afterEvaluation(ParserRuleContext parserRuleContext, Collection<FHIRPathNode> result) {
+                // do nothing
+            }
+        });
+
+        evaluator.evaluate(evaluationContext, "Observation.code.coding");
+        assertEquals(memberInvocations.get(), 3);
+
+        // Observation.code is taken from the cache, only 'text' is navigated
+        Collection<FHIRPathNode> result = evaluator.evaluate(evaluationContext, "Observation.code.text");
+        assertEquals(memberInvocations.get(), 4);
+        assertTrue(result.isEmpty() || result.size() == 1);
+    }
+}
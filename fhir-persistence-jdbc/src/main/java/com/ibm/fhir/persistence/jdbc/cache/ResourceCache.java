@@ -0,0 +1,248 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ibm.fhir.cache.CacheKey;
+import com.ibm.fhir.cache.CacheManager;
+import com.ibm.fhir.cache.CacheManager.Configuration;
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.FHIRPersistence;
+import com.ibm.fhir.persistence.ResourceChangeLogRecord;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
+
+/**
+ * A read-through cache of parsed resources for read and vread, shared by all requests for the same tenant and datastore.
+ *
+ * <p>Entries are stored in {@link CacheManager managed caches}, so each tenant has its own entries, and the keys
+ * include the datastore id. Resource versions are immutable, so the entry for a version is only removed when
+ * it is evicted or the resource is erased. The current version of each logical resource is tracked separately. It is
+ * invalidated when the resource is written through this server and when a write through another server is found in
+ * the RESOURCE_CHANGE_LOG table. The change log is polled by the first request which uses the cache after the poll
+ * interval has passed. A current version may therefore be stale for up to the poll interval, or for up to the time
+ * to live of the entries if a change is committed long after its change timestamp.
+ *
+ * <p>An $erase removes the change log records of the erased resource, so it is only seen by the cache of the server
+ * which performed it. The cache therefore requires a single-node deployment, or a deployment where $erase is not
+ * used; otherwise, other servers may serve erased versions until the entries expire.
+ *
+ * <p>Instances of this class are threadsafe and hold no entries themselves.
+ */
+public class ResourceCache {
+    private static final Logger log = Logger.getLogger(ResourceCache.class.getName());
+
+    public static final String RESOURCE_CACHE_NAME = "com.ibm.fhir.persistence.jdbc.cache.ResourceCache.resourceCache";
+    public static final String CURRENT_VERSION_CACHE_NAME = "com.ibm.fhir.persistence.jdbc.cache.ResourceCache.currentVersionCache";
+
+    // The number of change log records read by each query
+    private static final int CHANGES_PAGE_SIZE = 1000;
+
+    // The number of queries per poll after which the datastore entries are invalidated instead
+    private static final int MAX_CHANGES_PAGES = 10;
+
+    // Changes are read again from this long before the last poll, to see transactions which commit late
+    private static final Duration CHANGE_LOG_OVERLAP = Duration.ofSeconds(5);
+
+    // The change log position of each tenant/datastore
+    private static final Map<String, ChangeLogPosition> POSITIONS = new ConcurrentHashMap<>();
+
+    private final Configuration configuration;
+    private final long pollIntervalMillis;
+
+    /**
+     * Create a resource cache
+     *
+     * @param configuration
+     *     the configuration of the managed caches
+     * @param pollIntervalMillis
+     *     the minimum time between two polls of the change log for a tenant/datastore
+     */
+    public ResourceCache(Configuration configuration, long pollIntervalMillis) {
+        this.configuration = Objects.requireNonNull(configuration, "configuration");
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    /**
+     * Get the cached current version of a logical resource
+     *
+     * @param resourceType
+     * @param logicalId
+     * @return the resource, or null if the current version is not cached
+     */
+    public <T extends Resource> T getCurrent(Class<T> resourceType, String logicalId) {
+        String versionId = currentVersions().getIfPresent(key(resourceType.getSimpleName(), logicalId));
+        return versionId != null ? getVersion(resourceType, logicalId, versionId) : null;
+    }
+
+    /**
+     * Get a cached version of a logical resource
+     *
+     * @param resourceType
+     * @param logicalId
+     * @param versionId
+     * @return the resource, or null if the version is not cached
+     */
+    public <T extends Resource> T getVersion(Class<T> resourceType, String logicalId, String versionId) {
+        Resource resource = resources().getIfPresent(key(resourceType.getSimpleName(), logicalId, versionId));
+        return resourceType.isInstance(resource) ? resourceType.cast(resource) : null;
+    }
+
+    /**
+     * Add a resource version which was read from the database
+     *
+     * @param resource
+     *     the resource, with its logical id and meta.versionId
+     * @param current
+     *     whether the resource was read as the current version of the logical resource
+     */
+    public void put(Resource resource, boolean current) {
+        if (resource.getId() == null || resource.getMeta() == null || resource.getMeta().getVersionId() == null) {
+            return;
+        }
+        String resourceTypeName = resource.getClass().getSimpleName();
+        String versionId = resource.getMeta().getVersionId().getValue();
+        resources().put(key(resourceTypeName, resource.getId(), versionId), resource);
+        if (current) {
+            currentVersions().put(key(resourceTypeName, resource.getId()), versionId);
+        }
+    }
+
+    /**
+     * Invalidate the current version of a logical resource which has been written
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    public void invalidate(String resourceTypeName, String logicalId) {
+        currentVersions().invalidate(key(resourceTypeName, logicalId));
+    }
+
+    /**
+     * Invalidate the current version and all the cached versions of a logical resource which has been erased
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    public void invalidateAll(String resourceTypeName, String logicalId) {
+        invalidate(resourceTypeName, logicalId);
+        String datastoreId = FHIRRequestContext.get().getDataStoreId();
+        resources().asMap().keySet().removeIf(key -> {
+            Object[] values = key.values();
+            return values[0].equals(datastoreId) && values[1].equals(resourceTypeName) && values[2].equals(logicalId);
+        });
+    }
+
+    /**
+     * Read the changes written since the last poll from the change log and invalidate the current version of the changed
+     * resources, if the poll interval has passed. Only one request polls for a tenant/datastore at a time; the others
+     * use the cache as is.
+     *
+     * @param persistence
+     *     the persistence implementation used to read the change log
+     * @throws FHIRPersistenceException
+     */
+    public void pollChanges(FHIRPersistence persistence) throws FHIRPersistenceException {
+        ChangeLogPosition position = POSITIONS.computeIfAbsent(getTenantDatastoreKey(), k -> new ChangeLogPosition());
+        if (System.currentTimeMillis() < position.nextPollTime || !position.lock.tryLock()) {
+            return;
+        }
+
+        try {
+            Instant pollStart = Instant.now();
+            Instant fromTstamp = position.fromTstamp;
+            for (int page = 0; page < MAX_CHANGES_PAGES; page++) {
+                List<ResourceChangeLogRecord> changes = persistence.changes(CHANGES_PAGE_SIZE, fromTstamp, null, null);
+                for (ResourceChangeLogRecord change : changes) {
+                    // changes in the overlap with the previous poll have already been processed
+                    if (position.seenChanges.putIfAbsent(change.getChangeId(), change.getChangeTstamp()) == null) {
+                        invalidate(change.getResourceTypeName(), change.getLogicalId());
+                    }
+                }
+
+                if (changes.size() < CHANGES_PAGE_SIZE) {
+                    Instant lastTstamp = changes.isEmpty() ? pollStart : changes.get(changes.size() - 1).getChangeTstamp();
+                    position.polled(lastTstamp.isAfter(pollStart) ? lastTstamp : pollStart, pollIntervalMillis);
+                    return;
+                }
+
+                // The next page starts at the last change of this page, unless the whole page has the same tstamp
+                Instant lastTstamp = changes.get(changes.size() - 1).getChangeTstamp();
+                if (!lastTstamp.isAfter(fromTstamp)) {
+                    break;
+                }
+                fromTstamp = lastTstamp;
+            }
+
+            // Too many changes to go through; start again from empty caches
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Too many changes since the last poll, invalidating the resource cache for '" + getTenantDatastoreKey() + "'");
+            }
+            invalidateDatastore();
+            position.polled(pollStart, pollIntervalMillis);
+        } finally {
+            position.lock.unlock();
+        }
+    }
+
+    private void invalidateDatastore() {
+        String datastoreId = FHIRRequestContext.get().getDataStoreId();
+        currentVersions().asMap().keySet().removeIf(key -> key.values()[0].equals(datastoreId));
+        resources().asMap().keySet().removeIf(key -> key.values()[0].equals(datastoreId));
+    }
+
+    private Cache<CacheKey, Resource> resources() {
+        return CacheManager.getCache(RESOURCE_CACHE_NAME, configuration);
+    }
+
+    private Cache<CacheKey, String> currentVersions() {
+        return CacheManager.getCache(CURRENT_VERSION_CACHE_NAME, configuration);
+    }
+
+    private CacheKey key(Object... values) {
+        Object[] keyValues = new Object[values.length + 1];
+        keyValues[0] = FHIRRequestContext.get().getDataStoreId();
+        System.arraycopy(values, 0, keyValues, 1, values.length);
+        return CacheKey.key(keyValues);
+    }
+
+    private String getTenantDatastoreKey() {
+        return FHIRRequestContext.get().getTenantId() + "~" + FHIRRequestContext.get().getDataStoreId();
+    }
+
+    /**
+     * The position reached in the change log of a tenant/datastore
+     */
+    private static class ChangeLogPosition {
+        private final Lock lock = new ReentrantLock();
+
+        // The changes read within the overlap, which are read again by the next poll; guarded by the lock
+        private final Map<Long, Instant> seenChanges = new HashMap<>();
+
+        // Nothing is cached before the position is created, so older changes can be ignored
+        private volatile Instant fromTstamp = Instant.now().minus(CHANGE_LOG_OVERLAP);
+        private volatile long nextPollTime = 0;
+
+        private void polled(Instant lastTstamp, long pollIntervalMillis) {
+            this.fromTstamp = lastTstamp.minus(CHANGE_LOG_OVERLAP);
+            this.nextPollTime = System.currentTimeMillis() + pollIntervalMillis;
+            seenChanges.values().removeIf(changeTstamp -> changeTstamp.isBefore(fromTstamp));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.transaction.Synchronization;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+
+/**
+ * Invalidates the resource cache entries of the resources written by a transaction again once the transaction
+ * has completed.
+ *
+ * <p>The entries are first invalidated when the resources are written. Until the transaction commits, other requests
+ * still read the previous version from the database and may add it to the cache again, where it would stay until the
+ * change log poll finds the write. Invalidating again after completion removes these entries.
+ *
+ * <p>One instance is registered per transaction, and it is only used by the thread of that transaction.
+ */
+public class ResourceCacheTransactionSync implements Synchronization {
+    private final ResourceCache resourceCache;
+
+    // The request context of the transaction, which scopes the cache entries
+    private final FHIRRequestContext requestContext;
+
+    // The resources written and erased by the transaction, as resourceType/logicalId pairs
+    private final List<String[]> writtenResources = new ArrayList<>();
+    private final List<String[]> erasedResources = new ArrayList<>();
+
+    /**
+     * Public constructor
+     *
+     * @param resourceCache
+     * @param requestContext
+     *     the request context of the transaction
+     */
+    public ResourceCacheTransactionSync(ResourceCache resourceCache, FHIRRequestContext requestContext) {
+        this.resourceCache = Objects.requireNonNull(resourceCache, "resourceCache");
+        this.requestContext = Objects.requireNonNull(requestContext, "requestContext");
+    }
+
+    /**
+     * Invalidate the current version of a logical resource which is written by the transaction, now and after the
+     * transaction has completed
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    public void resourceWritten(String resourceTypeName, String logicalId) {
+        resourceCache.invalidate(resourceTypeName, logicalId);
+        writtenResources.add(new String[] { resourceTypeName, logicalId });
+    }
+
+    /**
+     * Invalidate the current version and all the cached versions of a logical resource which is erased by the
+     * transaction, now and after the transaction has completed
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    public void resourceErased(String resourceTypeName, String logicalId) {
+        resourceCache.invalidateAll(resourceTypeName, logicalId);
+        erasedResources.add(new String[] { resourceTypeName, logicalId });
+    }
+
+    @Override
+    public void beforeCompletion() {
+        // NOP
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        // Invalidate whatever the outcome; after a rollback the entries are simply read again
+        FHIRRequestContext current = FHIRRequestContext.get();
+        FHIRRequestContext.set(requestContext);
+        try {
+            for (String[] resource : writtenResources) {
+                resourceCache.invalidate(resource[0], resource[1]);
+            }
+            for (String[] resource : erasedResources) {
+                resourceCache.invalidateAll(resource[0], resource[1]);
+            }
+        } finally {
+            FHIRRequestContext.set(current);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.dao.api;
+
+/**
+ * Describes a logical resource queued for deferred indexing
+ */
+public class IndexPendingRecord {
+
+    // The LOGICAL_RESOURCES.LOGICAL_RESOURCE_ID database id
+    private final long logicalResourceId;
+
+    // The resource type of the queued resource
+    private final String resourceType;
+
+    // The resource version which was queued
+    private final int versionId;
+
+    public IndexPendingRecord(long logicalResourceId, String resourceType, int versionId) {
+        this.logicalResourceId = logicalResourceId;
+        this.resourceType = resourceType;
+        this.versionId = versionId;
+    }
+
+    /**
+     * @return the logicalResourceId
+     */
+    public long getLogicalResourceId() {
+        return logicalResourceId;
+    }
+
+    /**
+     * @return the resourceType
+     */
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * @return the versionId
+     */
+    public int getVersionId() {
+        return versionId;
+    }
+}
@@ -64,6 +64,24 @@ public interface ResourceDAO extends FHIRDbDAO {
     List<Resource> history(String resourceType, String logicalId, Timestamp fromDateTime, int offset, int maxResults)
             throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
 
+    /**
+     * Reads and returns the versions of the Resource with the passed logicalId, ordered by descending version id.
+     * If non-null, the passed beforeVersionId is used to limit the returned Resource versions to those with a
+     * lower version id, which allows a page of the version history to be read without skipping over the
+     * versions of the preceding pages.
+     * @param resourceType - The name of a FHIR Resource type
+     * @param logicalId - The logical id of a FHIR Resource
+     * @param fromDateTime - The starting date/time of the version history.
+     * @param beforeVersionId - The version id of the last version of the preceding page, or null
+     * @param offset - The number of versions to skip
+     * @param maxResults - The maximum number of versions to return
+     * @return List<Resource> - An ordered list of Resource versions.
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    List<Resource> history(String resourceType, String logicalId, Timestamp fromDateTime, Integer beforeVersionId, int offset, int maxResults)
+            throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
+
     /**
      * Reads and returns the COUNT of all versions of the Resource with the passed logicalId.
      * If non-null, the passed fromDateTime is used to limit the count of Resource versions to those that were updated after the fromDateTime.
@@ -240,4 +258,36 @@ public interface ResourceDAO extends FHIRDbDAO {
      */
     Resource insert(Resource resource, List<ExtractedParameterValue> parameters, String parameterHashB64, ParameterDAO parameterDao)
             throws FHIRPersistenceException;
+
+    /**
+     * Queue the given version of a logical resource for (deferred) extraction of its search parameters.
+     * If the logical resource is already queued, the queued version is replaced.
+     *
+     * @param resourceType the resource type
+     * @param logicalId the logical id of the resource
+     * @param versionId the version of the resource which was stored without its search parameters
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    void setIndexPending(String resourceType, String logicalId, int versionId) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
+
+    /**
+     * Read the next batch of logical resources queued for extraction of their search parameters
+     *
+     * @param maxCount the maximum number of queued resources to read
+     * @return the queued resources in logical resource id order; empty if no resource is queued
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    List<IndexPendingRecord> readIndexPending(int maxCount) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
+
+    /**
+     * Remove a logical resource from the queue, unless another version has been queued since it was read
+     *
+     * @param logicalResourceId the logical resource id of the queued resource
+     * @param versionId the queued version which has been indexed
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    void deleteIndexPending(long logicalResourceId, int versionId) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
 }
\ No newline at end of file
@@ -21,12 +21,12 @@ import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.GZIPInputStream;
 
 import com.ibm.fhir.database.utils.api.IDatabaseTranslator;
 import com.ibm.fhir.persistence.ResourcePayload;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceDataAccessException;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadSupport;
 
 /**
  * DAO to fetch resource ids using a time range and optional current resource id as a filter.
@@ -132,7 +132,7 @@ public class FetchResourcePayloadsDAO {
                 String logicalId = rs.getString(1);
                 Instant lastUpdated = rs.getTimestamp(2, UTC_CALENDAR).toInstant();
                 long resourceId = rs.getLong(3);
-                InputStream is = new GZIPInputStream(rs.getBinaryStream(4));
+                InputStream is = PayloadSupport.decodeToJson(rs.getBinaryStream(4));
                 result = new ResourcePayload(logicalId, lastUpdated, resourceId, is);
                 Boolean cont = processor.apply(result);
                 if (cont == null || !cont) {
@@ -39,6 +39,7 @@ import com.ibm.fhir.persistence.jdbc.FHIRPersistenceJDBCCache;
 import com.ibm.fhir.persistence.jdbc.JDBCConstants;
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbFlavor;
 import com.ibm.fhir.persistence.jdbc.dao.api.IResourceReferenceDAO;
+import com.ibm.fhir.persistence.jdbc.dao.api.IndexPendingRecord;
 import com.ibm.fhir.persistence.jdbc.dao.api.JDBCIdentityCache;
 import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
 import com.ibm.fhir.persistence.jdbc.dao.api.ResourceDAO;
@@ -69,6 +70,18 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
 
     public static final String DEFAULT_VALUE_REINDEX_TSTAMP = "1970-01-01 00:00:00";
 
+    // Resources stored without their search parameters (deferred indexing) are queued in logical_resource_index_pending
+    private static final String SQL_UPDATE_INDEX_PENDING = "UPDATE logical_resource_index_pending SET version_id = ? "
+            + "WHERE logical_resource_id = (SELECT lr.logical_resource_id FROM logical_resources lr, resource_types rt "
+            + "WHERE rt.resource_type_id = lr.resource_type_id AND rt.resource_type = ? AND lr.logical_id = ?)";
+    private static final String SQL_INSERT_INDEX_PENDING = "INSERT INTO logical_resource_index_pending (%s logical_resource_id, resource_type_id, version_id) "
+            + "SELECT %s lr.logical_resource_id, lr.resource_type_id, ? FROM logical_resources lr, resource_types rt "
+            + "WHERE rt.resource_type_id = lr.resource_type_id AND rt.resource_type = ? AND lr.logical_id = ?";
+    private static final String SQL_READ_INDEX_PENDING = "SELECT p.logical_resource_id, rt.resource_type, p.version_id "
+            + "FROM logical_resource_index_pending p, resource_types rt WHERE rt.resource_type_id = p.resource_type_id "
+            + "ORDER BY p.logical_resource_id FETCH FIRST %d ROWS ONLY";
+    private static final String SQL_DELETE_INDEX_PENDING = "DELETE FROM logical_resource_index_pending WHERE logical_resource_id = ? AND version_id = ?";
+
     // column indices for all our resource reading queries
     public static final int IDX_RESOURCE_ID = 1;
     public static final int IDX_LOGICAL_RESOURCE_ID = 2;
@@ -100,8 +113,12 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
     private static final String SQL_HISTORY =
             "SELECT R.RESOURCE_ID, R.LOGICAL_RESOURCE_ID, R.VERSION_ID, R.LAST_UPDATED, R.IS_DELETED, R.DATA, LR.LOGICAL_ID " +
                     "FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE " +
-                    "LR.LOGICAL_ID = ? AND R.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID " +
-                    "ORDER BY R.VERSION_ID DESC ";
+                    "LR.LOGICAL_ID = ? AND R.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID ";
+
+    // Seek predicate used to read a page of the version history without skipping over the preceding pages
+    private static final String SQL_HISTORY_BEFORE_VERSION = "AND R.VERSION_ID < ? ";
+
+    private static final String SQL_HISTORY_ORDER_BY = "ORDER BY R.VERSION_ID DESC ";
 
     // Count the number of versions we have for the resource identified by its logical-id
     private static final String SQL_HISTORY_COUNT = "SELECT COUNT(R.VERSION_ID) FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE LR.LOGICAL_ID = ? AND " +
@@ -110,8 +127,7 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
     private static final String SQL_HISTORY_FROM_DATETIME =
             "SELECT R.RESOURCE_ID, R.LOGICAL_RESOURCE_ID, R.VERSION_ID, R.LAST_UPDATED, R.IS_DELETED, R.DATA, LR.LOGICAL_ID " +
                     "FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE " +
-                    "LR.LOGICAL_ID = ? AND R.LAST_UPDATED >= ? AND R.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID " +
-                    "ORDER BY R.VERSION_ID DESC ";
+                    "LR.LOGICAL_ID = ? AND R.LAST_UPDATED >= ? AND R.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID ";
 
     private static final String SQL_HISTORY_FROM_DATETIME_COUNT =
             "SELECT COUNT(R.VERSION_ID) FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE LR.LOGICAL_ID = ? AND " +
@@ -278,32 +294,42 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
 
     @Override
     public List<Resource> history(String resourceType, String logicalId, Timestamp fromDateTime, int offset, int maxResults) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        return history(resourceType, logicalId, fromDateTime, null, offset, maxResults);
+    }
+
+    @Override
+    public List<Resource> history(String resourceType, String logicalId, Timestamp fromDateTime, Integer beforeVersionId, int offset, int maxResults)
+            throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
         final String METHODNAME = "history";
         log.entering(CLASSNAME, METHODNAME);
 
         List<Resource> resources = null;
-        String stmtString = null;
+        List<Object> bindValues = new ArrayList<>();
+        StringBuilder stmtString = new StringBuilder();
 
         try {
+            bindValues.add(logicalId);
             if (fromDateTime != null) {
-                stmtString = String.format(SQL_HISTORY_FROM_DATETIME, resourceType, resourceType);
-                if (isDb2Database()) {
-                    stmtString = stmtString + DB2_PAGINATION_PARMS;
-                    resources = this.runQuery(stmtString, logicalId, fromDateTime, maxResults, offset);
-                } else {
-                    stmtString = stmtString + DERBY_PAGINATION_PARMS;
-                    resources = this.runQuery(stmtString, logicalId, fromDateTime, offset, maxResults);
-                }
+                stmtString.append(String.format(SQL_HISTORY_FROM_DATETIME, resourceType, resourceType));
+                bindValues.add(fromDateTime);
             } else {
-                stmtString = String.format(SQL_HISTORY, resourceType, resourceType);
-                if (isDb2Database()) {
-                    stmtString = stmtString + DB2_PAGINATION_PARMS;
-                    resources = this.runQuery(stmtString, logicalId, maxResults, offset);
-                } else {
-                    stmtString = stmtString + DERBY_PAGINATION_PARMS;
-                    resources = this.runQuery(stmtString, logicalId, offset, maxResults);
-                }
+                stmtString.append(String.format(SQL_HISTORY, resourceType, resourceType));
             }
+            if (beforeVersionId != null) {
+                stmtString.append(SQL_HISTORY_BEFORE_VERSION);
+                bindValues.add(beforeVersionId);
+            }
+            stmtString.append(SQL_HISTORY_ORDER_BY);
+            if (isDb2Database()) {
+                stmtString.append(DB2_PAGINATION_PARMS);
+                bindValues.add(maxResults);
+                bindValues.add(offset);
+            } else {
+                stmtString.append(DERBY_PAGINATION_PARMS);
+                bindValues.add(offset);
+                bindValues.add(maxResults);
+            }
+            resources = this.runQuery(stmtString.toString(), bindValues.toArray());
         } finally {
             log.exiting(CLASSNAME, METHODNAME, Arrays.toString(new Object[] { resources }));
         }
@@ -538,6 +564,86 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
         return resourceTypeId;
     }
 
+    @Override
+    public void setIndexPending(String resourceType, String logicalId, int versionId) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        final String METHODNAME = "setIndexPending";
+        log.entering(CLASSNAME, METHODNAME);
+
+        // The logical resource is locked by the insert of the new version, so it can't be queued concurrently
+        final Connection connection = getConnection(); // do not close
+        String stmtString = SQL_UPDATE_INDEX_PENDING;
+        try {
+            int rowsUpdated;
+            try (PreparedStatement stmt = connection.prepareStatement(stmtString)) {
+                stmt.setInt(1, versionId);
+                stmt.setString(2, resourceType);
+                stmt.setString(3, logicalId);
+                rowsUpdated = stmt.executeUpdate();
+            }
+            if (rowsUpdated == 0) {
+                if (getFlavor().isMultitenant()) {
+                    stmtString = String.format(SQL_INSERT_INDEX_PENDING, "mt_id,", FhirSchemaConstants.FHIR_ADMIN + ".sv_tenant_id,");
+                } else {
+                    stmtString = String.format(SQL_INSERT_INDEX_PENDING, "", "");
+                }
+                try (PreparedStatement stmt = connection.prepareStatement(stmtString)) {
+                    stmt.setInt(1, versionId);
+                    stmt.setString(2, resourceType);
+                    stmt.setString(3, logicalId);
+                    stmt.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            final String errMsg = "Failure queuing the resource for indexing: " + resourceType + "/" + logicalId;
+            FHIRPersistenceDataAccessException fx = new FHIRPersistenceDataAccessException(errMsg);
+            throw severe(log, fx, e);
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    @Override
+    public List<IndexPendingRecord> readIndexPending(int maxCount) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        final String METHODNAME = "readIndexPending";
+        log.entering(CLASSNAME, METHODNAME);
+
+        List<IndexPendingRecord> result = new ArrayList<>();
+        final Connection connection = getConnection(); // do not close
+        try (PreparedStatement stmt = connection.prepareStatement(String.format(SQL_READ_INDEX_PENDING, maxCount))) {
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new IndexPendingRecord(rs.getLong(1), rs.getString(2), rs.getInt(3)));
+                }
+            }
+        } catch (SQLException e) {
+            final String errMsg = "Failure reading the resources waiting to be indexed";
+            FHIRPersistenceDataAccessException fx = new FHIRPersistenceDataAccessException(errMsg);
+            throw severe(log, fx, e);
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteIndexPending(long logicalResourceId, int versionId) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        final String METHODNAME = "deleteIndexPending";
+        log.entering(CLASSNAME, METHODNAME);
+
+        final Connection connection = getConnection(); // do not close
+        try (PreparedStatement stmt = connection.prepareStatement(SQL_DELETE_INDEX_PENDING)) {
+            stmt.setLong(1, logicalResourceId);
+            stmt.setInt(2, versionId);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            final String errMsg = "Failure removing the resource from the indexing queue: logical_resource_id=" + logicalResourceId;
+            FHIRPersistenceDataAccessException fx = new FHIRPersistenceDataAccessException(errMsg);
+            throw severe(log, fx, e);
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
     @Override
     public Resource insert(Resource resource, List<ExtractedParameterValue> parameters, String parameterHashB64, ParameterDAO parameterDao)
             throws FHIRPersistenceException {
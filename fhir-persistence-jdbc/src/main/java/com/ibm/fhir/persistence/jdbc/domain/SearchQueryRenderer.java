@@ -117,6 +117,9 @@ public class SearchQueryRenderer implements SearchQueryVisitor<QueryData> {
     // pagination page size
     private final int rowsPerPage;
 
+    // keyset pagination: only return rows after this logical resource id (when not null)
+    private final Long afterLogicalResourceId;
+
     // Counter so we can allocate unique alias names
     private int paramCounter = 0;
 
@@ -131,9 +134,23 @@ public class SearchQueryRenderer implements SearchQueryVisitor<QueryData> {
      */
     public SearchQueryRenderer(JDBCIdentityCache identityCache,
         int rowOffset, int rowsPerPage) {
+        this(identityCache, rowOffset, rowsPerPage, null);
+    }
+
+    /**
+     * Public constructor
+     * @param identityCache
+     * @param rowOffset
+     * @param rowsPerPage
+     * @param afterLogicalResourceId if not null, the data query only returns rows with a greater
+     *        logical resource id (seek to the page instead of skipping rowOffset rows)
+     */
+    public SearchQueryRenderer(JDBCIdentityCache identityCache,
+        int rowOffset, int rowsPerPage, Long afterLogicalResourceId) {
         this.identityCache = identityCache;
         this.rowOffset = rowOffset;
         this.rowsPerPage = rowsPerPage;
+        this.afterLogicalResourceId = afterLogicalResourceId;
         this.legacyWholeSystemSearchParamsEnabled =
                 FHIRConfigHelper.getBooleanProperty(PROPERTY_SEARCH_ENABLE_LEGACY_WHOLE_SYSTEM_SEARCH_PARAMS, false);
     }
@@ -281,6 +298,10 @@ public class SearchQueryRenderer implements SearchQueryVisitor<QueryData> {
         SelectAdapter select = Select.select("LR0.LOGICAL_RESOURCE_ID", "LR0.LOGICAL_ID", "LR0.CURRENT_RESOURCE_ID");
         select.from(xxLogicalResources, alias(lrAliasName))
             .where(lrAliasName, IS_DELETED).eq().literal("N");
+        if (afterLogicalResourceId != null) {
+            // Seek predicate on the sort key, so the database can start reading at the first row of the page
+            select.from().where().and(lrAliasName, "LOGICAL_RESOURCE_ID").gt(bind(afterLogicalResourceId));
+        }
         return new QueryData(select, lrAliasName, null, rootResourceType, 0);
     }
 
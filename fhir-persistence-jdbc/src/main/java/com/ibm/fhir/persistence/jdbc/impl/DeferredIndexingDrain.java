@@ -0,0 +1,225 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.impl;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.persistence.FHIRPersistenceTransaction;
+
+/**
+ * Drains the queue of resources which were stored with deferred indexing (the LOGICAL_RESOURCE_INDEX_PENDING table)
+ * on a bounded pool of background threads.
+ *
+ * <p>Each tenant and datastore has at most one drain running at a time. A drain keeps indexing queued resources,
+ * one transaction per batch, until the queue is empty. Resources queued while a drain is running are picked up by
+ * that drain, so each write only needs to {@link #drain(String, String, String, PersistenceFactory) request} a drain.
+ *
+ * <p>The resource types which are waiting to be indexed are tracked in memory, so searches can
+ * {@link #await(String, String, String, long) check} them without querying the queue. They are the types of the
+ * resources queued by this server, and of the resources found in the queue by each batch, since the drain started.
+ */
+public class DeferredIndexingDrain {
+    private static final Logger log = Logger.getLogger(DeferredIndexingDrain.class.getName());
+
+    // The maximum number of queued resources which are indexed in one transaction
+    private static final int BATCH_SIZE = 20;
+
+    private static volatile DeferredIndexingDrain instance;
+
+    private final ThreadPoolExecutor executor;
+
+    // The state of the drain of each tenant and datastore
+    private final Map<String, Queue> queues = new ConcurrentHashMap<>();
+
+    private DeferredIndexingDrain(int workers) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "fhir-deferred-indexing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the drain shared by all persistence instances. The number of worker threads is set by the first call.
+     *
+     * @param workers
+     *     the maximum number of drains which run at the same time
+     * @return
+     */
+    public static DeferredIndexingDrain getInstance(int workers) {
+        DeferredIndexingDrain result = instance;
+        if (result == null) {
+            synchronized (DeferredIndexingDrain.class) {
+                result = instance;
+                if (result == null) {
+                    result = new DeferredIndexingDrain(workers);
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Request a drain of the queue of the given tenant and datastore after a resource of the given type was queued
+     *
+     * @param tenantId
+     * @param datastoreId
+     * @param resourceType
+     *     the type of the queued resource
+     * @param persistenceFactory
+     *     creates the persistence instance used by the drain; only called, on the calling thread, if no drain of
+     *     this tenant and datastore is running
+     * @throws Exception
+     *     if the persistence instance could not be created
+     */
+    public void drain(String tenantId, String datastoreId, String resourceType, PersistenceFactory persistenceFactory) throws Exception {
+        Queue queue = queues.computeIfAbsent(key(tenantId, datastoreId), k -> new Queue());
+        synchronized (queue) {
+            queue.requested = true;
+            queue.resourceTypes.add(resourceType);
+            if (queue.running) {
+                return;
+            }
+            FHIRPersistenceJDBCImpl persistence = persistenceFactory.create();
+            queue.running = true;
+            try {
+                executor.execute(() -> run(tenantId, datastoreId, queue, persistence));
+            } catch (RuntimeException e) {
+                queue.idle();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Wait until the resources of the given type which are known to be queued have been indexed
+     *
+     * @param tenantId
+     * @param datastoreId
+     * @param resourceType
+     *     the resource type, or null for all resource types
+     * @param millis
+     *     the maximum time to wait; 0 to only check
+     * @return
+     *     true if resources of the given type are still known to be queued
+     */
+    public boolean await(String tenantId, String datastoreId, String resourceType, long millis) {
+        Queue queue = queues.get(key(tenantId, datastoreId));
+        if (queue == null) {
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        synchronized (queue) {
+            while (queue.running && (resourceType == null || queue.resourceTypes.contains(resourceType))) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return true;
+                }
+                try {
+                    queue.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private void run(String tenantId, String datastoreId, Queue queue, FHIRPersistenceJDBCImpl persistence) {
+        try {
+            FHIRRequestContext.set(new FHIRRequestContext(tenantId, datastoreId));
+            while (true) {
+                synchronized (queue) {
+                    if (!queue.requested) {
+                        queue.idle();
+                        return;
+                    }
+                    queue.requested = false;
+                }
+                Set<String> resourceTypes;
+                do {
+                    resourceTypes = indexBatch(persistence);
+                    synchronized (queue) {
+                        queue.resourceTypes.addAll(resourceTypes);
+                    }
+                } while (!resourceTypes.isEmpty());
+            }
+        } catch (Throwable t) {
+            // The resources stay queued for the next drain
+            log.log(Level.WARNING, "Deferred indexing drain failed for tenant '" + tenantId + "' and datastore '" + datastoreId + "'", t);
+            synchronized (queue) {
+                queue.idle();
+            }
+        } finally {
+            FHIRRequestContext.remove();
+        }
+    }
+
+    /**
+     * Index the next batch of queued resources in its own transaction
+     *
+     * @return the resource types of the batch; empty if the queue is empty
+     */
+    private Set<String> indexBatch(FHIRPersistenceJDBCImpl persistence) throws Exception {
+        FHIRPersistenceTransaction tx = persistence.getTransaction();
+        tx.begin();
+        try {
+            return persistence.indexPending(BATCH_SIZE);
+        } catch (Throwable t) {
+            tx.setRollbackOnly();
+            throw t;
+        } finally {
+            tx.end();
+        }
+    }
+
+    private static String key(String tenantId, String datastoreId) {
+        return tenantId + "~" + datastoreId;
+    }
+
+    /**
+     * The state of the drain of a tenant and datastore; guarded by its own monitor
+     */
+    private static class Queue {
+        private boolean running;
+
+        // another pass over the queue is needed because a resource was queued since the last pass started
+        private boolean requested;
+
+        // the types of the resources queued by this server or found in the queue since the drain started
+        private final Set<String> resourceTypes = new HashSet<>();
+
+        private void idle() {
+            running = false;
+            requested = false;
+            resourceTypes.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Creates the persistence instance used by a drain
+     */
+    @FunctionalInterface
+    public interface PersistenceFactory {
+        FHIRPersistenceJDBCImpl create() throws Exception;
+    }
+}
@@ -6,9 +6,18 @@
 
 package com.ibm.fhir.persistence.jdbc.impl;
 
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_DEFERRED_INDEXING_SEARCH_WAIT;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_DEFERRED_INDEXING_WORKERS;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_CODE_SYSTEMS_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_DEFERRED_INDEXING;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_PARAMETER_NAMES_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_RESOURCE_CACHE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_RESOURCE_TYPES_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_PAYLOAD_CODEC;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_PAYLOAD_COMPRESSION;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_RESOURCE_CACHE_POLL_INTERVAL;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_RESOURCE_CACHE_SIZE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_RESOURCE_CACHE_TIME_TO_LIVE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_SEARCH_ENABLE_LEGACY_WHOLE_SYSTEM_SEARCH_PARAMS;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_SEARCH_ENABLE_OPT_QUERY_BUILDER;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_UPDATE_CREATE_ENABLED;
@@ -20,6 +29,7 @@ import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
@@ -37,13 +47,14 @@ import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.naming.InitialContext;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
 import javax.transaction.TransactionSynchronizationRegistry;
 import javax.transaction.UserTransaction;
 
+import com.ibm.fhir.cache.CacheManager;
 import com.ibm.fhir.config.DefaultFHIRConfigProvider;
 import com.ibm.fhir.config.FHIRConfigHelper;
 import com.ibm.fhir.config.FHIRConfigProvider;
@@ -63,8 +74,6 @@ import com.ibm.fhir.exception.FHIRException;
 import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.generator.FHIRGenerator;
 import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
-import com.ibm.fhir.model.parser.FHIRJsonParser;
-import com.ibm.fhir.model.parser.FHIRParser;
 import com.ibm.fhir.model.resource.OperationOutcome;
 import com.ibm.fhir.model.resource.OperationOutcome.Issue;
 import com.ibm.fhir.model.resource.Resource;
@@ -106,6 +115,8 @@ import com.ibm.fhir.persistence.jdbc.FHIRPersistenceJDBCCache;
 import com.ibm.fhir.persistence.jdbc.FHIRResourceDAOFactory;
 import com.ibm.fhir.persistence.jdbc.JDBCConstants;
 import com.ibm.fhir.persistence.jdbc.cache.FHIRPersistenceJDBCCacheUtil;
+import com.ibm.fhir.persistence.jdbc.cache.ResourceCache;
+import com.ibm.fhir.persistence.jdbc.cache.ResourceCacheTransactionSync;
 import com.ibm.fhir.persistence.jdbc.connection.Action;
 import com.ibm.fhir.persistence.jdbc.connection.CreateTempTablesAction;
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbConnectionStrategy;
@@ -120,6 +131,7 @@ import com.ibm.fhir.persistence.jdbc.connection.SetTenantAction;
 import com.ibm.fhir.persistence.jdbc.dao.EraseResourceDAO;
 import com.ibm.fhir.persistence.jdbc.dao.ReindexResourceDAO;
 import com.ibm.fhir.persistence.jdbc.dao.api.IResourceReferenceDAO;
+import com.ibm.fhir.persistence.jdbc.dao.api.IndexPendingRecord;
 import com.ibm.fhir.persistence.jdbc.dao.api.JDBCIdentityCache;
 import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
 import com.ibm.fhir.persistence.jdbc.dao.api.ResourceDAO;
@@ -144,11 +156,17 @@ import com.ibm.fhir.persistence.jdbc.dto.TokenParmVal;
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceDBConnectException;
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceDataAccessException;
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceFKVException;
+import com.ibm.fhir.persistence.jdbc.payload.GzipCompression;
+import com.ibm.fhir.persistence.jdbc.payload.JsonPayloadCodec;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadCodec;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadCompression;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadSupport;
 import com.ibm.fhir.persistence.jdbc.util.CodeSystemsCache;
 import com.ibm.fhir.persistence.jdbc.util.ExtractedSearchParameters;
 import com.ibm.fhir.persistence.jdbc.util.JDBCParameterBuildingVisitor;
 import com.ibm.fhir.persistence.jdbc.util.JDBCQueryBuilder;
 import com.ibm.fhir.persistence.jdbc.util.NewQueryBuilder;
+import com.ibm.fhir.persistence.jdbc.util.PageCursor;
 import com.ibm.fhir.persistence.jdbc.util.ParameterHashVisitor;
 import com.ibm.fhir.persistence.jdbc.util.ParameterNamesCache;
 import com.ibm.fhir.persistence.jdbc.util.ResourceTypesCache;
@@ -183,6 +201,8 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     private static final String CLASSNAME = FHIRPersistenceJDBCImpl.class.getName();
     private static final Logger log = Logger.getLogger(CLASSNAME);
     private static final int DATA_BUFFER_INITIAL_SIZE = 10*1024; // 10KiB
+    private static final String DEFERRED_INDEXING_KEY = "DEFERRED_INDEXING_RESOURCE_TYPES";
+    private static final String RESOURCE_CACHE_SYNC_KEY = "RESOURCE_CACHE_TRANSACTION_SYNC";
 
     protected static final String TXN_JNDI_NAME = "java:comp/UserTransaction";
     public static final String TRX_SYNCH_REG_JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
@@ -224,6 +244,32 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     // Enable use of legacy whole-system search parameters for the search request
     private final boolean legacyWholeSystemSearchParamsEnabled;
 
+    // The server-wide codec and compression for new resource payloads, which may be overridden per datasource
+    private final String defaultPayloadCodec;
+    private final String defaultPayloadCompression;
+
+    // The codec and compression for new resource payloads, resolved for the current tenant/datastore on first use
+    private PayloadCodec payloadCodec;
+    private PayloadCompression payloadCompression;
+
+    // Store new resource versions without their search parameters, which are extracted later by the drain
+    private final boolean deferredIndexingEnabled;
+
+    // How long a search waits for pending resources of the searched type to be indexed; 0 to not wait
+    private final int deferredIndexingSearchWaitMillis;
+
+    // Drains the queue of pending resources in the background, or null if deferred indexing is not enabled
+    private final DeferredIndexingDrain deferredIndexingDrain;
+
+    // Creates the persistence instances used by the deferred indexing drain
+    private final DeferredIndexingDrain.PersistenceFactory deferredIndexingPersistenceFactory;
+
+    // The cache of parsed resources for read and vread shared by all requests, or null if not enabled
+    private final ResourceCache resourceCache;
+
+    // The resources written by this request, which are not added to the resource cache until the transaction has completed
+    private final Set<String> writtenResources = new HashSet<>();
+
     /**
      * Constructor for use when running as web application in WLP.
      * @throws Exception
@@ -273,6 +319,28 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         this.legacyWholeSystemSearchParamsEnabled =
                 fhirConfig.getBooleanProperty(PROPERTY_SEARCH_ENABLE_LEGACY_WHOLE_SYSTEM_SEARCH_PARAMS, false);
 
+        // Payloads are written as GZIP-compressed JSON unless configured otherwise
+        this.defaultPayloadCodec = fhirConfig.getStringProperty(PROPERTY_JDBC_PAYLOAD_CODEC, JsonPayloadCodec.NAME);
+        this.defaultPayloadCompression = fhirConfig.getStringProperty(PROPERTY_JDBC_PAYLOAD_COMPRESSION, GzipCompression.NAME);
+
+        // Search parameters are extracted and stored with each resource version unless configured otherwise
+        this.deferredIndexingEnabled = fhirConfig.getBooleanProperty(PROPERTY_JDBC_ENABLE_DEFERRED_INDEXING, Boolean.FALSE);
+        this.deferredIndexingSearchWaitMillis = fhirConfig.getIntProperty(PROPERTY_JDBC_DEFERRED_INDEXING_SEARCH_WAIT, 0);
+        this.deferredIndexingDrain = deferredIndexingDrain(deferredIndexingEnabled,
+                fhirConfig.getIntProperty(PROPERTY_JDBC_DEFERRED_INDEXING_WORKERS, 1));
+        this.deferredIndexingPersistenceFactory = () -> new FHIRPersistenceJDBCImpl(cache);
+
+        // Resources are read from the database on every read and vread unless configured otherwise
+        if (fhirConfig.getBooleanProperty(PROPERTY_JDBC_ENABLE_RESOURCE_CACHE, Boolean.FALSE)) {
+            int resourceCacheSize = fhirConfig.getIntProperty(PROPERTY_JDBC_RESOURCE_CACHE_SIZE, 10000);
+            int resourceCacheTimeToLive = fhirConfig.getIntProperty(PROPERTY_JDBC_RESOURCE_CACHE_TIME_TO_LIVE, 300);
+            int resourceCachePollInterval = fhirConfig.getIntProperty(PROPERTY_JDBC_RESOURCE_CACHE_POLL_INTERVAL, 1000);
+            this.resourceCache = new ResourceCache(CacheManager.Configuration.of(resourceCacheSize, Duration.ofSeconds(resourceCacheTimeToLive)),
+                    resourceCachePollInterval);
+        } else {
+            this.resourceCache = null;
+        }
+
         log.exiting(CLASSNAME, METHODNAME);
     }
 
@@ -337,6 +405,25 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         // Always want to be testing with legacy whole-system search parameters disabled
         this.legacyWholeSystemSearchParamsEnabled = false;
 
+        this.defaultPayloadCodec = configProps.getProperty(FHIRConfiguration.PROPERTY_DATASOURCE_PAYLOAD_CODEC, JsonPayloadCodec.NAME);
+        this.defaultPayloadCompression = configProps.getProperty(FHIRConfiguration.PROPERTY_DATASOURCE_PAYLOAD_COMPRESSION, GzipCompression.NAME);
+
+        this.deferredIndexingEnabled = Boolean.parseBoolean(configProps.getProperty("enableDeferredIndexing"));
+        this.deferredIndexingSearchWaitMillis = Integer.parseInt(configProps.getProperty("deferredIndexingSearchWaitMillis", "0"));
+        this.deferredIndexingDrain = deferredIndexingDrain(deferredIndexingEnabled,
+                Integer.parseInt(configProps.getProperty("deferredIndexingWorkers", "1")));
+        this.deferredIndexingPersistenceFactory = () -> new FHIRPersistenceJDBCImpl(configProps, cp, configProvider, cache);
+
+        if (Boolean.parseBoolean(configProps.getProperty("enableResourceCache"))) {
+            int resourceCacheSize = Integer.parseInt(configProps.getProperty("resourceCacheSize", "10000"));
+            int resourceCacheTimeToLive = Integer.parseInt(configProps.getProperty("resourceCacheTimeToLiveSeconds", "300"));
+            int resourceCachePollInterval = Integer.parseInt(configProps.getProperty("resourceCachePollIntervalMillis", "1000"));
+            this.resourceCache = new ResourceCache(CacheManager.Configuration.of(resourceCacheSize, Duration.ofSeconds(resourceCacheTimeToLive)),
+                    resourceCachePollInterval);
+        } else {
+            this.resourceCache = null;
+        }
+
         log.exiting(CLASSNAME, METHODNAME);
     }
 
@@ -397,8 +484,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
 
             // Persist the Resource DTO.
             resourceDao.setPersistenceContext(context);
-            ExtractedSearchParameters searchParameters = this.extractSearchParameters(updatedResource, resourceDTO);
-            resourceDao.insert(resourceDTO, searchParameters.getParameters(), searchParameters.getParameterHashB64(), parameterDao);
+            insertResourceDTO(updatedResource, resourceDTO, resourceDao, parameterDao);
             if (log.isLoggable(Level.FINE)) {
                 log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
                             + ", version=" + resourceDTO.getVersionId());
@@ -435,6 +521,164 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         }
     }
 
+    /**
+     * Insert the resource DTO for a new version of the passed resource, together with its search parameters.
+     * When deferred indexing is enabled, the search parameters are not extracted. The resource version is
+     * stored without parameters instead and the resource is queued for the deferred indexing drain.
+     *
+     * @param resource
+     * @param resourceDTO
+     * @param resourceDao
+     * @param parameterDao
+     * @throws Exception
+     */
+    private void insertResourceDTO(Resource resource, com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO, ResourceDAO resourceDao,
+            ParameterDAO parameterDao) throws Exception {
+        resourceWritten(resourceDTO.getResourceType(), resourceDTO.getLogicalId());
+        if (deferredIndexingEnabled) {
+            // The hash describes the parameters actually stored, which is none, so the parameters of the previous
+            // version are removed unless it had none either
+            String parameterHashB64 = new ParameterHashVisitor(legacyWholeSystemSearchParamsEnabled).getBase64Hash();
+            resourceDao.insert(resourceDTO, Collections.emptyList(), parameterHashB64, parameterDao);
+            resourceDao.setIndexPending(resourceDTO.getResourceType(), resourceDTO.getLogicalId(), resourceDTO.getVersionId());
+            requestDeferredIndexing(resourceDTO.getResourceType());
+        } else {
+            ExtractedSearchParameters searchParameters = this.extractSearchParameters(resource, resourceDTO);
+            resourceDao.insert(resourceDTO, searchParameters.getParameters(), searchParameters.getParameterHashB64(), parameterDao);
+        }
+    }
+
+    /**
+     * Get the drain for resources stored with deferred indexing
+     *
+     * @param enabled
+     *     whether deferred indexing is enabled
+     * @param workers
+     *     the number of drain worker threads
+     * @return the drain, or null if deferred indexing is not enabled
+     * @throws FHIRPersistenceException
+     *     if deferred indexing is enabled without any drain worker threads
+     */
+    private static DeferredIndexingDrain deferredIndexingDrain(boolean enabled, int workers) throws FHIRPersistenceException {
+        if (!enabled) {
+            return null;
+        }
+        if (workers < 1) {
+            throw new FHIRPersistenceException("Deferred indexing requires at least one deferred indexing worker; "
+                    + "set fhirServer/persistence/jdbc/deferredIndexingWorkers to a positive value");
+        }
+        return DeferredIndexingDrain.getInstance(workers);
+    }
+
+    /**
+     * Request a drain of the resources queued for indexing once the current transaction has committed. The
+     * resources are not visible to the drain before then.
+     *
+     * @param resourceType
+     *     the type of the resource queued by this request
+     * @throws Exception
+     */
+    private void requestDeferredIndexing(String resourceType) throws Exception {
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+        String tenantId = requestContext.getTenantId();
+        String datastoreId = requestContext.getDataStoreId();
+        if (trxSynchRegistry == null) {
+            // not running inside a JEE container; the drain waits for the row locks of this transaction
+            deferredIndexingDrain.drain(tenantId, datastoreId, resourceType, deferredIndexingPersistenceFactory);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> resourceTypes = (Set<String>) trxSynchRegistry.getResource(DEFERRED_INDEXING_KEY);
+        if (resourceTypes == null) {
+            Set<String> queuedResourceTypes = new HashSet<>();
+            resourceTypes = queuedResourceTypes;
+            trxSynchRegistry.putResource(DEFERRED_INDEXING_KEY, resourceTypes);
+            trxSynchRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    // NOP
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != Status.STATUS_COMMITTED) {
+                        return;
+                    }
+                    try {
+                        for (String queuedResourceType : queuedResourceTypes) {
+                            deferredIndexingDrain.drain(tenantId, datastoreId, queuedResourceType, deferredIndexingPersistenceFactory);
+                        }
+                    } catch (Exception e) {
+                        // the resources stay queued for the next drain
+                        log.log(Level.WARNING, "Unable to start the deferred indexing drain", e);
+                    }
+                }
+            });
+        }
+        resourceTypes.add(resourceType);
+    }
+
+    /**
+     * Invalidate the cached current version of a resource which is written by this request, now and after the
+     * transaction has completed. The resource is not added to the resource cache for the rest of this request,
+     * because the transaction may still be rolled back.
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    private void resourceWritten(String resourceTypeName, String logicalId) {
+        if (resourceCache != null) {
+            writtenResources.add(resourceTypeName + "/" + logicalId);
+            getResourceCacheTransactionSync().resourceWritten(resourceTypeName, logicalId);
+        }
+    }
+
+    /**
+     * Invalidate the cached current version and all the cached versions of a resource which is erased by this
+     * request, now and after the transaction has completed
+     *
+     * @param resourceTypeName
+     * @param logicalId
+     */
+    private void resourceErased(String resourceTypeName, String logicalId) {
+        if (resourceCache != null) {
+            writtenResources.add(resourceTypeName + "/" + logicalId);
+            getResourceCacheTransactionSync().resourceErased(resourceTypeName, logicalId);
+        }
+    }
+
+    /**
+     * Get the synchronization which invalidates the resource cache entries of the resources written by the current
+     * transaction once it has completed, and register it if this is the first write of the transaction
+     *
+     * @return
+     */
+    private ResourceCacheTransactionSync getResourceCacheTransactionSync() {
+        if (trxSynchRegistry == null) {
+            // not running inside a JEE container; the entries are only invalidated when the resources are written
+            return new ResourceCacheTransactionSync(resourceCache, FHIRRequestContext.get());
+        }
+
+        ResourceCacheTransactionSync sync = (ResourceCacheTransactionSync) trxSynchRegistry.getResource(RESOURCE_CACHE_SYNC_KEY);
+        if (sync == null) {
+            sync = new ResourceCacheTransactionSync(resourceCache, FHIRRequestContext.get());
+            trxSynchRegistry.putResource(RESOURCE_CACHE_SYNC_KEY, sync);
+            trxSynchRegistry.registerInterposedSynchronization(sync);
+        }
+        return sync;
+    }
+
+    /**
+     * @param resourceType
+     * @param logicalId
+     * @param elements the elements to include, or null to read the complete resource
+     * @return true if the resource can be taken from and added to the resource cache
+     */
+    private boolean isResourceCacheable(Class<? extends Resource> resourceType, String logicalId, List<String> elements) {
+        return resourceCache != null && elements == null && !writtenResources.contains(resourceType.getSimpleName() + "/" + logicalId);
+    }
+
     /**
      * Creates and returns a data transfer object (DTO) with the contents of the passed arguments.
      *
@@ -445,9 +689,10 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
      * @return
      * @throws IOException
      * @throws FHIRGeneratorException
+     * @throws FHIRPersistenceException
      */
     private com.ibm.fhir.persistence.jdbc.dto.Resource createResourceDTO(String logicalId, int newVersionNumber,
-            Instant lastUpdated, Resource updatedResource) throws IOException, FHIRGeneratorException {
+            Instant lastUpdated, Resource updatedResource) throws IOException, FHIRGeneratorException, FHIRPersistenceException {
 
         Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
 
@@ -461,15 +706,42 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         InputOutputByteStream ioStream = new InputOutputByteStream(DATA_BUFFER_INITIAL_SIZE);
 
         // Serialize and compress the Resource
-        try (GZIPOutputStream zipStream = new GZIPOutputStream(ioStream.outputStream())) {
-            FHIRGenerator.generator(Format.JSON, false).generate(updatedResource, zipStream);
-            zipStream.finish();
-            resourceDTO.setDataStream(ioStream);
-        }
+        initPayloadEncoding();
+        payloadCodec.encode(updatedResource, payloadCompression, ioStream.outputStream());
+        resourceDTO.setDataStream(ioStream);
 
         return resourceDTO;
     }
 
+    /**
+     * Resolve the codec and compression used to encode new resource payloads for the current
+     * tenant/datastore. The datasource definition may override the server-wide settings.
+     *
+     * @throws FHIRPersistenceException
+     */
+    private void initPayloadEncoding() throws FHIRPersistenceException {
+        if (payloadCodec != null) {
+            return;
+        }
+
+        String datastoreId = FHIRRequestContext.get().getDataStoreId();
+        String dsPropertyName = FHIRConfiguration.PROPERTY_DATASOURCES + "/" + datastoreId;
+        PropertyGroup dsPG = configProvider.getPropertyGroup(dsPropertyName);
+        try {
+            String codecName = defaultPayloadCodec;
+            String compressionName = defaultPayloadCompression;
+            if (dsPG != null) {
+                codecName = dsPG.getStringProperty(FHIRConfiguration.PROPERTY_DATASOURCE_PAYLOAD_CODEC, codecName);
+                compressionName = dsPG.getStringProperty(FHIRConfiguration.PROPERTY_DATASOURCE_PAYLOAD_COMPRESSION, compressionName);
+            }
+            payloadCompression = PayloadSupport.getCompression(compressionName);
+            payloadCodec = PayloadSupport.getCodec(codecName);
+        } catch (Exception x) {
+            log.log(Level.SEVERE, "Datastore configuration issue for '" + datastoreId + "'", x);
+            throw new FHIRPersistenceDataAccessException("Datastore configuration issue. Details in server logs");
+        }
+    }
+
     /**
      * Creates and returns a copy of the passed resource with the {@code Resource.id}
      * {@code Resource.meta.versionId}, and {@code Resource.meta.lastUpdated} elements replaced.
@@ -621,8 +893,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
 
             // Persist the Resource DTO.
             resourceDao.setPersistenceContext(context);
-            ExtractedSearchParameters searchParameters = this.extractSearchParameters(updatedResource, resourceDTO);
-            resourceDao.insert(resourceDTO, searchParameters.getParameters(), searchParameters.getParameterHashB64(), parameterDao);
+            insertResourceDTO(updatedResource, resourceDTO, resourceDao, parameterDao);
             if (log.isLoggable(Level.FINE)) {
                 log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
                             + ", version=" + resourceDTO.getVersionId());
@@ -686,6 +957,21 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
      */
     public MultiResourceResult<Resource> newSearch(FHIRPersistenceContext context, Class<? extends Resource> resourceType)
             throws FHIRPersistenceException {
+        return newSearch(context, resourceType, null);
+    }
+
+    /**
+     * Search query implementation based on the 1385 new query builder.
+     * @param context
+     * @param resourceType
+     * @param payloads if not null, the stored payloads of the 'match' resources are added to this list
+     *        instead of being converted to the resources of the returned result; _include and _revinclude
+     *        parameters are not processed in this case
+     * @return
+     * @throws FHIRPersistenceException
+     */
+    private MultiResourceResult<Resource> newSearch(FHIRPersistenceContext context, Class<? extends Resource> resourceType,
+            List<ResourcePayload> payloads) throws FHIRPersistenceException {
         final String METHODNAME = "search";
         log.entering(CLASSNAME, METHODNAME);
 
@@ -697,6 +983,15 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         Select countQuery;
         Select query;
 
+        // Resources stored with deferred indexing can't be matched by their search parameters until indexed.
+        // Wait for them before a connection is taken from the pool
+        boolean indexPending = false;
+        if (deferredIndexingEnabled && isIndexDependent(searchContext)) {
+            FHIRRequestContext requestContext = FHIRRequestContext.get();
+            indexPending = deferredIndexingDrain.await(requestContext.getTenantId(), requestContext.getDataStoreId(),
+                    isSystemLevelSearch(resourceType) ? null : resourceType.getSimpleName(), deferredIndexingSearchWaitMillis);
+        }
+
         try (Connection connection = openConnection()) {
             // For PostgreSQL search queries we need to set some options to ensure better plans
             connectionStrategy.applySearchOptimizerOptions(connection, SearchUtil.isCompartmentSearch(searchContext));
@@ -708,6 +1003,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             checkModifiers(searchContext, isSystemLevelSearch(resourceType));
             queryBuilder = new NewQueryBuilder(connectionStrategy.getQueryHints(), identityCache);
 
+
             // Skip count query if _total=none
             if (!TotalValueSet.NONE.equals(searchContext.getTotalParameter())) {
                 countQuery = queryBuilder.buildCountQuery(resourceType, searchContext);
@@ -729,6 +1025,18 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                     return resultBuilder.success(false).build();
                 }
             }
+            if (indexPending) {
+                issues.add(OperationOutcome.Issue.builder()
+                    .severity(IssueSeverity.WARNING)
+                    .code(IssueType.INCOMPLETE)
+                    .details(CodeableConcept.builder()
+                        .text(string("Some resources are waiting to be indexed and may be missing from the search results"))
+                        .build())
+                    .build());
+                resultBuilder.outcome(OperationOutcome.builder()
+                    .issue(issues)
+                    .build());
+            }
 
             // For _summary=count or pageSize == 0, we return only the count
             if ((searchResultCount == null || searchResultCount > 0)
@@ -784,6 +1092,17 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                     resourceDTOList = this.buildSortedResourceDTOList(resourceDao, resourceType, resourceDao.searchForIds(query));
                 } else {
                     resourceDTOList = resourceDao.search(query);
+                    // The results are ordered by logical resource id, so the next page can be read with a seek
+                    if (!resourceDTOList.isEmpty()) {
+                        PageCursor.setNextPageCursor(searchContext, resourceDTOList.size(),
+                            resourceDTOList.get(resourceDTOList.size() - 1).getLogicalResourceId());
+                    }
+                }
+
+                if (payloads != null) {
+                    payloads.addAll(this.convertResourceDTOListToPayloads(resourceDTOList, resourceType));
+                    searchContext.setMatchCount(payloads.size());
+                    return resultBuilder.success(true).build();
                 }
 
                 resources = this.convertResourceDTOList(resourceDTOList, resourceType, elements);
@@ -1357,6 +1676,26 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return Resource.class.equals(resourceType);
     }
 
+    /**
+     * Indicates whether the results of a search depend on the search parameter values of the matched resources,
+     * so that resources waiting for deferred indexing may be missing from them
+     *
+     * @param searchContext
+     * @return false if the search only filters on the logical id and last updated time of the resources
+     */
+    private boolean isIndexDependent(FHIRSearchContext searchContext) {
+        if (SearchUtil.isCompartmentSearch(searchContext) || !searchContext.getSortParameters().isEmpty()) {
+            return true;
+        }
+        for (QueryParameter queryParameter : searchContext.getSearchParameters()) {
+            String code = queryParameter.getCode();
+            if (!SearchConstants.ID.equals(code) && !SearchConstants.LAST_UPDATED.equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @param resourceType
      * @throws FHIRPersistenceNotSupportedException if the search context contains one or more unsupported modifiers
@@ -1435,6 +1774,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
 
             // Persist the logically deleted Resource DTO.
             resourceDao.setPersistenceContext(context);
+            resourceWritten(resourceDTO.getResourceType(), logicalId);
             resourceDao.insert(resourceDTO, null, null, null);
 
             if (log.isLoggable(Level.FINE)) {
@@ -1510,6 +1850,21 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             }
         }
 
+        // Only the complete, current version of a resource is cached; deleted resources are always read from the database
+        boolean cacheable = isResourceCacheable(resourceType, logicalId, elements);
+        if (cacheable) {
+            resourceCache.pollChanges(this);
+            resource = resourceCache.getCurrent(resourceType, logicalId);
+            if (resource != null) {
+                log.exiting(CLASSNAME, METHODNAME);
+                return new SingleResourceResult.Builder<T>()
+                        .success(true)
+                        .resource(resource)
+                        .deleted(false)
+                        .build();
+            }
+        }
+
         try (Connection connection = openConnection()) {
             ResourceDAO resourceDao = makeResourceDAO(connection);
 
@@ -1520,6 +1875,9 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                         resourceType.getSimpleName() + "/" + logicalId + "' is deleted.");
             }
             resource = this.convertResourceDTO(resourceDTO, resourceType, elements);
+            if (cacheable && resource != null && !resourceIsDeleted) {
+                resourceCache.put(resource, true);
+            }
 
             SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                     .success(true)
@@ -1580,8 +1938,21 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             }
 
             if (resourceCount > 0) {
-                offset = (historyContext.getPageNumber() - 1) * historyContext.getPageSize();
-                resourceDTOList = resourceDao.history(resourceType.getSimpleName(), logicalId, fromDateTime, offset, historyContext.getPageSize());
+                // Versions are returned in descending order, so a cursor holds the last version id of the preceding page
+                PageCursor pageCursor = PageCursor.of(historyContext);
+                Integer beforeVersionId = null;
+                if (pageCursor != null) {
+                    offset = 0;
+                    beforeVersionId = (int) pageCursor.getLastKey();
+                } else {
+                    offset = (historyContext.getPageNumber() - 1) * historyContext.getPageSize();
+                }
+                resourceDTOList = resourceDao.history(resourceType.getSimpleName(), logicalId, fromDateTime, beforeVersionId,
+                        offset, historyContext.getPageSize());
+                if (!resourceDTOList.isEmpty()) {
+                    PageCursor.setNextPageCursor(historyContext, resourceDTOList.size(),
+                        resourceDTOList.get(resourceDTOList.size() - 1).getVersionId());
+                }
                 for (com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO : resourceDTOList) {
                     if (resourceDTO.isDeleted()) {
                         deletedResourceVersions.putIfAbsent(logicalId, new ArrayList<Integer>());
@@ -1611,7 +1982,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     }
 
     /**
-     * Validate pageSize and pageNumber in the FHIRPagingContext instance and update
+     * Validate pageSize, pageNumber and pageCursor in the FHIRPagingContext instance and update
      * paging context parameters accordingly.
      *
      * @param pagingContext
@@ -1669,6 +2040,26 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             }
         }
 
+        // The cursor is not signed, so only accept it for the page number and page size it was created for
+        String pageCursor = pagingContext.getPageCursor();
+        if (pageCursor != null) {
+            PageCursor decodedPageCursor = PageCursor.decode(pageCursor);
+            if (decodedPageCursor == null || !decodedPageCursor.matches(pagingContext)) {
+                issues.add(OperationOutcome.Issue.builder()
+                    .severity(pagingContext.isLenient() ? IssueSeverity.WARNING : IssueSeverity.ERROR)
+                    .code(IssueType.INVALID)
+                    .details(CodeableConcept.builder()
+                        .text(string("Invalid page cursor: the cursor does not match page number: " + pagingContext.getPageNumber()
+                                + " and page size: " + pagingContext.getPageSize()))
+                        .build())
+                    .build());
+                // Read the page using its page number if lenient
+                if (pagingContext.isLenient()) {
+                    pagingContext.setPageCursor(null);
+                }
+            }
+        }
+
         return issues;
     }
 
@@ -1717,6 +2108,19 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             }
         }
 
+        // Resource versions are immutable, so a cached version doesn't depend on the change log
+        boolean cacheable = isResourceCacheable(resourceType, logicalId, elements);
+        if (cacheable) {
+            resource = resourceCache.getVersion(resourceType, logicalId, versionId);
+            if (resource != null) {
+                log.exiting(CLASSNAME, METHODNAME);
+                return new SingleResourceResult.Builder<T>()
+                        .success(true)
+                        .resource(resource)
+                        .build();
+            }
+        }
+
         try (Connection connection = openConnection()) {
             ResourceDAO resourceDao = makeResourceDAO(connection);
 
@@ -1727,6 +2131,9 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                         resourceType.getSimpleName() + "/" + logicalId + "' version " + versionId + " is deleted.");
             }
             resource = this.convertResourceDTO(resourceDTO, resourceType, elements);
+            if (cacheable && resource != null && !resourceDTO.isDeleted()) {
+                resourceCache.put(resource, false);
+            }
 
             SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                     .success(true)
@@ -1751,6 +2158,92 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         }
     }
 
+    @Override
+    public boolean isPayloadPassthroughSupported() {
+        return true;
+    }
+
+    /**
+     * @throws FHIRPersistenceResourceDeletedException if the resource being read is currently in a deleted state and
+     *         FHIRPersistenceContext.includeDeleted() is set to false
+     */
+    @Override
+    public ResourcePayload readPayload(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId)
+            throws FHIRPersistenceException {
+        final String METHODNAME = "readPayload";
+        log.entering(CLASSNAME, METHODNAME);
+
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+
+            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = resourceDao.read(logicalId, resourceType.getSimpleName());
+            if (resourceDTO != null && resourceDTO.isDeleted() && !context.includeDeleted()) {
+                throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                        resourceType.getSimpleName() + "/" + logicalId + "' is deleted.");
+            }
+            return this.convertResourceDTOToPayload(resourceDTO, resourceType);
+        } catch(FHIRPersistenceResourceDeletedException e) {
+            throw e;
+        } catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a read operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * @throws FHIRPersistenceResourceDeletedException if the resource being read is currently in a deleted state and
+     *         FHIRPersistenceContext.includeDeleted() is set to false
+     */
+    @Override
+    public ResourcePayload vreadPayload(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId,
+            String versionId) throws FHIRPersistenceException {
+        final String METHODNAME = "vreadPayload";
+        log.entering(CLASSNAME, METHODNAME);
+
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+
+            int version = Integer.parseInt(versionId);
+            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = resourceDao.versionRead(logicalId, resourceType.getSimpleName(), version);
+            if (resourceDTO != null && resourceDTO.isDeleted() && !context.includeDeleted()) {
+                throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                        resourceType.getSimpleName() + "/" + logicalId + "' version " + versionId + " is deleted.");
+            }
+            return this.convertResourceDTOToPayload(resourceDTO, resourceType);
+        } catch(FHIRPersistenceResourceDeletedException e) {
+            throw e;
+        } catch (NumberFormatException e) {
+            throw new FHIRPersistenceException("Invalid version id specified for vread operation: " + versionId);
+        } catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a version read operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    @Override
+    public List<ResourcePayload> searchPayloads(FHIRPersistenceContext context, Class<? extends Resource> resourceType)
+            throws FHIRPersistenceException {
+        FHIRSearchContext searchContext = context.getSearchContext();
+
+        // The legacy query builder, whole-system search and the search result parameters which
+        // filter or add resources all need the parsed resources
+        if (!this.optQueryBuilderEnabled || isSystemLevelSearch(resourceType)
+                || searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()
+                || searchContext.hasElementsParameters() || searchContext.hasSummaryParameter()) {
+            return null;
+        }
+
+        List<ResourcePayload> payloads = new ArrayList<>();
+        newSearch(context, resourceType, payloads);
+        return payloads;
+    }
+
     /**
      * This method takes the passed list of sorted Resource ids, acquires the ResourceDTO corresponding to each id,
      * and returns those ResourceDTOs in a List, sorted according to the input sorted ids.
@@ -2383,18 +2876,16 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         InputStream in = null;
         try {
             if (resourceDTO != null && resourceDTO.getDataStream() != null) {
-                FHIRParser parser = FHIRParser.parser(Format.JSON);
-                parser.setValidating(false);
-                in = new GZIPInputStream(resourceDTO.getDataStream().inputStream());
+                in = resourceDTO.getDataStream().inputStream();
                 if (elements != null) {
                     // parse/filter the resource using elements
-                    resource = parser.as(FHIRJsonParser.class).parseAndFilter(in, elements);
+                    resource = PayloadSupport.decode(in, elements);
                     if (resourceType.equals(resource.getClass()) && !FHIRUtil.hasTag(resource, SearchConstants.SUBSETTED_TAG)) {
                         // add a SUBSETTED tag to this resource to indicate that its elements have been filtered
                         resource = FHIRUtil.addTag(resource, SearchConstants.SUBSETTED_TAG);
                     }
                 } else {
-                    resource = parser.parse(in);
+                    resource = PayloadSupport.decode(in, null);
                 }
             }
         } finally {
@@ -2407,6 +2898,50 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return resource;
     }
 
+    /**
+     * Converts the passed Resource Data Transfer Object collection to a collection of resource payloads.
+     * @param resourceDTOList
+     * @param resourceType
+     * @return
+     * @throws FHIRException
+     * @throws IOException
+     */
+    private List<ResourcePayload> convertResourceDTOListToPayloads(List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList,
+            Class<? extends Resource> resourceType) throws FHIRException, IOException {
+        List<ResourcePayload> payloads = new ArrayList<>(resourceDTOList.size());
+        for (com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO : resourceDTOList) {
+            if (resourceDTO.isDeleted()) {
+                // deleted resources are returned as a marker which is not stored, so we need to build it
+                Resource deletedResourceMarker =
+                        FHIRPersistenceUtil.createDeletedResourceMarker(this.convertResourceDTO(resourceDTO, resourceType, null));
+                InputOutputByteStream ioStream = new InputOutputByteStream(DATA_BUFFER_INITIAL_SIZE);
+                FHIRGenerator.generator(Format.JSON).generate(deletedResourceMarker, ioStream.outputStream());
+                payloads.add(new ResourcePayload(resourceType.getSimpleName(), resourceDTO.getLogicalId(), resourceDTO.getVersionId(),
+                        resourceDTO.getLastUpdated().toInstant(), resourceDTO.getId(), ioStream.inputStream()));
+            } else {
+                payloads.add(this.convertResourceDTOToPayload(resourceDTO, resourceType));
+            }
+        }
+        return payloads;
+    }
+
+    /**
+     * Converts the passed Resource Data Transfer Object to a payload containing the stored resource in JSON format.
+     * @param resourceDTO - A Resource DTO, or null
+     * @param resourceType - The FHIR type of the resource.
+     * @return ResourcePayload - The payload of the resource, or null if the DTO or its data is null.
+     * @throws IOException
+     */
+    private ResourcePayload convertResourceDTOToPayload(com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO,
+            Class<? extends Resource> resourceType) throws IOException {
+        if (resourceDTO == null || resourceDTO.getDataStream() == null) {
+            return null;
+        }
+        InputStream in = PayloadSupport.decodeToJson(resourceDTO.getDataStream().inputStream());
+        return new ResourcePayload(resourceType.getSimpleName(), resourceDTO.getLogicalId(), resourceDTO.getVersionId(),
+                resourceDTO.getLastUpdated().toInstant(), resourceDTO.getId(), in);
+    }
+
     @Override
     public boolean isTransactional() {
         return true;
@@ -2636,6 +3171,57 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return result;
     }
 
+    /**
+     * Extract and store the search parameters of the next batch of resources queued by deferred indexing, and
+     * remove them from the queue, in the current transaction. A resource which was updated again since it was
+     * queued stays queued for the next batch.
+     *
+     * @param maxCount
+     *     the maximum number of resources to index
+     * @return
+     *     the resource types of the resources in the batch; empty if no resource is queued
+     * @throws FHIRPersistenceException
+     */
+    Set<String> indexPending(int maxCount) throws FHIRPersistenceException {
+        final String METHODNAME = "indexPending";
+        log.entering(CLASSNAME, METHODNAME);
+
+        Set<String> resourceTypes = new HashSet<>();
+        IndexPendingRecord pending = null;
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+            ParameterDAO parameterDao = makeParameterDAO(connection);
+            ReindexResourceDAO reindexDAO = FHIRResourceDAOFactory.getReindexResourceDAO(connection, FhirSchemaConstants.FHIR_ADMIN, schemaNameSupplier.getSchemaForRequestContext(connection), connectionStrategy.getFlavor(), this.trxSynchRegistry, this.cache, parameterDao);
+            java.time.Instant tstamp = java.time.Instant.now();
+            OperationOutcome.Builder operationOutcomeResult = OperationOutcome.builder();
+            for (IndexPendingRecord indexPendingRecord : resourceDao.readIndexPending(maxCount)) {
+                pending = indexPendingRecord;
+                resourceTypes.add(pending.getResourceType());
+
+                // null if the resource has been deleted or erased since it was queued
+                ResourceIndexRecord rir = reindexDAO.getResourceToReindex(tstamp, pending.getLogicalResourceId(), null, null);
+                if (rir != null) {
+                    com.ibm.fhir.persistence.jdbc.dto.Resource existingResourceDTO = resourceDao.read(rir.getLogicalId(), rir.getResourceType());
+                    updateParameters(rir, getResourceType(rir.getResourceType()), existingResourceDTO, reindexDAO, operationOutcomeResult);
+                }
+                resourceDao.deleteIndexPending(pending.getLogicalResourceId(), pending.getVersionId());
+            }
+        } catch(FHIRPersistenceException e) {
+            getTransaction().setRollbackOnly();
+            log.log(Level.SEVERE, "Unexpected error while indexing" + (pending != null ? (" logical_resource_id=" + pending.getLogicalResourceId()) : ""), e);
+            throw e;
+        } catch(Throwable e) {
+            getTransaction().setRollbackOnly();
+            log.log(Level.SEVERE, "Unexpected error while indexing" + (pending != null ? (" logical_resource_id=" + pending.getLogicalResourceId()) : ""), e);
+            // don't chain the exception to avoid leaking secrets
+            throw new FHIRPersistenceException("Unexpected error while indexing resources queued by deferred indexing.");
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+
+        return resourceTypes;
+    }
+
     /**
      * Update the parameters for the resource described by the given DTO
      * @param <T>
@@ -2799,6 +3385,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             IResourceReferenceDAO rrd = makeResourceReferenceDAO(connection);
             EraseResourceDAO eraseDao = new EraseResourceDAO(connection, translator, schemaNameSupplier.getSchemaForRequestContext(connection), connectionStrategy.getFlavor(), this.cache, rrd);
             eraseDao.erase(eraseRecord, eraseDto);
+            resourceErased(eraseDto.getResourceType(), eraseDto.getLogicalId());
         } catch(FHIRPersistenceResourceNotFoundException e) {
             throw e;
         } catch(FHIRPersistenceException e) {
@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constants shared by {@link BinaryJsonGenerator} and {@link BinaryJsonParser}.
+ *
+ * <p>The binary encoding is a sequence of one-byte tags, each followed by its operand (if any):
+ * <ul>
+ * <li>object keys are written as a varint ordinal into a {@link KeyDictionary key dictionary},
+ * falling back to an inline string for keys that are not in the dictionary</li>
+ * <li>string values are written inline the first time they occur and as a varint back-reference afterwards</li>
+ * <li>integral numbers are written as zig-zag varints; all other numbers are written as their decimal string</li>
+ * </ul>
+ *
+ * <p>The key dictionaries are read from the append-only {@code binary-json-keys.txt} resource. They are never
+ * derived from the model at runtime, so that payloads stay readable when the model changes.
+ */
+final class BinaryJson {
+    static final int START_OBJECT = 1;
+    static final int START_ARRAY = 2;
+    static final int END_OBJECT = 3;
+    static final int END_ARRAY = 4;
+    static final int KEY = 5;
+    static final int KEY_STRING = 6;
+    static final int STRING = 7;
+    static final int STRING_REF = 8;
+    static final int INTEGER = 9;
+    static final int DECIMAL = 10;
+    static final int TRUE = 11;
+    static final int FALSE = 12;
+    static final int NULL = 13;
+
+    // strings longer than this (e.g. narrative) are unlikely to repeat and are never added to the string table
+    static final int MAX_SHARED_STRING_LENGTH = 256;
+    static final int MAX_SHARED_STRINGS = 4096;
+
+    private static final String KEYS_RESOURCE = "binary-json-keys.txt";
+
+    // the dictionary with id n is at index n - 1
+    private static final List<KeyDictionary> DICTIONARIES = loadDictionaries();
+
+    private BinaryJson() { }
+
+    /**
+     * @return the dictionary used to write new payloads; the one with the highest id
+     */
+    static KeyDictionary currentDictionary() {
+        return DICTIONARIES.get(DICTIONARIES.size() - 1);
+    }
+
+    /**
+     * @param id
+     *     the id of a dictionary read from a payload header
+     * @return the dictionary with the given id, or null if there is no such dictionary
+     */
+    static KeyDictionary dictionary(int id) {
+        return id > 0 && id <= DICTIONARIES.size() ? DICTIONARIES.get(id - 1) : null;
+    }
+
+    private static List<KeyDictionary> loadDictionaries() {
+        List<KeyDictionary> dictionaries = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        try (InputStream in = BinaryJson.class.getResourceAsStream(KEYS_RESOURCE);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith("@")) {
+                    if (!dictionaries.isEmpty() || !keys.isEmpty()) {
+                        dictionaries.add(new KeyDictionary(dictionaries.size() + 1, keys));
+                    }
+                    if (Integer.parseInt(line.substring(1)) != dictionaries.size() + 1) {
+                        throw new IllegalStateException("Key dictionary ids must be consecutive: '" + line + "'");
+                    }
+                    continue;
+                }
+                keys.add(line);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new Error("Unable to load the binary payload key dictionaries from " + KEYS_RESOURCE, e);
+        }
+        dictionaries.add(new KeyDictionary(dictionaries.size() + 1, keys));
+        return Collections.unmodifiableList(dictionaries);
+    }
+
+    /**
+     * A numbered, immutable list of keys. Each dictionary extends the one before it, so a key has the same ordinal
+     * in every dictionary which contains it.
+     */
+    static final class KeyDictionary {
+        private final int id;
+        private final String[] keys;
+        private final Map<String, Integer> ordinals;
+
+        private KeyDictionary(int id, List<String> keys) {
+            this.id = id;
+            this.keys = keys.toArray(new String[keys.size()]);
+            Map<String, Integer> ordinals = new HashMap<>(this.keys.length * 2);
+            for (int i = 0; i < this.keys.length; i++) {
+                if (ordinals.put(this.keys[i], i) != null) {
+                    throw new IllegalStateException("Duplicate key in dictionary " + id + ": '" + this.keys[i] + "'");
+                }
+            }
+            this.ordinals = Collections.unmodifiableMap(ordinals);
+        }
+
+        /**
+         * @return the id stored in the header of the payloads written with this dictionary
+         */
+        int getId() {
+            return id;
+        }
+
+        /**
+         * @return the number of keys in this dictionary
+         */
+        int size() {
+            return keys.length;
+        }
+
+        /**
+         * @param ordinal
+         * @return the key with the given ordinal, or null if the ordinal is out of range
+         */
+        String getKey(int ordinal) {
+            return ordinal >= 0 && ordinal < keys.length ? keys[ordinal] : null;
+        }
+
+        /**
+         * @param key
+         * @return the ordinal of the given key, or null if the key is not in this dictionary
+         */
+        Integer getOrdinal(String key) {
+            return ordinals.get(key);
+        }
+    }
+}
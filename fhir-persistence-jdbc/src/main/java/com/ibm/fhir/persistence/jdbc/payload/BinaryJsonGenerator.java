@@ -0,0 +1,365 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A {@link JsonGenerator} which writes the compact binary encoding described in {@link BinaryJson}.
+ *
+ * <p>Instances are not thread-safe and should be used to write a single JSON value.
+ */
+public class BinaryJsonGenerator implements JsonGenerator {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final BinaryJson.KeyDictionary dictionary;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    // the container stack; true for objects and false for arrays
+    private boolean[] objects = new boolean[32];
+    private int depth;
+    private boolean keyWritten;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    /**
+     * Create a generator which writes to the given output stream with the current key dictionary
+     *
+     * @param out
+     *     the output stream; flushed but not closed by {@link #close()}
+     */
+    public BinaryJsonGenerator(OutputStream out) {
+        this(out, BinaryJson.currentDictionary());
+    }
+
+    /**
+     * Create a generator which writes to the given output stream
+     *
+     * @param out
+     *     the output stream; flushed but not closed by {@link #close()}
+     * @param dictionary
+     *     the key dictionary used to encode object keys
+     */
+    BinaryJsonGenerator(OutputStream out, BinaryJson.KeyDictionary dictionary) {
+        this.out = out;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        checkValue();
+        writeByte(BinaryJson.START_OBJECT);
+        push(true);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        writeKey(name);
+        return writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        if (depth == 0 || !objects[depth - 1] || keyWritten) {
+            throw new JsonGenerationException("Illegal method in current context: writeKey");
+        }
+        Integer ordinal = dictionary.getOrdinal(name);
+        if (ordinal != null) {
+            writeByte(BinaryJson.KEY);
+            writeVarInt(ordinal);
+        } else {
+            writeByte(BinaryJson.KEY_STRING);
+            writeUtf8(name);
+        }
+        keyWritten = true;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        checkValue();
+        writeByte(BinaryJson.START_ARRAY);
+        push(false);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        writeKey(name);
+        return writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        writeKey(name);
+        return writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (depth == 0 || keyWritten) {
+            throw new JsonGenerationException("Illegal method in current context: writeEnd");
+        }
+        writeByte(objects[--depth] ? BinaryJson.END_OBJECT : BinaryJson.END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            writeStartObject();
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                write(entry.getKey(), entry.getValue());
+            }
+            return writeEnd();
+        case ARRAY:
+            writeStartArray();
+            for (JsonValue item : (JsonArray) value) {
+                write(item);
+            }
+            return writeEnd();
+        case STRING:
+            return write(((JsonString) value).getString());
+        case NUMBER:
+            JsonNumber number = (JsonNumber) value;
+            return number.isIntegral() ? write(number.bigIntegerValue()) : write(number.bigDecimalValue());
+        case TRUE:
+            return write(true);
+        case FALSE:
+            return write(false);
+        default:
+            return writeNull();
+        }
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        checkValue();
+        if (value.length() <= BinaryJson.MAX_SHARED_STRING_LENGTH) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeByte(BinaryJson.STRING_REF);
+                writeVarInt(index);
+                return this;
+            }
+            if (strings.size() < BinaryJson.MAX_SHARED_STRINGS) {
+                strings.put(value, strings.size());
+            }
+        }
+        writeByte(BinaryJson.STRING);
+        writeUtf8(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        checkValue();
+        writeByte(BinaryJson.DECIMAL);
+        writeUtf8(value.toString());
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return write(value.longValue());
+        }
+        checkValue();
+        writeByte(BinaryJson.DECIMAL);
+        writeUtf8(value.toString());
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        return write((long) value);
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        checkValue();
+        writeByte(BinaryJson.INTEGER);
+        writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new NumberFormatException("Infinite or NaN is not allowed");
+        }
+        checkValue();
+        writeByte(BinaryJson.DECIMAL);
+        writeUtf8(String.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        checkValue();
+        writeByte(value ? BinaryJson.TRUE : BinaryJson.FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        checkValue();
+        writeByte(BinaryJson.NULL);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (depth != 0) {
+            throw new JsonGenerationException("Generating incomplete JSON");
+        }
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        try {
+            flushBuffer();
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    private void checkValue() {
+        if (depth > 0 && objects[depth - 1]) {
+            if (!keyWritten) {
+                throw new JsonGenerationException("Illegal method in current context: a key is required");
+            }
+            keyWritten = false;
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == objects.length) {
+            boolean[] newObjects = new boolean[depth * 2];
+            System.arraycopy(objects, 0, newObjects, 0, depth);
+            objects = newObjects;
+        }
+        objects[depth++] = object;
+    }
+
+    private void writeUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                try {
+                    out.write(bytes);
+                } catch (IOException e) {
+                    throw new JsonException(e.getMessage(), e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(int b) {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    private void flushBuffer() {
+        if (position > 0) {
+            try {
+                out.write(buffer, 0, position);
+            } catch (IOException e) {
+                throw new JsonException(e.getMessage(), e);
+            }
+            position = 0;
+        }
+    }
+}
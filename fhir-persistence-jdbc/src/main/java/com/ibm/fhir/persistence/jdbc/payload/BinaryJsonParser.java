@@ -0,0 +1,386 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * A {@link JsonParser} which reads the compact binary encoding written by {@link BinaryJsonGenerator}.
+ *
+ * <p>Instances are not thread-safe and should be used to read a single JSON value.
+ */
+public class BinaryJsonParser implements JsonParser {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final BinaryJson.KeyDictionary dictionary;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long offset;
+
+    private int depth;
+    private Event event;
+
+    // the current string, key or number value
+    private String string;
+    private long longValue;
+
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Create a parser which reads from the given input stream with the current key dictionary
+     *
+     * @param in
+     *     the input stream; closed by {@link #close()}
+     */
+    public BinaryJsonParser(InputStream in) {
+        this(in, BinaryJson.currentDictionary());
+    }
+
+    /**
+     * Create a parser which reads from the given input stream
+     *
+     * @param in
+     *     the input stream; closed by {@link #close()}
+     * @param dictionary
+     *     the key dictionary the input was written with
+     */
+    BinaryJsonParser(InputStream in, BinaryJson.KeyDictionary dictionary) {
+        this.in = in;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return event == null || depth > 0;
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int tag = readByte();
+        switch (tag) {
+        case BinaryJson.START_OBJECT:
+            depth++;
+            return event = Event.START_OBJECT;
+        case BinaryJson.START_ARRAY:
+            depth++;
+            return event = Event.START_ARRAY;
+        case BinaryJson.END_OBJECT:
+            depth--;
+            return event = Event.END_OBJECT;
+        case BinaryJson.END_ARRAY:
+            depth--;
+            return event = Event.END_ARRAY;
+        case BinaryJson.KEY:
+            int ordinal = readVarInt();
+            string = dictionary.getKey(ordinal);
+            if (string == null) {
+                throw new JsonParsingException("Invalid key ordinal: " + ordinal, getLocation());
+            }
+            return event = Event.KEY_NAME;
+        case BinaryJson.KEY_STRING:
+            string = readUtf8();
+            return event = Event.KEY_NAME;
+        case BinaryJson.STRING:
+            string = readUtf8();
+            if (string.length() <= BinaryJson.MAX_SHARED_STRING_LENGTH && strings.size() < BinaryJson.MAX_SHARED_STRINGS) {
+                strings.add(string);
+            }
+            return event = Event.VALUE_STRING;
+        case BinaryJson.STRING_REF:
+            int index = readVarInt();
+            if (index >= strings.size()) {
+                throw new JsonParsingException("Invalid string reference: " + index, getLocation());
+            }
+            string = strings.get(index);
+            return event = Event.VALUE_STRING;
+        case BinaryJson.INTEGER:
+            long value = readVarLong();
+            longValue = (value >>> 1) ^ -(value & 1);
+            string = null;
+            return event = Event.VALUE_NUMBER;
+        case BinaryJson.DECIMAL:
+            string = readUtf8();
+            return event = Event.VALUE_NUMBER;
+        case BinaryJson.TRUE:
+            return event = Event.VALUE_TRUE;
+        case BinaryJson.FALSE:
+            return event = Event.VALUE_FALSE;
+        case BinaryJson.NULL:
+            return event = Event.VALUE_NULL;
+        default:
+            throw new JsonParsingException("Invalid tag: " + tag, getLocation());
+        }
+    }
+
+    @Override
+    public String getString() {
+        if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+            return string;
+        }
+        if (event == Event.VALUE_NUMBER) {
+            return isLong() ? Long.toString(longValue) : string;
+        }
+        throw new IllegalStateException("getString() is not supported for event: " + event);
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        checkNumber("isIntegralNumber");
+        return isLong() || getBigDecimal().scale() == 0;
+    }
+
+    @Override
+    public int getInt() {
+        checkNumber("getInt");
+        return isLong() ? (int) longValue : getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong() {
+        checkNumber("getLong");
+        return isLong() ? longValue : getBigDecimal().longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        checkNumber("getBigDecimal");
+        return isLong() ? BigDecimal.valueOf(longValue) : new BigDecimal(string);
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        final long streamOffset = offset + position;
+        return new JsonLocation() {
+            @Override
+            public long getLineNumber() {
+                return -1;
+            }
+
+            @Override
+            public long getColumnNumber() {
+                return -1;
+            }
+
+            @Override
+            public long getStreamOffset() {
+                return streamOffset;
+            }
+        };
+    }
+
+    @Override
+    public JsonValue getValue() {
+        switch (event) {
+        case START_OBJECT:
+            JsonObjectBuilder objectBuilder = Json.createObjectBuilder();
+            while (next() == Event.KEY_NAME) {
+                String key = string;
+                next();
+                objectBuilder.add(key, getValue());
+            }
+            return objectBuilder.build();
+        case START_ARRAY:
+            JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+            while (next() != Event.END_ARRAY) {
+                arrayBuilder.add(getValue());
+            }
+            return arrayBuilder.build();
+        case VALUE_STRING:
+            return Json.createValue(string);
+        case VALUE_NUMBER:
+            return isLong() ? Json.createValue(longValue) : Json.createValue(getBigDecimal());
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            throw new IllegalStateException("getValue() is not supported for event: " + event);
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (event == Event.START_OBJECT || depth > 0) {
+            skip(Event.START_OBJECT, Event.END_OBJECT);
+        }
+    }
+
+    @Override
+    public void skipArray() {
+        if (event == Event.START_ARRAY || depth > 0) {
+            skip(Event.START_ARRAY, Event.END_ARRAY);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy the remaining events of this parser to the given generator
+     *
+     * @param generator
+     *     the generator to write to
+     */
+    public void transferTo(JsonGenerator generator) {
+        while (hasNext()) {
+            switch (next()) {
+            case START_OBJECT:
+                generator.writeStartObject();
+                break;
+            case START_ARRAY:
+                generator.writeStartArray();
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                generator.writeEnd();
+                break;
+            case KEY_NAME:
+                generator.writeKey(string);
+                break;
+            case VALUE_STRING:
+                generator.write(string);
+                break;
+            case VALUE_NUMBER:
+                if (isLong()) {
+                    generator.write(longValue);
+                } else {
+                    generator.write(getBigDecimal());
+                }
+                break;
+            case VALUE_TRUE:
+                generator.write(true);
+                break;
+            case VALUE_FALSE:
+                generator.write(false);
+                break;
+            case VALUE_NULL:
+                generator.writeNull();
+                break;
+            }
+        }
+    }
+
+    private void skip(Event start, Event end) {
+        // skip to the end of the current container, honoring nested containers of the same kind
+        int level = 1;
+        while (level > 0) {
+            Event e = next();
+            if (e == start) {
+                level++;
+            } else if (e == end) {
+                level--;
+            }
+        }
+    }
+
+    private boolean isLong() {
+        return string == null;
+    }
+
+    private void checkNumber(String methodName) {
+        if (event != Event.VALUE_NUMBER) {
+            throw new IllegalStateException(methodName + "() is not supported for event: " + event);
+        }
+    }
+
+    private String readUtf8() {
+        int length = readVarInt();
+        if (length > limit - position) {
+            if (length > buffer.length) {
+                byte[] newBuffer = new byte[Math.max(length, buffer.length * 2)];
+                System.arraycopy(buffer, position, newBuffer, 0, limit - position);
+                offset += position;
+                limit -= position;
+                position = 0;
+                buffer = newBuffer;
+            }
+            fill(length);
+        }
+        String result = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return result;
+    }
+
+    private int readVarInt() {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new JsonParsingException("Invalid length or index: " + value, getLocation());
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new JsonParsingException("Malformed varint", getLocation());
+    }
+
+    private int readByte() {
+        if (position == limit) {
+            fill(1);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Ensure that at least {@code required} bytes are available in the buffer starting at {@code position}
+     */
+    private void fill(int required) {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            offset += position;
+            limit -= position;
+            position = 0;
+        }
+        try {
+            while (limit < required) {
+                int n = in.read(buffer, limit, buffer.length - limit);
+                if (n == -1) {
+                    throw new JsonParsingException("Unexpected end of input", getLocation());
+                }
+                limit += n;
+            }
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+}
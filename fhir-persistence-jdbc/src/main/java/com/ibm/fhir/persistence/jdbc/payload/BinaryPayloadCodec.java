@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingInputStream;
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.generator.FHIRJsonGenerator;
+import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
+import com.ibm.fhir.model.parser.FHIRJsonStreamParser;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Resource;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * A compact binary payload format: the JSON representation of the resource written with {@link BinaryJsonGenerator},
+ * then compressed.
+ *
+ * <p>Payloads start with the format id and compression id, followed by the 2-byte id of the key dictionary used to
+ * write them. Dictionaries are append-only and never removed, so payloads written with an older dictionary remain
+ * readable after the dictionary has been extended.
+ * Decoding drives the model builders directly from the binary events via {@link FHIRJsonStreamParser},
+ * so no JSON text is tokenized on the read path.
+ */
+public class BinaryPayloadCodec implements PayloadCodec {
+    public static final String NAME = "binary";
+    public static final int FORMAT_ID = 0x02;
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getFormatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public void encode(Resource resource, PayloadCompression compression, OutputStream out) throws FHIRGeneratorException, IOException {
+        DataOutputStream dataStream = new DataOutputStream(out);
+        dataStream.writeByte(FORMAT_ID);
+        dataStream.writeByte(compression.getId());
+        BinaryJson.KeyDictionary dictionary = BinaryJson.currentDictionary();
+        dataStream.writeShort(dictionary.getId());
+        dataStream.flush();
+        try (OutputStream compressedStream = compression.compress(nonClosingOutputStream(out))) {
+            BinaryJsonGenerator generator = new BinaryJsonGenerator(compressedStream, dictionary);
+            FHIRGenerator.generator(Format.JSON).as(FHIRJsonGenerator.class).generate(resource, generator);
+        }
+    }
+
+    @Override
+    public <T extends Resource> T decode(InputStream in, Collection<String> elements) throws FHIRParserException, IOException {
+        Header header = readHeader(in);
+        FHIRJsonStreamParser parser = FHIRParser.parser(Format.JSON, true).as(FHIRJsonStreamParser.class);
+        parser.setValidating(false);
+        try (BinaryJsonParser binaryParser = new BinaryJsonParser(header.compression.decompress(nonClosingInputStream(in)), header.dictionary)) {
+            return parser.parseAndFilter(binaryParser, elements);
+        }
+    }
+
+    @Override
+    public InputStream decodeToJson(InputStream in) throws IOException {
+        try {
+            Header header = readHeader(in);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (BinaryJsonParser binaryParser = new BinaryJsonParser(header.compression.decompress(in), header.dictionary);
+                    JsonGenerator generator = GENERATOR_FACTORY.createGenerator(out, StandardCharsets.UTF_8)) {
+                binaryParser.transferTo(generator);
+            }
+            return new ByteArrayInputStream(out.toByteArray());
+        } catch (JsonException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private Header readHeader(InputStream in) throws IOException {
+        DataInputStream dataStream = new DataInputStream(in);
+        int formatId = dataStream.readUnsignedByte();
+        if (formatId != FORMAT_ID) {
+            throw new IOException("Unexpected payload format id: " + formatId);
+        }
+        PayloadCompression compression = PayloadSupport.getCompression(dataStream.readUnsignedByte());
+        int dictionaryId = dataStream.readUnsignedShort();
+        BinaryJson.KeyDictionary dictionary = BinaryJson.dictionary(dictionaryId);
+        if (dictionary == null) {
+            // written by a newer release with a dictionary this release doesn't have
+            throw new IOException("Unrecognized payload key dictionary id: " + dictionaryId);
+        }
+        return new Header(compression, dictionary);
+    }
+
+    private static class Header {
+        private final PayloadCompression compression;
+        private final BinaryJson.KeyDictionary dictionary;
+
+        private Header(PayloadCompression compression, BinaryJson.KeyDictionary dictionary) {
+            this.compression = compression;
+            this.dictionary = dictionary;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingInputStream;
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Collection;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
+import com.ibm.fhir.model.parser.FHIRJsonParser;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * The original payload format: compressed JSON.
+ *
+ * <p>GZIP-compressed payloads are written without a header, exactly as they were before the compression
+ * became configurable, so that they remain readable by earlier releases; their format id is the first byte
+ * of the GZIP magic number.
+ *
+ * <p>The {@value #STREAM_NAME} codec writes exactly the same payloads with the direct-to-stream JSON generator
+ * ({@code FHIRGenerator.generator(Format.JSON, false, true)}) instead of the default one.
+ */
+public class JsonPayloadCodec implements PayloadCodec {
+    public static final String NAME = "json";
+    public static final String STREAM_NAME = "json-stream";
+    public static final int FORMAT_ID = 0x01;
+
+    // first byte of the GZIP magic number (0x1f8b)
+    public static final int GZIP_FORMAT_ID = 0x1f;
+
+    private final String name;
+    private final boolean streaming;
+
+    /**
+     * Create the {@value #NAME} codec
+     */
+    public JsonPayloadCodec() {
+        this(NAME, false);
+    }
+
+    /**
+     * Create a JSON codec
+     *
+     * @param name
+     *     the name used to select the codec in the configuration
+     * @param streaming
+     *     whether payloads are written with the direct-to-stream JSON generator
+     */
+    public JsonPayloadCodec(String name, boolean streaming) {
+        this.name = name;
+        this.streaming = streaming;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getFormatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public void encode(Resource resource, PayloadCompression compression, OutputStream out) throws FHIRGeneratorException, IOException {
+        if (compression.getId() != GzipCompression.ID) {
+            out.write(FORMAT_ID);
+            out.write(compression.getId());
+        }
+        try (OutputStream compressedStream = compression.compress(nonClosingOutputStream(out))) {
+            FHIRGenerator.generator(Format.JSON, false, streaming).generate(resource, compressedStream);
+        }
+    }
+
+    @Override
+    public <T extends Resource> T decode(InputStream in, Collection<String> elements) throws FHIRParserException, IOException {
+        FHIRParser parser = FHIRParser.parser(Format.JSON);
+        parser.setValidating(false);
+        try (InputStream jsonStream = open(nonClosingInputStream(in))) {
+            if (elements != null) {
+                return parser.as(FHIRJsonParser.class).parseAndFilter(jsonStream, elements);
+            }
+            return parser.parse(jsonStream);
+        }
+    }
+
+    @Override
+    public InputStream decodeToJson(InputStream in) throws IOException {
+        return open(in);
+    }
+
+    private InputStream open(InputStream in) throws IOException {
+        int formatId = in.read();
+        if (formatId == GZIP_FORMAT_ID) {
+            InputStream gzipStream = new SequenceInputStream(new ByteArrayInputStream(new byte[] { GZIP_FORMAT_ID }), in);
+            return PayloadSupport.getCompression(GzipCompression.ID).decompress(gzipStream);
+        }
+        if (formatId != FORMAT_ID) {
+            throw new IOException("Unexpected payload format id: " + formatId);
+        }
+        return PayloadSupport.getCompression(in.read()).decompress(in);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream.BLOCKSIZE;
+
+/**
+ * LZ4 frame compression; a lower ratio than GZIP, but several times cheaper to compress and decompress
+ */
+public class Lz4Compression implements PayloadCompression {
+    public static final String NAME = "lz4";
+    public static final int ID = 2;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+        // the default 4MB block size would allocate a 4MB buffer per payload
+        return new LZ4FrameOutputStream(out, BLOCKSIZE.SIZE_64KB);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+        return new LZ4FrameInputStream(in);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * No compression; trades storage for the lowest CPU cost
+ */
+public class NoCompression implements PayloadCompression {
+    public static final String NAME = "none";
+    public static final int ID = 0;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) {
+        return out;
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) {
+        return in;
+    }
+}
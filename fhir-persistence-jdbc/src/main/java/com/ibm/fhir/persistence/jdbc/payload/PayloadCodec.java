@@ -0,0 +1,78 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+
+import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * Encodes and decodes the resource payloads stored in the DATA column of the xx_RESOURCES tables.
+ *
+ * <p>Every encoded payload starts with the {@link #getFormatId() format id} of the codec which wrote it,
+ * followed by the {@link PayloadCompression#getId() compression id}, which allows rows written with different
+ * codecs and compression to coexist in the same table.
+ *
+ * @see PayloadSupport
+ */
+public interface PayloadCodec {
+    /**
+     * The name used to select this codec in the configuration
+     *
+     * @return the codec name
+     */
+    String getName();
+
+    /**
+     * The first byte of every payload written by this codec
+     *
+     * @return the format id
+     */
+    int getFormatId();
+
+    /**
+     * Encode the resource, including the format id header, to the output stream
+     *
+     * @param resource
+     *     the resource to encode
+     * @param compression
+     *     the compression to apply to the encoded resource
+     * @param out
+     *     the output stream; not closed by this method
+     * @throws FHIRGeneratorException
+     * @throws IOException
+     */
+    void encode(Resource resource, PayloadCompression compression, OutputStream out) throws FHIRGeneratorException, IOException;
+
+    /**
+     * Decode a payload written by this codec
+     *
+     * @param in
+     *     the input stream positioned at the format id
+     * @param elements
+     *     an optional list of top-level elements to include; null to include all elements
+     * @return the decoded resource
+     * @throws FHIRParserException
+     * @throws IOException
+     */
+    <T extends Resource> T decode(InputStream in, Collection<String> elements) throws FHIRParserException, IOException;
+
+    /**
+     * Decode a payload written by this codec to its JSON representation
+     *
+     * @param in
+     *     the input stream positioned at the format id
+     * @return an input stream containing the resource in JSON format; the caller must close it
+     * @throws IOException
+     */
+    InputStream decodeToJson(InputStream in) throws IOException;
+}
@@ -0,0 +1,55 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compression algorithm applied by a {@link PayloadCodec} to the encoded resource.
+ *
+ * <p>The {@link #getId() id} is recorded in the payload header so that payloads compressed with different
+ * algorithms can coexist in the same table.
+ */
+public interface PayloadCompression {
+    /**
+     * The name used to select this compression in the configuration
+     *
+     * @return the compression name
+     */
+    String getName();
+
+    /**
+     * The id recorded in the header of payloads compressed with this algorithm
+     *
+     * @return the compression id
+     */
+    int getId();
+
+    /**
+     * Wrap the output stream with a compressing output stream.
+     *
+     * <p>The caller must close the returned stream to complete the compressed data.
+     *
+     * @param out
+     *     the output stream to write the compressed data to
+     * @return the compressing output stream
+     * @throws IOException
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Wrap the input stream with a decompressing input stream
+     *
+     * @param in
+     *     the input stream to read the compressed data from
+     * @return the decompressing input stream; the caller must close it
+     * @throws IOException
+     */
+    InputStream decompress(InputStream in) throws IOException;
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Collection;
+
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * Selects the {@link PayloadCodec} and {@link PayloadCompression} used to write new payloads and the ones needed
+ * to read a stored payload.
+ */
+public final class PayloadSupport {
+    private static final PayloadCodec JSON_CODEC = new JsonPayloadCodec();
+    // JSON_CODEC is listed first so that it is used to read the payloads written by either JSON codec
+    private static final PayloadCodec[] CODECS = {
+        JSON_CODEC,
+        new JsonPayloadCodec(JsonPayloadCodec.STREAM_NAME, true),
+        new BinaryPayloadCodec()
+    };
+
+    private static final PayloadCompression[] COMPRESSIONS = {
+        new NoCompression(),
+        new GzipCompression(),
+        new Lz4Compression()
+    };
+
+    private PayloadSupport() { }
+
+    /**
+     * Get the codec with the given name
+     *
+     * @param name
+     *     the codec name, e.g. "json", "json-stream" or "binary"
+     * @return the codec
+     * @throws IllegalArgumentException
+     *     if no codec exists with the given name
+     */
+    public static PayloadCodec getCodec(String name) {
+        for (PayloadCodec codec : CODECS) {
+            if (codec.getName().equals(name)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Invalid payload codec: '" + name + "'");
+    }
+
+    /**
+     * Get the codec which wrote the payload starting with the given format id
+     *
+     * @param formatId
+     *     the first byte of the payload
+     * @return the codec
+     * @throws IOException
+     *     if the format id is not recognized
+     */
+    public static PayloadCodec getCodec(int formatId) throws IOException {
+        if (formatId == JsonPayloadCodec.GZIP_FORMAT_ID) {
+            return JSON_CODEC;
+        }
+        for (PayloadCodec codec : CODECS) {
+            if (codec.getFormatId() == formatId) {
+                return codec;
+            }
+        }
+        throw new IOException("Unrecognized payload format id: " + formatId);
+    }
+
+    /**
+     * Get the compression with the given name
+     *
+     * @param name
+     *     the compression name, e.g. "none", "gzip" or "lz4"
+     * @return the compression
+     * @throws IllegalArgumentException
+     *     if no compression exists with the given name
+     */
+    public static PayloadCompression getCompression(String name) {
+        for (PayloadCompression compression : COMPRESSIONS) {
+            if (compression.getName().equals(name)) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Invalid payload compression: '" + name + "'");
+    }
+
+    /**
+     * Get the compression with the given id
+     *
+     * @param id
+     *     the compression id read from a payload header
+     * @return the compression
+     * @throws IOException
+     *     if the compression id is not recognized
+     */
+    public static PayloadCompression getCompression(int id) throws IOException {
+        for (PayloadCompression compression : COMPRESSIONS) {
+            if (compression.getId() == id) {
+                return compression;
+            }
+        }
+        throw new IOException("Unrecognized payload compression id: " + id);
+    }
+
+    /**
+     * Decode a stored payload using the codec which wrote it
+     *
+     * @param in
+     *     the payload
+     * @param elements
+     *     an optional list of top-level elements to include; null to include all elements
+     * @return the decoded resource
+     * @throws FHIRParserException
+     * @throws IOException
+     */
+    public static <T extends Resource> T decode(InputStream in, Collection<String> elements) throws FHIRParserException, IOException {
+        PushbackInputStream pushbackStream = new PushbackInputStream(in, 1);
+        return getCodec(peek(pushbackStream)).decode(pushbackStream, elements);
+    }
+
+    /**
+     * Decode a stored payload to its JSON representation using the codec which wrote it
+     *
+     * @param in
+     *     the payload
+     * @return an input stream containing the resource in JSON format; the caller must close it
+     * @throws IOException
+     */
+    public static InputStream decodeToJson(InputStream in) throws IOException {
+        PushbackInputStream pushbackStream = new PushbackInputStream(in, 1);
+        return getCodec(peek(pushbackStream)).decodeToJson(pushbackStream);
+    }
+
+    private static int peek(PushbackInputStream in) throws IOException {
+        int formatId = in.read();
+        if (formatId == -1) {
+            throw new IOException("Empty payload");
+        }
+        in.unread(formatId);
+        return formatId;
+    }
+}
@@ -216,9 +216,21 @@ public class NewQueryBuilder {
      * @return
      */
     private Select renderQuery(SearchQuery domainModel, FHIRSearchContext searchContext) throws FHIRPersistenceException {
-        final int offset = (searchContext.getPageNumber()-1) * searchContext.getPageSize();
+        return renderQuery(domainModel, searchContext, null);
+    }
+
+    /**
+     * Render the domain model into a Select statement
+     * @param domainModel
+     * @param searchContext
+     * @param pageCursor if not null, the query seeks past the last row of the preceding page instead of using an offset
+     * @return
+     */
+    private Select renderQuery(SearchQuery domainModel, FHIRSearchContext searchContext, PageCursor pageCursor) throws FHIRPersistenceException {
+        final int offset = pageCursor != null ? 0 : (searchContext.getPageNumber()-1) * searchContext.getPageSize();
         final int rowsPerPage = searchContext.getPageSize();
-        SearchQueryRenderer renderer = new SearchQueryRenderer(this.identityCache, offset, rowsPerPage);
+        final Long afterLogicalResourceId = pageCursor != null ? pageCursor.getLastKey() : null;
+        SearchQueryRenderer renderer = new SearchQueryRenderer(this.identityCache, offset, rowsPerPage, afterLogicalResourceId);
         QueryData queryData = domainModel.visit(renderer);
         return queryData.getQuery().build();
     }
@@ -236,6 +248,7 @@ public class NewQueryBuilder {
                 new Object[] { resourceType.getSimpleName(), searchContext.getSearchParameters() });
 
         final SearchQuery domainModel;
+        PageCursor pageCursor = null;
         if (Resource.class.equals(resourceType)) {
             // Whole-system search
             if (allSearchParmsAreGlobal(searchContext.getSearchParameters())) {
@@ -287,10 +300,12 @@ public class NewQueryBuilder {
             }
             domainModel = sortQuery;
         } else {
+            // Ordered by logical resource id, so a cursor from the preceding page lets us seek to this page
             domainModel = new SearchDataQuery(resourceType.getSimpleName());
+            pageCursor = PageCursor.of(searchContext);
         }
         buildModelCommon(domainModel, resourceType, searchContext);
-        Select result = renderQuery(domainModel, searchContext);
+        Select result = renderQuery(domainModel, searchContext, pageCursor);
 
         log.exiting(CLASSNAME, METHODNAME);
         return result;
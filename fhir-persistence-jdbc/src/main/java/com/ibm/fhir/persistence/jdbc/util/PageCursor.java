@@ -0,0 +1,143 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.core.context.FHIRPagingContext;
+
+/**
+ * The position of a page within an ordered result set. A cursor holds the sort key of the
+ * last row of the preceding page, so the query for the page can seek directly to its first
+ * row (keyset pagination) instead of reading and discarding all the rows of the preceding
+ * pages with an OFFSET.
+ *
+ * <p>A cursor is only valid for the page number and page size it was created for. It is
+ * exchanged with clients as an opaque token; a token which cannot be decoded or which was
+ * created for another page or page size is rejected (see {@link #matches(FHIRPagingContext)}).
+ */
+public class PageCursor {
+    private static final Logger log = Logger.getLogger(PageCursor.class.getName());
+
+    private static final String DELIMITER = ":";
+
+    private final int pageNumber;
+    private final int pageSize;
+    private final long lastKey;
+
+    /**
+     * Public constructor
+     * @param pageNumber
+     *     the number of the page this cursor points to
+     * @param pageSize
+     *     the page size used for the result set
+     * @param lastKey
+     *     the sort key of the last row of the preceding page
+     */
+    public PageCursor(int pageNumber, int pageSize, long lastKey) {
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.lastKey = lastKey;
+    }
+
+    /**
+     * @return the number of the page this cursor points to
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * @return the page size used for the result set
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the sort key of the last row of the preceding page
+     */
+    public long getLastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Indicates whether this cursor was created for the current page of the paging context
+     * @param pagingContext
+     * @return true if the page number and the page size of this cursor match those of the paging context
+     */
+    public boolean matches(FHIRPagingContext pagingContext) {
+        return pageNumber > 1
+                && pageNumber == pagingContext.getPageNumber()
+                && pageSize == pagingContext.getPageSize();
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL-safe token
+     * @return the token
+     */
+    public String encode() {
+        String value = pageNumber + DELIMITER + pageSize + DELIMITER + lastKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    /**
+     * Decode the passed token
+     * @param token
+     *     a token created by {@link #encode()}
+     * @return the cursor, or null if the token is null or malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            String[] tokens = new String(Base64.getUrlDecoder().decode(token), UTF_8).split(DELIMITER);
+            if (tokens.length != 3) {
+                return null;
+            }
+            return new PageCursor(Integer.parseInt(tokens[0]), Integer.parseInt(tokens[1]), Long.parseLong(tokens[2]));
+        } catch (IllegalArgumentException e) {
+            // also covers NumberFormatException
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Ignoring malformed page cursor: '" + token + "'");
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Get the cursor which was passed with the request for the current page of the paging context
+     * @param pagingContext
+     * @return the cursor, or null if the paging context has no cursor or the cursor is malformed or
+     *     does not match the page number and page size of the paging context
+     */
+    public static PageCursor of(FHIRPagingContext pagingContext) {
+        PageCursor pageCursor = decode(pagingContext.getPageCursor());
+        return pageCursor != null && pageCursor.matches(pagingContext) ? pageCursor : null;
+    }
+
+    /**
+     * Set the cursor for the page following the current page of the paging context, if there is one
+     * @param pagingContext
+     * @param resultCount
+     *     the number of rows read for the current page
+     * @param lastKey
+     *     the sort key of the last row read for the current page
+     */
+    public static void setNextPageCursor(FHIRPagingContext pagingContext, int resultCount, long lastKey) {
+        int pageNumber = pagingContext.getPageNumber();
+        int pageSize = pagingContext.getPageSize();
+        if (pageSize > 0 && resultCount == pageSize && pageNumber < pagingContext.getLastPageNumber()) {
+            pagingContext.setNextPageCursor(new PageCursor(pageNumber + 1, pageSize, lastKey).encode());
+        }
+    }
+}
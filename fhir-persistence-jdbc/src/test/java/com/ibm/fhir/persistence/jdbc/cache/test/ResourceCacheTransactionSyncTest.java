@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.cache.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import javax.transaction.Status;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.cache.CacheManager.Configuration;
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.Basic;
+import com.ibm.fhir.model.type.CodeableConcept;
+import com.ibm.fhir.model.type.Id;
+import com.ibm.fhir.model.type.Meta;
+import com.ibm.fhir.persistence.jdbc.cache.ResourceCache;
+import com.ibm.fhir.persistence.jdbc.cache.ResourceCacheTransactionSync;
+
+/**
+ * Unit tests for {@link ResourceCacheTransactionSync}
+ */
+public class ResourceCacheTransactionSyncTest {
+    private final ResourceCache resourceCache = new ResourceCache(Configuration.of(16), 1000);
+    private FHIRRequestContext requestContext;
+
+    @BeforeMethod
+    public void before() throws Exception {
+        requestContext = new FHIRRequestContext("default", "default");
+        FHIRRequestContext.set(requestContext);
+    }
+
+    @AfterMethod
+    public void after() {
+        FHIRRequestContext.remove();
+    }
+
+    @Test
+    public void testInvalidateAfterCompletion() throws Exception {
+        Basic version1 = basic("written", "1");
+        resourceCache.put(version1, true);
+
+        ResourceCacheTransactionSync sync = new ResourceCacheTransactionSync(resourceCache, requestContext);
+        sync.resourceWritten("Basic", "written");
+        assertNull(resourceCache.getCurrent(Basic.class, "written"));
+
+        // another request reads the committed version before the transaction commits
+        resourceCache.put(version1, true);
+        assertSame(resourceCache.getCurrent(Basic.class, "written"), version1);
+
+        // the transaction may complete on a thread with another request context
+        FHIRRequestContext.set(new FHIRRequestContext("default", "other"));
+        sync.afterCompletion(Status.STATUS_COMMITTED);
+        FHIRRequestContext.set(requestContext);
+
+        assertNull(resourceCache.getCurrent(Basic.class, "written"));
+        assertSame(resourceCache.getVersion(Basic.class, "written", "1"), version1);
+    }
+
+    @Test
+    public void testInvalidateErasedAfterCompletion() throws Exception {
+        Basic version1 = basic("erased", "1");
+        Basic version2 = basic("erased", "2");
+        resourceCache.put(version1, false);
+        resourceCache.put(version2, true);
+
+        ResourceCacheTransactionSync sync = new ResourceCacheTransactionSync(resourceCache, requestContext);
+        sync.resourceErased("Basic", "erased");
+        assertNull(resourceCache.getCurrent(Basic.class, "erased"));
+        assertNull(resourceCache.getVersion(Basic.class, "erased", "1"));
+
+        // another request reads the versions before the erase commits
+        resourceCache.put(version1, false);
+        resourceCache.put(version2, true);
+
+        sync.afterCompletion(Status.STATUS_COMMITTED);
+        assertNull(resourceCache.getCurrent(Basic.class, "erased"));
+        assertNull(resourceCache.getVersion(Basic.class, "erased", "1"));
+        assertNull(resourceCache.getVersion(Basic.class, "erased", "2"));
+    }
+
+    private Basic basic(String logicalId, String versionId) {
+        return Basic.builder()
+                .id(logicalId)
+                .meta(Meta.builder()
+                    .versionId(Id.of(versionId))
+                    .build())
+                .code(CodeableConcept.builder()
+                    .text(string("cached"))
+                    .build())
+                .build();
+    }
+}
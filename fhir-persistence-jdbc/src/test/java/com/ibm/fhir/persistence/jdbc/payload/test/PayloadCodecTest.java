@@ -0,0 +1,257 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.payload.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.examples.Index;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.persistence.jdbc.payload.BinaryPayloadCodec;
+import com.ibm.fhir.persistence.jdbc.payload.GzipCompression;
+import com.ibm.fhir.persistence.jdbc.payload.JsonPayloadCodec;
+import com.ibm.fhir.persistence.jdbc.payload.Lz4Compression;
+import com.ibm.fhir.persistence.jdbc.payload.NoCompression;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadCodec;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadCompression;
+import com.ibm.fhir.persistence.jdbc.payload.PayloadSupport;
+
+/**
+ * Unit tests for the {@link PayloadCodec} and {@link PayloadCompression} implementations
+ */
+public class PayloadCodecTest {
+    private static final Patient PATIENT = Patient.builder()
+            .id("1")
+            .active(com.ibm.fhir.model.type.Boolean.TRUE)
+            .name(HumanName.builder()
+                .family(com.ibm.fhir.model.type.String.of("Doe"))
+                .given(com.ibm.fhir.model.type.String.of("John"), com.ibm.fhir.model.type.String.of("John"))
+                .build())
+            .build();
+
+    @DataProvider(name = "codecs")
+    public static Object[][] codecs() {
+        String[] codecs = { JsonPayloadCodec.NAME, JsonPayloadCodec.STREAM_NAME, BinaryPayloadCodec.NAME };
+        String[] compressions = { NoCompression.NAME, GzipCompression.NAME, Lz4Compression.NAME };
+        Object[][] result = new Object[codecs.length * compressions.length][];
+        int i = 0;
+        for (String codec : codecs) {
+            for (String compression : compressions) {
+                result[i++] = new Object[] { PayloadSupport.getCodec(codec), PayloadSupport.getCompression(compression) };
+            }
+        }
+        return result;
+    }
+
+    @Test(dataProvider = "codecs")
+    public void testExamples(PayloadCodec codec, PayloadCompression compression) throws Exception {
+        try (BufferedReader reader = new BufferedReader(ExamplesUtil.indexReader(Index.MINIMAL_JSON))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                String file = tokens[tokens.length - 1];
+
+                Resource resource;
+                try (Reader in = ExamplesUtil.resourceReader(file)) {
+                    resource = FHIRParser.parser(Format.JSON).parse(in);
+                } catch (FHIRParserException e) {
+                    continue;
+                }
+
+                byte[] payload = encode(codec, compression, resource);
+                if (!isLegacy(codec, compression)) {
+                    assertEquals(payload[0], (byte) codec.getFormatId(), file);
+                    assertEquals(payload[1], (byte) compression.getId(), file);
+                }
+                assertEquals(PayloadSupport.decode(new ByteArrayInputStream(payload), null), resource, file);
+                assertEquals(decodeToJson(payload), generate(resource), file);
+            }
+        }
+    }
+
+    @Test(dataProvider = "codecs")
+    public void testElements(PayloadCodec codec, PayloadCompression compression) throws Exception {
+        byte[] payload = encode(codec, compression, PATIENT);
+        Patient patient = PayloadSupport.decode(new ByteArrayInputStream(payload), Collections.singleton("active"));
+        assertEquals(patient.getId(), "1");
+        assertEquals(patient.getActive(), com.ibm.fhir.model.type.Boolean.TRUE);
+        assertTrue(patient.getName().isEmpty());
+    }
+
+    @Test
+    public void testLegacyPayload() throws Exception {
+        // rows written before payload codecs were introduced
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream zipStream = new GZIPOutputStream(out)) {
+            FHIRGenerator.generator(Format.JSON).generate(PATIENT, zipStream);
+        }
+        byte[] legacy = out.toByteArray();
+        assertEquals(PayloadSupport.decode(new ByteArrayInputStream(legacy), null), PATIENT);
+
+        // gzip-compressed JSON is still written without a header so that older servers can read it
+        byte[] payload = encode(PayloadSupport.getCodec(JsonPayloadCodec.NAME), PayloadSupport.getCompression(GzipCompression.NAME), PATIENT);
+        assertEquals(payload[0], (byte) 0x1f);
+        assertEquals(payload[1], (byte) 0x8b);
+    }
+
+    @Test
+    public void testStreamGenerator() throws Exception {
+        // the json-stream codec writes the same payloads as the json codec
+        PayloadCompression compression = PayloadSupport.getCompression(NoCompression.NAME);
+        byte[] payload = encode(PayloadSupport.getCodec(JsonPayloadCodec.NAME), compression, PATIENT);
+        byte[] streamPayload = encode(PayloadSupport.getCodec(JsonPayloadCodec.STREAM_NAME), compression, PATIENT);
+        assertEquals(streamPayload, payload);
+    }
+
+    @Test
+    public void testNoCompression() throws Exception {
+        // uncompressed JSON is the generated JSON preceded by the two byte header
+        byte[] payload = encode(PayloadSupport.getCodec(JsonPayloadCodec.NAME), PayloadSupport.getCompression(NoCompression.NAME), PATIENT);
+        String json = generate(PATIENT);
+        assertEquals(new String(payload, 2, payload.length - 2, StandardCharsets.UTF_8), json);
+        assertEquals(decodeToJson(payload), json);
+    }
+
+    @Test
+    public void testBinaryIsSmaller() throws Exception {
+        PayloadCompression compression = PayloadSupport.getCompression(GzipCompression.NAME);
+        byte[] json = encode(PayloadSupport.getCodec(JsonPayloadCodec.NAME), compression, PATIENT);
+        byte[] binary = encode(PayloadSupport.getCodec(BinaryPayloadCodec.NAME), compression, PATIENT);
+        assertTrue(binary.length < json.length, binary.length + " >= " + json.length);
+    }
+
+    @Test
+    public void testBinaryFixtures() throws Exception {
+        // payloads written with key dictionary 1; these files must never be regenerated
+        for (String fixture : Arrays.asList("payload/binary-dictionary-1-none.bin", "payload/binary-dictionary-1-gzip.bin")) {
+            byte[] payload = readResource(fixture);
+            assertEquals(payload[0], (byte) BinaryPayloadCodec.FORMAT_ID, fixture);
+            assertEquals(PayloadSupport.decode(new ByteArrayInputStream(payload), null), PATIENT, fixture);
+            assertEquals(decodeToJson(payload), generate(PATIENT), fixture);
+        }
+    }
+
+    @Test
+    public void testBinaryKeyDictionaryIsAppendOnly() throws Exception {
+        // the keys of a released dictionary may never change; new keys are only added in a new dictionary
+        List<String> keys = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream("com/ibm/fhir/persistence/jdbc/payload/binary-json-keys.txt"),
+                StandardCharsets.UTF_8))) {
+            String line;
+            boolean dictionary1 = false;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("@")) {
+                    dictionary1 = "@1".equals(line);
+                } else if (dictionary1 && !line.isEmpty() && !line.startsWith("#")) {
+                    keys.add(line);
+                }
+            }
+        }
+        assertEquals(keys.size(), 3512);
+        assertEquals(Arrays.hashCode(keys.toArray()), 2089895223);
+    }
+
+    @Test
+    public void testUnknownKeyDictionary() throws Exception {
+        byte[] payload = encode(PayloadSupport.getCodec(BinaryPayloadCodec.NAME), PayloadSupport.getCompression(NoCompression.NAME), PATIENT);
+        // a dictionary id written by a newer release
+        payload[2] = 0x7f;
+        payload[3] = (byte) 0xff;
+        try {
+            PayloadSupport.decode(new ByteArrayInputStream(payload), null);
+            fail();
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "Unrecognized payload key dictionary id: 32767");
+        }
+    }
+
+    @Test
+    public void testInvalidPayload() throws Exception {
+        try {
+            PayloadSupport.decode(new ByteArrayInputStream(new byte[] { 0x7f }), null);
+            fail();
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "Unrecognized payload format id: 127");
+        }
+        try {
+            PayloadSupport.getCodec("hamburger");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Invalid payload codec: 'hamburger'");
+        }
+        try {
+            PayloadSupport.decode(new ByteArrayInputStream(new byte[] { (byte) JsonPayloadCodec.FORMAT_ID, 0x7f }), null);
+            fail();
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "Unrecognized payload compression id: 127");
+        }
+        try {
+            PayloadSupport.getCompression("hamburger");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Invalid payload compression: 'hamburger'");
+        }
+    }
+
+    private static boolean isLegacy(PayloadCodec codec, PayloadCompression compression) {
+        return codec instanceof JsonPayloadCodec && GzipCompression.NAME.equals(compression.getName());
+    }
+
+    private static byte[] encode(PayloadCodec codec, PayloadCompression compression, Resource resource) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(resource, compression, out);
+        return out.toByteArray();
+    }
+
+    private static String decodeToJson(byte[] payload) throws Exception {
+        try (InputStream in = PayloadSupport.decodeToJson(new ByteArrayInputStream(payload))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = PayloadCodecTest.class.getClassLoader().getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String generate(Resource resource) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRGenerator.generator(Format.JSON).generate(resource, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.database.utils.api.IConnectionProvider;
+import com.ibm.fhir.database.utils.pool.PoolConnectionProvider;
+import com.ibm.fhir.model.resource.Basic;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.CodeableConcept;
+import com.ibm.fhir.model.type.Coding;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.persistence.FHIRPersistence;
+import com.ibm.fhir.persistence.MultiResourceResult;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
+import com.ibm.fhir.persistence.jdbc.FHIRPersistenceJDBCCache;
+import com.ibm.fhir.persistence.jdbc.cache.CommonTokenValuesCacheImpl;
+import com.ibm.fhir.persistence.jdbc.cache.FHIRPersistenceJDBCCacheImpl;
+import com.ibm.fhir.persistence.jdbc.cache.IdNameCache;
+import com.ibm.fhir.persistence.jdbc.cache.NameIdCache;
+import com.ibm.fhir.persistence.jdbc.dao.api.ICommonTokenValuesCache;
+import com.ibm.fhir.persistence.jdbc.impl.FHIRPersistenceJDBCImpl;
+import com.ibm.fhir.persistence.jdbc.test.util.DerbyInitializer;
+import com.ibm.fhir.persistence.test.common.AbstractPersistenceTest;
+import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.util.SearchUtil;
+
+/**
+ * Tests for storing resources with deferred search parameter indexing.
+ */
+public class JDBCDeferredIndexingTest extends AbstractPersistenceTest {
+    private static final String SYSTEM = "http://example.com/deferred-indexing";
+    private static final String CODE = UUID.randomUUID().toString();
+    private static final String OTHER_CODE = UUID.randomUUID().toString();
+
+    // test properties
+    private Properties testProps;
+
+    // Connection pool used to provide connections for the FHIRPersistenceJDBCImpl
+    private PoolConnectionProvider connectionPool;
+
+    private FHIRPersistenceJDBCCache cache;
+
+    private Basic resource;
+
+    public JDBCDeferredIndexingTest() throws Exception {
+        this.testProps = TestUtil.readTestProperties("test.jdbc.properties");
+        this.testProps.setProperty("enableDeferredIndexing", "true");
+    }
+
+    @Override
+    public void bootstrapDatabase() throws Exception {
+        DerbyInitializer derbyInit;
+        String dbDriverName = this.testProps.getProperty("dbDriverName");
+        if (dbDriverName != null && dbDriverName.contains("derby")) {
+            derbyInit = new DerbyInitializer(this.testProps);
+            IConnectionProvider cp = derbyInit.getConnectionProvider(false);
+            this.connectionPool = new PoolConnectionProvider(cp, 1);
+            ICommonTokenValuesCache rrc = new CommonTokenValuesCacheImpl(100, 100, 100);
+            cache = new FHIRPersistenceJDBCCacheImpl(new NameIdCache<Integer>(), new IdNameCache<Integer>(), new NameIdCache<Integer>(), rrc);
+        }
+    }
+
+    @Override
+    public FHIRPersistence getPersistenceImpl() throws Exception {
+        if (this.connectionPool == null) {
+            throw new IllegalStateException("Database not bootstrapped");
+        }
+        return new FHIRPersistenceJDBCImpl(this.testProps, this.connectionPool, cache);
+    }
+
+    @Override
+    protected void shutdownPools() throws Exception {
+        // Mark the pool as no longer in use. This allows the pool to check for
+        // lingering open connections/transactions.
+        if (this.connectionPool != null) {
+            this.connectionPool.close();
+        }
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        resource = persistence.create(getDefaultPersistenceContext(), basic()).getResource();
+        assertNotNull(resource.getId());
+    }
+
+    @Test(dependsOnMethods = "testCreate")
+    public void testSearchAfterIndexing() throws Exception {
+        // the search waits for the drain, without holding a connection the drain needs
+        Properties waitingProps = new Properties();
+        waitingProps.putAll(testProps);
+        waitingProps.setProperty("deferredIndexingSearchWaitMillis", "60000");
+        FHIRPersistence waitingPersistence = new FHIRPersistenceJDBCImpl(waitingProps, this.connectionPool, cache);
+
+        MultiResourceResult<Resource> result = searchByCode(waitingPersistence);
+        assertEquals(result.getResource().size(), 1);
+        assertEquals(result.getResource().get(0).getId(), resource.getId());
+        assertFalse(isIncomplete(result));
+
+        // nothing left in the queue
+        assertEquals(countIndexPending(), 0);
+    }
+
+    @Test(dependsOnMethods = "testSearchAfterIndexing")
+    public void testSearchBeforeIndexing() throws Exception {
+        Basic pending = persistence.create(getDefaultPersistenceContext(), basic()).getResource();
+
+        // the resource can be read, but is not matched by its search parameters until the drain has indexed it,
+        // which is after this transaction has completed
+        assertNotNull(persistence.read(getDefaultPersistenceContext(), Basic.class, pending.getId()).getResource());
+
+        MultiResourceResult<Resource> result = searchByCode(persistence);
+        assertEquals(result.getResource().size(), 1);
+        assertEquals(result.getResource().get(0).getId(), resource.getId());
+        assertTrue(isIncomplete(result));
+    }
+
+    @Test(dependsOnMethods = "testSearchBeforeIndexing")
+    public void testDrained() throws Exception {
+        Properties waitingProps = new Properties();
+        waitingProps.putAll(testProps);
+        waitingProps.setProperty("deferredIndexingSearchWaitMillis", "60000");
+        FHIRPersistence waitingPersistence = new FHIRPersistenceJDBCImpl(waitingProps, this.connectionPool, cache);
+
+        MultiResourceResult<Resource> result = searchByCode(waitingPersistence);
+        assertEquals(result.getResource().size(), 2);
+        assertFalse(isIncomplete(result));
+    }
+
+    @Test(dependsOnMethods = "testDrained")
+    public void testUpdateBeforeIndexing() throws Exception {
+        resource = persistence.update(getDefaultPersistenceContext(), resource.getId(), basic(OTHER_CODE).toBuilder().id(resource.getId()).build()).getResource();
+
+        // the values of the previous version are removed with the update
+        MultiResourceResult<Resource> result = searchByCode(persistence, CODE);
+        assertEquals(result.getResource().size(), 1);
+        assertFalse(result.getResource().get(0).getId().equals(resource.getId()));
+        assertTrue(isIncomplete(result));
+    }
+
+    @Test(dependsOnMethods = "testUpdateBeforeIndexing")
+    public void testUpdateDrained() throws Exception {
+        Properties waitingProps = new Properties();
+        waitingProps.putAll(testProps);
+        waitingProps.setProperty("deferredIndexingSearchWaitMillis", "60000");
+        FHIRPersistence waitingPersistence = new FHIRPersistenceJDBCImpl(waitingProps, this.connectionPool, cache);
+
+        MultiResourceResult<Resource> result = searchByCode(waitingPersistence, OTHER_CODE);
+        assertEquals(result.getResource().size(), 1);
+        assertEquals(result.getResource().get(0).getId(), resource.getId());
+        assertFalse(isIncomplete(result));
+        assertEquals(countIndexPending(), 0);
+    }
+
+    @Test(expectedExceptions = FHIRPersistenceException.class)
+    public void testDrainRequired() throws Exception {
+        Properties noDrainProps = new Properties();
+        noDrainProps.putAll(testProps);
+        noDrainProps.setProperty("deferredIndexingWorkers", "0");
+        new FHIRPersistenceJDBCImpl(noDrainProps, this.connectionPool, cache);
+    }
+
+    private Basic basic() {
+        return basic(CODE);
+    }
+
+    private Basic basic(String code) {
+        return Basic.builder()
+                .code(CodeableConcept.builder()
+                    .coding(Coding.builder()
+                        .system(Uri.of(SYSTEM))
+                        .code(Code.of(code))
+                        .build())
+                    .text(string("deferred"))
+                    .build())
+                .build();
+    }
+
+    private boolean isIncomplete(MultiResourceResult<Resource> result) {
+        return result.getOutcome() != null
+                && result.getOutcome().getIssue().stream().anyMatch(issue -> IssueType.INCOMPLETE.equals(issue.getCode()));
+    }
+
+    private MultiResourceResult<Resource> searchByCode(FHIRPersistence fhirPersistence) throws Exception {
+        return searchByCode(fhirPersistence, CODE);
+    }
+
+    private MultiResourceResult<Resource> searchByCode(FHIRPersistence fhirPersistence, String code) throws Exception {
+        Map<String, List<String>> queryParms = Collections.singletonMap("code", Collections.singletonList(SYSTEM + "|" + code));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParms);
+        return fhirPersistence.search(getPersistenceContextForSearch(searchContext), Basic.class);
+    }
+
+    private int countIndexPending() throws Exception {
+        try (Connection c = connectionPool.getConnection();
+                PreparedStatement ps = c.prepareStatement("SELECT COUNT(*) FROM " + testProps.getProperty("schemaName") + ".logical_resource_index_pending");
+                ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
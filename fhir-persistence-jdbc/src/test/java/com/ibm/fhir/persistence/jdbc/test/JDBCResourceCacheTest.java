@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.Properties;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.cache.CacheManager;
+import com.ibm.fhir.database.utils.api.IConnectionProvider;
+import com.ibm.fhir.database.utils.pool.PoolConnectionProvider;
+import com.ibm.fhir.model.resource.Basic;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.CodeableConcept;
+import com.ibm.fhir.persistence.FHIRPersistence;
+import com.ibm.fhir.persistence.ResourceEraseRecord;
+import com.ibm.fhir.persistence.erase.EraseDTO;
+import com.ibm.fhir.persistence.jdbc.FHIRPersistenceJDBCCache;
+import com.ibm.fhir.persistence.jdbc.cache.CommonTokenValuesCacheImpl;
+import com.ibm.fhir.persistence.jdbc.cache.FHIRPersistenceJDBCCacheImpl;
+import com.ibm.fhir.persistence.jdbc.cache.IdNameCache;
+import com.ibm.fhir.persistence.jdbc.cache.NameIdCache;
+import com.ibm.fhir.persistence.jdbc.cache.ResourceCache;
+import com.ibm.fhir.persistence.jdbc.dao.api.ICommonTokenValuesCache;
+import com.ibm.fhir.persistence.jdbc.impl.FHIRPersistenceJDBCImpl;
+import com.ibm.fhir.persistence.jdbc.test.util.DerbyInitializer;
+import com.ibm.fhir.persistence.test.common.AbstractPersistenceTest;
+
+/**
+ * Tests for the read-through resource cache. Each read uses a new persistence instance,
+ * like each request of the server does.
+ */
+public class JDBCResourceCacheTest extends AbstractPersistenceTest {
+    // test properties
+    private Properties testProps;
+
+    // Connection pool used to provide connections for the FHIRPersistenceJDBCImpl
+    private PoolConnectionProvider connectionPool;
+
+    private FHIRPersistenceJDBCCache cache;
+
+    private Basic resource;
+
+    public JDBCResourceCacheTest() throws Exception {
+        this.testProps = TestUtil.readTestProperties("test.jdbc.properties");
+        this.testProps.setProperty("enableResourceCache", "true");
+        // poll the change log on every read
+        this.testProps.setProperty("resourceCachePollIntervalMillis", "0");
+    }
+
+    @Override
+    public void bootstrapDatabase() throws Exception {
+        DerbyInitializer derbyInit;
+        String dbDriverName = this.testProps.getProperty("dbDriverName");
+        if (dbDriverName != null && dbDriverName.contains("derby")) {
+            derbyInit = new DerbyInitializer(this.testProps);
+            IConnectionProvider cp = derbyInit.getConnectionProvider(false);
+            this.connectionPool = new PoolConnectionProvider(cp, 1);
+            ICommonTokenValuesCache rrc = new CommonTokenValuesCacheImpl(100, 100, 100);
+            cache = new FHIRPersistenceJDBCCacheImpl(new NameIdCache<Integer>(), new IdNameCache<Integer>(), new NameIdCache<Integer>(), rrc);
+        }
+    }
+
+    @Override
+    public FHIRPersistence getPersistenceImpl() throws Exception {
+        if (this.connectionPool == null) {
+            throw new IllegalStateException("Database not bootstrapped");
+        }
+        return new FHIRPersistenceJDBCImpl(this.testProps, this.connectionPool, cache);
+    }
+
+    @Override
+    protected void shutdownPools() throws Exception {
+        // Mark the pool as no longer in use. This allows the pool to check for
+        // lingering open connections/transactions.
+        if (this.connectionPool != null) {
+            this.connectionPool.close();
+        }
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        Basic basic = Basic.builder()
+                .code(CodeableConcept.builder()
+                    .text(string("cached"))
+                    .build())
+                .build();
+        resource = persistence.create(getDefaultPersistenceContext(), basic).getResource();
+        assertNotNull(resource.getId());
+    }
+
+    @Test(dependsOnMethods = "testCreate")
+    public void testReadThrough() throws Exception {
+        Basic first = read();
+        long hitCount = CacheManager.getCacheStats(ResourceCache.RESOURCE_CACHE_NAME).hitCount();
+
+        // the second read is served from the cache
+        Basic second = read();
+        assertSame(second, first);
+        assertEquals(CacheManager.getCacheStats(ResourceCache.RESOURCE_CACHE_NAME).hitCount(), hitCount + 1);
+    }
+
+    @Test(dependsOnMethods = "testReadThrough")
+    public void testInvalidateOnWrite() throws Exception {
+        Basic cached = read();
+        getPersistenceImpl().update(getDefaultPersistenceContext(), resource.getId(), cached.toBuilder()
+            .code(CodeableConcept.builder().text(string("updated")).build())
+            .build());
+
+        Basic updated = read();
+        assertEquals(updated.getMeta().getVersionId().getValue(), "2");
+        assertEquals(updated.getCode().getText().getValue(), "updated");
+    }
+
+    @Test(dependsOnMethods = "testInvalidateOnWrite")
+    public void testInvalidateOnChangeLog() throws Exception {
+        Basic cached = read();
+        assertSame(read(), cached);
+
+        // write through a persistence instance without the resource cache, like another server would
+        Properties otherServerProps = new Properties();
+        otherServerProps.putAll(testProps);
+        otherServerProps.remove("enableResourceCache");
+        FHIRPersistence otherServer = new FHIRPersistenceJDBCImpl(otherServerProps, this.connectionPool, cache);
+        otherServer.update(getDefaultPersistenceContext(), resource.getId(), cached.toBuilder()
+            .code(CodeableConcept.builder().text(string("updated elsewhere")).build())
+            .build());
+
+        Basic updated = read();
+        assertNotSame(updated, cached);
+        assertEquals(updated.getMeta().getVersionId().getValue(), "3");
+    }
+
+    @Test(dependsOnMethods = "testInvalidateOnChangeLog")
+    public void testVersionRead() throws Exception {
+        Basic first = vread("1");
+        assertEquals(first.getCode().getText().getValue(), "cached");
+        assertSame(vread("1"), first);
+    }
+
+    @Test(dependsOnMethods = "testVersionRead")
+    public void testInvalidateOnErase() throws Exception {
+        assertNotNull(read());
+        assertNotNull(vread("1"));
+
+        EraseDTO eraseDto = new EraseDTO();
+        eraseDto.setResourceType("Basic");
+        eraseDto.setLogicalId(resource.getId());
+        ResourceEraseRecord eraseRecord = getPersistenceImpl().erase(eraseDto);
+        assertEquals(eraseRecord.getStatus(), ResourceEraseRecord.Status.DONE);
+
+        // neither the current version nor the erased versions are served from the cache
+        assertNull(read());
+        assertNull(vread("1"));
+    }
+
+    private Basic read() throws Exception {
+        return getPersistenceImpl().read(getDefaultPersistenceContext(), Basic.class, resource.getId()).getResource();
+    }
+
+    private Basic vread(String versionId) throws Exception {
+        return getPersistenceImpl().vread(getDefaultPersistenceContext(), Basic.class, resource.getId(), versionId).getResource();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.core.context.FHIRPagingContext;
+import com.ibm.fhir.core.context.impl.FHIRPagingContextImpl;
+import com.ibm.fhir.persistence.jdbc.util.PageCursor;
+
+/**
+ * Unit test for {@link PageCursor}
+ */
+public class PageCursorTest {
+
+    @Test
+    public void testEncodeDecode() {
+        String token = new PageCursor(400, 10, 1234567890123L).encode();
+        PageCursor pageCursor = PageCursor.decode(token);
+        assertNotNull(pageCursor);
+        assertEquals(pageCursor.getPageNumber(), 400);
+        assertEquals(pageCursor.getPageSize(), 10);
+        assertEquals(pageCursor.getLastKey(), 1234567890123L);
+    }
+
+    @Test
+    public void testMalformed() {
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode("not a cursor"));
+        assertNull(PageCursor.decode("MToy"));
+    }
+
+    @Test
+    public void testNextPageCursor() {
+        FHIRPagingContext pagingContext = new FHIRPagingContextImpl();
+        pagingContext.setPageSize(10);
+        pagingContext.setPageNumber(1);
+        pagingContext.setLastPageNumber(3);
+
+        // a partial page is the last page
+        PageCursor.setNextPageCursor(pagingContext, 5, 42);
+        assertNull(pagingContext.getNextPageCursor());
+
+        PageCursor.setNextPageCursor(pagingContext, 10, 42);
+        assertNotNull(pagingContext.getNextPageCursor());
+
+        // the cursor is only used for the page it was created for
+        FHIRPagingContext nextPagingContext = new FHIRPagingContextImpl();
+        nextPagingContext.setPageSize(10);
+        nextPagingContext.setPageNumber(2);
+        nextPagingContext.setPageCursor(pagingContext.getNextPageCursor());
+        PageCursor pageCursor = PageCursor.of(nextPagingContext);
+        assertNotNull(pageCursor);
+        assertEquals(pageCursor.getLastKey(), 42);
+
+        assertTrue(pageCursor.matches(nextPagingContext));
+
+        nextPagingContext.setPageNumber(3);
+        assertFalse(pageCursor.matches(nextPagingContext));
+        assertNull(PageCursor.of(nextPagingContext));
+        nextPagingContext.setPageNumber(2);
+        nextPagingContext.setPageSize(20);
+        assertFalse(pageCursor.matches(nextPagingContext));
+        assertNull(PageCursor.of(nextPagingContext));
+
+        // no next page after the last page
+        pagingContext = new FHIRPagingContextImpl();
+        pagingContext.setPageSize(10);
+        pagingContext.setPageNumber(3);
+        pagingContext.setLastPageNumber(3);
+        PageCursor.setNextPageCursor(pagingContext, 10, 42);
+        assertNull(pagingContext.getNextPageCursor());
+    }
+}
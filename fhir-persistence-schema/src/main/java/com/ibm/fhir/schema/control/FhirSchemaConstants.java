@@ -72,6 +72,9 @@ public class FhirSchemaConstants {
     public static final String REINDEX_SEQ = "REINDEX_SEQ";
     public static final String RESOURCE_CHANGE_LOG = "RESOURCE_CHANGE_LOG";
 
+    // Logical resources stored without their search parameter values (deferred indexing)
+    public static final String LOGICAL_RESOURCE_INDEX_PENDING = "LOGICAL_RESOURCE_INDEX_PENDING";
+
     // Type of change C - Create, U - Update, S - Soft Delete. H - Hard Delete
     public static final String CHANGE_TYPE = "CHANGE_TYPE";
 
@@ -35,6 +35,7 @@ import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_ID_BYTES;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCES;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_COMPARTMENTS;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_ID;
+import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_INDEX_PENDING;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_PROFILES;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_SECURITY;
 import static com.ibm.fhir.schema.control.FhirSchemaConstants.LOGICAL_RESOURCE_TAGS;
@@ -386,6 +387,7 @@ public class FhirSchemaGenerator {
         addReferencesSequence(model);
         addLogicalResourceCompartments(model);
         addResourceChangeLog(model); // track changes for easier export
+        addLogicalResourceIndexPending(model); // V0020
         addCommonCanonicalValues(model);   // V0014
         addLogicalResourceProfiles(model); // V0014
         addLogicalResourceTags(model);     // V0014
@@ -800,6 +802,35 @@ public class FhirSchemaGenerator {
         pdm.addObject(tbl);
     }
 
+    /**
+     * Add the logical_resource_index_pending table. This table queues the logical resources
+     * which were stored without their search parameter values (deferred indexing) until
+     * the values have been extracted. The queued version is recorded so that a resource which
+     * is updated again while its previous version is being indexed stays queued.
+     * There is no foreign key to logical_resources, so queued resources can still be erased.
+     * @param pdm
+     */
+    public void addLogicalResourceIndexPending(PhysicalDataModel pdm) {
+        final String tableName = LOGICAL_RESOURCE_INDEX_PENDING;
+
+        Table tbl = Table.builder(schemaName, tableName)
+                .setTenantColumnName(MT_ID)
+                .setVersion(FhirSchemaVersion.V0020.vid()) // V0020: New table for deferred indexing
+                .addBigIntColumn(LOGICAL_RESOURCE_ID, false)
+                .addIntColumn(RESOURCE_TYPE_ID, false)
+                .addIntColumn(VERSION_ID, false)
+                .addPrimaryKey(tableName + "_PK", LOGICAL_RESOURCE_ID)
+                .setTablespace(fhirTablespace)
+                .addPrivileges(resourceTablePrivileges)
+                .enableAccessControl(this.sessionVariable)
+                .addWiths(addWiths())
+                .build(pdm);
+
+        tbl.addTag(SCHEMA_GROUP_TAG, FHIRDATA_GROUP);
+        pdm.addTable(tbl);
+        pdm.addObject(tbl);
+    }
+
     /**
      * Adds the system level logical_resource_compartments table which identifies to
      * which compartments a give resource belongs. A resource may belong to many
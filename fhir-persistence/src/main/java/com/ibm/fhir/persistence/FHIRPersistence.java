@@ -111,6 +111,61 @@ public interface FHIRPersistence {
      */
     MultiResourceResult<Resource> search(FHIRPersistenceContext context, Class<? extends Resource> resourceType) throws FHIRPersistenceException;
 
+    /**
+     * Returns true iff the persistence layer implementation supports reading the stored JSON of a resource
+     * via {@link #readPayload}, {@link #vreadPayload} and {@link #searchPayloads}.
+     */
+    default boolean isPayloadPassthroughSupported() {
+        return false;
+    }
+
+    /**
+     * Retrieves the stored JSON of the most recent version of a FHIR Resource from the datastore, without
+     * parsing it. The payload includes the Meta fields set by the persistence layer when it was stored.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type of the Resource instance to be retrieved
+     * @param logicalId the logical id of the Resource instance to be retrieved
+     * @return the payload of the resource, or null if the resource doesn't exist
+     * @throws FHIRPersistenceException
+     */
+    default ResourcePayload readPayload(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId)
+            throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'readPayload' operation is not supported by this persistence implementation");
+    }
+
+    /**
+     * Retrieves the stored JSON of a specific version of a FHIR Resource from the datastore, without parsing it.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type of the Resource instance to be retrieved
+     * @param logicalId the logical id of the Resource instance to be retrieved
+     * @param versionId the version of the Resource instance to be retrieved
+     * @return the payload of the resource version, or null if the resource version doesn't exist
+     * @throws FHIRPersistenceException
+     */
+    default ResourcePayload vreadPayload(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId,
+            String versionId) throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'vreadPayload' operation is not supported by this persistence implementation");
+    }
+
+    /**
+     * Performs a search on the specified target resource type and returns the stored JSON of the 'match' resources,
+     * without parsing them. Only searches without _include, _revinclude, _elements or _summary parameters are eligible;
+     * implementations may exclude other searches as well (e.g. the JDBC implementation only supports this with its
+     * optimized query builder).
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type which is the target of the search
+     * @return the payloads of the resources in the search result set, or null if this search cannot be performed
+     *         without parsing the resources; in which case the caller should use {@link #search} instead
+     * @throws FHIRPersistenceException
+     */
+    default List<ResourcePayload> searchPayloads(FHIRPersistenceContext context, Class<? extends Resource> resourceType)
+            throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'searchPayloads' operation is not supported by this persistence implementation");
+    }
+
     /**
      * Returns true iff the persistence layer implementation supports transactions.
      */
@@ -13,10 +13,15 @@ import java.time.Instant;
 import java.util.Objects;
 
 /**
- * Data carrier used by the Consumer to send back streaming payload result data to a caller
+ * Data carrier used by the Consumer to send back streaming payload result data to a caller.
+ *
+ * <p>Also used to return the stored JSON of a resource from a read, vread or search so that it can be
+ * written to the response without being parsed and generated again.
  */
 public class ResourcePayload {
+    private final String resourceTypeName;
     private final String logicalId;
+    private final int versionId;
     private final Instant lastUpdated;
     private final long resourceId;
     private final InputStream decompressedPayload;
@@ -28,16 +33,39 @@ public class ResourcePayload {
      * @param decompressedPayload a non-null InputStream with the contents of a given resource in JSON format
      */
     public ResourcePayload(String logicalId, Instant lastUpdated, long resourceId, InputStream decompressedPayload) {
+        this(null, logicalId, 0, lastUpdated, resourceId, decompressedPayload);
+    }
+
+    /**
+     * @param resourceTypeName the resource type name of this resource, or null if not known
+     * @param logicalId the non-null row identifier from the logical_resources table for this resource
+     * @param versionId the version of this resource, or 0 if not known
+     * @param lastUpdated the non-null lastUpdated time for this resource
+     * @param resourceId the non-null row identifier from the x_resources table for this resource
+     * @param decompressedPayload a non-null InputStream with the contents of a given resource in JSON format
+     */
+    public ResourcePayload(String resourceTypeName, String logicalId, int versionId, Instant lastUpdated, long resourceId,
+            InputStream decompressedPayload) {
         Objects.requireNonNull(logicalId, "logicalId");
         Objects.requireNonNull(lastUpdated, "lastUpdated");
         Objects.requireNonNull(resourceId, "resourceId");
         Objects.requireNonNull(decompressedPayload, "decompressedPayload");
+        this.resourceTypeName = resourceTypeName;
         this.logicalId = logicalId;
+        this.versionId = versionId;
         this.lastUpdated = lastUpdated;
         this.resourceId = resourceId;
         this.decompressedPayload = decompressedPayload;
     }
 
+    /**
+     * Getter for the resource type name of this resource
+     * @return the resource type name, or null if not known
+     */
+    public String getResourceTypeName() {
+        return this.resourceTypeName;
+    }
+
     /**
      * Getter for the logicalId of this resource
      * @return
@@ -46,6 +74,14 @@ public class ResourcePayload {
         return this.logicalId;
     }
 
+    /**
+     * Getter for the version of this resource
+     * @return the version, or 0 if not known
+     */
+    public int getVersionId() {
+        return this.versionId;
+    }
+
     /**
      * Getter for the resourceId
      * @return
@@ -6,9 +6,13 @@
 
 package com.ibm.fhir.persistence.interceptor.impl;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,11 +36,17 @@ import com.ibm.fhir.persistence.interceptor.FHIRPersistenceInterceptorException;
 public class FHIRPersistenceInterceptorMgr {
     private static final Logger log = Logger.getLogger(FHIRPersistenceInterceptorMgr.class.getName());
 
+    // The names of the event methods of the FHIRPersistenceInterceptor interface.
+    private static final Set<String> EVENT_METHOD_NAMES = getEventMethodNames();
+
     private static FHIRPersistenceInterceptorMgr instance = new FHIRPersistenceInterceptorMgr();
 
     // Our list of discovered interceptors.
     List<FHIRPersistenceInterceptor> interceptors = new CopyOnWriteArrayList<>();
 
+    // The event methods overridden by at least one registered interceptor; recomputed whenever an interceptor is registered.
+    private volatile Set<String> interceptedMethodNames = Collections.emptySet();
+
     public static FHIRPersistenceInterceptorMgr getInstance() {
         return instance;
     }
@@ -57,6 +67,7 @@ public class FHIRPersistenceInterceptorMgr {
         } else {
             log.fine("No persistence interceptors found...");
         }
+        updateInterceptedMethodNames();
     }
 
     /**
@@ -69,6 +80,7 @@ public class FHIRPersistenceInterceptorMgr {
             log.fine("Registering persistence interceptor: " + interceptor.getClass().getName() + '@' + FHIRUtilities.getObjectHandle(interceptor));
         }
         interceptors.add(interceptor);
+        updateInterceptedMethodNames();
     }
 
     /**
@@ -81,6 +93,47 @@ public class FHIRPersistenceInterceptorMgr {
             log.fine("Registering persistence interceptor: " + interceptor.getClass().getName() + '@' + FHIRUtilities.getObjectHandle(interceptor));
         }
         interceptors.add(0, interceptor);
+        updateInterceptedMethodNames();
+    }
+
+    /**
+     * Returns true iff at least one of the registered interceptors overrides the given event method
+     * (e.g. "afterRead"). This allows the caller to skip building the resource for an event which
+     * none of the interceptors act on.
+     * @param methodName the name of the FHIRPersistenceInterceptor method
+     */
+    public boolean isIntercepted(String methodName) {
+        if (!EVENT_METHOD_NAMES.contains(methodName)) {
+            throw new IllegalArgumentException("Invalid interceptor method: " + methodName);
+        }
+        return interceptedMethodNames.contains(methodName);
+    }
+
+    private synchronized void updateInterceptedMethodNames() {
+        Set<String> methodNames = new HashSet<>();
+        for (FHIRPersistenceInterceptor interceptor : interceptors) {
+            for (String methodName : EVENT_METHOD_NAMES) {
+                try {
+                    Method method = interceptor.getClass().getMethod(methodName, FHIRPersistenceEvent.class);
+                    if (method.getDeclaringClass() != FHIRPersistenceInterceptor.class) {
+                        methodNames.add(methodName);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // not possible; the method is declared by the interface
+                }
+            }
+        }
+        interceptedMethodNames = Collections.unmodifiableSet(methodNames);
+    }
+
+    private static Set<String> getEventMethodNames() {
+        Set<String> methodNames = new HashSet<>();
+        for (Method method : FHIRPersistenceInterceptor.class.getMethods()) {
+            if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == FHIRPersistenceEvent.class) {
+                methodNames.add(method.getName());
+            }
+        }
+        return Collections.unmodifiableSet(methodNames);
     }
 
     /**
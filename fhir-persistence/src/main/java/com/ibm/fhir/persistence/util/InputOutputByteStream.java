@@ -71,9 +71,8 @@ public class InputOutputByteStream {
 
         @Override
         public void write(int b) throws IOException {
-            int idx = offset++;
-            extend(idx);
-            buffer[idx] = (byte)b;
+            extend(offset + 1);
+            buffer[offset++] = (byte)b;
         }
 
         @Override
@@ -120,6 +120,65 @@ public abstract class AbstractPagingTest extends AbstractPersistenceTest {
         assertTrue(isResourceInResponse(resource3, results));
     }
 
+    // pages read with the cursor of the preceding page match the pages read by page number
+    @Test
+    public void testSearchPagingWithCursor() throws Exception {
+        Map<String, List<String>> queryParameters = new HashMap<>();
+        queryParameters.put("_tag", Collections.singletonList("pagingTest"));
+        queryParameters.put("_count", Collections.singletonList("1"));
+
+        String pageCursor = null;
+        for (int pageNumber = 1; pageNumber <= 3; pageNumber++) {
+            queryParameters.put("_page", Collections.singletonList(String.valueOf(pageNumber)));
+            FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+            List<Resource> expected = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+
+            searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+            searchContext.setPageCursor(pageCursor);
+            List<Resource> actual = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+            assertEquals(actual.size(), 1, "expected number of results");
+            assertEquals(actual.get(0).getId(), expected.get(0).getId());
+
+            pageCursor = searchContext.getNextPageCursor();
+        }
+    }
+
+    // a cursor is only accepted for the page size it was created for
+    @Test
+    public void testSearchPagingWithMismatchedCursor() throws Exception {
+        Map<String, List<String>> queryParameters = new HashMap<>();
+        queryParameters.put("_tag", Collections.singletonList("pagingTest"));
+        queryParameters.put("_count", Collections.singletonList("1"));
+        queryParameters.put("_page", Collections.singletonList("1"));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+        runQueryTest(searchContext, Basic.class, queryParameters, 1);
+        String pageCursor = searchContext.getNextPageCursor();
+        assertNotNull(pageCursor);
+
+        queryParameters.put("_count", Collections.singletonList("2"));
+        queryParameters.put("_page", Collections.singletonList("2"));
+        searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+        searchContext.setPageCursor(pageCursor);
+        searchContext.setLenient(false);
+        MultiResourceResult<Resource> result = runQueryTest(searchContext, Basic.class, queryParameters, 2);
+        assertFalse(result.isSuccess());
+        assertTrue(result.getResource().isEmpty());
+        assertEquals(result.getOutcome().getIssue().size(), 1);
+        assertEquals(result.getOutcome().getIssue().get(0).getSeverity(), IssueSeverity.ERROR);
+        assertEquals(result.getOutcome().getIssue().get(0).getCode(), IssueType.INVALID);
+
+        // with lenient handling, the page is read using its page number
+        searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+        searchContext.setPageCursor(pageCursor);
+        searchContext.setLenient(true);
+        result = runQueryTest(searchContext, Basic.class, queryParameters, 2);
+        assertTrue(result.isSuccess());
+        assertEquals(result.getResource().size(), 1, "expected number of results");
+        assertEquals(result.getOutcome().getIssue().size(), 1);
+        assertEquals(result.getOutcome().getIssue().get(0).getSeverity(), IssueSeverity.WARNING);
+        assertEquals(result.getOutcome().getIssue().get(0).getCode(), IssueType.INVALID);
+    }
+
     // history results should be sorted with oldest versions last
     @Test
     public void testHistoryPaging() throws Exception {
@@ -229,6 +288,26 @@ public abstract class AbstractPagingTest extends AbstractPersistenceTest {
         assertEquals(outcome.getIssue().get(0).getCode(), IssueType.INVALID);
     }
 
+    @Test
+    public void testHistoryPagingWithCursor() throws Exception {
+        String pageCursor = null;
+        for (int pageNumber = 1; pageNumber <= 3; pageNumber++) {
+            FHIRHistoryContext historyContext = FHIRPersistenceContextFactory.createHistoryContext();
+            historyContext.setPageSize(1);
+            historyContext.setPageNumber(pageNumber);
+            historyContext.setPageCursor(pageCursor);
+            FHIRPersistenceContext context = this.getPersistenceContextForHistory(historyContext);
+
+            MultiResourceResult<? extends Basic> result = persistence.history(context, resource3.getClass(), resource3.getId());
+            assertTrue(result.isSuccess());
+            List<? extends Basic> results = result.getResource();
+            assertEquals(results.size(), 1, "expected number of results");
+            assertEquals(results.get(0).getMeta().getVersionId().getValue(), String.valueOf(4 - pageNumber), "expected version");
+
+            pageCursor = historyContext.getNextPageCursor();
+        }
+    }
+
     public void testPageSizeEqualsZero() throws Exception {
         Map<String, List<String>> queryParameters;
         queryParameters = new HashMap<>();
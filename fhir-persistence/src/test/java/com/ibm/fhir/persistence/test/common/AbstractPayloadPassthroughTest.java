@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.test.common;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Basic;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.persistence.ResourcePayload;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceResourceDeletedException;
+import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.util.SearchUtil;
+
+/**
+ * Tests for reading the stored JSON of resources via readPayload, vreadPayload and searchPayloads.
+ */
+public abstract class AbstractPayloadPassthroughTest extends AbstractPersistenceTest {
+    Basic resource1;
+    Basic resource1v2;
+    Basic resource2;
+
+    @BeforeClass
+    public void createResources() throws Exception {
+        Basic resource = TestUtil.readExampleResource("json/ibm/minimal/Basic-1.json");
+
+        resource1 = persistence.create(getDefaultPersistenceContext(), resource).getResource();
+        resource1v2 = persistence.update(getDefaultPersistenceContext(), resource1.getId(), resource1).getResource();
+        resource2 = persistence.create(getDefaultPersistenceContext(), resource).getResource();
+        persistence.delete(getDefaultPersistenceContext(), Basic.class, resource2.getId());
+    }
+
+    @Test
+    public void testReadPayload() throws Exception {
+        assertTrue(persistence.isPayloadPassthroughSupported());
+
+        ResourcePayload payload = persistence.readPayload(getDefaultPersistenceContext(), Basic.class, resource1.getId());
+        assertNotNull(payload);
+        assertEquals(payload.getResourceTypeName(), "Basic");
+        assertEquals(payload.getLogicalId(), resource1.getId());
+        assertEquals(payload.getVersionId(), 2);
+        assertEquals(payload.getLastUpdated(), resource1v2.getMeta().getLastUpdated().getValue().toInstant());
+        assertEquals(parse(payload), resource1v2);
+    }
+
+    @Test
+    public void testVReadPayload() throws Exception {
+        ResourcePayload payload = persistence.vreadPayload(getDefaultPersistenceContext(), Basic.class, resource1.getId(), "1");
+        assertNotNull(payload);
+        assertEquals(payload.getVersionId(), 1);
+        assertEquals(parse(payload), resource1);
+    }
+
+    @Test
+    public void testReadPayloadNotFound() throws Exception {
+        assertNull(persistence.readPayload(getDefaultPersistenceContext(), Basic.class, "invalid-id"));
+        assertNull(persistence.vreadPayload(getDefaultPersistenceContext(), Basic.class, resource1.getId(), "3"));
+    }
+
+    @Test(expectedExceptions = FHIRPersistenceResourceDeletedException.class)
+    public void testReadPayloadDeleted() throws Exception {
+        persistence.readPayload(getDefaultPersistenceContext(), Basic.class, resource2.getId());
+    }
+
+    @Test
+    public void testSearchPayloads() throws Exception {
+        Map<String, List<String>> queryParms = Collections.singletonMap("_id", Collections.singletonList(resource1.getId()));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParms);
+        List<ResourcePayload> payloads = persistence.searchPayloads(getPersistenceContextForSearch(searchContext), Basic.class);
+        assertNotNull(payloads);
+        assertEquals(payloads.size(), 1);
+        assertEquals(searchContext.getMatchCount(), 1);
+        assertEquals(parse(payloads.get(0)), resource1v2);
+    }
+
+    @Test
+    public void testSearchPayloadsWithElements() throws Exception {
+        // _elements filters the stored resources, so the search must be performed with the parsed resources
+        Map<String, List<String>> queryParms = Collections.singletonMap("_elements", Collections.singletonList("code"));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParms);
+        assertNull(persistence.searchPayloads(getPersistenceContextForSearch(searchContext), Basic.class));
+    }
+
+    private static Resource parse(ResourcePayload payload) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        payload.transferTo(out);
+        return FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
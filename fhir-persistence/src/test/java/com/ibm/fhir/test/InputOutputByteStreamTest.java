@@ -103,6 +103,25 @@ public class InputOutputByteStreamTest {
 
     }
 
+    /**
+     * Test the buffer will grow when written one byte at a time
+     */
+    @Test
+    public void testGrowthByByte() throws IOException {
+        InputOutputByteStream iobs = new InputOutputByteStream(2);
+        OutputStream os = iobs.outputStream();
+        for (int i = 0; i < 5; i++) {
+            os.write(i);
+        }
+        assertEquals(iobs.size(), 5);
+
+        InputStream is = iobs.inputStream();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(is.read(), i);
+        }
+        assertEquals(is.read(), -1);
+    }
+
     /**
      * Test the buffer will grow as we write more
      */
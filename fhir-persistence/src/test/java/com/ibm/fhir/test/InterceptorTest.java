@@ -346,4 +346,13 @@ public class InterceptorTest {
         
         mgr.fireAfterSearchEvent(event);
     }
+
+    @Test
+    public void testIsIntercepted() throws Exception {
+        // MyInterceptor implements the read events but relies on the default patch and delete events
+        assertTrue(mgr.isIntercepted("afterRead"));
+        assertTrue(mgr.isIntercepted("afterSearch"));
+        assertFalse(mgr.isIntercepted("afterPatch"));
+        assertFalse(mgr.isIntercepted("afterDelete"));
+    }
 }
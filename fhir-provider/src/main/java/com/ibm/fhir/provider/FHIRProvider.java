@@ -9,6 +9,7 @@ package com.ibm.fhir.provider;
 import static com.ibm.fhir.model.util.FHIRUtil.buildOperationOutcome;
 import static com.ibm.fhir.model.util.FHIRUtil.buildOperationOutcomeIssue;
 import static com.ibm.fhir.provider.util.FHIRProviderUtil.buildResponse;
+import static com.ibm.fhir.provider.util.FHIRProviderUtil.getFormat;
 import static com.ibm.fhir.provider.util.FHIRProviderUtil.getMediaType;
 
 import java.io.IOException;
@@ -49,6 +50,7 @@ import com.ibm.fhir.model.parser.exception.FHIRParserException;
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.type.code.IssueSeverity;
 import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.provider.util.FHIRProviderUtil;
 
 /**
  * Maps entity streams to/from fhir-model objects
@@ -86,6 +88,12 @@ public class FHIRProvider implements MessageBodyReader<Resource>, MessageBodyWri
             Format format = getFormat(mediaType);
             FHIRParser parser = FHIRParser.parser(format);
             parser.setIgnoringUnrecognizedElements(HTTPHandlingPreference.LENIENT.equals(requestContext.getHandlingPreference()));
+            if (RuntimeType.SERVER.equals(runtimeType) && Format.JSON.equals(format)) {
+                int parallelEntryThreshold = FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_PARALLEL_BUNDLE_ENTRY_THRESHOLD, 0);
+                if (parallelEntryThreshold > 0) {
+                    parser.setProperty(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD, parallelEntryThreshold);
+                }
+            }
             return parser.parse(entityStream);
         } catch (FHIRParserException e) {
             if (RuntimeType.SERVER.equals(runtimeType)) {
@@ -137,24 +145,7 @@ public class FHIRProvider implements MessageBodyReader<Resource>, MessageBodyWri
 
     protected boolean isPretty(HttpHeaders httpHeaders, UriInfo uriInfo) {
         if (RuntimeType.SERVER.equals(runtimeType)) {
-            // Header evaluation
-            String value = httpHeaders.getHeaderString(FHIRConfiguration.DEFAULT_PRETTY_RESPONSE_HEADER_NAME);
-
-            // IFF not Header set, then grab the Query Parameter.
-            // and use the FIRST value for _pretty.
-            if (value == null) {
-                value = uriInfo.getQueryParameters().getFirst("_pretty");
-            }
-
-            if (value != null) {
-                if (Boolean.parseBoolean(value)) {
-                    //explicitly on in the header
-                    return true;
-                } else if ("false".equalsIgnoreCase(value)) {
-                    //explicitly off in the header.  ignore header value if it doesn't specify "true" or false"
-                    return false;
-                }
-            }
+            return FHIRProviderUtil.isPretty(httpHeaders, uriInfo);
         }
 
         // Config evaluation (default false)
@@ -165,17 +156,4 @@ public class FHIRProvider implements MessageBodyReader<Resource>, MessageBodyWri
     public long getSize(Resource t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return -1;
     }
-
-    private Format getFormat(MediaType mediaType) {
-        if (mediaType != null) {
-            if (mediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_JSON_TYPE) ||
-                    mediaType.isCompatible(FHIRMediaType.APPLICATION_JSON_TYPE)) {
-                return Format.JSON;
-            } else if (mediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_XML_TYPE) ||
-                    mediaType.isCompatible(FHIRMediaType.APPLICATION_XML_TYPE)) {
-                return Format.XML;
-            }
-        }
-        return null;
-    }
 }
@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019
+ * (C) Copyright IBM Corp. 2019, 2021
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -12,8 +12,12 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 
+import com.ibm.fhir.config.FHIRConfigHelper;
+import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.core.FHIRMediaType;
+import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.resource.OperationOutcome;
 
 public final class FHIRProviderUtil {
@@ -58,6 +62,62 @@ public final class FHIRProviderUtil {
         return response;
     }
     
+    /**
+     * Get the format of the given media type
+     *
+     * @param mediaType
+     *     the media type of the request or response entity
+     * @return
+     *     the format, or null if the media type is not a FHIR JSON or XML media type
+     */
+    public static Format getFormat(MediaType mediaType) {
+        if (mediaType != null) {
+            if (mediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_JSON_TYPE) ||
+                    mediaType.isCompatible(FHIRMediaType.APPLICATION_JSON_TYPE)) {
+                return Format.JSON;
+            } else if (mediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_XML_TYPE) ||
+                    mediaType.isCompatible(FHIRMediaType.APPLICATION_XML_TYPE)) {
+                return Format.XML;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determine whether a server response should be pretty printed, based on the request header,
+     * the _pretty query parameter and the server configuration (in that order)
+     *
+     * @param httpHeaders
+     *     the request headers
+     * @param uriInfo
+     *     the request uri info
+     * @return
+     *     true if the response should be pretty printed
+     */
+    public static boolean isPretty(HttpHeaders httpHeaders, UriInfo uriInfo) {
+        // Header evaluation
+        String value = httpHeaders.getHeaderString(FHIRConfiguration.DEFAULT_PRETTY_RESPONSE_HEADER_NAME);
+
+        // IFF not Header set, then grab the Query Parameter.
+        // and use the FIRST value for _pretty.
+        if (value == null) {
+            value = uriInfo.getQueryParameters().getFirst("_pretty");
+        }
+
+        if (value != null) {
+            if (Boolean.parseBoolean(value)) {
+                //explicitly on in the header
+                return true;
+            } else if ("false".equalsIgnoreCase(value)) {
+                //explicitly off in the header.  ignore header value if it doesn't specify "true" or false"
+                return false;
+            }
+        }
+
+        // Config evaluation (default false)
+        return FHIRConfigHelper.getBooleanProperty(FHIRConfiguration.PROPERTY_DEFAULT_PRETTY_PRINT, false);
+    }
+
     public static void dumpHeaders(MultivaluedMap<String, ?> httpHeaders) {
         for (String key : httpHeaders.keySet()) {
             List<?> values = httpHeaders.get(key);
@@ -21,6 +21,7 @@ import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import com.ibm.fhir.model.resource.DomainResource;
@@ -41,6 +42,7 @@ public final class FHIRRegistry {
     private static final FHIRRegistry INSTANCE = new FHIRRegistry();
 
     private final List<FHIRRegistryResourceProvider> providers;
+    private final AtomicLong version = new AtomicLong();
 
     private FHIRRegistry() {
         providers = new CopyOnWriteArrayList<>(loadProviders());
@@ -58,6 +60,21 @@ public final class FHIRRegistry {
     public void addProvider(FHIRRegistryResourceProvider provider) {
         Objects.requireNonNull(provider);
         providers.add(provider);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Get the version of the registry content
+     *
+     * <p>The version changes whenever a provider is added to the registry, and can be used by consumers to invalidate
+     * results that were computed from registry resources. Changes to the resources of a provider do not change the
+     * version; consumers that depend on such resources should expire their results along with the provider's own caches.
+     *
+     * @return
+     *     the version of the registry content
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     /**
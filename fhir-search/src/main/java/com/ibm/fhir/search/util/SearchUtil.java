@@ -58,6 +58,7 @@ import com.ibm.fhir.model.util.FHIRUtil;
 import com.ibm.fhir.model.util.JsonSupport;
 import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathTree;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
 import com.ibm.fhir.path.exception.FHIRPathException;
@@ -696,9 +697,12 @@ public class SearchUtil {
         // Get the Parameters for the class.
         Class<?> resourceType = resource.getClass();
 
-        // Create one time.
+        // Create one time; the tree is lazy so that only the parts of the resource that are referenced by the
+        // search parameter expressions are built.
         FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
-        EvaluationContext evaluationContext = new EvaluationContext(resource);
+        EvaluationContext evaluationContext = new EvaluationContext(FHIRPathTree.lazyTree(resource));
+        // Share the results of common path prefixes (e.g. Observation.code, Observation.subject) between the expressions
+        evaluationContext.setCachePathResults(true);
 
         List<SearchParameter> parameters = getApplicableSearchParameters(resourceType.getSimpleName());
 
@@ -1685,6 +1689,8 @@ public class SearchUtil {
             } else if (SearchConstants.PAGE.equals(name)) {
                 int pageNumber = Integer.parseInt(first);
                 context.setPageNumber(pageNumber);
+            } else if (SearchConstants.CURSOR.equals(name)) {
+                context.setPageCursor(first);
             } else if (SearchConstants.SORT.equals(name) && first != null) {
                 // in R4, we only look for _sort
                 // Only first value is used, which matches behavior of other parameters that are supposed to be specified at most once
@@ -2565,6 +2571,7 @@ public class SearchUtil {
 
         try {
             EvaluationContext resourceContext = new FHIRPathEvaluator.EvaluationContext(fhirResource);
+            resourceContext.setCachePathResults(true);
 
             // Extract any references we find matching parameters representing compartment membership.
             // For example CareTeam.participant can be used to refer to a Patient or RelatedPerson resource:
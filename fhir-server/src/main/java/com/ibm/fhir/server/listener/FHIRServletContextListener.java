@@ -8,6 +8,9 @@ package com.ibm.fhir.server.listener;
 
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_CHECK_REFERENCE_TYPES;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_EXTENDED_CODEABLE_CONCEPT_VALIDATION;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_FHIRPATH_PROFILER_ENABLED;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_FHIRPATH_PROFILER_SAMPLE_RATE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_INTERN_PRIMITIVES;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_KAFKA_CONNECTIONPROPS;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_KAFKA_ENABLED;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_KAFKA_TOPICNAME;
@@ -52,6 +55,7 @@ import com.ibm.fhir.notification.websocket.impl.FHIRNotificationServiceEndpointC
 import com.ibm.fhir.notifications.kafka.impl.FHIRNotificationKafkaPublisher;
 import com.ibm.fhir.notifications.nats.impl.FHIRNotificationNATSPublisher;
 import com.ibm.fhir.path.function.registry.FHIRPathFunctionRegistry;
+import com.ibm.fhir.path.util.FHIRPathProfiler;
 import com.ibm.fhir.persistence.helper.FHIRPersistenceHelper;
 import com.ibm.fhir.registry.FHIRRegistry;
 import com.ibm.fhir.search.util.SearchUtil;
@@ -196,6 +200,15 @@ public class FHIRServletContextListener implements ServletContextListener {
             Boolean extendedCodeableConceptValidation = fhirConfig.getBooleanProperty(PROPERTY_EXTENDED_CODEABLE_CONCEPT_VALIDATION, Boolean.TRUE);
             FHIRModelConfig.setExtendedCodeableConceptValidation(extendedCodeableConceptValidation);
 
+            Boolean internPrimitives = fhirConfig.getBooleanProperty(PROPERTY_INTERN_PRIMITIVES, Boolean.FALSE);
+            FHIRModelConfig.setInternPrimitives(internPrimitives);
+
+            Boolean fhirPathProfilerEnabled = fhirConfig.getBooleanProperty(PROPERTY_FHIRPATH_PROFILER_ENABLED, Boolean.FALSE);
+            Integer fhirPathProfilerSampleRate = fhirConfig.getIntProperty(PROPERTY_FHIRPATH_PROFILER_SAMPLE_RATE, FHIRPathProfiler.DEFAULT_SAMPLE_RATE);
+            FHIRPathProfiler.getInstance().setSampleRate(Math.max(1, fhirPathProfilerSampleRate));
+            FHIRPathProfiler.getInstance().setEnabled(fhirPathProfilerEnabled);
+            FHIRPathProfiler.registerMBean();
+
             log.fine("Initializing FHIRRegistry...");
             FHIRRegistry.getInstance();
 
@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.provider;
+
+import static com.ibm.fhir.model.util.FHIRUtil.buildOperationOutcome;
+import static com.ibm.fhir.model.util.FHIRUtil.buildOperationOutcomeIssue;
+import static com.ibm.fhir.provider.util.FHIRProviderUtil.buildResponse;
+import static com.ibm.fhir.provider.util.FHIRProviderUtil.getFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.owasp.encoder.Encode;
+
+import com.ibm.fhir.core.FHIRMediaType;
+import com.ibm.fhir.exception.FHIRException;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Bundle.Entry;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.code.IssueSeverity;
+import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.model.visitor.Visitable;
+import com.ibm.fhir.persistence.ResourcePayload;
+import com.ibm.fhir.provider.util.FHIRProviderUtil;
+
+/**
+ * Writes {@link ResourcePayload} and {@link PayloadBundle} entities.
+ *
+ * <p>When the response is compact JSON, the stored payloads are copied to the entity stream as-is;
+ * otherwise they are parsed and the response is generated from the resulting resources.
+ */
+@Produces({ FHIRMediaType.APPLICATION_FHIR_JSON, MediaType.APPLICATION_JSON, FHIRMediaType.APPLICATION_FHIR_XML,
+        MediaType.APPLICATION_XML })
+public class FHIRPayloadProvider implements MessageBodyWriter<Object> {
+    private static final Logger log = Logger.getLogger(FHIRPayloadProvider.class.getName());
+
+    private static final byte[] ENTRY_KEY = ",\"entry\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESOURCE_KEY = "\"resource\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIGNATURE_KEY = ",\"signature\":".getBytes(StandardCharsets.UTF_8);
+
+    @Context
+    private UriInfo uriInfo;
+    @Context
+    private HttpHeaders requestHeaders;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ResourcePayload.class.isAssignableFrom(type) || PayloadBundle.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        log.entering(this.getClass().getName(), "writeTo");
+        try {
+            Format format = getFormat(mediaType);
+            boolean pretty = FHIRProviderUtil.isPretty(requestHeaders, uriInfo);
+            if (format == Format.JSON && !pretty) {
+                if (t instanceof ResourcePayload) {
+                    ((ResourcePayload) t).transferTo(entityStream);
+                } else {
+                    writeBundle((PayloadBundle) t, entityStream);
+                }
+            } else {
+                Resource resource;
+                if (t instanceof ResourcePayload) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    ((ResourcePayload) t).transferTo(out);
+                    resource = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+                } else {
+                    resource = ((PayloadBundle) t).toBundle();
+                }
+                FHIRGenerator.generator(format, pretty).generate(resource, entityStream);
+            }
+        } catch (FHIRException e) {
+            // log the error but don't throw because that seems to block to original IOException from bubbling for some reason
+            log.log(Level.WARNING, "an error occurred during resource serialization", e);
+            Response response =
+                    buildResponse(
+                            buildOperationOutcome(Collections.singletonList(
+                                    buildOperationOutcomeIssue(IssueSeverity.FATAL, IssueType.EXCEPTION,
+                                            "FHIRPayloadProvider: " + Encode.forHtml(e.getMessage())))),
+                            mediaType);
+            throw new WebApplicationException(response);
+        } finally {
+            log.exiting(this.getClass().getName(), "writeTo");
+        }
+    }
+
+    /**
+     * Write the bundle in compact JSON format, copying each payload into its entry.
+     *
+     * <p>The bundle is written element by element: the bundle without its entries and signature, then each entry,
+     * then the signature. An entry which corresponds to a payload is written as the elements which precede
+     * "resource", the payload, and the elements which follow it. Each part is generated as a separate JSON object,
+     * so the payloads are inserted at known positions and the generated JSON is never searched.
+     */
+    static void writeBundle(PayloadBundle payloadBundle, OutputStream entityStream) throws FHIRException, IOException {
+        Bundle bundle = payloadBundle.getBundle();
+        List<ResourcePayload> payloads = payloadBundle.getPayloads();
+        List<Entry> entries = bundle.getEntry();
+
+        // {"resourceType":"Bundle",...} without the closing brace
+        byte[] head = generate(bundle.toBuilder()
+                .entry(Collections.emptyList())
+                .signature(null)
+                .build());
+        entityStream.write(head, 0, head.length - 1);
+
+        if (!entries.isEmpty()) {
+            entityStream.write(ENTRY_KEY);
+            for (int i = 0; i < entries.size(); i++) {
+                if (i > 0) {
+                    entityStream.write(',');
+                }
+                if (i < payloads.size()) {
+                    writeEntry(entries.get(i), payloads.get(i), entityStream);
+                } else {
+                    entityStream.write(generate(entries.get(i)));
+                }
+            }
+            entityStream.write(']');
+        }
+
+        if (bundle.getSignature() != null) {
+            entityStream.write(SIGNATURE_KEY);
+            entityStream.write(generate(bundle.getSignature()));
+        }
+        entityStream.write('}');
+    }
+
+    /**
+     * Write the entry with the payload as its resource
+     */
+    private static void writeEntry(Entry entry, ResourcePayload payload, OutputStream entityStream) throws FHIRException, IOException {
+        // the elements which precede and follow "resource"; either may be empty
+        Entry.Builder headBuilder = entry.toBuilder()
+                .resource(null)
+                .search(null)
+                .request(null)
+                .response(null);
+        headBuilder.setValidating(false);
+        Entry.Builder tailBuilder = entry.toBuilder()
+                .id(null)
+                .extension(Collections.emptyList())
+                .modifierExtension(Collections.emptyList())
+                .link(Collections.emptyList())
+                .fullUrl(null)
+                .resource(null);
+        tailBuilder.setValidating(false);
+        byte[] head = generate(headBuilder.build());
+        byte[] tail = generate(tailBuilder.build());
+
+        // {<head>,"resource":<payload>,<tail>}
+        entityStream.write(head, 0, head.length - 1);
+        if (head.length > 2) {
+            entityStream.write(',');
+        }
+        entityStream.write(RESOURCE_KEY);
+        payload.transferTo(entityStream);
+        if (tail.length > 2) {
+            entityStream.write(',');
+            entityStream.write(tail, 1, tail.length - 1);
+        } else {
+            entityStream.write('}');
+        }
+    }
+
+    /**
+     * Generate the visitable as a compact JSON object
+     */
+    private static byte[] generate(Visitable visitable) throws FHIRException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRGenerator.generator(Format.JSON).generate(visitable, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public long getSize(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return -1;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.provider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Bundle.Entry;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.ResourcePayload;
+
+/**
+ * A search result Bundle whose 'match' resources are still in the JSON form in which they were stored.
+ *
+ * <p>The first {@code payloads.size()} entries of the bundle correspond to the payloads and have no resource;
+ * the resource of each of those entries is the payload at the same position.
+ */
+public class PayloadBundle {
+    private final Bundle bundle;
+    private final List<ResourcePayload> payloads;
+
+    /**
+     * @param bundle the bundle, with no resource in the entries which correspond to the payloads
+     * @param payloads the payloads of the resources of the first entries of the bundle
+     */
+    public PayloadBundle(Bundle bundle, List<ResourcePayload> payloads) {
+        this.bundle = Objects.requireNonNull(bundle, "bundle");
+        this.payloads = Collections.unmodifiableList(Objects.requireNonNull(payloads, "payloads"));
+        if (payloads.size() > bundle.getEntry().size()) {
+            throw new IllegalArgumentException("The bundle has fewer entries than payloads");
+        }
+    }
+
+    /**
+     * @return the bundle, with no resource in the entries which correspond to the payloads
+     */
+    public Bundle getBundle() {
+        return bundle;
+    }
+
+    /**
+     * @return the payloads of the resources of the first entries of the bundle
+     */
+    public List<ResourcePayload> getPayloads() {
+        return payloads;
+    }
+
+    /**
+     * Parse the payloads and add the resulting resources to the entries of the bundle. The payloads
+     * are consumed by this method.
+     *
+     * @return the complete bundle
+     * @throws FHIRParserException
+     * @throws IOException
+     */
+    public Bundle toBundle() throws FHIRParserException, IOException {
+        if (payloads.isEmpty()) {
+            return bundle;
+        }
+        List<Entry> entries = new ArrayList<>(bundle.getEntry());
+        FHIRParser parser = FHIRParser.parser(Format.JSON);
+        for (int i = 0; i < payloads.size(); i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            payloads.get(i).transferTo(out);
+            Resource resource = parser.parse(new ByteArrayInputStream(out.toByteArray()));
+            entries.set(i, entries.get(i).toBuilder().resource(resource).build());
+        }
+        return bundle.toBuilder().entry(entries).build();
+    }
+}
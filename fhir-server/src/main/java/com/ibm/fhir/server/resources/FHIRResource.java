@@ -57,6 +57,7 @@ import com.ibm.fhir.model.type.code.IssueType;
 import com.ibm.fhir.model.util.FHIRUtil;
 import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.persistence.FHIRPersistence;
+import com.ibm.fhir.persistence.ResourcePayload;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
 import com.ibm.fhir.persistence.helper.FHIRPersistenceHelper;
 import com.ibm.fhir.persistence.helper.PersistenceHelper;
@@ -231,6 +232,11 @@ public class FHIRResource {
                 .lastModified(Date.from(resource.getMeta().getLastUpdated().getValue().toInstant()));
     }
 
+    protected ResponseBuilder addHeaders(ResponseBuilder rb, ResourcePayload payload) {
+        return rb.header(HttpHeaders.ETAG, "W/\"" + payload.getVersionId() + "\"")
+                .lastModified(Date.from(payload.getLastUpdated()));
+    }
+
     private String getEtagValue(Resource resource) {
         return "W/\"" + resource.getMeta().getVersionId().getValue() + "\"";
     }
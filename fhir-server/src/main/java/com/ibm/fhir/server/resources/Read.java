@@ -31,6 +31,7 @@ import javax.ws.rs.core.Response.Status;
 import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.ResourcePayload;
 import com.ibm.fhir.server.operation.spi.FHIRRestOperationResponse;
 import com.ibm.fhir.server.util.FHIRRestHelper;
 import com.ibm.fhir.server.util.RestAuditLogger;
@@ -66,7 +67,19 @@ public class Read extends FHIRResource {
             long modifiedSince = parseIfModifiedSince();
 
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            Resource resource = helper.doRead(type, id, true, false, null, queryParameters).getResource();
+            // Return the stored JSON as-is when nothing needs the parsed resource
+            ResourcePayload payload = helper.doReadPayload(type, id, queryParameters);
+            Resource resource = null;
+            int versionId;
+            Instant lastUpdated;
+            if (payload != null) {
+                versionId = payload.getVersionId();
+                lastUpdated = payload.getLastUpdated();
+            } else {
+                resource = helper.doRead(type, id, true, false, null, queryParameters).getResource();
+                versionId = Integer.parseInt(resource.getMeta().getVersionId().getValue());
+                lastUpdated = resource.getMeta().getLastUpdated().getValue().toInstant();
+            }
             int version2Match = -1;
             // Support ETag value with or without " (and W/)
             // e.g:  1, "1", W/1, W/"1" (the first format is used by TouchStone)
@@ -91,13 +104,13 @@ public class Read extends FHIRResource {
             boolean isModified = true;
             // check if-not-match first
             if (version2Match != -1) {
-                if (version2Match == Integer.parseInt(resource.getMeta().getVersionId().getValue())) {
+                if (version2Match == versionId) {
                     isModified = false;
                 }
             }
             // then check if-modified-since
             if(isModified && modifiedTime2Compare != null) {
-                if (resource.getMeta().getLastUpdated().getValue().toInstant().isBefore(modifiedTime2Compare)) {
+                if (lastUpdated.isBefore(modifiedTime2Compare)) {
                     isModified = false;
                 }
             }
@@ -105,8 +118,13 @@ public class Read extends FHIRResource {
             ResponseBuilder response;
             if (isModified) {
                 status = Status.OK;
-                response = Response.ok().entity(resource);
-                response = addHeaders(response, resource);
+                if (payload != null) {
+                    response = Response.ok().entity(payload);
+                    response = addHeaders(response, payload);
+                } else {
+                    response = Response.ok().entity(resource);
+                    response = addHeaders(response, resource);
+                }
             } else {
                 status = Status.NOT_MODIFIED;
                 response = Response.status(Response.Status.NOT_MODIFIED);
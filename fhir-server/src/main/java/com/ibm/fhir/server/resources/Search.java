@@ -28,6 +28,7 @@ import javax.ws.rs.core.Response.Status;
 import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.server.provider.PayloadBundle;
 import com.ibm.fhir.server.util.FHIRRestHelper;
 import com.ibm.fhir.server.util.RestAuditLogger;
 
@@ -71,6 +72,13 @@ public class Search extends FHIRResource {
 
             queryParameters = uriInfo.getQueryParameters();
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
+            // Return the stored JSON of the resources as-is when nothing needs the parsed resources
+            PayloadBundle payloadBundle = helper.doSearchPayloads(type, null, null, queryParameters, getRequestUri());
+            if (payloadBundle != null) {
+                bundle = payloadBundle.getBundle();
+                status = Status.OK;
+                return Response.status(status).entity(payloadBundle).build();
+            }
             bundle = helper.doSearch(type, null, null, queryParameters, getRequestUri(), null);
             status = Status.OK;
             return Response.status(status).entity(bundle).build();
@@ -120,6 +128,13 @@ public class Search extends FHIRResource {
 
             queryParameters = uriInfo.getQueryParameters();
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
+            // Return the stored JSON of the resources as-is when nothing needs the parsed resources
+            PayloadBundle payloadBundle = helper.doSearchPayloads(type, compartment, compartmentId, queryParameters, getRequestUri());
+            if (payloadBundle != null) {
+                bundle = payloadBundle.getBundle();
+                status = Status.OK;
+                return Response.status(status).entity(payloadBundle).build();
+            }
             bundle = helper.doSearch(type, compartment, compartmentId, queryParameters, getRequestUri(), null);
             status = Status.OK;
             return Response.status(status).entity(bundle).build();
@@ -28,6 +28,7 @@ import javax.ws.rs.core.Response.Status;
 import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.ResourcePayload;
 import com.ibm.fhir.server.operation.spi.FHIRRestOperationResponse;
 import com.ibm.fhir.server.util.FHIRRestHelper;
 import com.ibm.fhir.server.util.RestAuditLogger;
@@ -61,10 +62,18 @@ public class VRead extends FHIRResource {
             MultivaluedMap<String, String> queryParameters = uriInfo.getQueryParameters();
 
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            Resource resource = helper.doVRead(type, id, vid, queryParameters);
+            ResponseBuilder response;
+            // Return the stored JSON as-is when nothing needs the parsed resource
+            ResourcePayload payload = helper.doVReadPayload(type, id, vid, queryParameters);
+            if (payload != null) {
+                response = Response.ok().entity(payload);
+                response = addHeaders(response, payload);
+            } else {
+                Resource resource = helper.doVRead(type, id, vid, queryParameters);
+                response = Response.ok().entity(resource);
+                response = addHeaders(response, resource);
+            }
             status = Status.OK;
-            ResponseBuilder response = Response.ok().entity(resource);
-            response = addHeaders(response, resource);
             return response.build();
         } catch (FHIROperationException e) {
             status = issueListToStatus(e.getIssues());
@@ -17,6 +17,7 @@ import static javax.servlet.http.HttpServletResponse.SC_OK;
 
 import java.net.URI;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -31,8 +32,12 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -44,6 +49,7 @@ import javax.ws.rs.core.Response.Status;
 
 import org.owasp.encoder.Encode;
 
+import com.ibm.fhir.cache.CacheManager.Configuration;
 import com.ibm.fhir.config.FHIRConfigHelper;
 import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.config.FHIRRequestContext;
@@ -94,6 +100,7 @@ import com.ibm.fhir.persistence.FHIRPersistence;
 import com.ibm.fhir.persistence.FHIRPersistenceTransaction;
 import com.ibm.fhir.persistence.ResourceChangeLogRecord;
 import com.ibm.fhir.persistence.ResourceEraseRecord;
+import com.ibm.fhir.persistence.ResourcePayload;
 import com.ibm.fhir.persistence.SingleResourceResult;
 import com.ibm.fhir.persistence.context.FHIRHistoryContext;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
@@ -125,7 +132,10 @@ import com.ibm.fhir.server.operation.spi.FHIROperation;
 import com.ibm.fhir.server.operation.spi.FHIROperationContext;
 import com.ibm.fhir.server.operation.spi.FHIRResourceHelpers;
 import com.ibm.fhir.server.operation.spi.FHIRRestOperationResponse;
+import com.ibm.fhir.server.provider.PayloadBundle;
+import com.ibm.fhir.server.registry.ServerRegistryResourceProvider;
 import com.ibm.fhir.validation.FHIRValidator;
+import com.ibm.fhir.validation.cache.ValidationResultCache;
 import com.ibm.fhir.validation.exception.FHIRValidationException;
 
 /**
@@ -163,17 +173,51 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             .appendPattern(", dd-MMM-yy HH:mm:ss")
             .optionalEnd().toFormatter();
 
+    // The validation result cache of each tenant; empty if caching is disabled for the tenant
+    private static final Map<String, Optional<ValidationResultCache>> VALIDATION_RESULT_CACHES = new ConcurrentHashMap<>();
+
     private FHIRPersistence persistence = null;
 
     // Used for correlating requests within a bundle.
     private String bundleRequestCorrelationId = null;
 
+    // Validates the entry resources of large Bundle resources in parallel
+    private static final ForkJoinPool BUNDLE_ENTRY_VALIDATION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     private final FHIRValidator validator = FHIRValidator.validator(FHIRConfigHelper.getBooleanProperty(FHIRConfiguration.PROPERTY_VALIDATION_FAIL_FAST, Boolean.FALSE));
 
+    // Created when the first Bundle resource that reaches the parallel validation threshold is validated
+    private FHIRValidator parallelValidator = null;
+
     public FHIRRestHelper(FHIRPersistence persistence) {
         this.persistence = persistence;
     }
 
+    /**
+     * Get the validation result cache for the tenant of the current request
+     *
+     * <p>The cache size is resolved from the configuration of each tenant when the tenant first validates a resource,
+     * so caching can be enabled for some tenants and disabled for others. The underlying managed cache is
+     * tenant-specific as well.
+     *
+     * @return
+     *     the validation result cache, or null if caching is disabled for the current tenant
+     */
+    private static ValidationResultCache getValidationResultCache() {
+        String tenantId = FHIRRequestContext.get().getTenantId();
+        return VALIDATION_RESULT_CACHES.computeIfAbsent(tenantId, k -> createValidationResultCache()).orElse(null);
+    }
+
+    private static Optional<ValidationResultCache> createValidationResultCache() {
+        int maximumSize = FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_VALIDATION_RESULT_CACHE_SIZE, 0);
+        if (maximumSize <= 0) {
+            return Optional.empty();
+        }
+        // expire entries at the same rate as the tenant-specific registry resources they may depend on
+        Duration duration = ServerRegistryResourceProvider.REGISTRY_RESOURCE_CACHE_CONFIGURATION.getDuration();
+        return Optional.of(new ValidationResultCache(Configuration.of(maximumSize, duration)));
+    }
+
     @Override
     public FHIRRestOperationResponse doCreate(String type, Resource resource, String ifNoneExist,
             boolean doValidation) throws Exception {
@@ -801,66 +845,34 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             throws Exception {
         log.entering(this.getClass().getName(), "doRead");
 
-        SingleResourceResult<? extends Resource> result;
-
-        // Validate that interaction is allowed for given resource type
-        if (checkInteractionAllowed) {
-            validateInteraction(Interaction.READ, type);
-        }
-
-        // Start a new txn in the persistence layer if one is not already active.
-        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
-        txn.begin();
-
-        // Save the current request context.
-        FHIRRequestContext requestContext = FHIRRequestContext.get();
-
         try {
-            String resourceTypeName = type;
-            if (!ModelSupport.isResourceType(type)) {
-                throw buildUnsupportedResourceTypeException(type);
+            // Validate that interaction is allowed for given resource type
+            if (checkInteractionAllowed) {
+                validateInteraction(Interaction.READ, type);
             }
 
-            Class<? extends Resource> resourceType = getResourceType(resourceTypeName);
-
-            FHIRSearchContext searchContext = null;
-            if (queryParameters != null) {
-                searchContext = SearchUtil.parseReadQueryParameters(resourceType, queryParameters, Interaction.READ.value(),
-                    HTTPHandlingPreference.LENIENT.equals(requestContext.getHandlingPreference()));
+            if (!ModelSupport.isResourceType(type)) {
+                throw buildUnsupportedResourceTypeException(type);
             }
 
-            // First, invoke the 'beforeRead' interceptor methods.
-            FHIRPersistenceEvent event =
-                    new FHIRPersistenceEvent(contextResource, buildPersistenceEventProperties(type, id, null, searchContext));
-            getInterceptorMgr().fireBeforeReadEvent(event);
+            Class<? extends Resource> resourceType = getResourceType(type);
+            FHIRSearchContext searchContext = parseReadQueryParameters(resourceType, queryParameters, Interaction.READ);
 
-            FHIRPersistenceContext persistenceContext =
-                    FHIRPersistenceContextFactory.createPersistenceContext(event, includeDeleted, searchContext);
-            result = persistence.read(persistenceContext, resourceType, id);
-            Resource resource = result.getResource();
-            if (resource == null && throwExcOnNull) {
-                throw new FHIRPersistenceResourceNotFoundException("Resource '" + type + "/" + id + "' not found.");
-            }
-
-            event.setFhirResource(resource);
+            return doRead(Interaction.READ, type, id, null, contextResource, includeDeleted, searchContext, persistenceContext -> {
+                SingleResourceResult<? extends Resource> result = persistence.read(persistenceContext, resourceType, id);
+                Resource resource = result.getResource();
+                if (resource == null && throwExcOnNull) {
+                    throw new FHIRPersistenceResourceNotFoundException("Resource '" + type + "/" + id + "' not found.");
+                }
 
-            // Invoke the 'afterRead' interceptor methods.
-            getInterceptorMgr().fireAfterReadEvent(event);
+                // Invoke the 'afterRead' interceptor methods.
+                FHIRPersistenceEvent event = persistenceContext.getPersistenceEvent();
+                event.setFhirResource(resource);
+                getInterceptorMgr().fireAfterReadEvent(event);
 
-            // Commit our transaction if we started one before.
-            txn.commit();
-            txn = null;
-
-            return result;
+                return result;
+            });
         } finally {
-            // Restore the original request context.
-            FHIRRequestContext.set(requestContext);
-
-            // If we previously started a transaction and it's still active, we need to rollback due to an error.
-            if (txn != null) {
-                txn.rollback();
-            }
-
             log.exiting(this.getClass().getName(), "doRead");
         }
     }
@@ -870,66 +882,210 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             throws Exception {
         log.entering(this.getClass().getName(), "doVRead");
 
-        // Validate that interaction is allowed for given resource type
-        validateInteraction(Interaction.VREAD, type);
+        try {
+            // Validate that interaction is allowed for given resource type
+            validateInteraction(Interaction.VREAD, type);
 
-        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
-        // Start a new txn in the persistence layer if one is not already active.
-        txn.begin();
+            if (!ModelSupport.isResourceType(type)) {
+                throw buildUnsupportedResourceTypeException(type);
+            }
 
-        Resource resource = null;
+            Class<? extends Resource> resourceType = getResourceType(type);
+            FHIRSearchContext searchContext = parseReadQueryParameters(resourceType, queryParameters, Interaction.VREAD);
 
-        // Save the current request context.
-        FHIRRequestContext requestContext = FHIRRequestContext.get();
+            return doRead(Interaction.VREAD, type, id, versionId, null, false, searchContext, persistenceContext -> {
+                Resource resource = persistence.vread(persistenceContext, resourceType, id, versionId).getResource();
+                if (resource == null) {
+                    throw new FHIRPersistenceResourceNotFoundException("Resource '"
+                            + resourceType.getSimpleName() + "/" + id + "' version " + versionId + " not found.");
+                }
+
+                // Invoke the 'afterVread' interceptor methods.
+                FHIRPersistenceEvent event = persistenceContext.getPersistenceEvent();
+                event.setFhirResource(resource);
+                getInterceptorMgr().fireAfterVreadEvent(event);
+
+                return resource;
+            });
+        } finally {
+            log.exiting(this.getClass().getName(), "doVRead");
+        }
+    }
+
+    /**
+     * Performs a 'read' operation which returns the stored JSON of the Resource without parsing it.
+     *
+     * @param type
+     *            the resource type associated with the Resource to be retrieved
+     * @param id
+     *            the id of the Resource to be retrieved
+     * @param queryParameters
+     *            the query parameters from the request URL
+     * @return the payload of the Resource, or null if this read cannot be performed without parsing the Resource;
+     *         in which case the caller should use doRead instead
+     * @throws Exception
+     */
+    public ResourcePayload doReadPayload(String type, String id, MultivaluedMap<String, String> queryParameters) throws Exception {
+        log.entering(this.getClass().getName(), "doReadPayload");
 
         try {
-            String resourceTypeName = type;
-            if (!ModelSupport.isResourceType(type)) {
-                throw buildUnsupportedResourceTypeException(type);
+            if (!isPayloadPassthroughAllowed("afterRead") || !ModelSupport.isResourceType(type)) {
+                return null;
             }
 
-            Class<? extends Resource> resourceType = getResourceType(resourceTypeName);
-
-            FHIRSearchContext searchContext = null;
-            if (queryParameters != null) {
-                searchContext = SearchUtil.parseReadQueryParameters(resourceType, queryParameters, Interaction.VREAD.value(),
-                    HTTPHandlingPreference.LENIENT.equals(requestContext.getHandlingPreference()));
+            Class<? extends Resource> resourceType = getResourceType(type);
+            FHIRSearchContext searchContext = parseReadQueryParameters(resourceType, queryParameters, Interaction.READ);
+            if (searchContext != null && !isPayloadPassthroughAllowed(searchContext)) {
+                return null;
             }
 
-            // First, invoke the 'beforeVread' interceptor methods.
-            FHIRPersistenceEvent event =
-                    new FHIRPersistenceEvent(null, buildPersistenceEventProperties(type, id, versionId, searchContext));
-            getInterceptorMgr().fireBeforeVreadEvent(event);
+            // Validate that interaction is allowed for given resource type
+            validateInteraction(Interaction.READ, type);
 
-            FHIRPersistenceContext persistenceContext =
-                    FHIRPersistenceContextFactory.createPersistenceContext(event, searchContext);
-            resource = persistence.vread(persistenceContext, resourceType, id, versionId).getResource();
-            if (resource == null) {
-                throw new FHIRPersistenceResourceNotFoundException("Resource '"
-                        + resourceType.getSimpleName() + "/" + id + "' version " + versionId + " not found.");
+            return doRead(Interaction.READ, type, id, null, null, false, searchContext, persistenceContext -> {
+                ResourcePayload payload = persistence.readPayload(persistenceContext, resourceType, id);
+                if (payload == null) {
+                    throw new FHIRPersistenceResourceNotFoundException("Resource '" + type + "/" + id + "' not found.");
+                }
+
+                // None of the interceptors act on 'afterRead', so there is no need to fire the event
+                return payload;
+            });
+        } finally {
+            log.exiting(this.getClass().getName(), "doReadPayload");
+        }
+    }
+
+    /**
+     * Performs a 'vread' operation which returns the stored JSON of the Resource version without parsing it.
+     *
+     * @param type
+     *            the resource type associated with the Resource to be retrieved
+     * @param id
+     *            the id of the Resource to be retrieved
+     * @param versionId
+     *            the version id of the Resource to be retrieved
+     * @param queryParameters
+     *            the query parameters from the request URL
+     * @return the payload of the Resource version, or null if this vread cannot be performed without parsing the Resource;
+     *         in which case the caller should use doVRead instead
+     * @throws Exception
+     */
+    public ResourcePayload doVReadPayload(String type, String id, String versionId, MultivaluedMap<String, String> queryParameters)
+            throws Exception {
+        log.entering(this.getClass().getName(), "doVReadPayload");
+
+        try {
+            if (!isPayloadPassthroughAllowed("afterVread") || !ModelSupport.isResourceType(type)) {
+                return null;
             }
 
-            event.setFhirResource(resource);
+            Class<? extends Resource> resourceType = getResourceType(type);
+            FHIRSearchContext searchContext = parseReadQueryParameters(resourceType, queryParameters, Interaction.VREAD);
+            if (searchContext != null && !isPayloadPassthroughAllowed(searchContext)) {
+                return null;
+            }
 
-            // Invoke the 'afterVread' interceptor methods.
-            getInterceptorMgr().fireAfterVreadEvent(event);
+            // Validate that interaction is allowed for given resource type
+            validateInteraction(Interaction.VREAD, type);
 
-            // Commit our transaction if we started one before.
-            txn.commit();
-            txn = null;
+            return doRead(Interaction.VREAD, type, id, versionId, null, false, searchContext, persistenceContext -> {
+                ResourcePayload payload = persistence.vreadPayload(persistenceContext, resourceType, id, versionId);
+                if (payload == null) {
+                    throw new FHIRPersistenceResourceNotFoundException("Resource '"
+                            + resourceType.getSimpleName() + "/" + id + "' version " + versionId + " not found.");
+                }
 
-            return resource;
+                // None of the interceptors act on 'afterVread', so there is no need to fire the event
+                return payload;
+            });
         } finally {
-            // Restore the original request context.
-            FHIRRequestContext.set(requestContext);
+            log.exiting(this.getClass().getName(), "doVReadPayload");
+        }
+    }
 
-            // If we previously started a transaction and it's still active, we need to rollback due to an error.
-            if (txn != null) {
-                txn.rollback();
+    /**
+     * Performs the steps shared by the 'read' and 'vread' operations: within a transaction, invoke the 'beforeRead'
+     * or 'beforeVread' interceptor methods and then the passed persistence operation, which is responsible for the
+     * corresponding 'after' event.
+     *
+     * @param interaction
+     *            either READ or VREAD
+     * @param type
+     *            the resource type associated with the Resource to be retrieved
+     * @param id
+     *            the id of the Resource to be retrieved
+     * @param versionId
+     *            the version id of the Resource to be retrieved, or null for a 'read'
+     * @param contextResource
+     *            a FHIR resource associated with this request
+     * @param includeDeleted
+     *            if true, return resource even if deleted (only used for a 'read')
+     * @param searchContext
+     *            the search context for _elements and _summary, or null
+     * @param operation
+     *            the persistence operation which retrieves the Resource or its payload
+     * @return the result of the persistence operation
+     * @throws Exception
+     */
+    private <T> T doRead(Interaction interaction, String type, String id, String versionId, Resource contextResource,
+            boolean includeDeleted, FHIRSearchContext searchContext, PersistenceOperation<T> operation) throws Exception {
+        return runInTransaction(() -> {
+            FHIRPersistenceEvent event =
+                    new FHIRPersistenceEvent(contextResource, buildPersistenceEventProperties(type, id, versionId, searchContext));
+
+            // First, invoke the 'beforeRead' or 'beforeVread' interceptor methods.
+            FHIRPersistenceContext persistenceContext;
+            if (interaction == Interaction.READ) {
+                getInterceptorMgr().fireBeforeReadEvent(event);
+                persistenceContext = FHIRPersistenceContextFactory.createPersistenceContext(event, includeDeleted, searchContext);
+            } else {
+                getInterceptorMgr().fireBeforeVreadEvent(event);
+                persistenceContext = FHIRPersistenceContextFactory.createPersistenceContext(event, searchContext);
             }
 
-            log.exiting(this.getClass().getName(), "doVRead");
+            return operation.perform(persistenceContext);
+        });
+    }
+
+    /**
+     * Parse the _elements and _summary parameters of a 'read' or 'vread' request.
+     *
+     * @return the search context, or null if there are no query parameters
+     */
+    private FHIRSearchContext parseReadQueryParameters(Class<? extends Resource> resourceType, MultivaluedMap<String, String> queryParameters,
+            Interaction interaction) throws Exception {
+        if (queryParameters == null) {
+            return null;
         }
+        return SearchUtil.parseReadQueryParameters(resourceType, queryParameters, interaction.value(),
+            HTTPHandlingPreference.LENIENT.equals(FHIRRequestContext.get().getHandlingPreference()));
+    }
+
+    /**
+     * Check whether a response may be served from the stored JSON of the resources. This requires payload passthrough
+     * to be enabled in the configuration and supported by the persistence layer, and that no interceptor needs the
+     * resources in the given 'after' event.
+     *
+     * @param afterEventMethod
+     *            the name of the interceptor method which would be invoked with the resources (e.g. "afterRead")
+     * @return true if the stored JSON may be returned as-is
+     */
+    private boolean isPayloadPassthroughAllowed(String afterEventMethod) throws FHIRPersistenceException {
+        return FHIRConfigHelper.getBooleanProperty(FHIRConfiguration.PROPERTY_PAYLOAD_PASSTHROUGH_ENABLED, Boolean.FALSE)
+                && persistence.isPayloadPassthroughSupported()
+                && !getInterceptorMgr().isIntercepted(afterEventMethod);
+    }
+
+    /**
+     * Check whether the search result parameters allow a response to be served from the stored JSON of the resources.
+     *
+     * @param searchContext
+     *            the search context
+     * @return true if neither _elements nor _summary is specified
+     */
+    private boolean isPayloadPassthroughAllowed(FHIRSearchContext searchContext) {
+        return !searchContext.hasElementsParameters() && !searchContext.hasSummaryParameter();
     }
 
     /**
@@ -1040,22 +1196,11 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             Resource contextResource, boolean checkInteractionAllowed) throws Exception {
         log.entering(this.getClass().getName(), "doSearch");
 
-        // Validate that interaction is allowed for given resource type
-        if (checkInteractionAllowed) {
-            validateInteraction(Interaction.SEARCH, type);
-        }
-
-        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
-        // Start a new txn in the persistence layer if one is not already active.
-        txn.begin();
-
-        Bundle bundle = null;
-
-        // Save the current request context.
-        FHIRRequestContext requestContext = FHIRRequestContext.get();
-
         try {
-            String resourceTypeName = type;
+            // Validate that interaction is allowed for given resource type
+            if (checkInteractionAllowed) {
+                validateInteraction(Interaction.SEARCH, type);
+            }
 
             // Check to see if it's supported, else, throw a bad request.
             // If this is removed, it'll result in nullpointer when processing the request
@@ -1063,11 +1208,125 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
                 throw buildUnsupportedResourceTypeException(type);
             }
 
-            Class<? extends Resource> resourceType = getResourceType(resourceTypeName);
+            Class<? extends Resource> resourceType = getResourceType(type);
 
             FHIRSearchContext searchContext = SearchUtil.parseCompartmentQueryParameters(compartment, compartmentId, resourceType, queryParameters,
-                HTTPHandlingPreference.LENIENT.equals(requestContext.getHandlingPreference()));
+                HTTPHandlingPreference.LENIENT.equals(FHIRRequestContext.get().getHandlingPreference()));
 
+            return doSearch(type, contextResource, searchContext, persistenceContext -> {
+                List<Resource> resources =
+                        persistence.search(persistenceContext, resourceType).getResource();
+
+                Bundle bundle = createSearchBundle(resources, searchContext, type);
+                if (requestUri != null) {
+                    bundle = addLinks(searchContext, bundle, requestUri);
+                }
+
+                // Invoke the 'afterSearch' interceptor methods.
+                FHIRPersistenceEvent event = persistenceContext.getPersistenceEvent();
+                event.setFhirResource(bundle);
+                getInterceptorMgr().fireAfterSearchEvent(event);
+
+                return bundle;
+            });
+        } finally {
+            log.exiting(this.getClass().getName(), "doSearch");
+        }
+    }
+
+    /**
+     * Performs a 'search' operation which returns the stored JSON of the 'match' resources without parsing them.
+     *
+     * <p>Whether the stored JSON can be returned is ultimately decided by the persistence layer. When it cannot (e.g.
+     * the JDBC persistence layer with the legacy query builder), the search falls back to the parsed resources and
+     * the returned PayloadBundle has no payloads.
+     *
+     * @param type
+     *            the resource type associated with the search
+     * @param compartment
+     *            the compartment associated with the search
+     * @param compartmentId
+     *            the ID of the compartment associated with the search
+     * @param queryParameters
+     *            a Map containing the query parameters from the request URL
+     * @param requestUri
+     *            the request URI
+     * @return the search result set, or null if this search cannot be performed without parsing the resources;
+     *         in which case the caller should use doSearch instead
+     * @throws Exception
+     */
+    public PayloadBundle doSearchPayloads(String type, String compartment, String compartmentId,
+            MultivaluedMap<String, String> queryParameters, String requestUri) throws Exception {
+        log.entering(this.getClass().getName(), "doSearchPayloads");
+
+        try {
+            if (!isPayloadPassthroughAllowed("afterSearch") || !ModelSupport.isResourceType(type)
+                    || Resource.class.getSimpleName().equals(type)) {
+                return null;
+            }
+
+            Class<? extends Resource> resourceType = getResourceType(type);
+
+            FHIRSearchContext searchContext = SearchUtil.parseCompartmentQueryParameters(compartment, compartmentId, resourceType, queryParameters,
+                HTTPHandlingPreference.LENIENT.equals(FHIRRequestContext.get().getHandlingPreference()));
+
+            // Included resources, outcome issues and the checks for versioned or ambiguous references
+            // all need the parsed resources
+            List<QueryParameter> chainedSearchParameters = new ArrayList<>();
+            List<QueryParameter> logicalIdReferenceSearchParameters = new ArrayList<>();
+            findSearchReferenceCheckParameters(searchContext, chainedSearchParameters, logicalIdReferenceSearchParameters);
+            if (!isPayloadPassthroughAllowed(searchContext)
+                    || searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()
+                    || (searchContext.getOutcomeIssues() != null && !searchContext.getOutcomeIssues().isEmpty())
+                    || !chainedSearchParameters.isEmpty() || !logicalIdReferenceSearchParameters.isEmpty()) {
+                return null;
+            }
+
+            // Validate that interaction is allowed for given resource type
+            validateInteraction(Interaction.SEARCH, type);
+
+            return doSearch(type, null, searchContext, persistenceContext -> {
+                List<ResourcePayload> payloads = persistence.searchPayloads(persistenceContext, resourceType);
+
+                Bundle bundle;
+                if (payloads == null) {
+                    // the persistence layer needs to parse the resources for this search
+                    List<Resource> resources = persistence.search(persistenceContext, resourceType).getResource();
+                    bundle = createSearchBundle(resources, searchContext, type);
+                    payloads = Collections.emptyList();
+                } else {
+                    bundle = createPayloadSearchBundle(payloads, searchContext, type);
+                }
+                if (requestUri != null) {
+                    bundle = addLinks(searchContext, bundle, requestUri);
+                }
+
+                // None of the interceptors act on 'afterSearch', so there is no need to fire the event
+                return new PayloadBundle(bundle, payloads);
+            });
+        } finally {
+            log.exiting(this.getClass().getName(), "doSearchPayloads");
+        }
+    }
+
+    /**
+     * Performs the steps shared by the 'search' operations: within a transaction, invoke the 'beforeSearch'
+     * interceptor methods and then the passed persistence operation, which is responsible for the 'afterSearch' event.
+     *
+     * @param type
+     *            the resource type associated with the search
+     * @param contextResource
+     *            a FHIR resource associated with this request
+     * @param searchContext
+     *            the search context
+     * @param operation
+     *            the persistence operation which performs the search and builds the result
+     * @return the result of the persistence operation
+     * @throws Exception
+     */
+    private <T> T doSearch(String type, Resource contextResource, FHIRSearchContext searchContext, PersistenceOperation<T> operation)
+            throws Exception {
+        return runInTransaction(() -> {
             // First, invoke the 'beforeSearch' interceptor methods.
             FHIRPersistenceEvent event =
                     new FHIRPersistenceEvent(contextResource, buildPersistenceEventProperties(type, null, null, searchContext));
@@ -1075,23 +1334,36 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
 
             FHIRPersistenceContext persistenceContext =
                     FHIRPersistenceContextFactory.createPersistenceContext(event, searchContext);
-            List<Resource> resources =
-                    persistence.search(persistenceContext, resourceType).getResource();
+            return operation.perform(persistenceContext);
+        });
+    }
 
-            bundle = createSearchBundle(resources, searchContext, type);
-            if (requestUri != null) {
-                bundle = addLinks(searchContext, bundle, requestUri);
-            }
-            event.setFhirResource(bundle);
+    /**
+     * Runs the passed work in a new transaction of the persistence layer, unless one is already active, and restores
+     * the current request context afterwards. A transaction started here is committed when the work completes
+     * normally and rolled back otherwise.
+     *
+     * @param work
+     *            the work to perform
+     * @return the result of the work
+     * @throws Exception
+     */
+    private <T> T runInTransaction(Callable<T> work) throws Exception {
+        // Start a new txn in the persistence layer if one is not already active.
+        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
+        txn.begin();
 
-            // Invoke the 'afterSearch' interceptor methods.
-            getInterceptorMgr().fireAfterSearchEvent(event);
+        // Save the current request context.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+
+        try {
+            T result = work.call();
 
             // Commit our transaction if we started one before.
             txn.commit();
             txn = null;
 
-            return bundle;
+            return result;
         } finally {
             // Restore the original request context.
             FHIRRequestContext.set(requestContext);
@@ -1100,11 +1372,17 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             if (txn != null) {
                 txn.rollback();
             }
-
-            log.exiting(this.getClass().getName(), "doSearch");
         }
     }
 
+    /**
+     * A persistence operation performed by {@link #doRead} or {@link #doSearch} with the persistence context of the request.
+     */
+    @FunctionalInterface
+    private interface PersistenceOperation<T> {
+        T perform(FHIRPersistenceContext persistenceContext) throws Exception;
+    }
+
     /**
      * Helper method which invokes a custom operation.
      *
@@ -2653,22 +2931,7 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             // Find chained search parameters and find reference search parameters containing only a logical ID
             List<QueryParameter> chainedSearchParameters = new ArrayList<>();
             List<QueryParameter> logicalIdReferenceSearchParameters = new ArrayList<>();
-            for (QueryParameter queryParameter : searchContext.getSearchParameters()) {
-                if (!queryParameter.isReverseChained()) {
-                    if (queryParameter.isChained()) {
-                        chainedSearchParameters.add(queryParameter);
-                    } else if (SearchConstants.Type.REFERENCE == queryParameter.getType()) {
-                        // Look for logical ID-only value
-                        for (QueryParameterValue value : queryParameter.getValues()) {
-                            ReferenceValue refVal = ReferenceUtil.createReferenceValueFrom(value.getValueString(), null, ReferenceUtil.getBaseUrl(null));
-                            if (refVal.getType() == ReferenceType.LITERAL_RELATIVE && refVal.getTargetResourceType() == null) {
-                                logicalIdReferenceSearchParameters.add(queryParameter);
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
+            findSearchReferenceCheckParameters(searchContext, chainedSearchParameters, logicalIdReferenceSearchParameters);
             List<Issue> issues = new ArrayList<>();
             if (searchContext.getOutcomeIssues() != null) {
                 issues.addAll(searchContext.getOutcomeIssues());
@@ -2729,6 +2992,74 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
         return bundle;
     }
 
+    /**
+     * Creates a search result Bundle whose entries correspond to the given payloads and have no resource.
+     *
+     * @param payloads
+     *            the payloads of the 'match' resources
+     * @param searchContext
+     *            the search context
+     * @param type
+     *            the resource type of the search
+     * @return the bundle
+     * @throws Exception
+     */
+    private Bundle createPayloadSearchBundle(List<ResourcePayload> payloads, FHIRSearchContext searchContext, String type) throws Exception {
+        // throws if we have a count of more than 2,147,483,647 resources
+        UnsignedInt totalCount = searchContext.getTotalCount() != null ? UnsignedInt.of(searchContext.getTotalCount()) : null;
+        // generate ID for this bundle and set total
+        Bundle.Builder bundleBuilder = Bundle.builder()
+                                            .type(BundleType.SEARCHSET)
+                                            .id(UUID.randomUUID().toString())
+                                            .total(totalCount);
+
+        for (ResourcePayload payload : payloads) {
+            Entry entry = Entry.builder()
+                .id(payload.getLogicalId())
+                .fullUrl(Uri.of(getRequestBaseUri(type) + "/" + payload.getResourceTypeName() + "/" + payload.getLogicalId()))
+                .search(Search.builder()
+                    .mode(SearchEntryMode.MATCH)
+                    .score(Decimal.of("1"))
+                    .build())
+                .build();
+            bundleBuilder.entry(entry);
+        }
+
+        return bundleBuilder.build();
+    }
+
+    /**
+     * Find the search parameters for which the 'match' resources need to be checked by
+     * {@link #performSearchReferenceChecks(String, List, List, List)}.
+     *
+     * @param searchContext
+     *            The search context.
+     * @param chainedSearchParameters
+     *            The list to which the chained search parameters are added.
+     * @param logicalIdReferenceSearchParameters
+     *            The list to which the reference search parameters that only specify a logical ID are added.
+     * @throws FHIRSearchException
+     */
+    private void findSearchReferenceCheckParameters(FHIRSearchContext searchContext, List<QueryParameter> chainedSearchParameters,
+            List<QueryParameter> logicalIdReferenceSearchParameters) throws FHIRSearchException {
+        for (QueryParameter queryParameter : searchContext.getSearchParameters()) {
+            if (!queryParameter.isReverseChained()) {
+                if (queryParameter.isChained()) {
+                    chainedSearchParameters.add(queryParameter);
+                } else if (SearchConstants.Type.REFERENCE == queryParameter.getType()) {
+                    // Look for logical ID-only value
+                    for (QueryParameterValue value : queryParameter.getValues()) {
+                        ReferenceValue refVal = ReferenceUtil.createReferenceValueFrom(value.getValueString(), null, ReferenceUtil.getBaseUrl(null));
+                        if (refVal.getType() == ReferenceType.LITERAL_RELATIVE && refVal.getTargetResourceType() == null) {
+                            logicalIdReferenceSearchParameters.add(queryParameter);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * For chained search, check 'match' resources for existence of a versioned reference in the field
      * associated with the chain search parameter.
@@ -2925,7 +3256,7 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
                     && (nextPageNumber == 1 || context.getTotalCount() != null || context.getMatchCount() == context.getPageSize())) {
 
                 // starting with the self URI
-                String nextLinkUrl = selfUri;
+                String nextLinkUrl = removeCursorParameter(selfUri);
 
                 // remove existing _page parameters from the query string
                 nextLinkUrl = nextLinkUrl.replace("&_page=" + context.getPageNumber(), "").replace("_page="
@@ -2943,6 +3274,11 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
                 // add new _page parameter to the query string
                 nextLinkUrl += "_page=" + nextPageNumber;
 
+                // add the cursor which lets the persistence layer seek directly to the next page
+                if (context.getNextPageCursor() != null) {
+                    nextLinkUrl += "&" + SearchConstants.CURSOR + "=" + context.getNextPageCursor();
+                }
+
                 // create 'next' link
                 Bundle.Link nextLink =
                         Bundle.Link.builder().relation(string("next")).url(Url.of(nextLinkUrl)).build();
@@ -2952,8 +3288,8 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             int prevPageNumber = Math.min(context.getPageNumber() - 1, context.getLastPageNumber());
             if (prevPageNumber > 0) {
 
-                // starting with the original request URI
-                String prevLinkUrl = requestUri;
+                // starting with the original request URI (without the cursor for the current page)
+                String prevLinkUrl = removeCursorParameter(requestUri);
 
                 // remove existing _page parameters from the query string
                 prevLinkUrl =
@@ -2983,6 +3319,17 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
         return bundleBuilder.build();
     }
 
+    /**
+     * Remove the _cursor parameter, which is only valid for a single page, from the query string of the passed URL
+     */
+    private String removeCursorParameter(String url) {
+        String result = url.replaceAll("([?&])" + SearchConstants.CURSOR + "=[^&]*(&|$)", "$1");
+        if (result.endsWith("&")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
     /**
      * Get the original request URI from either the HttpServletRequest or a configured Header (in case of re-writing proxies).
      *
@@ -3345,7 +3692,29 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             }
         }
 
-        return validator.validate(resource);
+        return getValidator(resource).cache(getValidationResultCache()).validate(resource);
+    }
+
+    /**
+     * Get the validator for a resource: a parallel validator for a Bundle resource with at least the number of entries
+     * configured by {@link FHIRConfiguration#PROPERTY_VALIDATION_PARALLEL_BUNDLE_ENTRY_THRESHOLD}, and the sequential
+     * validator otherwise.
+     *
+     * @param resource
+     *            the resource to be validated
+     * @return the validator
+     */
+    private FHIRValidator getValidator(Resource resource) {
+        if (resource instanceof Bundle) {
+            int threshold = FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_VALIDATION_PARALLEL_BUNDLE_ENTRY_THRESHOLD, 0);
+            if (threshold > 0 && ((Bundle) resource).getEntry().size() >= threshold) {
+                if (parallelValidator == null) {
+                    parallelValidator = FHIRValidator.validator(validator.isFailFast(), BUNDLE_ENTRY_VALIDATION_POOL);
+                }
+                return parallelValidator;
+            }
+        }
+        return validator;
     }
 
     /**
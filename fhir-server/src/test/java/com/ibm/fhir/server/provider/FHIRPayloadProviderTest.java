@@ -0,0 +1,195 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.provider;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Bundle.Entry;
+import com.ibm.fhir.model.resource.Bundle.Entry.Search;
+import com.ibm.fhir.model.resource.OperationOutcome;
+import com.ibm.fhir.model.resource.OperationOutcome.Issue;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Coding;
+import com.ibm.fhir.model.type.Decimal;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.Meta;
+import com.ibm.fhir.model.type.Reference;
+import com.ibm.fhir.model.type.Signature;
+import com.ibm.fhir.model.type.UnsignedInt;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.BundleType;
+import com.ibm.fhir.model.type.code.IssueSeverity;
+import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.model.type.code.SearchEntryMode;
+import com.ibm.fhir.persistence.ResourcePayload;
+
+/**
+ * Unit tests for {@link FHIRPayloadProvider} and {@link PayloadBundle}
+ */
+public class FHIRPayloadProviderTest {
+
+    @Test
+    public void testWriteBundle() throws Exception {
+        // the family name contains the key which is used to find the entries
+        List<Patient> patients = Arrays.asList(patient("1", "\"search\":{"), patient("2", "Doe"));
+        Bundle expected = bundle(patients, true);
+
+        PayloadBundle payloadBundle = new PayloadBundle(bundle(patients, false), payloads(patients));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRPayloadProvider.writeBundle(payloadBundle, out);
+        Bundle actual = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testWriteBundleWithSearchInContent() throws Exception {
+        // the payloads are searchset bundles themselves, so their content has "search":{ elements
+        List<Bundle> resources = Arrays.asList(
+                bundle(Arrays.asList(patient("1", "Doe")), true),
+                bundle(Arrays.asList(patient("2", "Roe"), patient("3", "Poe")), true));
+        Bundle expected = bundle(resources, true);
+
+        PayloadBundle payloadBundle = new PayloadBundle(bundle(resources, false), payloads(resources));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRPayloadProvider.writeBundle(payloadBundle, out);
+        Bundle actual = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testWriteBundleEntryElements() throws Exception {
+        Patient patient1 = patient("1", "Doe");
+        Patient patient2 = patient("2", "Roe");
+        OperationOutcome outcome = OperationOutcome.builder()
+                .issue(Issue.builder()
+                    .severity(IssueSeverity.WARNING)
+                    .code(IssueType.INFORMATIONAL)
+                    .build())
+                .build();
+        Signature signature = Signature.builder()
+                .type(Coding.builder().code(Code.of("1.2.840.10065.1.12.1.1")).build())
+                .when(com.ibm.fhir.model.type.Instant.of("2021-01-01T00:00:00Z"))
+                .who(Reference.builder().display(com.ibm.fhir.model.type.String.of("someone")).build())
+                .build();
+        // an entry with nothing before its resource, an entry with nothing after its resource,
+        // and an entry which doesn't correspond to a payload
+        List<Entry> entries = Arrays.asList(
+                Entry.builder()
+                    .resource(patient1)
+                    .search(Search.builder().mode(SearchEntryMode.MATCH).build())
+                    .build(),
+                Entry.builder()
+                    .fullUrl(Uri.of("Patient/2"))
+                    .resource(patient2)
+                    .build(),
+                Entry.builder()
+                    .resource(outcome)
+                    .search(Search.builder().mode(SearchEntryMode.OUTCOME).build())
+                    .build());
+        Bundle expected = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .entry(entries)
+                .signature(signature)
+                .build();
+
+        List<Entry> payloadEntries = new ArrayList<>(entries);
+        payloadEntries.set(0, entries.get(0).toBuilder().resource(null).build());
+        payloadEntries.set(1, entries.get(1).toBuilder().resource(null).build());
+        PayloadBundle payloadBundle = new PayloadBundle(expected.toBuilder().entry(payloadEntries).build(),
+                payloads(Arrays.asList(patient1, patient2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRPayloadProvider.writeBundle(payloadBundle, out);
+        Bundle actual = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testWriteEmptyBundle() throws Exception {
+        Bundle bundle = bundle(new ArrayList<>(), false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FHIRPayloadProvider.writeBundle(new PayloadBundle(bundle, new ArrayList<>()), out);
+        Bundle actual = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(actual, bundle);
+    }
+
+    @Test
+    public void testToBundle() throws Exception {
+        List<Patient> patients = Arrays.asList(patient("1", "Doe"), patient("2", "Roe"));
+        PayloadBundle payloadBundle = new PayloadBundle(bundle(patients, false), payloads(patients));
+        assertNull(payloadBundle.getBundle().getEntry().get(0).getResource());
+        assertEquals(payloadBundle.toBundle(), bundle(patients, true));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testTooManyPayloads() throws Exception {
+        List<Patient> patients = Arrays.asList(patient("1", "Doe"));
+        new PayloadBundle(bundle(new ArrayList<>(), false), payloads(patients));
+    }
+
+    private static Patient patient(String id, String family) {
+        return Patient.builder()
+                .id(id)
+                .meta(Meta.builder()
+                    .versionId(com.ibm.fhir.model.type.Id.of("1"))
+                    .lastUpdated(com.ibm.fhir.model.type.Instant.of("2021-01-01T00:00:00Z"))
+                    .build())
+                .name(HumanName.builder()
+                    .family(com.ibm.fhir.model.type.String.of(family))
+                    .build())
+                .build();
+    }
+
+    private static Bundle bundle(List<? extends Resource> resources, boolean includeResources) {
+        Bundle.Builder builder = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .id("bundle")
+                .total(UnsignedInt.of(resources.size()));
+        for (Resource resource : resources) {
+            builder.entry(Entry.builder()
+                .id(resource.getId())
+                .fullUrl(Uri.of("https://localhost:9443/fhir-server/api/v4/Patient/" + resource.getId()))
+                .resource(includeResources ? resource : null)
+                .search(Search.builder()
+                    .mode(SearchEntryMode.MATCH)
+                    .score(Decimal.of("1"))
+                    .build())
+                .build());
+        }
+        return builder.build();
+    }
+
+    private static List<ResourcePayload> payloads(List<? extends Resource> resources) throws Exception {
+        List<ResourcePayload> payloads = new ArrayList<>();
+        for (Resource resource : resources) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            FHIRGenerator.generator(Format.JSON).generate(resource, out);
+            payloads.add(new ResourcePayload(resource.getClass().getSimpleName(), resource.getId(), 1, Instant.now(), 0,
+                    new ByteArrayInputStream(out.toByteArray())));
+        }
+        return payloads;
+    }
+}
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javax.lang.model.SourceVersion;
@@ -261,6 +262,8 @@ public class CodeGenerator {
         generateVisitorInterface(basePath);
         generateDefaultVisitorClass(basePath);
         generateJsonParser(basePath);
+        generateJsonStreamParser(basePath);
+        generateJsonStreamGenerator(basePath);
         generateXMLParser(basePath);
         generateModelClassesFile(basePath);
         generateCodeSubtypeClass("ConceptSubsumptionOutcome", "http://hl7.org/fhir/ValueSet/concept-subsumption-outcome", basePath);
@@ -731,13 +734,33 @@ public class CodeGenerator {
             }
 
             cb.override();
-            cb.method(mods("public"), className, "build")
-                .decl(className, varName, _new(className, args("this")))
-                ._if("validating")
-                    .invoke("validate", args(varName))
-                ._end()
-                ._return(varName)
-            .end();
+            if (isInternable(structureDefinition)) {
+                cb.method(mods("public"), className, "build")
+                    .decl("boolean", "internable", "PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value)")
+                    ._if("internable")
+                        .decl(className, "interned", "PrimitiveInterner.get(" + className + ".class, value)")
+                        ._if("interned != null")
+                            ._return("interned")
+                        ._end()
+                    ._end()
+                    .decl(className, varName, _new(className, args("this")))
+                    ._if("validating")
+                        .invoke("validate", args(varName))
+                        ._if("internable")
+                            ._return("PrimitiveInterner.intern(" + className + ".class, value, " + varName + ")")
+                        ._end()
+                    ._end()
+                    ._return(varName)
+                .end();
+            } else {
+                cb.method(mods("public"), className, "build")
+                    .decl(className, varName, _new(className, args("this")))
+                    ._if("validating")
+                        .invoke("validate", args(varName))
+                    ._end()
+                    ._return(varName)
+                .end();
+            }
         }
 
         cb.newLine();
@@ -2339,6 +2362,10 @@ public class CodeGenerator {
             imports.add("com.ibm.fhir.model.util.ValidationSupport");
         }
 
+        if (isInternable(structureDefinition)) {
+            imports.add("com.ibm.fhir.model.util.PrimitiveInterner");
+        }
+
         if (isDecimal(structureDefinition)) {
             imports.add("java.math.BigDecimal");
         }
@@ -2540,8 +2567,10 @@ public class CodeGenerator {
 
         cb._import("java.io.InputStream");
         cb._import("java.io.Reader");
+        cb._import("java.util.Objects");
         cb._import("java.util.Stack");
         cb._import("java.util.StringJoiner");
+        cb._import("java.util.function.Consumer");
         cb.newLine();
 
         cb._import("javax.annotation.Generated");
@@ -2569,6 +2598,7 @@ public class CodeGenerator {
         cb.newLine();
 
         cb.field(mods("private", "final"), "Stack<java.lang.String>", "stack", _new("Stack<>"));
+        cb.field(mods("private"), "Consumer<Bundle.Entry>", "entryConsumer");
         cb.newLine();
 
         cb.constructor(mods(), "FHIRXMLParser");
@@ -2618,6 +2648,8 @@ public class CodeGenerator {
         .end();
         cb.newLine();
 
+        generateParseEntriesMethods(cb);
+
         cb.method(mods("private"), "void", "reset")
             .invoke("stack", "clear", args())
         .end();
@@ -2843,7 +2875,16 @@ public class CodeGenerator {
                 cb._case(quote(elementName));
                 cb.assign("position", "checkElementOrder(" + quote(elementName) + ", " + orderIndex + ", position, " + isRepeating(elementDefinition) + ")");
                 String parseMethodInvocation = buildParseMethodInvocation(elementDefinition, elementName, fieldType);
-                cb.invoke("builder", fieldName, args(parseMethodInvocation));
+                if ("Bundle".equals(generatedClassName) && "entry".equals(elementName)) {
+                    // entries of the top-level bundle are passed to the entry consumer (if any) instead of the builder
+                    cb._if("entryConsumer != null && stack.size() == 1")
+                        .invoke("entryConsumer", "accept", args(parseMethodInvocation))
+                    ._else()
+                        .invoke("builder", fieldName, args(parseMethodInvocation))
+                    ._end();
+                } else {
+                    cb.invoke("builder", fieldName, args(parseMethodInvocation));
+                }
                 cb._break();
             } else {
                 // generate choice element cases
@@ -2931,16 +2972,20 @@ public class CodeGenerator {
         cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "getResourceType");
         cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "nonClosingInputStream");
         cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "nonClosingReader");
+        cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "readResource");
         cb._importstatic("com.ibm.fhir.model.util.ModelSupport", "getChoiceElementName");
         cb.newLine();
 
         cb._import("java.io.InputStream");
         cb._import("java.io.Reader");
         cb._import("java.nio.charset.StandardCharsets");
+        cb._import("java.util.ArrayList");
         cb._import("java.util.Collection");
         cb._import("java.util.Collections");
         cb._import("java.util.Stack");
         cb._import("java.util.StringJoiner");
+        cb._import("java.util.concurrent.ForkJoinPool");
+        cb._import("java.util.concurrent.ForkJoinTask");
         cb.newLine();
 
         cb._import("javax.annotation.Generated");
@@ -2957,6 +3002,8 @@ public class CodeGenerator {
         cb._import("jakarta.json.JsonReaderFactory");
         cb._import("jakarta.json.JsonString");
         cb._import("jakarta.json.JsonValue");
+        cb._import("jakarta.json.stream.JsonParser");
+        cb._import("jakarta.json.stream.JsonParserFactory");
         cb.newLine();
 
         cb._import("com.ibm.fhir.model.parser.exception.FHIRParserException");
@@ -2975,9 +3022,13 @@ public class CodeGenerator {
         cb._class(mods("public"), "FHIRJsonParser", "FHIRAbstractParser");
         cb.field(mods("public", "static"), "boolean", "DEBUG", "false");
         cb.field(mods("private", "static", "final"), "JsonReaderFactory", "JSON_READER_FACTORY", "Json.createReaderFactory(Collections.singletonMap(JsonConfig.REJECT_DUPLICATE_KEYS, true))");
+        cb.field(mods("private", "static", "final"), "JsonParserFactory", "JSON_PARSER_FACTORY", "Json.createParserFactory(Collections.singletonMap(JsonConfig.REJECT_DUPLICATE_KEYS, true))");
+        cb.field(mods("private", "static", "final"), "ForkJoinPool", "ENTRY_PARSER_POOL", "new ForkJoinPool(Runtime.getRuntime().availableProcessors())");
         cb.newLine();
 
         cb.field(mods("private", "final"), "Stack<java.lang.String>", "stack", _new("Stack<>"));
+        cb.comment("the exception thrown while parsing a bundle entry in parallel");
+        cb.field(mods("private"), "RuntimeException", "exception");
         cb.newLine();
 
         cb.constructor(mods(), "FHIRJsonParser");
@@ -2985,6 +3036,15 @@ public class CodeGenerator {
         cb.end();
         cb.newLine();
 
+        cb.constructor(mods("private"), "FHIRJsonParser", params("FHIRJsonParser parent"));
+        cb.comment("used to parse the entries of a bundle in parallel");
+        cb.assign("validating", "parent.validating");
+        cb.assign("ignoringUnrecognizedElements", "parent.ignoringUnrecognizedElements");
+        cb.invoke("properties", "putAll", args("parent.properties"));
+        cb.invoke("stack", "addAll", args("parent.stack"));
+        cb.end();
+        cb.newLine();
+
         // public <T extends Resource> T parse(InputStream in) throws FHIRException
         cb.override();
         cb.method(mods("public"), "<T extends Resource> T", "parse", params("InputStream in"), throwsExceptions("FHIRParserException"))
@@ -2994,6 +3054,17 @@ public class CodeGenerator {
 
         // public <T extends Resource> T parseAndFilter(InputStream in, java.util.List<java.lang.String> elementsToInclude) throws FHIRException
         cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("InputStream in", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._if("elementsToInclude != null")
+                .comment("skip the elements which are filtered out instead of reading them into memory")
+                .invoke("reset", args())
+                ._try("JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingInputStream(in), StandardCharsets.UTF_8)")
+                    ._return("parseAndFilter(readResource(parser, elementsToInclude), elementsToInclude)")
+                ._catch("FHIRParserException e")
+                    ._throw("e")
+                ._catch("Exception e")
+                    ._throw("new FHIRParserException(e.getMessage(), getPath(), e)")
+                ._end()
+            ._end()
             ._try("JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingInputStream(in), StandardCharsets.UTF_8)")
                 .assign("JsonObject jsonObject", "jsonReader.readObject()")
                 ._return("parseAndFilter(jsonObject, elementsToInclude)")
@@ -3014,6 +3085,17 @@ public class CodeGenerator {
 
         // public <T extends Resource> T parseAndFilter(Reader reader, java.util.List<java.lang.String> elementsToInclude) throws FHIRException
         cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("Reader reader", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._if("elementsToInclude != null")
+                .comment("skip the elements which are filtered out instead of reading them into memory")
+                .invoke("reset", args())
+                ._try("JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingReader(reader))")
+                    ._return("parseAndFilter(readResource(parser, elementsToInclude), elementsToInclude)")
+                ._catch("FHIRParserException e")
+                    ._throw("e")
+                ._catch("Exception e")
+                    ._throw("new FHIRParserException(e.getMessage(), getPath(), e)")
+                ._end()
+            ._end()
             ._try("JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingReader(reader))")
                 .assign("JsonObject jsonObject", "jsonReader.readObject()")
                 ._return("parseAndFilter(jsonObject, elementsToInclude)")
@@ -3047,6 +3129,12 @@ public class CodeGenerator {
         .end();
         cb.newLine();
 
+        cb.override();
+        cb.method(mods("public"), "boolean", "isPropertySupported", params("java.lang.String name"))
+            ._return("FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD.equals(name)")
+        .end();
+        cb.newLine();
+
         cb.method(mods("private"), "void", "reset")
             .invoke("stack", "clear", args())
         .end();
@@ -3106,6 +3194,46 @@ public class CodeGenerator {
             ._return("joiner.toString()")
         .end().newLine();
 
+        cb.method(mods("private"), "boolean", "isParallel", params("JsonArray entryArray"))
+            .comment("only the entries of the top-level bundle are parsed in parallel")
+            .assign("int threshold", "getPropertyOrDefault(FHIRParser.PROPERTY_PARALLEL_ENTRY_THRESHOLD, 0, java.lang.Integer.class)")
+            ._return("threshold > 0 && stack.size() == 1 && entryArray.size() >= threshold")
+        .end().newLine();
+
+        cb.method(mods("private"), "java.util.List<Bundle.Entry>", "parseBundleEntries", params("JsonArray entryArray"))
+            .assign("int size", "entryArray.size()")
+            .assign("FHIRJsonParser[] parsers", "new FHIRJsonParser[size]")
+            .assign("java.util.List<ForkJoinTask<Bundle.Entry>> tasks", "new ArrayList<>(size)")
+            ._for("int i = 0", "i < size", "i++")
+                .assign("int index", "i")
+                .assign("FHIRJsonParser parser", "new FHIRJsonParser(this)")
+                .assign("parsers[index]", "parser")
+                .invoke("tasks", "add", args("ENTRY_PARSER_POOL.submit(() -> parser.parseBundleEntry(entryArray, index))"))
+            ._end()
+            .assign("java.util.List<Bundle.Entry> entries", "new ArrayList<>(size)")
+            ._foreach("ForkJoinTask<Bundle.Entry> task", "tasks")
+                .invoke("entries", "add", args("task.join()"))
+            ._end()
+            ._for("int i = 0", "i < size", "i++")
+                ._if("parsers[i].exception != null")
+                    .comment("report the first failure in entry order with the path at which it occurred")
+                    .invoke("stack", "clear", args())
+                    .invoke("stack", "addAll", args("parsers[i].stack"))
+                    ._throw("parsers[i].exception")
+                ._end()
+            ._end()
+            ._return("entries")
+        .end().newLine();
+
+        cb.method(mods("private"), "Bundle.Entry", "parseBundleEntry", params("JsonArray entryArray", "int index"))
+            ._try()
+                ._return("parseBundleEntry(\"entry\", entryArray.getJsonObject(index), index)")
+            ._catch("RuntimeException e")
+                .assign("exception", "e")
+                ._return("null")
+            ._end()
+        .end().newLine();
+
         cb.method(mods("private"), "java.lang.String", "parseJavaString", params("java.lang.String elementName", "JsonString jsonString", "int elementIndex"))
             ._if("jsonString == null")
                 ._return("null")
@@ -3135,136 +3263,1425 @@ public class CodeGenerator {
         }
     }
 
-    private void generateParseChoiceElementMethod(CodeBuilder cb) {
-        cb.method(mods("private"), "Element", "parseChoiceElement", params("java.lang.String name", "JsonObject jsonObject", "Class<?>... choiceTypes"));
-        cb._if("jsonObject == null")
-            ._return("null")
-        ._end();
+    private void generateJsonStreamParser(String basePath) {
+        CodeBuilder cb = new CodeBuilder();
 
-        cb.newLine();
+        String packageName = "com.ibm.fhir.model.parser";
+        cb.lines(HEADER).newLine();
+        cb._package(packageName).newLine();
 
-        cb.assign("java.lang.String elementName", "null");
-        cb.assign("java.lang.String _elementName", "null");
-        cb.assign("Class<?> elementType", "null");
+        cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "nonClosingInputStream");
+        cb._importstatic("com.ibm.fhir.model.util.JsonSupport", "nonClosingReader");
+        cb.newLine();
 
+        cb._import("java.io.InputStream");
+        cb._import("java.io.Reader");
+        cb._import("java.nio.charset.StandardCharsets");
+        cb._import("java.util.ArrayList");
+        cb._import("java.util.Collection");
+        cb._import("java.util.HashSet");
+        cb._import("java.util.Objects");
+        cb._import("java.util.Set");
+        cb._import("java.util.Stack");
+        cb._import("java.util.StringJoiner");
+        cb._import("java.util.function.Consumer");
+        cb._import("java.util.function.Supplier");
         cb.newLine();
 
-        cb._foreach("Class<?> choiceType", "choiceTypes")
-            .assign("java.lang.String key", "getChoiceElementName(name, choiceType)")
-            ._if("jsonObject.containsKey(key)")
-                ._if("elementName != null")
-                    ._throw("new IllegalArgumentException(\"Only one choice element key of the form: \" + name + \"[x] is allowed\")")
-                ._end()
-                .assign("elementName", "key")
-                .assign("elementType", "choiceType")
-            ._end()
+        cb._import("javax.annotation.Generated");
+        cb.newLine();
 
-            .newLine()
+        cb._import("jakarta.json.Json");
+        cb._import("jakarta.json.JsonBuilderFactory");
+        cb._import("jakarta.json.JsonObjectBuilder");
+        cb._import("jakarta.json.stream.JsonParser");
+        cb._import("jakarta.json.stream.JsonParserFactory");
+        cb.newLine();
 
-            .assign("java.lang.String _key", "\"_\" + key")
-            ._if("jsonObject.containsKey(_key)")
-                ._if("_elementName != null")
-                    ._throw("new IllegalArgumentException(\"Only one choice element key of the form: _\" + name + \"[x] is allowed\")")
-                ._end()
-                .assign("_elementName", "_key")
-                ._if("elementType == null")
-                    .assign("elementType", "choiceType")
-                ._end()
-            ._end()
-        ._end();
+        cb._import("com.ibm.fhir.model.parser.exception.FHIRParserException");
+        cb._import("com.ibm.fhir.model.resource.*");
+        cb._import("com.ibm.fhir.model.type.*");
+        cb._import("com.ibm.fhir.model.type.code.*");
+        cb._import("com.ibm.fhir.model.type.Boolean");
+        cb._import("com.ibm.fhir.model.type.Integer");
+        cb._import("com.ibm.fhir.model.type.String");
+        cb._import("com.ibm.fhir.model.util.ElementFilter");
+        cb._import("com.ibm.fhir.model.util.ModelSupport");
+        cb._import("net.jcip.annotations.NotThreadSafe");
+        cb.newLine();
 
+        cb.javadocStart()
+            .javadoc("A JSON parser that drives the model builders directly from {@link JsonParser} events.", false)
+            .javadoc("")
+            .javadoc("<p>Unlike {@link FHIRJsonParser}, this parser does not read its input into a {@code JsonObject} before", false)
+            .javadoc("building the model, so the memory it needs is proportional to the nesting depth of the input rather than", false)
+            .javadoc("its size. Resource objects are expected to start with the \"resourceType\" key; any resource object that", false)
+            .javadoc("does not is read into memory and parsed with a {@link FHIRJsonParser}.", false)
+        .javadocEnd();
+        cb.annotation("NotThreadSafe");
+        cb.annotation("Generated", quote("com.ibm.fhir.tools.CodeGenerator"));
+        cb._class(mods("public"), "FHIRJsonStreamParser", "FHIRAbstractParser");
+        cb.field(mods("public", "static"), "boolean", "DEBUG", "false");
+        cb.field(mods("private", "static", "final"), "JsonParserFactory", "JSON_PARSER_FACTORY", "Json.createParserFactory(null)");
+        cb.field(mods("private", "static", "final"), "JsonBuilderFactory", "JSON_BUILDER_FACTORY", "Json.createBuilderFactory(null)");
         cb.newLine();
 
-        cb._if("elementName != null && _elementName != null && !_elementName.endsWith(elementName)")
-            ._throw("new IllegalArgumentException(\"Choice element keys: \" + elementName + \" and \" + _elementName + \" are not consistent\")")
-        ._end();
+        cb.field(mods("private", "final"), "Stack<java.lang.String>", "stack", _new("Stack<>"));
+        cb.field(mods("private", "final"), "java.util.List<Set<java.lang.String>>", "keySets", _new("ArrayList<>"));
+        cb.field(mods("private"), "int", "depth");
+        cb.field(mods("private"), "Collection<java.lang.String>", "elementsToInclude");
+        cb.field(mods("private"), "ElementFilter", "elementFilter");
+        cb.field(mods("private"), "Consumer<Bundle.Entry>", "entryConsumer");
+        cb.newLine();
 
+        cb.constructor(mods(), "FHIRJsonStreamParser");
+        cb.comment("only visible to subclasses or classes/interfaces in the same package (e.g. FHIRParser)");
+        cb.end();
         cb.newLine();
 
-        cb.assign("JsonValue jsonValue", "null");
-        cb._if("elementName != null")
-            .assign("jsonValue", "jsonObject.get(elementName)")
-        ._end();
+        cb.override();
+        cb.method(mods("public"), "<T extends Resource> T", "parse", params("InputStream in"), throwsExceptions("FHIRParserException"))
+            ._return("parseAndFilter(in, null)")
+        .end();
+        cb.newLine();
 
+        cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("InputStream in", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._try("JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingInputStream(in), StandardCharsets.UTF_8)")
+                ._return("parseAndFilter(parser, elementsToInclude)")
+            ._catch("FHIRParserException e")
+                ._throw("e")
+            ._catch("Exception e")
+                ._throw("new FHIRParserException(e.getMessage(), getPath(), e)")
+            ._end()
+        .end();
         cb.newLine();
 
-        cb.assign("JsonValue _jsonValue", "null");
-        cb._if("_elementName != null")
-            .assign("_jsonValue", "jsonObject.get(_elementName)")
-        ._end();
+        cb.override();
+        cb.method(mods("public"), "<T extends Resource> T", "parse", params("Reader reader"), throwsExceptions("FHIRParserException"))
+            ._return("parseAndFilter(reader, null)")
+        .end();
+        cb.newLine();
 
+        cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("Reader reader", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._try("JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingReader(reader))")
+                ._return("parseAndFilter(parser, elementsToInclude)")
+            ._catch("FHIRParserException e")
+                ._throw("e")
+            ._catch("Exception e")
+                ._throw("new FHIRParserException(e.getMessage(), getPath(), e)")
+            ._end()
+        .end();
         cb.newLine();
 
-        cb._if("elementType != null");
-        cb._switch("elementType.getSimpleName()");
-        for (String dataTypeName : DATA_TYPE_NAMES) {
-            cb._case(quote(dataTypeName));
-            if (isStringSubtype(dataTypeName)) {
-                cb._return("parseString(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
-            } else if (isUriSubtype(dataTypeName)) {
-                cb._return("parseUri(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
-            } else if (isIntegerSubtype(dataTypeName)) {
-                cb._return("parseInteger(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
-            } else if (isQuantitySubtype(dataTypeName)) {
-                cb._return("parseQuantity(" + dataTypeName + ".builder(), elementName, (JsonObject) jsonValue, -1)");
-            } else if (isPrimitiveType(dataTypeName)) {
-                cb._return("parse" + dataTypeName + "(elementName, jsonValue, _jsonValue, -1)");
-            } else {
-                cb._return("parse" + dataTypeName + "(elementName, (JsonObject) jsonValue, -1)");
-            }
-        }
-        cb._end();
-        cb._end();
+        cb.method(mods("public"), "<T extends Resource> T", "parse", args("JsonParser parser"), throwsExceptions("FHIRParserException"))
+            ._return("parseAndFilter(parser, null)")
+        .end();
+        cb.newLine();
 
+        // the parser is positioned before the START_OBJECT event of the resource
+        cb.annotation("SuppressWarnings", quote("unchecked"));
+        cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("JsonParser parser", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._try()
+                .invoke("reset", args())
+                .assign(_this("elementsToInclude"), "elementsToInclude")
+                .assign("JsonParser.Event event", "parser.next()")
+                ._if("event != JsonParser.Event.START_OBJECT")
+                    ._throw("new IllegalArgumentException(\"Expected: OBJECT but found: \" + getValueType(event))")
+                ._end()
+                ._return("(T) parseResource(null, event, parser, -1)")
+            ._catch("Exception e")
+                ._throw("new FHIRParserException(e.getMessage(), getPath(), e)")
+            ._end()
+        .end();
         cb.newLine();
 
-        cb._return("null");
+        generateParseEntriesMethods(cb);
 
-        cb.end().newLine();
-    }
+        cb.method(mods("private"), "void", "reset")
+            .invoke("stack", "clear", args())
+            .assign("depth", "0")
+            .assign("elementsToInclude", "null")
+            .assign("elementFilter", "null")
+        .end();
+        cb.newLine();
 
-    private void generateParseMethod(String generatedClassName, JsonObject structureDefinition, CodeBuilder cb) {
-        if (isQuantitySubtype(structureDefinition)) {
-            return;
+        cb.method(mods("private"), "Resource", "parseResource", params("java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"))
+            .invoke("checkObject", args("elementName", "event"))
+            .invoke("startObject", args())
+            .assign("java.lang.String key", "nextKey(parser)")
+            ._if("!\"resourceType\".equals(key)")
+                ._return("parseResource(elementName, key, parser)")
+            ._end()
+            .assign("event", "parser.next()")
+            ._if("event != JsonParser.Event.VALUE_STRING")
+                ._throw("new IllegalArgumentException(\"Expected: STRING but found: \" + getValueType(event) + \" for element: resourceType\")")
+            ._end()
+            .assign("java.lang.String resourceTypeName", "parser.getString()")
+            .assign("Class<?> resourceType", "ModelSupport.getResourceType(resourceTypeName)")
+            ._if("resourceType == null")
+                ._throw("new IllegalArgumentException(\"Invalid resource type: '\" + resourceTypeName + \"'\")")
+            ._end()
+            ._if("elementName == null")
+                .assign("elementName", "resourceTypeName")
+                ._if("elementsToInclude != null")
+                    .assign("elementFilter", "new ElementFilter(resourceType, elementsToInclude)")
+                ._end()
+            ._end();
+        cb._switch("resourceTypeName");
+        for (String resourceClassName : resourceClassNames) {
+            if ("Resource".equals(resourceClassName) || "DomainResource".equals(resourceClassName)) {
+                continue;
+            }
+            cb._case(quote(resourceClassName));
+            cb._return("parse" + resourceClassName + "(elementName, parser, elementIndex)");
         }
+        cb._end();
+        cb.invoke("skipObject", args("parser"));
+        cb._return("null");
+        cb.end();
+        cb.newLine();
 
-        String path = titleCase(Arrays.asList(generatedClassName.split("\\.")).stream().map(s -> camelCase(s)).collect(Collectors.joining(".")));
+        // fallback for resource objects that do not start with the "resourceType" key
+        cb.method(mods("private"), "Resource", "parseResource", params("java.lang.String elementName", "java.lang.String key", "JsonParser parser"))
+            .assign("JsonObjectBuilder builder", "JSON_BUILDER_FACTORY.createObjectBuilder()")
+            ._while("key != null")
+                .invoke("parser", "next", args())
+                .invoke("builder", "add", args("key", "parser.getValue()"))
+                .assign("key", "nextKey(parser)")
+            ._end()
+            .assign("FHIRJsonParser jsonParser", "new FHIRJsonParser()")
+            .invoke("jsonParser", "setValidating", args("validating"))
+            .invoke("jsonParser", "setIgnoringUnrecognizedElements", args("ignoringUnrecognizedElements"))
+            ._try()
+                ._return("jsonParser.parseAndFilter(builder.build(), (elementName == null) ? elementsToInclude : null)")
+            ._catch("FHIRParserException e")
+                ._throw("new IllegalArgumentException(e.getMessage(), e)")
+            ._end()
+        .end();
+        cb.newLine();
 
-        List<JsonObject> elementDefinitions = getElementDefinitions(structureDefinition, path);
+        Collections.sort(generatedClassNames);
 
-        if (isAbstract(structureDefinition)) {
-            cb.method(mods("private"), "void", "parse" + generatedClassName.replace(".", ""), params(generatedClassName + ".Builder builder", "JsonObject jsonObject"));
-        } else {
-            if ("Quantity".equals(generatedClassName)) {
-                cb.method(mods("private"), "Quantity", "parseQuantity", params("Quantity.Builder builder", "java.lang.String elementName", "JsonObject jsonObject", "int elementIndex"));
+        for (String generatedClassName : generatedClassNames) {
+            JsonObject structureDefinition = getStructureDefinition(generatedClassName);
+            if (isPrimitiveType(structureDefinition)) {
+                generatePrimitiveTypeStreamParseMethod(generatedClassName, structureDefinition, cb);
             } else {
-                cb.method(mods("private"), generatedClassName, "parse" + generatedClassName.replace(".", ""), params("java.lang.String elementName", "JsonObject jsonObject", "int elementIndex"));
+                generateStreamParseMethod(generatedClassName, structureDefinition, cb);
             }
-            cb._if("jsonObject == null")
-                ._return("null")
-            ._end();
-            cb.invoke("stackPush", args("elementName", "elementIndex"));
-            cb._if("!ignoringUnrecognizedElements")
-                .invoke("checkForUnrecognizedElements", args(generatedClassName + ".class", "jsonObject"))
-            ._end();
         }
 
-        if (!isAbstract(structureDefinition) && !"Quantity".equals(generatedClassName)) {
-            cb.assign(generatedClassName + ".Builder builder", generatedClassName + ".builder()");
-        }
+        // parses the "_" sibling of a primitive element (if any) into the builder of the primitive element
+        cb.method(mods("private"), "<B extends Element.Builder> B", "parseElement", params("B builder", "java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"))
+            ._if("event == JsonParser.Event.VALUE_NULL && elementIndex != -1")
+                ._return("builder")
+            ._end()
+            ._if("event != JsonParser.Event.START_OBJECT")
+                ._throw("new IllegalArgumentException(\"Expected: OBJECT but found: \" + getValueType(event) + \" for element: _\" + elementName)")
+            ._end()
+            .invoke("startObject", args())
+            .invoke("stackPush", args("elementName", "elementIndex"))
+            .invoke("builder", "setValidating", args("validating"))
+            .assign("java.lang.String key", "null")
+            ._while("(key = nextKey(parser)) != null")
+                ._switch("key")
+                ._case(quote("id"))
+                    .invoke("builder", "id", args("parseJavaString(\"id\", parser.next(), parser, -1)"))
+                    ._break()
+                ._case(quote("extension"))
+                    .invoke("checkArray", args(quote("extension"), "parser.next()"))
+                    ._for("int i = 0", "(event = parser.next()) != JsonParser.Event.END_ARRAY", "i++")
+                        .invoke("builder", "extension", args("parseExtension(\"extension\", event, parser, i)"))
+                    ._end()
+                    ._break()
+                ._case(quote("resourceType"))
+                ._case(quote("fhir_comments"))
+                    .invoke("skipValue", args("parser"))
+                    ._break()
+                ._default()
+                    .invoke("skipUnrecognizedElement", args("key", "parser"))
+                ._end()
+            ._end()
+            .invoke("stackPop", args())
+            ._return("builder")
+        .end();
+        cb.newLine();
 
-        cb.invoke("builder", "setValidating", args("validating"));
+        cb.method(mods("private"), "java.lang.String", "parseJavaString", params("java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"))
+            ._if("event != JsonParser.Event.VALUE_STRING")
+                ._throw("new IllegalArgumentException(\"Expected: STRING but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end()
+            .invoke("stackPush", args("elementName", "elementIndex"))
+            .assign("java.lang.String javaString", "parser.getString()")
+            .invoke("stackPop", args())
+            ._return("javaString")
+        .end();
+        cb.newLine();
 
-        String superClass = superClassMap.get(generatedClassName);
-        if (superClass != null) {
-            cb.invoke("parse" + superClass, args("builder", "jsonObject"));
-        }
+        cb.method(mods("private"), "<B extends Element.Builder> PrimitiveArray<B>", "startArray", params("PrimitiveArray<B> array", "java.lang.String elementName", "JsonParser.Event event", "boolean extension"))
+            .invoke("checkArray", args("elementName", "event"))
+            ._if("array == null")
+                .assign("array", "new PrimitiveArray<>()")
+            ._end()
+            ._if("extension")
+                .assign("array.elementCount", "0")
+            ._else()
+                .assign("array.valueCount", "0")
+            ._end()
+            ._return("array")
+        .end();
+        cb.newLine();
 
-        for (JsonObject elementDefinition : elementDefinitions) {
-            String basePath = elementDefinition.getJsonObject("base").getString("path");
-            if (elementDefinition.getString("path").equals(basePath)) {
-                String elementName = getElementName(elementDefinition, path);
-                String fieldName = getFieldName(elementName);
+        cb.method(mods("private"), "java.lang.String", "checkChoiceElementKey", params("java.lang.String choiceKey", "java.lang.String name", "java.lang.String key"))
+            ._if("choiceKey == null")
+                ._return("key")
+            ._end()
+            .assign("boolean extension", "key.charAt(0) == '_'")
+            ._if("extension == (choiceKey.charAt(0) == '_')")
+                ._throw("new IllegalArgumentException(\"Only one choice element key of the form: \" + (extension ? \"_\" : \"\") + name + \"[x] is allowed\")")
+            ._end()
+            .assign("java.lang.String elementKey", "extension ? choiceKey : key")
+            .assign("java.lang.String _elementKey", "extension ? key : choiceKey")
+            ._if("_elementKey.length() != elementKey.length() + 1 || !_elementKey.startsWith(elementKey, 1)")
+                ._throw("new IllegalArgumentException(\"Choice element keys: \" + elementKey + \" and \" + _elementKey + \" are not consistent\")")
+            ._end()
+            ._return("choiceKey")
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "startObject")
+            ._if("depth == keySets.size()")
+                .invoke("keySets", "add", args("new HashSet<>()"))
+            ._end()
+            .invoke("keySets.get(depth++)", "clear", args())
+        .end();
+        cb.newLine();
+
+        // returns the next key of the current object or null (after the END_OBJECT event) when there are no more keys
+        cb.method(mods("private"), "java.lang.String", "nextKey", params("JsonParser parser"))
+            .assign("JsonParser.Event event", "parser.next()")
+            ._while("event == JsonParser.Event.KEY_NAME")
+                .assign("java.lang.String key", "parser.getString()")
+                ._if("!keySets.get(depth - 1).add(key)")
+                    ._throw("new IllegalArgumentException(\"Duplicate key '\" + key + \"' is not allowed\")")
+                ._end()
+                ._if("depth != 1 || elementFilter == null || elementFilter.includes(key)")
+                    ._return("key")
+                ._end()
+                .invoke("skipValue", args("parser"))
+                .assign("event", "parser.next()")
+            ._end()
+            .assign("depth", "depth - 1")
+            ._return("null")
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "skipObject", params("JsonParser parser"))
+            ._while("nextKey(parser) != null")
+                .invoke("skipValue", args("parser"))
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "skipValue", params("JsonParser parser"))
+            .assign("JsonParser.Event event", "parser.next()")
+            ._if("event == JsonParser.Event.START_OBJECT")
+                .invoke("parser", "skipObject", args())
+            ._elseif("event == JsonParser.Event.START_ARRAY")
+                .invoke("parser", "skipArray", args())
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "skipUnrecognizedElement", params("java.lang.String key", "JsonParser parser"))
+            ._if("!ignoringUnrecognizedElements")
+                ._throw("new IllegalArgumentException(\"Unrecognized element: '\" + key + \"'\")")
+            ._end()
+            .invoke("skipValue", args("parser"))
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "checkObject", params("java.lang.String elementName", "JsonParser.Event event"))
+            ._if("event != JsonParser.Event.START_OBJECT")
+                ._throw("new IllegalArgumentException(\"Expected: OBJECT but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "checkArray", params("java.lang.String elementName", "JsonParser.Event event"))
+            ._if("event != JsonParser.Event.START_ARRAY")
+                ._throw("new IllegalArgumentException(\"Expected: ARRAY but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private", "static"), "java.lang.String", "getValueType", params("JsonParser.Event event"));
+        cb._switch("event");
+        cb._case("START_OBJECT")._return(quote("OBJECT"));
+        cb._case("START_ARRAY")._return(quote("ARRAY"));
+        cb._case("VALUE_STRING")._return(quote("STRING"));
+        cb._case("VALUE_NUMBER")._return(quote("NUMBER"));
+        cb._case("VALUE_TRUE")._return(quote("TRUE"));
+        cb._case("VALUE_FALSE")._return(quote("FALSE"));
+        cb._case("VALUE_NULL")._return(quote("NULL"));
+        cb._default()._return("event.name()");
+        cb._end();
+        cb.end().newLine();
+
+        cb.method(mods("private"), "void", "stackPush", params("java.lang.String elementName", "int elementIndex"))
+            ._if("elementIndex != -1")
+                .invoke("stack", "push", args("elementName + \"[\" + elementIndex + \"]\""))
+            ._else()
+                .invoke("stack", "push", args("elementName"))
+            ._end()
+            ._if("DEBUG")
+                .invoke("System.out", "println", args("getPath()"))
+            ._end()
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "stackPop")
+            .invoke("stack", "pop", args())
+        .end().newLine();
+
+        cb.method(mods("private"), "java.lang.String", "getPath")
+            .assign("StringJoiner joiner", "new StringJoiner(\".\")")
+            ._foreach("java.lang.String s", "stack")
+                .invoke("joiner", "add", args("s"))
+            ._end()
+            ._return("joiner.toString()")
+        .end().newLine();
+
+        // holds the builders of a repeating primitive element until both the value array and the "_" array have been read
+        cb._class(mods("private", "static", "final"), "PrimitiveArray<B extends Element.Builder>");
+        cb.field(mods("private", "final"), "java.util.List<B>", "builders", _new("ArrayList<>"));
+        cb.field(mods("private"), "int", "valueCount", "-1");
+        cb.field(mods("private"), "int", "elementCount", "-1");
+        cb.newLine();
+
+        cb.method(mods("private"), "B", "value", params("int index", "Supplier<B> supplier"))
+            .assign("valueCount", "index + 1")
+            ._return("get(index, supplier)")
+        .end().newLine();
+
+        cb.method(mods("private"), "B", "element", params("int index", "Supplier<B> supplier"))
+            .assign("elementCount", "index + 1")
+            ._return("get(index, supplier)")
+        .end().newLine();
+
+        cb.method(mods("private"), "B", "get", params("int index", "Supplier<B> supplier"))
+            ._if("index == builders.size()")
+                .invoke("builders", "add", args("supplier.get()"))
+            ._end()
+            ._return("builders.get(index)")
+        .end().newLine();
+
+        cb.method(mods("private"), "java.util.List<B>", "builders", params("java.lang.String elementName"))
+            ._if("valueCount == -1")
+                ._throw("new IllegalArgumentException(\"Found array with key '_\" + elementName + \"' but could not find matching array with key: '\" + elementName + \"'\")")
+            ._end()
+            ._if("elementCount != -1 && elementCount < valueCount")
+                ._throw("new IllegalArgumentException(\"Could not find element at index: \" + elementCount)")
+            ._end()
+            ._return("(builders.size() > valueCount) ? builders.subList(0, valueCount) : builders")
+        .end();
+
+        cb._end();
+
+        cb._end();
+
+        File file = new File(basePath + "/" + packageName.replace(".", "/") + "/FHIRJsonStreamParser.java");
+        try {
+            if (!file.exists()) {
+                file.getParentFile().mkdirs();
+                Files.createFile(file.toPath());
+            }
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(cb.toString());
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+
+    private void generateJsonStreamGenerator(String basePath) {
+        CodeBuilder cb = new CodeBuilder();
+
+        String packageName = "com.ibm.fhir.model.generator";
+        cb.lines(HEADER).newLine();
+        cb._package(packageName).newLine();
+
+        cb._import("java.io.IOException");
+        cb._import("java.io.OutputStream");
+        cb._import("java.io.Writer");
+        cb._import("java.nio.charset.StandardCharsets");
+        cb._import("java.util.Base64");
+        cb.newLine();
+
+        cb._import("javax.annotation.Generated");
+        cb.newLine();
+
+        cb._import("com.ibm.fhir.model.generator.exception.FHIRGeneratorException");
+        cb._import("com.ibm.fhir.model.resource.*");
+        cb._import("com.ibm.fhir.model.type.*");
+        cb._import("com.ibm.fhir.model.type.Boolean");
+        cb._import("com.ibm.fhir.model.type.Integer");
+        cb._import("com.ibm.fhir.model.type.String");
+        cb._import("com.ibm.fhir.model.visitor.Visitable");
+        cb.newLine();
+
+        cb._import("net.jcip.annotations.NotThreadSafe");
+        cb.newLine();
+
+        cb.javadocStart()
+            .javadoc("A JSON generator that writes each model class with a type-specialized method instead of dispatching through", false)
+            .javadoc("the {@link com.ibm.fhir.model.visitor.Visitor} callbacks. Output is encoded as UTF-8 into a buffer using", false)
+            .javadoc("pre-encoded element name tokens and is identical to the (non-pretty-printed) output of {@link FHIRJsonGenerator}.", false)
+            .javadoc("")
+            .javadoc("<p>Visitables that are not resources are written with a {@link FHIRJsonGenerator}.", false)
+        .javadocEnd();
+        cb.annotation("Generated", quote("com.ibm.fhir.tools.CodeGenerator"));
+        cb._class(mods("public"), "FHIRJsonStreamGenerator", "FHIRAbstractGenerator");
+        cb.field(mods("private", "static", "final"), "int", "BUFFER_SIZE", "8192");
+        cb.field(mods("private", "static", "final"), "byte[]", "HEX", "\"0123456789abcdef\".getBytes(StandardCharsets.US_ASCII)");
+        cb.field(mods("private", "static", "final"), "byte[]", "NULL", "\"null\".getBytes(StandardCharsets.US_ASCII)");
+        cb.field(mods("private", "static", "final"), "byte[]", "TRUE", "\"true\".getBytes(StandardCharsets.US_ASCII)");
+        cb.field(mods("private", "static", "final"), "byte[]", "FALSE", "\"false\".getBytes(StandardCharsets.US_ASCII)");
+        cb.newLine();
+
+        Collections.sort(generatedClassNames);
+
+        // element name tokens (e.g. "active":) for every key that may be written
+        Set<String> keys = new TreeSet<>();
+        for (String generatedClassName : generatedClassNames) {
+            JsonObject structureDefinition = getStructureDefinition(generatedClassName);
+            if (isPrimitiveType(structureDefinition) || isAbstract(structureDefinition) || isQuantitySubtype(structureDefinition)) {
+                continue;
+            }
+            String path = titleCase(Arrays.asList(generatedClassName.split("\\.")).stream().map(s -> camelCase(s)).collect(Collectors.joining(".")));
+            for (JsonObject elementDefinition : getElementDefinitions(structureDefinition, path)) {
+                String elementName = getElementName(elementDefinition, path);
+                if (isChoiceElement(elementDefinition)) {
+                    for (String choiceTypeName : getChoiceTypeNames(elementDefinition)) {
+                        keys.add(elementName + getConcreteTypeName(choiceTypeName));
+                        if (isPrimitiveType(choiceTypeName)) {
+                            keys.add("_" + elementName + getConcreteTypeName(choiceTypeName));
+                        }
+                    }
+                } else {
+                    keys.add(elementName);
+                    String fieldType = getStreamFieldType(generatedClassName, structureDefinition, elementDefinition);
+                    if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
+                        keys.add("_" + elementName);
+                    }
+                }
+            }
+        }
+        Map<String, String> tokenNames = new HashMap<>();
+        for (String key : keys) {
+            String tokenName = getTokenName(key);
+            if (tokenNames.containsValue(tokenName)) {
+                throw new IllegalStateException("Duplicate token name: " + tokenName);
+            }
+            tokenNames.put(key, tokenName);
+            cb.field(mods("private", "static", "final"), "byte[]", tokenName, "name(" + quote(key) + ")");
+        }
+        cb.newLine();
+
+        // start object tokens (e.g. {"resourceType":"Patient") for each resource type
+        for (String resourceClassName : resourceClassNames) {
+            if ("Resource".equals(resourceClassName) || "DomainResource".equals(resourceClassName)) {
+                continue;
+            }
+            cb.field(mods("private", "static", "final"), "byte[]", "START_" + getTokenName(resourceClassName).substring("NAME_".length()), "start(" + quote(resourceClassName) + ")");
+        }
+        cb.newLine();
+
+        cb.constructor(mods("protected"), "FHIRJsonStreamGenerator");
+        cb.invoke("super", args("false"));
+        cb.end();
+        cb.newLine();
+
+        cb.override();
+        cb.method(mods("public"), "void", "generate", params("Visitable visitable", "OutputStream out"), throwsExceptions("FHIRGeneratorException"))
+            ._if("!(visitable instanceof Resource)")
+                .invoke("new FHIRJsonGenerator(false)", "generate", args("visitable", "out"))
+                ._return()
+            ._end()
+            ._try()
+                .assign("JsonWriter writer", "new JsonWriter(out, null)")
+                .invoke("writer", "writeResource", args("(Resource) visitable"))
+                .invoke("writer", "flush", args())
+            ._catch("Exception e")
+                ._throw("new FHIRGeneratorException(e.getMessage(), null, e)")
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.override();
+        cb.method(mods("public"), "void", "generate", params("Visitable visitable", "Writer writer"), throwsExceptions("FHIRGeneratorException"))
+            ._if("!(visitable instanceof Resource)")
+                .invoke("new FHIRJsonGenerator(false)", "generate", args("visitable", "writer"))
+                ._return()
+            ._end()
+            ._try()
+                .assign("JsonWriter jsonWriter", "new JsonWriter(null, writer)")
+                .invoke("jsonWriter", "writeResource", args("(Resource) visitable"))
+                .invoke("jsonWriter", "flush", args())
+            ._catch("Exception e")
+                ._throw("new FHIRGeneratorException(e.getMessage(), null, e)")
+            ._end()
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private", "static"), "byte[]", "name", params("java.lang.String name"))
+            ._return("(\"\\\"\" + name + \"\\\":\").getBytes(StandardCharsets.UTF_8)")
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private", "static"), "byte[]", "start", params("java.lang.String resourceTypeName"))
+            ._return("(\"{\\\"resourceType\\\":\\\"\" + resourceTypeName + \"\\\"\").getBytes(StandardCharsets.UTF_8)")
+        .end();
+        cb.newLine();
+
+        // the per-call writer state; bytes are only flushed between characters so that the buffer can also be decoded for a Writer
+        cb.annotation("NotThreadSafe");
+        cb._class(mods("private", "static", "final"), "JsonWriter");
+        cb.field(mods("private", "final"), "OutputStream", "out");
+        cb.field(mods("private", "final"), "Writer", "writer");
+        cb.field(mods("private", "final"), "byte[]", "buffer", "new byte[BUFFER_SIZE]");
+        cb.field(mods("private"), "int", "position");
+        cb.field(mods("private"), "boolean", "comma");
+        cb.newLine();
+
+        cb.constructor(mods("private"), "JsonWriter", params("OutputStream out", "Writer writer"))
+            .assign(_this("out"), "out")
+            .assign(_this("writer"), "writer")
+        .end();
+        cb.newLine();
+
+        cb.method(mods("private"), "void", "writeResource", params("Resource resource"), throwsExceptions("IOException"));
+        cb._switch("resource.getClass().getSimpleName()");
+        for (String resourceClassName : resourceClassNames) {
+            if ("Resource".equals(resourceClassName) || "DomainResource".equals(resourceClassName)) {
+                continue;
+            }
+            cb._case(quote(resourceClassName));
+            cb.invoke("write" + resourceClassName, args("(" + resourceClassName + ") resource"));
+            cb._break();
+        }
+        cb._default();
+        cb._throw("new IllegalArgumentException(\"Unsupported resource type: \" + resource.getClass().getName())");
+        cb._end();
+        cb.end().newLine();
+
+        for (String generatedClassName : generatedClassNames) {
+            JsonObject structureDefinition = getStructureDefinition(generatedClassName);
+            if (isPrimitiveType(structureDefinition)) {
+                generatePrimitiveTypeWriteMethods(generatedClassName, cb);
+            } else {
+                generateWriteMethod(generatedClassName, structureDefinition, tokenNames, cb);
+            }
+        }
+
+        cb.method(mods("private"), "void", "writeElement", params("Element element"), throwsExceptions("IOException"))
+            .invoke("startObject", args())
+            ._if("element.getId() != null")
+                .invoke("writeName", args(tokenNames.get("id")))
+                .invoke("writeString", args("element.getId()"))
+            ._end()
+            ._if("!element.getExtension().isEmpty()")
+                .invoke("startArray", args(tokenNames.get("extension")))
+                ._foreach("Extension item", "element.getExtension()")
+                    .invoke("writeSeparator", args())
+                    .invoke("writeExtension", args("item"))
+                ._end()
+                .invoke("endArray", args())
+            ._end()
+            .invoke("endObject", args())
+        .end().newLine();
+
+        // writes the "_" sibling of a primitive element array (if any element has an id or extensions)
+        cb.method(mods("private"), "void", "writeElements", params("byte[] name", "java.util.List<? extends Element> elements"), throwsExceptions("IOException"))
+            .assign("boolean found", "false")
+            ._foreach("Element element", "elements")
+                ._if("hasIdOrExtension(element)")
+                    .assign("found", "true")
+                    ._break()
+                ._end()
+            ._end()
+            ._if("!found")
+                ._return()
+            ._end()
+            .invoke("startArray", args("name"))
+            ._foreach("Element element", "elements")
+                .invoke("writeSeparator", args())
+                ._if("hasIdOrExtension(element)")
+                    .invoke("writeElement", args("element"))
+                ._else()
+                    .invoke("writeRaw", args("NULL"))
+                ._end()
+            ._end()
+            .invoke("endArray", args())
+        .end().newLine();
+
+        cb.method(mods("private"), "boolean", "hasIdOrExtension", params("Element element"))
+            ._return("element.getId() != null || !element.getExtension().isEmpty()")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "writeName", params("byte[] name"), throwsExceptions("IOException"))
+            ._if("comma")
+                .invoke("writeByte", args("','"))
+            ._end()
+            .invoke("writeRaw", args("name"))
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "writeSeparator", params(), throwsExceptions("IOException"))
+            ._if("comma")
+                .invoke("writeByte", args("','"))
+            ._end()
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "startObject", params(), throwsExceptions("IOException"))
+            .invoke("writeByte", args("'{'"))
+            .assign("comma", "false")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "endObject", params(), throwsExceptions("IOException"))
+            .invoke("writeByte", args("'}'"))
+            .assign("comma", "true")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "startArray", params("byte[] name"), throwsExceptions("IOException"))
+            .invoke("writeName", args("name"))
+            .invoke("writeByte", args("'['"))
+            .assign("comma", "false")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "endArray", params(), throwsExceptions("IOException"))
+            .invoke("writeByte", args("']'"))
+            .assign("comma", "true")
+        .end().newLine();
+
+        // escapes the same characters as the jakarta.json generator
+        cb.method(mods("private"), "void", "writeString", params("java.lang.String value"), throwsExceptions("IOException"))
+            .invoke("writeByte", args("'\"'"))
+            .assign("int length", "value.length()")
+            ._for("int i = 0", "i < length", "i++")
+                .assign("char c", "value.charAt(i)")
+                ._if("position + 6 > buffer.length")
+                    .invoke("flushBuffer", args())
+                ._end()
+                ._if("c < 0x80")
+                    ._if("c >= 0x20 && c != '\"' && c != '\\\\'")
+                        .assign("buffer[position++]", "(byte) c")
+                    ._else()
+                        .invoke("writeEscaped", args("c"))
+                    ._end()
+                ._elseif("c < 0x800")
+                    .assign("buffer[position++]", "(byte) (0xc0 | (c >> 6))")
+                    .assign("buffer[position++]", "(byte) (0x80 | (c & 0x3f))")
+                ._elseif("Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))")
+                    .assign("int codePoint", "Character.toCodePoint(c, value.charAt(++i))")
+                    .assign("buffer[position++]", "(byte) (0xf0 | (codePoint >> 18))")
+                    .assign("buffer[position++]", "(byte) (0x80 | ((codePoint >> 12) & 0x3f))")
+                    .assign("buffer[position++]", "(byte) (0x80 | ((codePoint >> 6) & 0x3f))")
+                    .assign("buffer[position++]", "(byte) (0x80 | (codePoint & 0x3f))")
+                ._elseif("Character.isSurrogate(c)")
+                    .comment("unpaired surrogate")
+                    .assign("buffer[position++]", "'?'")
+                ._else()
+                    .assign("buffer[position++]", "(byte) (0xe0 | (c >> 12))")
+                    .assign("buffer[position++]", "(byte) (0x80 | ((c >> 6) & 0x3f))")
+                    .assign("buffer[position++]", "(byte) (0x80 | (c & 0x3f))")
+                ._end()
+            ._end()
+            .invoke("writeByte", args("'\"'"))
+            .assign("comma", "true")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "writeEscaped", params("char c"));
+        cb.assign("buffer[position++]", "'\\\\'");
+        cb._switch("c");
+        cb._case("'\"'").assign("buffer[position++]", "'\"'")._break();
+        cb._case("'\\\\'").assign("buffer[position++]", "'\\\\'")._break();
+        cb._case("'\\b'").assign("buffer[position++]", "'b'")._break();
+        cb._case("'\\f'").assign("buffer[position++]", "'f'")._break();
+        cb._case("'\\n'").assign("buffer[position++]", "'n'")._break();
+        cb._case("'\\r'").assign("buffer[position++]", "'r'")._break();
+        cb._case("'\\t'").assign("buffer[position++]", "'t'")._break();
+        cb._default()
+            .assign("buffer[position++]", "'u'")
+            .assign("buffer[position++]", "'0'")
+            .assign("buffer[position++]", "'0'")
+            .assign("buffer[position++]", "HEX[c >> 4]")
+            .assign("buffer[position++]", "HEX[c & 0xf]");
+        cb._end();
+        cb.end().newLine();
+
+        // writes a value that consists of ASCII characters only (e.g. a number)
+        cb.method(mods("private"), "void", "writeAscii", params("java.lang.String value"), throwsExceptions("IOException"))
+            .assign("int length", "value.length()")
+            ._if("position + length > buffer.length")
+                .invoke("flushBuffer", args())
+            ._end()
+            ._if("length > buffer.length")
+                .invoke("writeRaw", args("value.getBytes(StandardCharsets.US_ASCII)"))
+            ._else()
+                ._for("int i = 0", "i < length", "i++")
+                    .assign("buffer[position++]", "(byte) value.charAt(i)")
+                ._end()
+            ._end()
+            .assign("comma", "true")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "writeRaw", params("byte[] bytes"), throwsExceptions("IOException"))
+            ._if("position + bytes.length > buffer.length")
+                .invoke("flushBuffer", args())
+                ._if("bytes.length > buffer.length")
+                    ._foreach("byte b", "bytes")
+                        .invoke("writeByte", args("b"))
+                    ._end()
+                    .assign("comma", "true")
+                    ._return()
+                ._end()
+            ._end()
+            .invoke("System", "arraycopy", args("bytes", "0", "buffer", "position", "bytes.length"))
+            .assign("position", "position + bytes.length")
+            .assign("comma", "true")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "writeByte", params("int b"), throwsExceptions("IOException"))
+            ._if("position == buffer.length")
+                .invoke("flushBuffer", args())
+            ._end()
+            .assign("buffer[position++]", "(byte) b")
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "flushBuffer", params(), throwsExceptions("IOException"))
+            ._if("position > 0")
+                ._if("out != null")
+                    .invoke("out", "write", args("buffer", "0", "position"))
+                ._else()
+                    .invoke("writer", "write", args("new java.lang.String(buffer, 0, position, StandardCharsets.UTF_8)"))
+                ._end()
+                .assign("position", "0")
+            ._end()
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "flush", params(), throwsExceptions("IOException"))
+            .invoke("flushBuffer", args())
+            ._if("out != null")
+                .invoke("out", "flush", args())
+            ._else()
+                .invoke("writer", "flush", args())
+            ._end()
+        .end();
+
+        cb._end();
+
+        cb._end();
+
+        File file = new File(basePath + "/" + packageName.replace(".", "/") + "/FHIRJsonStreamGenerator.java");
+        try {
+            if (!file.exists()) {
+                file.getParentFile().mkdirs();
+                Files.createFile(file.toPath());
+            }
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(cb.toString());
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+
+    private String getTokenName(String key) {
+        StringBuilder sb = new StringBuilder("NAME_");
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (Character.isUpperCase(ch) && i > 0 && key.charAt(i - 1) != '_') {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(ch));
+        }
+        return sb.toString();
+    }
+
+    private void generateWriteMethod(String generatedClassName, JsonObject structureDefinition, Map<String, String> tokenNames, CodeBuilder cb) {
+        if (isAbstract(structureDefinition) || isQuantitySubtype(structureDefinition)) {
+            // inherited elements are written by the concrete subtypes
+            return;
+        }
+
+        String path = titleCase(Arrays.asList(generatedClassName.split("\\.")).stream().map(s -> camelCase(s)).collect(Collectors.joining(".")));
+
+        List<JsonObject> elementDefinitions = getElementDefinitions(structureDefinition, path);
+
+        boolean resource = resourceClassNames.contains(generatedClassName);
+        String variableName = resource ? "resource" : "element";
+
+        cb.method(mods("private"), "void", "write" + generatedClassName.replace(".", ""), params(generatedClassName + " " + variableName), throwsExceptions("IOException"));
+
+        if (resource) {
+            cb.invoke("writeRaw", args("START_" + getTokenName(generatedClassName).substring("NAME_".length())));
+        } else {
+            cb.invoke("startObject", args());
+        }
+
+        for (JsonObject elementDefinition : elementDefinitions) {
+            String elementName = getElementName(elementDefinition, path);
+            String fieldName = getFieldName(elementName);
+            String fieldType = getStreamFieldType(generatedClassName, structureDefinition, elementDefinition);
+            String getter = variableName + ".get" + titleCase(fieldName.replace("_", "")) + "()";
+
+            if (isChoiceElement(elementDefinition)) {
+                cb._if(getter + " != null");
+                boolean first = true;
+                for (String choiceTypeName : getWriteOrder(getChoiceTypeNames(elementDefinition))) {
+                    String key = elementName + getConcreteTypeName(choiceTypeName);
+                    String condition = getter + " instanceof " + choiceTypeName;
+                    if (first) {
+                        cb._if(condition);
+                        first = false;
+                    } else {
+                        cb._elseif(condition);
+                    }
+                    String value = "(" + choiceTypeName + ") " + getter;
+                    if (isPrimitiveType(choiceTypeName)) {
+                        cb.invoke("write" + getPrimitiveParseTypeName(choiceTypeName), args(tokenNames.get(key), tokenNames.get("_" + key), value));
+                    } else {
+                        cb.invoke("writeName", args(tokenNames.get(key)));
+                        cb.invoke(getWriteMethodName(choiceTypeName), args(value));
+                    }
+                }
+                cb._end();
+                cb._end();
+            } else if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
+                String primitiveTypeName = getPrimitiveParseTypeName(fieldType);
+                if (isRepeating(elementDefinition)) {
+                    cb._if("!" + getter + ".isEmpty()")
+                        .invoke("write" + primitiveTypeName + "Array", args(tokenNames.get(elementName), tokenNames.get("_" + elementName), getter))
+                    ._end();
+                } else {
+                    cb._if(getter + " != null")
+                        .invoke("write" + primitiveTypeName, args(tokenNames.get(elementName), tokenNames.get("_" + elementName), getter))
+                    ._end();
+                }
+            } else if (isJavaString(fieldType)) {
+                cb._if(getter + " != null")
+                    .invoke("writeName", args(tokenNames.get(elementName)))
+                    .invoke("writeString", args(getter))
+                ._end();
+            } else if (isRepeating(elementDefinition)) {
+                cb._if("!" + getter + ".isEmpty()")
+                    .invoke("startArray", args(tokenNames.get(elementName)))
+                    ._foreach(fieldType + " item", getter)
+                        .invoke("writeSeparator", args())
+                        .invoke(getWriteMethodName(fieldType), args("item"))
+                    ._end()
+                    .invoke("endArray", args())
+                ._end();
+            } else {
+                cb._if(getter + " != null")
+                    .invoke("writeName", args(tokenNames.get(elementName)))
+                    .invoke(getWriteMethodName(fieldType), args(getter))
+                ._end();
+            }
+        }
+
+        cb.invoke("endObject", args());
+        cb.end().newLine();
+    }
+
+    private String getWriteMethodName(String fieldType) {
+        if (isQuantitySubtype(fieldType)) {
+            return "writeQuantity";
+        }
+        return "write" + fieldType.replace(".", "");
+    }
+
+    /**
+     * Order the choice type names so that subtypes are tested (with instanceof) before their supertypes
+     */
+    private List<String> getWriteOrder(List<String> choiceTypeNames) {
+        List<String> subtypes = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        for (String choiceTypeName : choiceTypeNames) {
+            if ((choiceTypeNames.contains("String") && isStringSubtype(choiceTypeName)) ||
+                    (choiceTypeNames.contains("Uri") && isUriSubtype(choiceTypeName)) ||
+                    (choiceTypeNames.contains("Integer") && isIntegerSubtype(choiceTypeName)) ||
+                    (choiceTypeNames.contains("Quantity") && isQuantitySubtype(choiceTypeName))) {
+                subtypes.add(choiceTypeName);
+            } else {
+                others.add(choiceTypeName);
+            }
+        }
+        subtypes.addAll(others);
+        return subtypes;
+    }
+
+    private void generatePrimitiveTypeWriteMethods(String generatedClassName, CodeBuilder cb) {
+        if (isStringSubtype(generatedClassName) || isUriSubtype(generatedClassName) || isCodeSubtype(generatedClassName) || isIntegerSubtype(generatedClassName)) {
+            return;
+        }
+
+        String variableName = "Boolean".equals(generatedClassName) ? "_boolean" : camelCase(generatedClassName);
+
+        cb.method(mods("private"), "void", "write" + generatedClassName, params("byte[] name", "byte[] _name", generatedClassName + " " + variableName), throwsExceptions("IOException"))
+            ._if(variableName + ".getValue() != null")
+                .invoke("writeName", args("name"))
+                .invoke("write" + generatedClassName + "Value", args(variableName))
+            ._end()
+            ._if("hasIdOrExtension(" + variableName + ")")
+                .invoke("writeName", args("_name"))
+                .invoke("writeElement", args(variableName))
+            ._end()
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "write" + generatedClassName + "Array", params("byte[] name", "byte[] _name", "java.util.List<? extends " + generatedClassName + "> values"), throwsExceptions("IOException"))
+            .invoke("startArray", args("name"))
+            ._foreach(generatedClassName + " value", "values")
+                .invoke("writeSeparator", args())
+                ._if("value.getValue() != null")
+                    .invoke("write" + generatedClassName + "Value", args("value"))
+                ._else()
+                    .invoke("writeRaw", args("NULL"))
+                ._end()
+            ._end()
+            .invoke("endArray", args())
+            .invoke("writeElements", args("_name", "values"))
+        .end().newLine();
+
+        cb.method(mods("private"), "void", "write" + generatedClassName + "Value", params(generatedClassName + " " + variableName), throwsExceptions("IOException"));
+        switch (generatedClassName) {
+        case "Base64Binary":
+            cb.invoke("writeString", args("Base64.getEncoder().encodeToString(" + variableName + ".getValue())"));
+            break;
+        case "Boolean":
+            cb.invoke("writeRaw", args(variableName + ".getValue() ? TRUE : FALSE"));
+            break;
+        case "Date":
+        case "DateTime":
+        case "Instant":
+        case "Time":
+            cb.invoke("writeString", args(generatedClassName + ".PARSER_FORMATTER.format(" + variableName + ".getValue())"));
+            break;
+        case "Decimal":
+        case "Integer":
+            cb.invoke("writeAscii", args(variableName + ".getValue().toString()"));
+            break;
+        default:
+            cb.invoke("writeString", args(variableName + ".getValue()"));
+            break;
+        }
+        cb.end().newLine();
+    }
+
+    private void generateParseEntriesMethods(CodeBuilder cb) {
+        for (String param : Arrays.asList("InputStream in", "Reader reader")) {
+            cb.override();
+            cb.method(mods("public"), "Bundle", "parseEntries", params(param, "Consumer<Bundle.Entry> consumer"), throwsExceptions("FHIRParserException"))
+                .assign("entryConsumer", "Objects.requireNonNull(consumer)")
+                ._try()
+                    ._return("dispatchEntries(parse(" + param.split(" ")[1] + "), consumer)")
+                ._finally()
+                    .assign("entryConsumer", "null")
+                ._end()
+            .end();
+            cb.newLine();
+        }
+    }
+
+    private void generateStreamParseMethod(String generatedClassName, JsonObject structureDefinition, CodeBuilder cb) {
+        if (isAbstract(structureDefinition) || isQuantitySubtype(structureDefinition)) {
+            // inherited elements are parsed by the concrete subtypes
+            return;
+        }
+
+        String path = titleCase(Arrays.asList(generatedClassName.split("\\.")).stream().map(s -> camelCase(s)).collect(Collectors.joining(".")));
+
+        List<JsonObject> elementDefinitions = getElementDefinitions(structureDefinition, path);
+
+        boolean resource = resourceClassNames.contains(generatedClassName);
+
+        if ("Quantity".equals(generatedClassName)) {
+            cb.method(mods("private"), "Quantity", "parseQuantity", params("Quantity.Builder builder", "java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"));
+        } else if (resource) {
+            // the START_OBJECT event and the "resourceType" key have already been consumed by parseResource
+            cb.method(mods("private"), generatedClassName, "parse" + generatedClassName, params("java.lang.String elementName", "JsonParser parser", "int elementIndex"));
+        } else {
+            cb.method(mods("private"), generatedClassName, "parse" + generatedClassName.replace(".", ""), params("java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"));
+        }
+
+        if (!resource) {
+            cb.invoke("checkObject", args("elementName", "event"));
+            cb.invoke("startObject", args());
+        }
+        cb.invoke("stackPush", args("elementName", "elementIndex"));
+
+        if (!"Quantity".equals(generatedClassName)) {
+            cb.assign(generatedClassName + ".Builder builder", generatedClassName + ".builder()");
+        }
+
+        cb.invoke("builder", "setValidating", args("validating"));
+
+        if (resource) {
+            cb.assign("JsonParser.Event event", "null");
+        }
+
+        // builders for primitive elements are held until the end of the object because the "_" sibling may come after the value
+        for (JsonObject elementDefinition : elementDefinitions) {
+            String elementName = getElementName(elementDefinition, path);
+            String fieldType = getStreamFieldType(generatedClassName, structureDefinition, elementDefinition);
+            if (isChoiceElement(elementDefinition)) {
+                if (getChoiceTypeNames(elementDefinition).stream().anyMatch(choiceTypeName -> isPrimitiveType(choiceTypeName))) {
+                    cb.assign("Element.Builder " + elementName + "Builder", "null");
+                }
+                cb.assign("java.lang.String " + elementName + "Key", "null");
+            } else if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
+                if (isRepeating(elementDefinition)) {
+                    cb.assign("PrimitiveArray<" + fieldType + ".Builder> " + elementName + "Array", "null");
+                } else {
+                    cb.assign(fieldType + ".Builder " + elementName + "Builder", "null");
+                }
+            }
+        }
+
+        cb.assign("java.lang.String key", "null");
+        cb._while("(key = nextKey(parser)) != null");
+        cb._switch("key");
+
+        for (JsonObject elementDefinition : elementDefinitions) {
+            String elementName = getElementName(elementDefinition, path);
+            String fieldName = getFieldName(elementName);
+            String fieldType = getStreamFieldType(generatedClassName, structureDefinition, elementDefinition);
+
+            if (isChoiceElement(elementDefinition)) {
+                for (String choiceTypeName : getChoiceTypeNames(elementDefinition)) {
+                    String key = elementName + getConcreteTypeName(choiceTypeName);
+                    cb._case(quote(key));
+                    cb.assign(elementName + "Key", "checkChoiceElementKey(" + elementName + "Key, " + quote(elementName) + ", key)");
+                    if (isPrimitiveType(choiceTypeName)) {
+                        String builder = elementName + "Builder != null ? (" + choiceTypeName + ".Builder) " + elementName + "Builder : " + choiceTypeName + ".builder()";
+                        cb.assign(elementName + "Builder", "parse" + getPrimitiveParseTypeName(choiceTypeName) + "(" + builder + ", " + quote(key) + ", parser.next(), parser, -1)");
+                        cb._break();
+                        cb._case(quote("_" + key));
+                        cb.assign(elementName + "Key", "checkChoiceElementKey(" + elementName + "Key, " + quote(elementName) + ", key)");
+                        cb.assign(elementName + "Builder", "parseElement(" + elementName + "Builder != null ? " + elementName + "Builder : " + choiceTypeName + ".builder(), " + quote(key) + ", parser.next(), parser, -1)");
+                    } else {
+                        cb.invoke("builder", fieldName, args(buildStreamParseMethodInvocation(key, choiceTypeName, "parser.next()", "-1")));
+                    }
+                    cb._break();
+                }
+            } else if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
+                String parseMethodName = "parse" + getPrimitiveParseTypeName(fieldType);
+                if (isRepeating(elementDefinition)) {
+                    cb._case(quote(elementName))
+                        .assign(elementName + "Array", "startArray(" + elementName + "Array, " + quote(elementName) + ", parser.next(), false)")
+                        ._for("int i = 0", "(event = parser.next()) != JsonParser.Event.END_ARRAY", "i++")
+                            .invoke(parseMethodName, args(elementName + "Array.value(i, " + fieldType + "::builder)", quote(elementName), "event", "parser", "i"))
+                        ._end()
+                        ._break();
+                    cb._case(quote("_" + elementName))
+                        .assign(elementName + "Array", "startArray(" + elementName + "Array, " + quote("_" + elementName) + ", parser.next(), true)")
+                        ._for("int i = 0", "(event = parser.next()) != JsonParser.Event.END_ARRAY", "i++")
+                            .invoke("parseElement", args(elementName + "Array.element(i, " + fieldType + "::builder)", quote(elementName), "event", "parser", "i"))
+                        ._end()
+                        ._break();
+                } else {
+                    cb._case(quote(elementName))
+                        .assign(elementName + "Builder", parseMethodName + "(" + elementName + "Builder != null ? " + elementName + "Builder : " + fieldType + ".builder(), " + quote(elementName) + ", parser.next(), parser, -1)")
+                        ._break();
+                    cb._case(quote("_" + elementName))
+                        .assign(elementName + "Builder", "parseElement(" + elementName + "Builder != null ? " + elementName + "Builder : " + fieldType + ".builder(), " + quote(elementName) + ", parser.next(), parser, -1)")
+                        ._break();
+                }
+            } else if ("Bundle".equals(generatedClassName) && "entry".equals(elementName)) {
+                // entries of the top-level bundle are passed to the entry consumer (if any) instead of the builder
+                String parseMethodInvocation = buildStreamParseMethodInvocation(elementName, fieldType, "event", "i");
+                cb._case(quote(elementName))
+                    .invoke("checkArray", args(quote(elementName), "parser.next()"))
+                    ._for("int i = 0", "(event = parser.next()) != JsonParser.Event.END_ARRAY", "i++")
+                        ._if("entryConsumer != null && stack.size() == 1")
+                            .invoke("entryConsumer", "accept", args(parseMethodInvocation))
+                        ._else()
+                            .invoke("builder", fieldName, args(parseMethodInvocation))
+                        ._end()
+                    ._end()
+                    ._break();
+            } else if (isRepeating(elementDefinition)) {
+                cb._case(quote(elementName))
+                    .invoke("checkArray", args(quote(elementName), "parser.next()"))
+                    ._for("int i = 0", "(event = parser.next()) != JsonParser.Event.END_ARRAY", "i++")
+                        .invoke("builder", fieldName, args(buildStreamParseMethodInvocation(elementName, fieldType, "event", "i")))
+                    ._end()
+                    ._break();
+            } else {
+                cb._case(quote(elementName))
+                    .invoke("builder", fieldName, args(buildStreamParseMethodInvocation(elementName, fieldType, "parser.next()", "-1")))
+                    ._break();
+            }
+        }
+
+        if (!resource && elementDefinitions.stream().noneMatch(elementDefinition -> "resourceType".equals(getElementName(elementDefinition, path)))) {
+            cb._case(quote("resourceType"));
+        }
+        cb._case(quote("fhir_comments"))
+            .invoke("skipValue", args("parser"))
+            ._break();
+        cb._default()
+            .invoke("skipUnrecognizedElement", args("key", "parser"));
+        cb._end();
+        cb._end();
+
+        for (JsonObject elementDefinition : elementDefinitions) {
+            String elementName = getElementName(elementDefinition, path);
+            String fieldName = getFieldName(elementName);
+            String fieldType = getStreamFieldType(generatedClassName, structureDefinition, elementDefinition);
+            if (isChoiceElement(elementDefinition)) {
+                if (getChoiceTypeNames(elementDefinition).stream().anyMatch(choiceTypeName -> isPrimitiveType(choiceTypeName))) {
+                    cb._if(elementName + "Builder != null")
+                        .invoke("builder", fieldName, args(elementName + "Builder.build()"))
+                    ._end();
+                }
+            } else if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
+                if (isRepeating(elementDefinition)) {
+                    cb._if(elementName + "Array != null")
+                        ._foreach(fieldType + ".Builder primitiveBuilder", elementName + "Array.builders(" + quote(elementName) + ")")
+                            .invoke("builder", fieldName, args("primitiveBuilder.build()"))
+                        ._end()
+                    ._end();
+                } else {
+                    cb._if(elementName + "Builder != null")
+                        .invoke("builder", fieldName, args(elementName + "Builder.build()"))
+                    ._end();
+                }
+            }
+        }
+
+        cb.invoke("stackPop", args());
+        cb._return("builder.build()");
+        cb.end().newLine();
+
+        if ("Quantity".equals(generatedClassName)) {
+            cb.method(mods("private"), "Quantity", "parseQuantity", params("java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"));
+            cb._return("parseQuantity(Quantity.builder(), elementName, event, parser, elementIndex)");
+            cb.end().newLine();
+        }
+    }
+
+    private String getStreamFieldType(String generatedClassName, JsonObject structureDefinition, JsonObject elementDefinition) {
+        String fieldType = getFieldType(structureDefinition, elementDefinition, false)
+                .replace("com.ibm.fhir.model.type.", "")
+                .replace("com.ibm.fhir.model.resource.", "");
+        if (isBackboneElement(elementDefinition)) {
+            fieldType = generatedClassName + "." + fieldType;
+        }
+        return fieldType;
+    }
+
+    private String getPrimitiveParseTypeName(String fieldType) {
+        if (isStringSubtype(fieldType) || isCodeSubtype(fieldType)) {
+            return "String";
+        } else if (isUriSubtype(fieldType)) {
+            return "Uri";
+        } else if (isIntegerSubtype(fieldType)) {
+            return "Integer";
+        }
+        return fieldType;
+    }
+
+    private String buildStreamParseMethodInvocation(String elementName, String fieldType, String event, String elementIndex) {
+        if (isQuantitySubtype(fieldType)) {
+            return "(" + fieldType + ") parseQuantity(" + fieldType + ".builder(), " + quote(elementName) + ", " + event + ", parser, " + elementIndex + ")";
+        } else if (isJavaString(fieldType)) {
+            return "parseJavaString(" + quote(elementName) + ", " + event + ", parser, " + elementIndex + ")";
+        }
+        return "parse" + fieldType.replace(".", "") + "(" + quote(elementName) + ", " + event + ", parser, " + elementIndex + ")";
+    }
+
+    private void generatePrimitiveTypeStreamParseMethod(String generatedClassName, JsonObject structureDefinition, CodeBuilder cb) {
+        if (isStringSubtype(generatedClassName) || isUriSubtype(generatedClassName) || isCodeSubtype(generatedClassName) || isIntegerSubtype(generatedClassName)) {
+            return;
+        }
+
+        // primitive values are parsed into a builder which is built by the enclosing object (see generateStreamParseMethod)
+        if ("String".equals(generatedClassName) || "Uri".equals(generatedClassName) || "Integer".equals(generatedClassName)) {
+            cb.method(mods("private"), "<B extends " + generatedClassName + ".Builder> B", "parse" + generatedClassName, params("B builder", "java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"));
+        } else {
+            cb.method(mods("private"), generatedClassName + ".Builder", "parse" + generatedClassName, params(generatedClassName + ".Builder builder", "java.lang.String elementName", "JsonParser.Event event", "JsonParser parser", "int elementIndex"));
+        }
+
+        cb.invoke("stackPush", args("elementName", "elementIndex"));
+        cb.invoke("builder", "setValidating", args("validating"));
+
+        if ("Integer".equals(generatedClassName)) {
+            cb._if("event == JsonParser.Event.VALUE_NUMBER")
+                .invoke("builder", "value", args("parser.getBigDecimal().intValueExact()"))
+            ._elseif("event != JsonParser.Event.VALUE_NULL || elementIndex == -1")
+                ._throw("new IllegalArgumentException(\"Expected: NUMBER but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end();
+        } else if ("Decimal".equals(generatedClassName)) {
+            cb._if("event == JsonParser.Event.VALUE_NUMBER")
+                .invoke("builder", "value", args("parser.getBigDecimal()"))
+            ._elseif("event != JsonParser.Event.VALUE_NULL || elementIndex == -1")
+                ._throw("new IllegalArgumentException(\"Expected: NUMBER but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end();
+        } else if ("Boolean".equals(generatedClassName)) {
+            cb._if("event == JsonParser.Event.VALUE_TRUE || event == JsonParser.Event.VALUE_FALSE")
+                .invoke("builder", "value", args("(event == JsonParser.Event.VALUE_TRUE) ? java.lang.Boolean.TRUE : java.lang.Boolean.FALSE"))
+            ._elseif("event != JsonParser.Event.VALUE_NULL || elementIndex == -1")
+                ._throw("new IllegalArgumentException(\"Expected: TRUE or FALSE but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end();
+        } else {
+            cb._if("event == JsonParser.Event.VALUE_STRING")
+                .invoke("builder", "value", args("parser.getString()"))
+            ._elseif("event != JsonParser.Event.VALUE_NULL || elementIndex == -1")
+                ._throw("new IllegalArgumentException(\"Expected: STRING but found: \" + getValueType(event) + \" for element: \" + elementName)")
+            ._end();
+        }
+
+        cb.invoke("stackPop", args());
+        cb._return("builder");
+        cb.end().newLine();
+    }
+
+    private void generateParseChoiceElementMethod(CodeBuilder cb) {
+        cb.method(mods("private"), "Element", "parseChoiceElement", params("java.lang.String name", "JsonObject jsonObject", "Class<?>... choiceTypes"));
+        cb._if("jsonObject == null")
+            ._return("null")
+        ._end();
+
+        cb.newLine();
+
+        cb.assign("java.lang.String elementName", "null");
+        cb.assign("java.lang.String _elementName", "null");
+        cb.assign("Class<?> elementType", "null");
+
+        cb.newLine();
+
+        cb._foreach("Class<?> choiceType", "choiceTypes")
+            .assign("java.lang.String key", "getChoiceElementName(name, choiceType)")
+            ._if("jsonObject.containsKey(key)")
+                ._if("elementName != null")
+                    ._throw("new IllegalArgumentException(\"Only one choice element key of the form: \" + name + \"[x] is allowed\")")
+                ._end()
+                .assign("elementName", "key")
+                .assign("elementType", "choiceType")
+            ._end()
+
+            .newLine()
+
+            .assign("java.lang.String _key", "\"_\" + key")
+            ._if("jsonObject.containsKey(_key)")
+                ._if("_elementName != null")
+                    ._throw("new IllegalArgumentException(\"Only one choice element key of the form: _\" + name + \"[x] is allowed\")")
+                ._end()
+                .assign("_elementName", "_key")
+                ._if("elementType == null")
+                    .assign("elementType", "choiceType")
+                ._end()
+            ._end()
+        ._end();
+
+        cb.newLine();
+
+        cb._if("elementName != null && _elementName != null && !_elementName.endsWith(elementName)")
+            ._throw("new IllegalArgumentException(\"Choice element keys: \" + elementName + \" and \" + _elementName + \" are not consistent\")")
+        ._end();
+
+        cb.newLine();
+
+        cb.assign("JsonValue jsonValue", "null");
+        cb._if("elementName != null")
+            .assign("jsonValue", "jsonObject.get(elementName)")
+        ._end();
+
+        cb.newLine();
+
+        cb.assign("JsonValue _jsonValue", "null");
+        cb._if("_elementName != null")
+            .assign("_jsonValue", "jsonObject.get(_elementName)")
+        ._end();
+
+        cb.newLine();
+
+        cb._if("elementType != null");
+        cb._switch("elementType.getSimpleName()");
+        for (String dataTypeName : DATA_TYPE_NAMES) {
+            cb._case(quote(dataTypeName));
+            if (isStringSubtype(dataTypeName)) {
+                cb._return("parseString(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
+            } else if (isUriSubtype(dataTypeName)) {
+                cb._return("parseUri(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
+            } else if (isIntegerSubtype(dataTypeName)) {
+                cb._return("parseInteger(" + dataTypeName + ".builder(), elementName, jsonValue, _jsonValue, -1)");
+            } else if (isQuantitySubtype(dataTypeName)) {
+                cb._return("parseQuantity(" + dataTypeName + ".builder(), elementName, (JsonObject) jsonValue, -1)");
+            } else if (isPrimitiveType(dataTypeName)) {
+                cb._return("parse" + dataTypeName + "(elementName, jsonValue, _jsonValue, -1)");
+            } else {
+                cb._return("parse" + dataTypeName + "(elementName, (JsonObject) jsonValue, -1)");
+            }
+        }
+        cb._end();
+        cb._end();
+
+        cb.newLine();
+
+        cb._return("null");
+
+        cb.end().newLine();
+    }
+
+    private void generateParseMethod(String generatedClassName, JsonObject structureDefinition, CodeBuilder cb) {
+        if (isQuantitySubtype(structureDefinition)) {
+            return;
+        }
+
+        String path = titleCase(Arrays.asList(generatedClassName.split("\\.")).stream().map(s -> camelCase(s)).collect(Collectors.joining(".")));
+
+        List<JsonObject> elementDefinitions = getElementDefinitions(structureDefinition, path);
+
+        if (isAbstract(structureDefinition)) {
+            cb.method(mods("private"), "void", "parse" + generatedClassName.replace(".", ""), params(generatedClassName + ".Builder builder", "JsonObject jsonObject"));
+        } else {
+            if ("Quantity".equals(generatedClassName)) {
+                cb.method(mods("private"), "Quantity", "parseQuantity", params("Quantity.Builder builder", "java.lang.String elementName", "JsonObject jsonObject", "int elementIndex"));
+            } else {
+                cb.method(mods("private"), generatedClassName, "parse" + generatedClassName.replace(".", ""), params("java.lang.String elementName", "JsonObject jsonObject", "int elementIndex"));
+            }
+            cb._if("jsonObject == null")
+                ._return("null")
+            ._end();
+            cb.invoke("stackPush", args("elementName", "elementIndex"));
+            cb._if("!ignoringUnrecognizedElements")
+                .invoke("checkForUnrecognizedElements", args(generatedClassName + ".class", "jsonObject"))
+            ._end();
+        }
+
+        if (!isAbstract(structureDefinition) && !"Quantity".equals(generatedClassName)) {
+            cb.assign(generatedClassName + ".Builder builder", generatedClassName + ".builder()");
+        }
+
+        cb.invoke("builder", "setValidating", args("validating"));
+
+        String superClass = superClassMap.get(generatedClassName);
+        if (superClass != null) {
+            cb.invoke("parse" + superClass, args("builder", "jsonObject"));
+        }
+
+        for (JsonObject elementDefinition : elementDefinitions) {
+            String basePath = elementDefinition.getJsonObject("base").getString("path");
+            if (elementDefinition.getString("path").equals(basePath)) {
+                String elementName = getElementName(elementDefinition, path);
+                String fieldName = getFieldName(elementName);
                 String fieldType = getFieldType(structureDefinition, elementDefinition, false)
                         .replace("com.ibm.fhir.model.type.", "")
                         .replace("com.ibm.fhir.model.resource.", "");
@@ -3284,10 +4701,19 @@ public class CodeGenerator {
                     if (isPrimitiveType(fieldType) || isCodeSubtype(fieldType)) {
                         cb.assign("JsonArray _" + elementName + "Array", "jsonObject.getJsonArray(" + quote("_" + elementName) + ")");
                     }
+                    boolean parallel = "Bundle".equals(generatedClassName) && "entry".equals(elementName);
+                    if (parallel) {
+                        cb._if("isParallel(" + elementName + "Array)")
+                            .invoke("builder", fieldName, args("parseBundleEntries(" + elementName + "Array)"))
+                        ._else();
+                    }
                     cb._for("int i = 0", "i < " + elementName + "Array.size()", "i++");
                     parseMethodInvocation = buildParseMethodInvocation(elementDefinition, elementName, fieldType, true);
                     cb.invoke("builder", fieldName, args(parseMethodInvocation));
                     cb._end();
+                    if (parallel) {
+                        cb._end();
+                    }
                     cb._end();
                 } else {
                     parseMethodInvocation = buildParseMethodInvocation(elementDefinition, elementName, fieldType, false);
@@ -3436,7 +4862,8 @@ public class CodeGenerator {
         cb._import("com.ibm.fhir.model.annotation.System");
         cb._import("com.ibm.fhir.model.type.Code");
         cb._import("com.ibm.fhir.model.type.Extension");
-        cb._import("com.ibm.fhir.model.type.String").newLine();
+        cb._import("com.ibm.fhir.model.type.String");
+        cb._import("com.ibm.fhir.model.util.PrimitiveInterner").newLine();
 
         cb._import("java.util.Collection");
         cb._import("java.util.Objects").newLine();
@@ -3629,9 +5056,19 @@ public class CodeGenerator {
 
         cb.override();
         cb.method(mods("public"), bindingName, "build")
+            .decl("boolean", "internable", "PrimitiveInterner.isEnabled() && (id == null) && extension.isEmpty() && PrimitiveInterner.isInternable(value)")
+            ._if("internable")
+                .decl(bindingName, "interned", "PrimitiveInterner.get(" + bindingName + ".class, value)")
+                ._if("interned != null")
+                    ._return("interned")
+                ._end()
+            ._end()
             .decl(bindingName, varName, _new(bindingName, args("this")))
             ._if("validating")
                 .invoke("validate", args(varName))
+                ._if("internable")
+                    ._return("PrimitiveInterner.intern(" + bindingName + ".class, value, " + varName + ")")
+                ._end()
             ._end()
             ._return(varName)
         .end().newLine();
@@ -3771,7 +5208,8 @@ public class CodeGenerator {
         }
 
         if (display != null || definition != null) {
-            cb.javadoc(Arrays.asList(sb.toString().split(System.lineSeparator())), true, true, true);
+            // concept definitions may contain any kind of line break (e.g. bare carriage returns)
+            cb.javadoc(Arrays.asList(sb.toString().split("\\R")), true, true, true);
         }
     }
 
@@ -4560,6 +5998,14 @@ public class CodeGenerator {
         return "id".equals(structureDefinition.getString("name"));
     }
 
+    private boolean isInternable(JsonObject structureDefinition) {
+        return isBoolean(structureDefinition) ||
+                isCode(structureDefinition) ||
+                isUri(structureDefinition) ||
+                isCanonical(structureDefinition) ||
+                isInteger(structureDefinition);
+    }
+
     private boolean isInstant(JsonObject structureDefinition) {
         return "instant".equals(structureDefinition.getString("name"));
     }
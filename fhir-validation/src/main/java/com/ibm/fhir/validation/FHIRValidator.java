@@ -7,6 +7,7 @@
 package com.ibm.fhir.validation;
 
 import static com.ibm.fhir.model.type.String.string;
+import static com.ibm.fhir.cache.util.CacheSupport.createCacheAsMap;
 import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_FALSE;
 import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_TRUE;
 import static com.ibm.fhir.path.util.FHIRPathUtil.evaluatesToBoolean;
@@ -33,12 +34,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.model.annotation.Constraint;
 import com.ibm.fhir.model.annotation.Constraint.FHIRPathConstraintValidator;
 import com.ibm.fhir.model.constraint.spi.ConstraintValidator;
+import com.ibm.fhir.model.resource.Bundle;
 import com.ibm.fhir.model.resource.OperationOutcome.Issue;
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.resource.StructureDefinition;
@@ -58,6 +65,7 @@ import com.ibm.fhir.path.util.DiagnosticsEvaluationListener;
 import com.ibm.fhir.path.visitor.FHIRPathDefaultNodeVisitor;
 import com.ibm.fhir.profile.ProfileSupport;
 import com.ibm.fhir.registry.FHIRRegistry;
+import com.ibm.fhir.validation.cache.ValidationResultCache;
 import com.ibm.fhir.validation.exception.FHIRValidationException;
 
 import net.jcip.annotations.NotThreadSafe;
@@ -67,6 +75,16 @@ import net.jcip.annotations.NotThreadSafe;
  * to validate resource instances against the base specification and, optionally, extended profiles.
  *
  * The static factory method {@link #validator()} is threadsafe, but the created instances are not.
+ *
+ * <p>A validator created with an {@link ExecutorService} validates the entry resources of a Bundle in parallel.
+ * Each entry resource is validated by a separate task with its own {@link EvaluationContext}, and the issues
+ * are merged in document order before they are sorted, so the result is the same as for sequential validation
+ * (for a fail-fast validator, the set of issues found before validation terminates may differ). The
+ * {@link FHIRRequestContext} of the calling thread is propagated to each task, so tenant-specific profiles are
+ * resolved the same way as they are for sequential validation.
+ *
+ * <p>The FHIR server uses a parallel validator for Bundle resources with at least the number of entries configured
+ * by {@code fhirServer/validation/parallelBundleEntryThreshold}.
  */
 @NotThreadSafe
 public class FHIRValidator {
@@ -76,14 +94,22 @@ public class FHIRValidator {
 
     private final ValidatingNodeVisitor visitor;
     private final boolean failFast;
+    private final ExecutorService executorService;
+
+    private ValidationResultCache cache;
 
     private FHIRValidator() {
         this(false);
     }
 
     private FHIRValidator(boolean failFast) {
-        visitor = new ValidatingNodeVisitor(failFast);
+        this(failFast, null);
+    }
+
+    private FHIRValidator(boolean failFast, ExecutorService executorService) {
+        visitor = new ValidatingNodeVisitor(failFast, executorService);
         this.failFast = failFast;
+        this.executorService = executorService;
     }
 
     /**
@@ -98,6 +124,44 @@ public class FHIRValidator {
         return failFast;
     }
 
+    /**
+     * Indicates whether this validator is parallel
+     *
+     * <p>A parallel validator is one that validates the entry resources of a Bundle concurrently.
+     *
+     * @return
+     *     true if this validator is parallel, false otherwise
+     */
+    public boolean isParallel() {
+        return executorService != null;
+    }
+
+    /**
+     * Set the cache used to skip the validation of resources that have already been validated with the same options
+     *
+     * <p>The cache is only consulted when validating a {@link Resource}; validation of an {@link EvaluationContext}
+     * is never cached.
+     *
+     * @param cache
+     *     the validation result cache, or null to disable caching
+     * @return
+     *     this validator
+     */
+    public FHIRValidator cache(ValidationResultCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Get the cache used by this validator
+     *
+     * @return
+     *     the validation result cache, or null if caching is disabled
+     */
+    public ValidationResultCache getCache() {
+        return cache;
+    }
+
     /**
      * Validate a {@link Resource} against constraints in the base specification and
      * resource-asserted profile references or specific profile references but not both.
@@ -149,7 +213,11 @@ public class FHIRValidator {
      *     for errors that occur during validation
      */
     public List<Issue> validate(Resource resource, boolean includeResourceAssertedProfiles, String... profiles) throws FHIRValidationException {
-        return validate(new EvaluationContext(resource), includeResourceAssertedProfiles, profiles);
+        if (cache == null) {
+            return validate(new EvaluationContext(resource), includeResourceAssertedProfiles, profiles);
+        }
+        return cache.getIssues(resource, failFast, includeResourceAssertedProfiles, Arrays.asList(profiles),
+            () -> validate(new EvaluationContext(resource), includeResourceAssertedProfiles, profiles));
     }
 
     /**
@@ -228,6 +296,23 @@ public class FHIRValidator {
         return new FHIRValidator(failFast);
     }
 
+    /**
+     * Create a validator that validates the entry resources of a Bundle in parallel using the passed executor service
+     *
+     * <p>The executor service is owned by the caller and should be bounded; it is not shut down by the validator.
+     *
+     * @param failFast
+     *     whether the validator terminates on the first issue it finds with a severity of ERROR
+     * @param executorService
+     *     the executor service used to validate the entry resources of a Bundle
+     * @return
+     *     a new validator instance
+     */
+    public static FHIRValidator validator(boolean failFast, ExecutorService executorService) {
+        Objects.requireNonNull(executorService, "executorService");
+        return new FHIRValidator(failFast, executorService);
+    }
+
     private static Issue issue(IssueSeverity severity, IssueType code, String description, FHIRPathNode node) {
         return issue(severity, code, description, null, node.path());
     }
@@ -246,8 +331,14 @@ public class FHIRValidator {
 
     private static class ValidatingNodeVisitor extends FHIRPathDefaultNodeVisitor {
         private static final Map<Class<?>, IsValidFunction> IS_VALID_FUNCTION_MAP = new ConcurrentHashMap<>();
+        private static final Map<Class<?>, List<Constraint>> CONSTRAINT_PLAN_MAP = new ConcurrentHashMap<>();
+        private static final Map<Class<?>, ConstraintValidator<?>> CONSTRAINT_VALIDATOR_MAP = new ConcurrentHashMap<>();
+        private static final int EXTENSION_URL_CACHE_MAX_ENTRIES = 1024;
+        private static final Map<String, Boolean> ABSOLUTE_URL_CACHE = createCacheAsMap(EXTENSION_URL_CACHE_MAX_ENTRIES);
+        private static final Map<String, Constraint> EXTENSION_CONSTRAINT_CACHE = createCacheAsMap(EXTENSION_URL_CACHE_MAX_ENTRIES);
 
         private final boolean failFast;
+        private final ExecutorService executorService;
 
         private FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
         private EvaluationContext evaluationContext;
@@ -257,8 +348,16 @@ public class FHIRValidator {
         private DiagnosticsEvaluationListener diagnosticsEvaluationListener = new DiagnosticsEvaluationListener();
         private boolean aborted = false;
 
-        private ValidatingNodeVisitor(boolean failFast) {
+        // shared between the visitor that partitions a Bundle and the visitors that validate its entry resources
+        private AtomicBoolean cancelled;
+        private List<Partition> partitions = new ArrayList<>();
+
+        // the parent of the node whose children are being visited; tracked here so that the tree is not searched for it
+        private FHIRPathNode parent;
+
+        private ValidatingNodeVisitor(boolean failFast, ExecutorService executorService) {
             this.failFast = failFast;
+            this.executorService = executorService;
         }
 
         private List<Issue> validate(EvaluationContext evaluationContext, boolean includeResourceAssertedProfiles, List<String> profiles) {
@@ -266,7 +365,14 @@ public class FHIRValidator {
             this.evaluationContext = evaluationContext;
             this.includeResourceAssertedProfiles = includeResourceAssertedProfiles;
             this.profiles = profiles;
-            this.evaluationContext.getTree().getRoot().accept(this);
+            try {
+                this.evaluationContext.getTree().getRoot().accept(this);
+                if (!partitions.isEmpty()) {
+                    mergePartitions();
+                }
+            } finally {
+                cancelPartitions();
+            }
             Collections.sort(issues, ISSUE_COMPARATOR);
             return Collections.unmodifiableList(issues);
         }
@@ -275,16 +381,118 @@ public class FHIRValidator {
             issues.clear();
             diagnosticsEvaluationListener.reset();
             aborted = false;
+            cancelled = new AtomicBoolean(false);
+            partitions.clear();
+            parent = null;
         }
 
         @Override
         protected void visitChildren(FHIRPathNode node) {
+            FHIRPathNode nodeParent = parent;
             for (FHIRPathNode child : node.children()) {
-                if (aborted) {
+                if (isAborted()) {
                     break;
                 }
+                if (isPartition(nodeParent, node, child)) {
+                    // registry providers may be tenant-aware, so the tasks run with the request context of the caller
+                    FHIRRequestContext requestContext = FHIRRequestContext.get();
+                    partitions.add(new Partition(issues.size(), executorService.submit(() -> validatePartition(requestContext, child))));
+                    continue;
+                }
+                parent = node;
                 child.accept(this);
             }
+            parent = nodeParent;
+        }
+
+        /**
+         * Indicates whether the child node is an entry resource of the root Bundle and should be validated by a separate task
+         */
+        private boolean isPartition(FHIRPathNode nodeParent, FHIRPathNode node, FHIRPathNode child) {
+            if (executorService == null || nodeParent == null || !child.isResourceNode() || !"entry".equals(node.name())) {
+                return false;
+            }
+            return nodeParent == evaluationContext.getTree().getRoot() && nodeParent.isResourceNode()
+                    && nodeParent.asResourceNode().resource().is(Bundle.class);
+        }
+
+        /**
+         * Validate an entry resource of the root Bundle using a thread-confined visitor and evaluation context
+         *
+         * <p>The request context captured when the task was submitted is set on the executing thread for the duration
+         * of the task and the previous request context of that thread is restored afterwards.
+         */
+        private List<Issue> validatePartition(FHIRRequestContext requestContext, FHIRPathNode node) {
+            FHIRRequestContext previousRequestContext = FHIRRequestContext.get();
+            FHIRRequestContext.set(requestContext);
+            try {
+                ValidatingNodeVisitor partitionVisitor = new ValidatingNodeVisitor(failFast, null);
+                partitionVisitor.evaluationContext = new EvaluationContext(evaluationContext.getTree());
+                partitionVisitor.evaluationContext.setResolveRelativeReferences(evaluationContext.resolveRelativeReferences());
+                partitionVisitor.includeResourceAssertedProfiles = includeResourceAssertedProfiles;
+                partitionVisitor.profiles = profiles;
+                partitionVisitor.cancelled = cancelled;
+                if (!cancelled.get()) {
+                    node.accept(partitionVisitor);
+                }
+                return partitionVisitor.issues;
+            } finally {
+                FHIRRequestContext.set(previousRequestContext);
+            }
+        }
+
+        /**
+         * Wait for the partition tasks to complete and insert their issues at the positions where the corresponding
+         * entry resources would have been visited sequentially
+         */
+        private void mergePartitions() {
+            List<Issue> merged = new ArrayList<>(issues.size());
+            int index = 0;
+            for (Partition partition : partitions) {
+                merged.addAll(issues.subList(index, partition.index));
+                index = partition.index;
+                if (cancelled.get()) {
+                    partition.future.cancel(false);
+                }
+                if (partition.future.isCancelled()) {
+                    continue;
+                }
+                try {
+                    merged.addAll(partition.future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for the validation of a Bundle entry resource", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+            merged.addAll(issues.subList(index, issues.size()));
+            issues.clear();
+            issues.addAll(merged);
+        }
+
+        private void cancelPartitions() {
+            if (!partitions.isEmpty()) {
+                cancelled.set(true);
+                for (Partition partition : partitions) {
+                    partition.future.cancel(false);
+                }
+            }
+        }
+
+        private boolean isAborted() {
+            return aborted || (cancelled != null && cancelled.get());
+        }
+
+        private void abort() {
+            aborted = true;
+            if (cancelled != null) {
+                cancelled.set(true);
+            }
         }
 
         @Override
@@ -299,12 +507,13 @@ public class FHIRValidator {
 
         private void validate(FHIRPathElementNode elementNode) {
             Class<?> elementType = elementNode.element().getClass();
-            List<Constraint> constraints = new ArrayList<>(ModelSupport.getConstraints(elementType));
+            Collection<Constraint> constraints = getConstraintPlan(elementType);
             if (Extension.class.equals(elementType)) {
                 String url = elementNode.element().as(Extension.class).getUrl();
                 if (isAbsolute(url)) {
                     if (FHIRRegistry.getInstance().hasResource(url, StructureDefinition.class)) {
-                        constraints.add(Constraint.Factory.createConstraint("generated-ext-1", Constraint.LEVEL_RULE, Constraint.LOCATION_BASE, "Extension must conform to definition '" + url + "'", "conformsTo('" + url + "')", SOURCE_VALIDATOR, false, true));
+                        constraints = new ArrayList<>(constraints);
+                        constraints.add(getExtensionConstraint(url));
                     } else {
                         issues.add(issue(IssueSeverity.WARNING, IssueType.NOT_SUPPORTED, "Extension definition '" + url + "' is not supported", elementNode));
                     }
@@ -313,7 +522,38 @@ public class FHIRValidator {
             validate(elementNode, constraints);
         }
 
+        /**
+         * Get the constraints from the base specification for the given model class that are not model-checked
+         *
+         * <p>The returned list is computed once per model class and is shared across validator instances.
+         */
+        private List<Constraint> getConstraintPlan(Class<?> modelClass) {
+            List<Constraint> constraintPlan = CONSTRAINT_PLAN_MAP.get(modelClass);
+            if (constraintPlan == null) {
+                constraintPlan = CONSTRAINT_PLAN_MAP.computeIfAbsent(modelClass, k -> computeConstraintPlan(modelClass));
+            }
+            return constraintPlan;
+        }
+
+        private List<Constraint> computeConstraintPlan(Class<?> modelClass) {
+            List<Constraint> constraintPlan = new ArrayList<>();
+            for (Constraint constraint : ModelSupport.getConstraints(modelClass)) {
+                if (!constraint.modelChecked()) {
+                    constraintPlan.add(constraint);
+                }
+            }
+            return Collections.unmodifiableList(constraintPlan);
+        }
+
+        private Constraint getExtensionConstraint(String url) {
+            return EXTENSION_CONSTRAINT_CACHE.computeIfAbsent(url, k -> Constraint.Factory.createConstraint("generated-ext-1", Constraint.LEVEL_RULE, Constraint.LOCATION_BASE, "Extension must conform to definition '" + url + "'", "conformsTo('" + url + "')", SOURCE_VALIDATOR, false, true));
+        }
+
         private boolean isAbsolute(String url) {
+            return ABSOLUTE_URL_CACHE.computeIfAbsent(url, k -> computeIsAbsolute(url));
+        }
+
+        private boolean computeIsAbsolute(String url) {
             try {
                 return new URI(url).isAbsolute();
             } catch (URISyntaxException e) {
@@ -324,7 +564,10 @@ public class FHIRValidator {
 
         private void validate(FHIRPathResourceNode resourceNode) {
             Class<?> resourceType = resourceNode.resource().getClass();
-            List<Constraint> constraints = new ArrayList<>(ModelSupport.getConstraints(resourceType));
+            List<Constraint> constraints = getConstraintPlan(resourceType);
+            if (includeResourceAssertedProfiles || !profiles.isEmpty()) {
+                constraints = new ArrayList<>(constraints);
+            }
             if (includeResourceAssertedProfiles) {
                 List<String> resourceAssertedProfiles = ProfileSupport.getResourceAssertedProfiles(resourceNode.resource());
                 validateProfileReferences(resourceNode, resourceAssertedProfiles, true);
@@ -340,7 +583,7 @@ public class FHIRValidator {
         private void validateProfileReferences(FHIRPathResourceNode resourceNode, List<String> profiles, boolean resourceAsserted) {
             Class<?> resourceType = resourceNode.resource().getClass();
             for (String url : profiles) {
-                if (aborted) {
+                if (isAborted()) {
                     break;
                 }
                 StructureDefinition profile = ProfileSupport.getProfile(url);
@@ -349,13 +592,15 @@ public class FHIRValidator {
                 } else if (!ProfileSupport.isApplicable(profile, resourceType)) {
                     issues.add(issue(IssueSeverity.ERROR, IssueType.INVALID, "Profile '" + url + "' is not applicable to resource type: " + resourceType.getSimpleName(), resourceNode));
                 }
-                aborted = failFast && hasErrors(issues);
+                if (failFast && hasErrors(issues)) {
+                    abort();
+                }
             }
         }
 
         private void validate(FHIRPathNode node, Collection<Constraint> constraints) {
             for (Constraint constraint : constraints) {
-                if (aborted) {
+                if (isAborted()) {
                     break;
                 }
                 if (constraint.modelChecked()) {
@@ -398,7 +643,7 @@ public class FHIRValidator {
                 }
 
                 for (FHIRPathNode contextNode : initialContext) {
-                    if (aborted) {
+                    if (isAborted()) {
                         break;
                     }
 
@@ -420,7 +665,7 @@ public class FHIRValidator {
                     if (evaluatesToBoolean(result) && isFalse(result)) {
                         issues.add(issue(severity, IssueType.INVARIANT, constraint.id() + ": " + constraint.description(), diagnosticsEvaluationListener.getDiagnostics(), contextNode.path()));
                         if (failFast && IssueSeverity.ERROR.equals(severity)) {
-                            aborted = true;
+                            abort();
                         }
                     }
 
@@ -441,6 +686,18 @@ public class FHIRValidator {
             if (validatorClass == null || FHIRPathConstraintValidator.class.equals(validatorClass)) {
                 return null;
             }
+            ConstraintValidator<?> validator = CONSTRAINT_VALIDATOR_MAP.get(validatorClass);
+            if (validator == null) {
+                validator = createConstraintValidator(validatorClass);
+                // only implementations that declare themselves threadsafe are shared
+                if (validator != null && validator.isThreadSafe()) {
+                    CONSTRAINT_VALIDATOR_MAP.putIfAbsent(validatorClass, validator);
+                }
+            }
+            return validator;
+        }
+
+        private ConstraintValidator<?> createConstraintValidator(Class<? extends ConstraintValidator<?>> validatorClass) {
             try {
                 return validatorClass.getDeclaredConstructor().newInstance();
             } catch (Exception e) {
@@ -497,6 +754,16 @@ public class FHIRValidator {
             throw new AssertionError();
         }
 
+        private static class Partition {
+            private final int index;
+            private final Future<List<Issue>> future;
+
+            private Partition(int index, Future<List<Issue>> future) {
+                this.index = index;
+                this.future = future;
+            }
+        }
+
         @FunctionalInterface
         interface IsValidFunction {
             boolean apply(ConstraintValidator<?> validator, Visitable visitable, Constraint constraint);
@@ -0,0 +1,106 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.validation.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ibm.fhir.cache.CacheKey;
+import com.ibm.fhir.cache.CacheManager;
+import com.ibm.fhir.cache.CacheManager.Configuration;
+import com.ibm.fhir.model.resource.OperationOutcome.Issue;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.visitor.ResourceFingerprintVisitor;
+import com.ibm.fhir.registry.FHIRRegistry;
+import com.ibm.fhir.validation.exception.FHIRValidationException;
+
+/**
+ * A cache of validation results keyed by resource content fingerprint, validation options and registry version
+ *
+ * <p>Results are stored in a {@link CacheManager managed cache}, so each tenant has its own entries.
+ *
+ * <p>The fingerprint is computed with the {@link ResourceFingerprintVisitor} which ignores the logical id,
+ * meta.versionId and meta.lastUpdated of the resource, so a resource that is resubmitted with a different id or
+ * version maps to the same entry. Entries that were computed with a previous {@link FHIRRegistry#getVersion() registry version}
+ * are no longer matched and are eventually evicted.
+ *
+ * <p>Instances of this class are threadsafe and are meant to be shared between validators.
+ */
+public class ValidationResultCache {
+    public static final String VALIDATION_RESULT_CACHE_NAME = "com.ibm.fhir.validation.cache.ValidationResultCache.validationResultCache";
+
+    // a fixed salt so that the fingerprint of a resource is stable across computations
+    private static final byte[] SALT = new byte[32];
+
+    private final Configuration configuration;
+
+    /**
+     * Create a validation result cache
+     *
+     * @param configuration
+     *     the configuration of the managed cache
+     */
+    public ValidationResultCache(Configuration configuration) {
+        this.configuration = Objects.requireNonNull(configuration, "configuration");
+    }
+
+    /**
+     * Get the cached validation result for a resource and the given validation options, or perform the validation and
+     * cache its result if no result is cached
+     *
+     * @param resource
+     *     the resource
+     * @param failFast
+     *     whether the validator is fail-fast
+     * @param includeResourceAssertedProfiles
+     *     whether resource-asserted profiles are considered during validation
+     * @param profiles
+     *     the specific profile references that the resource is validated against
+     * @param validation
+     *     performs the validation when no result is cached
+     * @return
+     *     an unmodifiable list of issues
+     * @throws FHIRValidationException
+     *     for errors that occur during validation
+     */
+    public List<Issue> getIssues(Resource resource, boolean failFast, boolean includeResourceAssertedProfiles, List<String> profiles,
+            Validation validation) throws FHIRValidationException {
+        Map<CacheKey, List<Issue>> cacheAsMap = CacheManager.getCacheAsMap(VALIDATION_RESULT_CACHE_NAME, configuration);
+        CacheKey key = key(resource, failFast, includeResourceAssertedProfiles, profiles);
+        List<Issue> issues = cacheAsMap.get(key);
+        if (issues == null) {
+            issues = Collections.unmodifiableList(new ArrayList<>(validation.validate()));
+            cacheAsMap.put(key, issues);
+        }
+        return issues;
+    }
+
+    /**
+     * Remove all entries from the cache for the current tenant
+     */
+    public void clear() {
+        CacheManager.invalidateAll(VALIDATION_RESULT_CACHE_NAME);
+    }
+
+    private CacheKey key(Resource resource, boolean failFast, boolean includeResourceAssertedProfiles, List<String> profiles) {
+        ResourceFingerprintVisitor visitor = new ResourceFingerprintVisitor(SALT);
+        resource.accept(visitor);
+        return CacheKey.key(resource.getClass(), visitor.getSaltAndHash().getHash(), failFast, includeResourceAssertedProfiles,
+            profiles.toArray(new String[0]), FHIRRegistry.getInstance().getVersion());
+    }
+
+    /**
+     * Performs the validation of a resource whose result is not cached
+     */
+    @FunctionalInterface
+    public interface Validation {
+        List<Issue> validate() throws FHIRValidationException;
+    }
+}
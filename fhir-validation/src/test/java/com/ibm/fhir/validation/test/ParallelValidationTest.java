@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.validation.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static com.ibm.fhir.validation.util.FHIRValidationUtil.countErrors;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Bundle.Entry;
+import com.ibm.fhir.model.resource.OperationOutcome.Issue;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Patient.Contact;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.resource.StructureDefinition;
+import com.ibm.fhir.model.type.Canonical;
+import com.ibm.fhir.model.type.ElementDefinition;
+import com.ibm.fhir.model.type.ElementDefinition.Constraint;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.Id;
+import com.ibm.fhir.model.type.Meta;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.AdministrativeGender;
+import com.ibm.fhir.model.type.code.BundleType;
+import com.ibm.fhir.model.type.code.ConstraintSeverity;
+import com.ibm.fhir.model.type.code.TypeDerivationRule;
+import com.ibm.fhir.registry.FHIRRegistry;
+import com.ibm.fhir.registry.resource.FHIRRegistryResource;
+import com.ibm.fhir.registry.util.FHIRRegistryResourceProviderAdapter;
+import com.ibm.fhir.validation.FHIRValidator;
+
+public class ParallelValidationTest {
+    private static final String TENANT_ID = "parallel-validation-tenant";
+    private static final String TENANT_PROFILE_URL = "http://ibm.com/fhir/StructureDefinition/TenantPatient";
+
+    private ExecutorService executorService;
+
+    @BeforeClass
+    public void before() {
+        executorService = Executors.newFixedThreadPool(4);
+
+        // a profile that is only available to requests for TENANT_ID
+        StructureDefinition structureDefinition = FHIRRegistry.getInstance().getResource("http://hl7.org/fhir/StructureDefinition/Patient", StructureDefinition.class);
+        List<ElementDefinition> element = new ArrayList<>(structureDefinition.getSnapshot().getElement());
+        ElementDefinition root = element.get(0);
+        element.set(0, root.toBuilder()
+            .constraint(Constraint.builder()
+                .key(Id.of("tenant-1"))
+                .severity(ConstraintSeverity.ERROR)
+                .human(string("The patient SHALL have a family name of 'Smith'"))
+                .expression(string("name.family = 'Smith'"))
+                .source(Canonical.of(TENANT_PROFILE_URL))
+                .build())
+            .build());
+        StructureDefinition profile = structureDefinition.toBuilder()
+            .url(Uri.of(TENANT_PROFILE_URL))
+            .baseDefinition(Canonical.of("http://hl7.org/fhir/StructureDefinition/Patient"))
+            .derivation(TypeDerivationRule.CONSTRAINT)
+            .snapshot(structureDefinition.getSnapshot().toBuilder()
+                .element(element)
+                .build())
+            .build();
+
+        FHIRRegistry.getInstance().addProvider(new FHIRRegistryResourceProviderAdapter() {
+            @Override
+            public FHIRRegistryResource getRegistryResource(Class<? extends Resource> resourceType, String url, String version) {
+                if (TENANT_PROFILE_URL.equals(url) && TENANT_ID.equals(FHIRRequestContext.get().getTenantId())) {
+                    return FHIRRegistryResource.from(profile);
+                }
+                return null;
+            }
+        });
+    }
+
+    @AfterClass
+    public void after() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testSameIssues() throws Exception {
+        Bundle bundle = bundle(50);
+
+        List<Issue> expected = FHIRValidator.validator().validate(bundle);
+        List<Issue> actual = FHIRValidator.validator(false, executorService).validate(bundle);
+
+        assertEquals(countErrors(expected), 25);
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        FHIRValidator validator = FHIRValidator.validator(false, executorService);
+        assertTrue(validator.isParallel());
+        assertFalse(FHIRValidator.validator().isParallel());
+
+        List<Issue> first = validator.validate(bundle(10));
+        assertEquals(countErrors(first), 5);
+
+        List<Issue> second = validator.validate(bundle(0));
+        assertEquals(countErrors(second), 0);
+    }
+
+    @Test
+    public void testFailFast() throws Exception {
+        List<Issue> issues = FHIRValidator.validator(true, executorService).validate(bundle(50));
+        assertTrue(countErrors(issues) >= 1);
+    }
+
+    @Test
+    public void testTenantSpecificProfile() throws Exception {
+        Bundle bundle = bundle(10);
+        Bundle.Builder builder = bundle.toBuilder().entry(new ArrayList<>());
+        for (Entry entry : bundle.getEntry()) {
+            Patient patient = entry.getResource().as(Patient.class);
+            builder.entry(entry.toBuilder()
+                .resource(patient.toBuilder()
+                    .meta(Meta.builder()
+                        .profile(Canonical.of(TENANT_PROFILE_URL))
+                        .build())
+                    .build())
+                .build());
+        }
+        bundle = builder.build();
+
+        FHIRRequestContext previousRequestContext = FHIRRequestContext.get();
+        FHIRRequestContext.set(new FHIRRequestContext(TENANT_ID));
+        try {
+            List<Issue> expected = FHIRValidator.validator().validate(bundle);
+            List<Issue> actual = FHIRValidator.validator(false, executorService).validate(bundle);
+
+            // the tenant-1 violations are only reported when the tenant profile is resolved
+            assertTrue(countErrors(expected) > countErrors(FHIRValidator.validator().validate(bundle(10))));
+            assertEquals(actual, expected);
+        } finally {
+            FHIRRequestContext.set(previousRequestContext);
+        }
+    }
+
+    /**
+     * Create a collection Bundle with the given number of Patient entries, where every other Patient violates pat-1
+     */
+    private Bundle bundle(int count) {
+        Bundle.Builder builder = Bundle.builder().type(BundleType.COLLECTION);
+        for (int i = 0; i < count; i++) {
+            Patient.Builder patientBuilder = Patient.builder()
+                    .id("patient-" + i)
+                    .name(HumanName.builder()
+                        .family(string("Doe"))
+                        .build());
+            if (i % 2 == 1) {
+                patientBuilder.contact(Contact.builder()
+                    .gender(AdministrativeGender.FEMALE)
+                    .build());
+            }
+            builder.entry(Entry.builder()
+                .fullUrl(Uri.of("urn:uuid:00000000-0000-0000-0000-" + String.format("%012d", i)))
+                .resource(patientBuilder.build())
+                .build());
+        }
+        return builder.build();
+    }
+}
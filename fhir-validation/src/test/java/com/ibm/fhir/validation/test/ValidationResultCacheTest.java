@@ -0,0 +1,141 @@
+/*
+ * (C) Copyright IBM Corp. 2021
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.validation.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.cache.CacheManager.Configuration;
+import com.ibm.fhir.model.resource.OperationOutcome.Issue;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Patient.Contact;
+import com.ibm.fhir.model.resource.Questionnaire;
+import com.ibm.fhir.model.resource.Questionnaire.Item;
+import com.ibm.fhir.model.resource.Questionnaire.Item.AnswerOption;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.code.AdministrativeGender;
+import com.ibm.fhir.model.type.code.PublicationStatus;
+import com.ibm.fhir.model.type.code.QuestionnaireItemType;
+import com.ibm.fhir.registry.FHIRRegistry;
+import com.ibm.fhir.registry.util.FHIRRegistryResourceProviderAdapter;
+import com.ibm.fhir.validation.FHIRValidator;
+import com.ibm.fhir.validation.cache.ValidationResultCache;
+
+public class ValidationResultCacheTest {
+    private final ValidationResultCache cache = new ValidationResultCache(Configuration.of(16));
+
+    @AfterMethod
+    public void after() {
+        cache.clear();
+    }
+
+    @Test
+    public void testCachedResult() throws Exception {
+        FHIRValidator validator = FHIRValidator.validator().cache(cache);
+
+        List<Issue> first = validator.validate(patient("1"));
+        assertFalse(first.isEmpty());
+
+        // a different logical id does not change the fingerprint
+        List<Issue> second = validator.validate(patient("2"));
+        assertSame(second, first);
+
+        // neither does a new validator instance that shares the cache
+        assertSame(FHIRValidator.validator().cache(cache).validate(patient("3")), first);
+
+        // different validation options do not share results
+        assertNotSame(FHIRValidator.validator(true).cache(cache).validate(patient("1")), first);
+        assertNotSame(validator.validate(patient("1"), false), first);
+    }
+
+    @Test
+    public void testValidationSkipped() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            cache.getIssues(patient("1"), false, true, Collections.emptyList(), () -> {
+                count.incrementAndGet();
+                return Collections.emptyList();
+            });
+        }
+        assertEquals(count.get(), 1);
+
+        // different content
+        cache.getIssues(Patient.builder().active(com.ibm.fhir.model.type.Boolean.TRUE).build(), false, true, Collections.emptyList(), () -> {
+            count.incrementAndGet();
+            return Collections.emptyList();
+        });
+        assertEquals(count.get(), 2);
+    }
+
+    @Test
+    public void testRegistryProviderAdded() throws Exception {
+        FHIRValidator validator = FHIRValidator.validator().cache(cache);
+        List<Issue> first = validator.validate(patient("1"));
+        FHIRRegistry.getInstance().addProvider(new FHIRRegistryResourceProviderAdapter());
+        assertNotSame(validator.validate(patient("1")), first);
+    }
+
+    @Test
+    public void testSameValueInDifferentElements() throws Exception {
+        FHIRValidator validator = FHIRValidator.validator().cache(cache);
+
+        // violates que-10
+        Questionnaire maxLength = questionnaire(Item.builder()
+            .linkId(string("1"))
+            .type(QuestionnaireItemType.DISPLAY)
+            .maxLength(com.ibm.fhir.model.type.Integer.of(5))
+            .build());
+        List<Issue> first = validator.validate(maxLength);
+
+        // violates que-5 instead; the integer value and everything around it is the same
+        Questionnaire answerOption = questionnaire(Item.builder()
+            .linkId(string("1"))
+            .type(QuestionnaireItemType.DISPLAY)
+            .answerOption(AnswerOption.builder()
+                .value(com.ibm.fhir.model.type.Integer.of(5))
+                .build())
+            .build());
+        List<Issue> second = validator.validate(answerOption);
+
+        assertNotSame(second, first);
+        assertNotEquals(second, first);
+        assertEquals(second, FHIRValidator.validator().validate(answerOption));
+    }
+
+    private Questionnaire questionnaire(Item item) {
+        return Questionnaire.builder()
+                .status(PublicationStatus.DRAFT)
+                .item(item)
+                .build();
+    }
+
+    /**
+     * A Patient that violates pat-1
+     */
+    private Patient patient(String id) {
+        return Patient.builder()
+                .id(id)
+                .name(HumanName.builder()
+                    .family(string("Doe"))
+                    .build())
+                .contact(Contact.builder()
+                    .gender(AdministrativeGender.FEMALE)
+                    .build())
+                .build();
+    }
+}